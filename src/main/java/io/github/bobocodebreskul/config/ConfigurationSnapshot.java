@@ -0,0 +1,131 @@
+package io.github.bobocodebreskul.config;
+
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
+import io.github.bobocodebreskul.context.exception.PropertyNotFoundException;
+import io.github.bobocodebreskul.context.support.ReflectionUtils;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable snapshot of the application configuration. Merges configuration file properties,
+ * environment variables and system properties, later sources override earlier ones. Environment
+ * variables are also available by relaxed names: {@code SERVER_PORT} could be read as
+ * {@code server.port}.
+ * <p>
+ * Property values never change after the snapshot is created, so reads do not lock and values
+ * converted to other types are cached.
+ */
+public final class ConfigurationSnapshot {
+
+  private static final String PLACEHOLDER_PREFIX = "${";
+  private static final String PLACEHOLDER_SUFFIX = "}";
+  private static final char DEFAULT_VALUE_SEPARATOR = ':';
+
+  private final Map<String, String> values;
+  private final Map<Class<?>, Map<String, Object>> convertedValues = new ConcurrentHashMap<>();
+
+  private ConfigurationSnapshot(Map<String, String> values) {
+    this.values = values;
+  }
+
+  /**
+   * Create configuration snapshot from the specified sources.
+   *
+   * @param fileProperties   properties loaded from configuration file
+   * @param environment      environment variables
+   * @param systemProperties system properties
+   * @return configuration snapshot
+   */
+  public static ConfigurationSnapshot of(Properties fileProperties,
+      Map<String, String> environment, Properties systemProperties) {
+    Map<String, String> values = new HashMap<>();
+    fileProperties.stringPropertyNames()
+        .forEach(name -> values.put(name, fileProperties.getProperty(name)));
+    environment.forEach((name, value) -> {
+      values.put(toRelaxedName(name), value);
+      values.put(name, value);
+    });
+    systemProperties.stringPropertyNames()
+        .forEach(name -> values.put(name, systemProperties.getProperty(name)));
+    return new ConfigurationSnapshot(Map.copyOf(values));
+  }
+
+  /**
+   * Return property value.
+   *
+   * @param propertyName property key name
+   * @return property value or {@code null} if property does not exist
+   */
+  public String get(String propertyName) {
+    return values.get(propertyName);
+  }
+
+  /**
+   * Return property value converted to the specified type. Conversion is performed once per
+   * property and type.
+   *
+   * @param propertyName property key name
+   * @param type         target type: {@link String}, primitive or primitive wrapper type
+   * @param <T>          target type
+   * @return converted property value or {@code null} if property does not exist
+   * @throws InvalidPropertyValueException if property value could not be converted to the type
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String propertyName, Class<T> type) {
+    String value = values.get(propertyName);
+    if (value == null) {
+      return null;
+    }
+    return (T) convertedValues.computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+        .computeIfAbsent(propertyName, key -> convert(key, value, type));
+  }
+
+  /**
+   * Resolve value expression. The expression is either a literal value or a
+   * {@code ${propertyName:defaultValue}} placeholder, the default value part is optional.
+   *
+   * @param expression value expression
+   * @param type       target type: {@link String}, primitive or primitive wrapper type
+   * @return resolved value converted to the target type
+   * @throws PropertyNotFoundException     if placeholder property does not exist and the default
+   *                                       value is not specified
+   * @throws InvalidPropertyValueException if value could not be converted to the type
+   */
+  public Object resolve(String expression, Class<?> type) {
+    if (!expression.startsWith(PLACEHOLDER_PREFIX) || !expression.endsWith(PLACEHOLDER_SUFFIX)) {
+      return convert(expression, expression, type);
+    }
+    String placeholder = expression.substring(PLACEHOLDER_PREFIX.length(),
+        expression.length() - PLACEHOLDER_SUFFIX.length());
+    int separatorIndex = placeholder.indexOf(DEFAULT_VALUE_SEPARATOR);
+    String propertyName = separatorIndex == -1
+        ? placeholder
+        : placeholder.substring(0, separatorIndex);
+    Object value = get(propertyName, type);
+    if (value != null) {
+      return value;
+    }
+    if (separatorIndex == -1) {
+      throw new PropertyNotFoundException(
+          "The property with name \"%s\" is not found!".formatted(propertyName));
+    }
+    return convert(propertyName, placeholder.substring(separatorIndex + 1), type);
+  }
+
+  private static Object convert(String propertyName, String value, Class<?> type) {
+    try {
+      return ReflectionUtils.castValue(value, type);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidPropertyValueException(
+          "\"%s\" property value can not be converted to %s!".formatted(propertyName,
+              type.getName()), e);
+    }
+  }
+
+  private static String toRelaxedName(String environmentVariableName) {
+    return environmentVariableName.toLowerCase(Locale.ROOT).replace('_', '.');
+  }
+}
@@ -8,13 +8,18 @@ import java.util.Properties;
 
 /**
  * PropertiesConfiguration class stores properties from configuration file and provides an API to
- * get property as string or integer value.
+ * get property as string, integer or long value.
+ * <p>
+ * Properties are read from an immutable {@link ConfigurationSnapshot} that merges configuration
+ * file, environment variables and system properties. The snapshot is rebuilt whenever a
+ * configuration file is loaded.
  */
 public class PropertiesConfiguration {
 
   public static final String APPLICATION_PROPERTIES = "application.properties";
 
   private static final Properties properties = new Properties();
+  private static volatile ConfigurationSnapshot configuration = createSnapshot();
 
   static {
     PropertiesConfiguration.loadProperties(PropertiesConfiguration.APPLICATION_PROPERTIES);
@@ -23,13 +28,14 @@ public class PropertiesConfiguration {
   /**
    * Method loads properties from configuration file and stores then in properties variable.
    */
-  public static void loadProperties(String configFileName) {
+  public static synchronized void loadProperties(String configFileName) {
     try (InputStream input = PropertiesConfiguration.class.getClassLoader()
         .getResourceAsStream(configFileName)) {
       if (input == null) {
         return;
       }
       properties.load(input);
+      configuration = createSnapshot();
     } catch (Exception e) {
       throw new LoadingPropertiesFailedException(
           "Loading properties from %s file failed.".formatted(configFileName), e);
@@ -44,7 +50,7 @@ public class PropertiesConfiguration {
    * @return string property value
    */
   public static String getProperty(String propertyName) {
-    String property = properties.getProperty(propertyName);
+    String property = configuration.get(propertyName);
     if (property == null) {
       throw new PropertyNotFoundException(
           "The property with name \"%s\" is not found!".formatted(propertyName));
@@ -61,7 +67,7 @@ public class PropertiesConfiguration {
    * @return string property value
    */
   public static String getPropertyOrDefault(String propertyName, String defaultValue) {
-    String property = properties.getProperty(propertyName);
+    String property = configuration.get(propertyName);
     return property == null ? defaultValue : property;
   }
 
@@ -74,13 +80,13 @@ public class PropertiesConfiguration {
    */
   public static int getPropertyAsInt(String propertyName) {
     try {
-      String property = properties.getProperty(propertyName);
+      Integer property = configuration.get(propertyName, Integer.class);
       if (property == null) {
         throw new PropertyNotFoundException(
             "The property with name \"%s\" is not found!".formatted(propertyName));
       }
-      return Integer.parseInt(property);
-    } catch (NumberFormatException ex) {
+      return property;
+    } catch (InvalidPropertyValueException ex) {
       throw new InvalidPropertyValueException(
           "\"%s\" property value is not a number!".formatted(propertyName), ex);
     }
@@ -96,11 +102,42 @@ public class PropertiesConfiguration {
    */
   public static int getPropertyAsIntOrDefault(String propertyName, int defaultValue) {
     try {
-      String property = properties.getProperty(propertyName);
-      return property == null ? defaultValue : Integer.parseInt(property);
-    } catch (NumberFormatException ex) {
+      Integer property = configuration.get(propertyName, Integer.class);
+      return property == null ? defaultValue : property;
+    } catch (InvalidPropertyValueException ex) {
       throw new InvalidPropertyValueException(
           "\"%s\" property value is not a number!".formatted(propertyName), ex);
     }
   }
+
+  /**
+   * Method returns property long value loaded from configuration file or returns default value if
+   * property doesn't exist.
+   *
+   * @param propertyName property key name
+   * @param defaultValue property default value
+   * @return long property value
+   */
+  public static long getPropertyAsLongOrDefault(String propertyName, long defaultValue) {
+    try {
+      Long property = configuration.get(propertyName, Long.class);
+      return property == null ? defaultValue : property;
+    } catch (InvalidPropertyValueException ex) {
+      throw new InvalidPropertyValueException(
+          "\"%s\" property value is not a number!".formatted(propertyName), ex);
+    }
+  }
+
+  /**
+   * Return immutable snapshot of the current configuration.
+   *
+   * @return configuration snapshot
+   */
+  public static ConfigurationSnapshot getConfiguration() {
+    return configuration;
+  }
+
+  private static ConfigurationSnapshot createSnapshot() {
+    return ConfigurationSnapshot.of(properties, System.getenv(), System.getProperties());
+  }
 }
@@ -0,0 +1,26 @@
+package io.github.bobocodebreskul.context.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation which marks a no-argument method of a singleton bean as destroy callback. Callbacks
+ * are invoked on container close, in reverse order of bean creation, so a bean is destroyed before
+ * the beans it depends on.
+ *
+ * <p>Singletons implementing {@link AutoCloseable} are closed the same way without this
+ * annotation.
+ *
+ * <p>Idle instances of pooled beans are destroyed the same way before singletons. Borrowed or
+ * discarded pooled instances and request or thread scoped instances receive no callbacks. A
+ * callback overridden in a subclass is invoked once.
+ *
+ * @see BringComponent
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface PreDestroy {
+
+}
@@ -23,8 +23,17 @@ import java.lang.annotation.Target;
  *   <li>{@code ""} (empty string): Singleton scope (default)</li>
  *   <li>{@code "singleton"}: Singleton scope</li>
  *   <li>{@code "prototype"}: Prototype scope</li>
+ *   <li>{@code "request"}: Request scope, one instance per HTTP request</li>
+ *   <li>{@code "thread"}: Thread scope, one instance per thread</li>
+ *   <li>{@code "pooled"}: Pooled scope, instances are borrowed from a bounded pool</li>
  * </ul>
  * <p>
+ * Request and thread scoped beans are created lazily. They are injected into other beans as
+ * scoped proxies that delegate to the instance of the current scope, so they must be injected by
+ * an interface type. Pooled beans could also be injected as
+ * {@link io.github.bobocodebreskul.context.scope.BeanPool BeanPool&lt;T&gt;} to borrow and release
+ * instances explicitly.
+ * <p>
  * Example usage:
  * <pre>
  * {@code
@@ -47,6 +56,9 @@ public @interface Scope {
    * <p>Possible values:
    * <p>-singleton
    * <p>-prototype
+   * <p>-request
+   * <p>-thread
+   * <p>-pooled
    */
   String value() default "";
 }
@@ -0,0 +1,28 @@
+package io.github.bobocodebreskul.context.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation used to inject configuration value into constructor or bean method parameter. The
+ * value is resolved and converted to the parameter type once, when bean definition is read.
+ *
+ * <p>Supported expressions are a literal value or a {@code ${propertyName:defaultValue}}
+ * placeholder, the default value part is optional. Supported parameter types are
+ * {@link String}, primitives and their wrappers.
+ *
+ * @see io.github.bobocodebreskul.config.ConfigurationSnapshot
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface Value {
+
+  /**
+   * Represents value expression.
+   *
+   * @return literal value or property placeholder
+   */
+  String value();
+}
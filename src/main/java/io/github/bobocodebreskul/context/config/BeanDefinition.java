@@ -24,6 +24,21 @@ public interface BeanDefinition {
    */
   String PROTOTYPE_SCOPE = "prototype";
 
+  /**
+   * Scope identifier for the request scope: "request".
+   */
+  String REQUEST_SCOPE = "request";
+
+  /**
+   * Scope identifier for the thread scope: "thread".
+   */
+  String THREAD_SCOPE = "thread";
+
+  /**
+   * Scope identifier for the pooled scope: "pooled".
+   */
+  String POOLED_SCOPE = "pooled";
+
 
   /**
    * Method for getting name of current {@link BeanDefinition}.
@@ -56,9 +71,24 @@ public interface BeanDefinition {
    *
    * @see #SINGLETON_SCOPE
    * @see #PROTOTYPE_SCOPE
+   * @see #REQUEST_SCOPE
+   * @see #THREAD_SCOPE
+   * @see #POOLED_SCOPE
    */
   void setScope(String scope);
 
+  /**
+   * Return the name of the current target scope for this bean.
+   *
+   * @return scope name
+   * @see #SINGLETON_SCOPE
+   * @see #PROTOTYPE_SCOPE
+   * @see #REQUEST_SCOPE
+   * @see #THREAD_SCOPE
+   * @see #POOLED_SCOPE
+   */
+  String getScope();
+
   /**
    * Return whether this a singleton with a single, shared instance returned on all calls.
    *
@@ -4,13 +4,33 @@ package io.github.bobocodebreskul.context.config;
  * Bean dependency representation class. It holds all necessary information to resolve bean
  * dependency during bean creation phase.
  *
- * @param name      dependency bean name
+ * @param name      dependency bean name or value expression for configuration values
  * @param qualifier dependency bean qualifier
  * @param type      dependency class type
+ * @param value     resolved configuration value, {@code null} for bean dependencies
  * @author Vitalii Katkov
  * @author Serhii Barabash
  * @author Volodymyr Holichenko
  */
-public record BeanDependency(String name, String qualifier, Class<?> type) {
+public record BeanDependency(String name, String qualifier, Class<?> type, Object value) {
 
+  /**
+   * Create bean dependency resolved from the container.
+   *
+   * @param name      dependency bean name
+   * @param qualifier dependency bean qualifier
+   * @param type      dependency class type
+   */
+  public BeanDependency(String name, String qualifier, Class<?> type) {
+    this(name, qualifier, type, null);
+  }
+
+  /**
+   * Return whether this dependency is a resolved configuration value rather than a bean.
+   *
+   * @return {@code true} for configuration value dependency
+   */
+  public boolean isValue() {
+    return value != null;
+  }
 }
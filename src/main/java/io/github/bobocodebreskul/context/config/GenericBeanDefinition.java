@@ -53,6 +53,11 @@ public abstract class GenericBeanDefinition implements BeanDefinition {
     this.scope = scope;
   }
 
+  @Override
+  public String getScope() {
+    return scope;
+  }
+
   @Override
   public boolean isSingleton() {
     return BeanDefinition.SINGLETON_SCOPE.equals(scope);
@@ -0,0 +1,15 @@
+package io.github.bobocodebreskul.context.exception;
+
+/**
+ * Thrown to indicate classes of the scanned package could not be read or loaded
+ */
+public class ClassScanningException extends RuntimeException {
+
+  public ClassScanningException(String message) {
+    super(message);
+  }
+
+  public ClassScanningException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
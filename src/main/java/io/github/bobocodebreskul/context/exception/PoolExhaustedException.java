@@ -0,0 +1,12 @@
+package io.github.bobocodebreskul.context.exception;
+
+/**
+ * Instance of a pooled bean could not be borrowed because the maximum number of instances is in
+ * use and none was released within the borrow timeout.
+ */
+public class PoolExhaustedException extends RuntimeException {
+
+  public PoolExhaustedException(String message) {
+    super(message);
+  }
+}
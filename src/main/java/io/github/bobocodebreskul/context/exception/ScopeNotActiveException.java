@@ -0,0 +1,12 @@
+package io.github.bobocodebreskul.context.exception;
+
+/**
+ * Scoped bean requested outside of an active scope, e.g. request scoped bean outside of HTTP
+ * request processing.
+ */
+public class ScopeNotActiveException extends RuntimeException {
+
+  public ScopeNotActiveException(String message) {
+    super(message);
+  }
+}
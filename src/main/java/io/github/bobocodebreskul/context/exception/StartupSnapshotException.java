@@ -0,0 +1,15 @@
+package io.github.bobocodebreskul.context.exception;
+
+/**
+ * Thrown to indicate startup snapshot could not be read, written or restored
+ */
+public class StartupSnapshotException extends RuntimeException {
+
+  public StartupSnapshotException(String message) {
+    super(message);
+  }
+
+  public StartupSnapshotException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -1,7 +1,10 @@
 package io.github.bobocodebreskul.context.registry;
 
+import static io.github.bobocodebreskul.context.config.BeanDefinition.POOLED_SCOPE;
 import static io.github.bobocodebreskul.context.config.BeanDefinition.PROTOTYPE_SCOPE;
+import static io.github.bobocodebreskul.context.config.BeanDefinition.REQUEST_SCOPE;
 import static io.github.bobocodebreskul.context.config.BeanDefinition.SINGLETON_SCOPE;
+import static io.github.bobocodebreskul.context.config.BeanDefinition.THREAD_SCOPE;
 import static io.github.bobocodebreskul.context.support.BeanDefinitionReaderUtils.findBeanInitConstructor;
 import static io.github.bobocodebreskul.context.support.BeanDefinitionReaderUtils.getBeanMethodDependencies;
 
@@ -79,6 +82,15 @@ public class BeanDefinitionReader {
       } else if (SINGLETON_SCOPE.equals(scopeName)) {
         log.trace("Retrieve singleton scope for bean: {}", beanName);
         return SINGLETON_SCOPE;
+      } else if (REQUEST_SCOPE.equals(scopeName)) {
+        log.trace("Retrieve request scope for bean: {}", beanName);
+        return REQUEST_SCOPE;
+      } else if (THREAD_SCOPE.equals(scopeName)) {
+        log.trace("Retrieve thread scope for bean: {}", beanName);
+        return THREAD_SCOPE;
+      } else if (POOLED_SCOPE.equals(scopeName)) {
+        log.trace("Retrieve pooled scope for bean: {}", beanName);
+        return POOLED_SCOPE;
       } else if ("".equals(scopeName)) {
         log.trace("Retrieve default singleton scope for bean: {}", beanName);
         return SINGLETON_SCOPE;
@@ -7,16 +7,24 @@ import io.github.bobocodebreskul.context.exception.BeanDefinitionValidationExcep
 import io.github.bobocodebreskul.context.support.BeanDependencyUtils;
 import java.nio.file.Path;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Deque;
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 /**
  * The {@code BeanDefinitionValidator} class is responsible for validating bean definitions within a
  * {@link BeanDefinitionRegistry}, checking for circular dependencies and ensuring proper bean
  * naming conventions.
+ *
+ * <p>Circular dependencies are found by a single pass of Tarjan's strongly connected components
+ * algorithm over the resolved dependency graph, so every bean dependency is resolved only once. The
+ * same pass produces the order in which beans could be instantiated, see
+ * {@link #getInstantiationOrder()}.</p>
  */
 // TODO logs
 public class BeanDefinitionValidator {
@@ -24,19 +32,15 @@ public class BeanDefinitionValidator {
   static final String DISALLOWED_BEAN_NAME_CHARACTERS_EXCEPTION_MESSAGE = "Bean candidate [%s] "
       + "has invalid bean name: must not be blank or contain disallowed characters";
   private static final Pattern DISALLOWED_BEAN_NAME_CHARS_PATTERN = Pattern.compile("[\\s\b]");
+  private static final int NOT_VISITED = -1;
 
   private final BeanDefinitionRegistry definitionRegistry;
   private final BeanDependencyUtils beanDependencyUtils;
 
   /**
-   * Set to keep track of visited bean names during circular dependency validation.
+   * Bean definitions ordered so that every bean goes after all its dependencies.
    */
-  private final Set<String> visitedBeanNames = new HashSet<>();
-
-  /**
-   * Stack to maintain the chain of bean definitions for circular dependency tracking.
-   */
-  private final Deque<BeanDefinition> beanDefinitionChain = new ArrayDeque<>();
+  private List<BeanDefinition> instantiationOrder = List.of();
 
   public BeanDefinitionValidator(BeanDefinitionRegistry definitionRegistry,
       BeanDependencyUtils beanDependencyUtils) {
@@ -46,31 +50,150 @@ public class BeanDefinitionValidator {
 
   /**
    * Validates all bean definitions in the associated {@link BeanDefinitionRegistry}. This includes
-   * checking for circular dependencies and ensuring valid bean names.
+   * checking for circular dependencies and ensuring valid bean names. All found dependency cycles
+   * are reported at once.
    */
   public void validateBeanDefinitions() {
-    for (BeanDefinition beanDefinition : definitionRegistry.getBeanDefinitions()) {
-      validateForCircularDependency(beanDefinition);
+    Collection<BeanDefinition> beanDefinitions = definitionRegistry.getBeanDefinitions();
+    validateForCircularDependencies(new ArrayList<>(beanDefinitions));
+    for (BeanDefinition beanDefinition : beanDefinitions) {
       validateBeanName(beanDefinition.getBeanClass(), beanDefinition.getName());
     }
   }
 
-  private void validateForCircularDependency(BeanDefinition beanDefinition) {
-    if (beanDefinition.getDependencies().isEmpty()) {
-      return;
+  /**
+   * Return bean definitions of the last validated registry ordered so that every bean goes after
+   * all its dependencies. Creating beans in this order never requires creating a dependency on
+   * demand.
+   *
+   * @return bean definitions in instantiation order, empty list if validation was not performed
+   */
+  public List<BeanDefinition> getInstantiationOrder() {
+    return instantiationOrder;
+  }
+
+  /**
+   * Iterative Tarjan's algorithm. Strongly connected components are completed in reverse
+   * topological order of the dependency graph, which is exactly the instantiation order.
+   */
+  private void validateForCircularDependencies(List<BeanDefinition> beanDefinitions) {
+    int size = beanDefinitions.size();
+    Map<String, Integer> nodeByName = new HashMap<>(size * 2);
+    for (int node = 0; node < size; node++) {
+      nodeByName.put(beanDefinitions.get(node).getName(), node);
+    }
+
+    int[][] dependencies = new int[size][];
+    int[] index = new int[size];
+    int[] lowLink = new int[size];
+    int[] nextDependency = new int[size];
+    boolean[] onStack = new boolean[size];
+    Arrays.fill(index, NOT_VISITED);
+    Deque<Integer> componentStack = new ArrayDeque<>();
+    Deque<Integer> callStack = new ArrayDeque<>();
+    List<BeanDefinition> order = new ArrayList<>(size);
+    List<List<Integer>> cycles = new ArrayList<>();
+    int nextIndex = 0;
+
+    for (int start = 0; start < size; start++) {
+      if (index[start] != NOT_VISITED) {
+        continue;
+      }
+      callStack.push(start);
+      while (!callStack.isEmpty()) {
+        int node = callStack.peek();
+        if (index[node] == NOT_VISITED) {
+          index[node] = lowLink[node] = nextIndex++;
+          dependencies[node] = resolveDependencies(beanDefinitions.get(node), nodeByName);
+          componentStack.push(node);
+          onStack[node] = true;
+        }
+        if (nextDependency[node] < dependencies[node].length) {
+          int dependency = dependencies[node][nextDependency[node]++];
+          if (index[dependency] == NOT_VISITED) {
+            callStack.push(dependency);
+          } else if (onStack[dependency]) {
+            lowLink[node] = Math.min(lowLink[node], index[dependency]);
+          }
+          continue;
+        }
+        callStack.pop();
+        if (!callStack.isEmpty()) {
+          int parent = callStack.peek();
+          lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+        }
+        if (lowLink[node] == index[node]) {
+          List<Integer> component = new ArrayList<>();
+          int member;
+          do {
+            member = componentStack.pop();
+            onStack[member] = false;
+            component.add(member);
+            order.add(beanDefinitions.get(member));
+          } while (member != node);
+          if (component.size() > 1 || contains(dependencies[node], node)) {
+            cycles.add(findCycle(node, component, dependencies, size));
+          }
+        }
+      }
+    }
+
+    if (!cycles.isEmpty()) {
+      cycles.sort((first, second) -> Integer.compare(index[first.get(0)], index[second.get(0)]));
+      throw new BeanDefinitionValidationException(buildErrorMessage(cycles, beanDefinitions));
     }
+    instantiationOrder = List.copyOf(order);
+  }
 
-    if (!visitedBeanNames.add(beanDefinition.getName())) {
-      removeNonCycleParticipants(beanDefinition);
-      throw new BeanDefinitionValidationException(buildErrorMessage());
+  private int[] resolveDependencies(BeanDefinition beanDefinition, Map<String, Integer> nodeByName) {
+    if (beanDefinition.getDependencies().isEmpty()) {
+      return new int[0];
     }
-    beanDefinitionChain.push(beanDefinition);
+    return beanDependencyUtils.prepareDependencies(beanDefinition, definitionRegistry).stream()
+        .mapToInt(dependency -> nodeByName.get(dependency.getName()))
+        .toArray();
+  }
 
-    beanDependencyUtils.prepareDependencies(beanDefinition, definitionRegistry)
-        .forEach(this::validateForCircularDependency);
+  /**
+   * Find a cycle inside the strongly connected component which starts and ends in its root,
+   * following dependencies in the declared order.
+   */
+  private List<Integer> findCycle(int root, List<Integer> component, int[][] dependencies,
+      int size) {
+    boolean[] inComponent = new boolean[size];
+    component.forEach(member -> inComponent[member] = true);
+    boolean[] visited = new boolean[size];
+    int[] nextDependency = new int[size];
+    Deque<Integer> path = new ArrayDeque<>();
+    path.push(root);
+    visited[root] = true;
+    while (!path.isEmpty()) {
+      int node = path.peek();
+      if (nextDependency[node] == dependencies[node].length) {
+        path.pop();
+        continue;
+      }
+      int dependency = dependencies[node][nextDependency[node]++];
+      if (dependency == root) {
+        List<Integer> cycle = new ArrayList<>(path.size());
+        path.descendingIterator().forEachRemaining(cycle::add);
+        return cycle;
+      }
+      if (inComponent[dependency] && !visited[dependency]) {
+        visited[dependency] = true;
+        path.push(dependency);
+      }
+    }
+    throw new IllegalStateException("Strongly connected component has no cycle through its root");
+  }
 
-    visitedBeanNames.remove(beanDefinition.getName());
-    beanDefinitionChain.pop();
+  private static boolean contains(int[] values, int value) {
+    for (int current : values) {
+      if (current == value) {
+        return true;
+      }
+    }
+    return false;
   }
 
   private void validateBeanName(Class<?> beanClass, String beanName) {
@@ -80,36 +203,31 @@ public class BeanDefinitionValidator {
     }
   }
 
-  private String buildErrorMessage() {
+  private String buildErrorMessage(List<List<Integer>> cycles,
+      List<BeanDefinition> beanDefinitions) {
     StringBuilder errorMessage =
         new StringBuilder("The dependencies of some of the beans form a cycle:")
             .append(System.lineSeparator());
 
-    BeanDefinition firstBean = Objects.requireNonNull(beanDefinitionChain.pollLast());
-    errorMessage.append("┌─────┐").append(System.lineSeparator());
-    errorMessage.append("|  %s defined in file [%s]%n".formatted(firstBean.getName(),
-        getFileLocation(firstBean.getBeanClass())));
-    while (!beanDefinitionChain.isEmpty()) {
-      BeanDefinition currentBean = beanDefinitionChain.pollLast();
-      errorMessage.append("↑     ↓").append(System.lineSeparator());
-      errorMessage.append("|  %s defined in file [%s]%n".formatted(currentBean.getName(),
-          getFileLocation(currentBean.getBeanClass())));
+    for (List<Integer> cycle : cycles) {
+      errorMessage.append("┌─────┐").append(System.lineSeparator());
+      for (int i = 0; i < cycle.size(); i++) {
+        BeanDefinition currentBean = beanDefinitions.get(cycle.get(i));
+        if (i > 0) {
+          errorMessage.append("↑     ↓").append(System.lineSeparator());
+        }
+        errorMessage.append("|  %s defined in file [%s]%n".formatted(currentBean.getName(),
+            getFileLocation(currentBean.getBeanClass())));
+      }
+      errorMessage.append("└─────┘").append(System.lineSeparator());
     }
-    errorMessage.append("└─────┘").append(System.lineSeparator());
 
     return errorMessage.toString();
   }
 
-  private void removeNonCycleParticipants(BeanDefinition beanDefinition) {
-    while (!beanDefinition.getName().equals(beanDefinitionChain.getLast().getName())) {
-      beanDefinitionChain.pollLast();
-    }
-  }
-
   private String getFileLocation(Class<?> beanClass) {
     return Path.of(beanClass.getName()).toAbsolutePath().toString()
         .replace(".", "/")
         .concat(".java");
   }
 }
-
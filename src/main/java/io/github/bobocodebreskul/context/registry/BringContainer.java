@@ -1,22 +1,45 @@
 package io.github.bobocodebreskul.context.registry;
 
 import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.context.annotations.PreDestroy;
 import io.github.bobocodebreskul.context.config.AnnotatedGenericBeanDefinition;
 import io.github.bobocodebreskul.context.config.BeanDefinition;
+import io.github.bobocodebreskul.context.config.BeanDependency;
 import io.github.bobocodebreskul.context.config.ConfigurationBeanDefinition;
 import io.github.bobocodebreskul.context.exception.InstanceCreationException;
 import io.github.bobocodebreskul.context.exception.NoSuchBeanDefinitionException;
+import io.github.bobocodebreskul.context.exception.StartupSnapshotException;
 import io.github.bobocodebreskul.context.scan.RecursiveClassPathAnnotatedBeanScanner;
-import io.github.bobocodebreskul.context.scan.utils.ScanUtilsImpl;
+import io.github.bobocodebreskul.context.scan.index.BringComponentIndex;
+import io.github.bobocodebreskul.context.scan.utils.ClassFileScanUtils;
+import io.github.bobocodebreskul.context.scope.BeanPool;
+import io.github.bobocodebreskul.context.scope.BeanScope;
+import io.github.bobocodebreskul.context.scope.RequestBeanScope;
+import io.github.bobocodebreskul.context.scope.ScopedProxyFactory;
+import io.github.bobocodebreskul.context.scope.ThreadBeanScope;
+import io.github.bobocodebreskul.context.snapshot.RouteSnapshot;
+import io.github.bobocodebreskul.context.snapshot.StartupSnapshot;
+import io.github.bobocodebreskul.context.snapshot.StartupSnapshotStore;
 import io.github.bobocodebreskul.context.support.BeanDependencyUtils;
 import io.github.bobocodebreskul.server.Banner;
-import io.github.bobocodebreskul.server.TomcatServer;
+import io.github.bobocodebreskul.server.WebServer;
+import io.github.bobocodebreskul.server.WebServerFactory;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 
 /**
@@ -28,13 +51,24 @@ import org.slf4j.Logger;
  * @author Mykola Filimonov
  * @author Vitalii Katkov
  */
-public class BringContainer implements ObjectFactory {
+public class BringContainer implements ObjectFactory, AutoCloseable {
 
   private final static Logger log = LoggerFactory.getLogger(BringContainer.class);
   private final Map<String, Object> storageByName = new ConcurrentHashMap<>();
+  private final Map<String, BeanScope> scopes = Map.of(
+      BeanDefinition.REQUEST_SCOPE, new RequestBeanScope(),
+      BeanDefinition.THREAD_SCOPE, new ThreadBeanScope());
+  private final Map<String, Supplier<Object>> scopedTargetResolvers = new ConcurrentHashMap<>();
+  private final Map<String, Object> scopedProxies = new ConcurrentHashMap<>();
+  private final Map<String, BeanPool<Object>> beanPools = new ConcurrentHashMap<>();
+  private final Deque<String> singletonCreationOrder = new ConcurrentLinkedDeque<>();
 
   private final BeanDefinitionRegistry definitionRegistry;
   private final BeanDependencyUtils dependencyUtils;
+  private StartupSnapshotStore snapshotStore;
+  private StartupSnapshot restoredSnapshot;
+  private StartupSnapshot recordedSnapshot;
+  private WebServer webServer;
 
   private BringContainer(BeanDefinitionRegistry definitionRegistry,
       BeanDependencyUtils dependencyUtils) {
@@ -51,6 +85,19 @@ public class BringContainer implements ObjectFactory {
    * @return created beans container
    */
   public static BringContainer run(Class<?> configClass) {
+    return run(configClass, WebServerFactory.getWebServer());
+  }
+
+  /**
+   * Collect all bean definitions by specified scan packages, build container to create and hold
+   * all founded beans and start the specified web server engine for its controllers.
+   *
+   * @param configClass configuration class annotated @BringComponentScan with information where to
+   *                    search beans
+   * @param webServer   web server engine to start, for example {@code InMemoryWebServer} in tests
+   * @return created beans container
+   */
+  public static BringContainer run(Class<?> configClass, WebServer webServer) {
     Banner.printBanner();
 
     log.info("Initializing BringContainer...");
@@ -60,26 +107,121 @@ public class BringContainer implements ObjectFactory {
     BeanDefinitionRegistry definitionRegistry = new SimpleBeanDefinitionRegistry();
     BeanDefinitionValidator beanDefinitionValidator = new BeanDefinitionValidator(
         definitionRegistry, beanDependencyUtils);
-    ScanUtilsImpl scanUtils = new ScanUtilsImpl();
+    ClassFileScanUtils scanUtils = new ClassFileScanUtils();
     BeanDefinitionReader beanDefinitionReader = new BeanDefinitionReader(definitionRegistry);
-    RecursiveClassPathAnnotatedBeanScanner scanner = new RecursiveClassPathAnnotatedBeanScanner(
-        scanUtils, beanDefinitionReader);
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
     BringContainer container = new BringContainer(definitionRegistry, beanDependencyUtils);
+    container.snapshotStore = StartupSnapshotStore.fromProperties(classLoader);
 
-    //run initial scan for all project
-    scanner.scan(configClass);
-    beanDefinitionValidator.validateBeanDefinitions();
-    //register all founded beans
-    definitionRegistry.getBeanDefinitions()
+    List<BeanDefinition> instantiationOrder = container.restoreFromSnapshot(classLoader);
+    if (instantiationOrder != null) {
+      log.info("Bean definitions restored from startup snapshot, skip scanning and validation");
+    } else {
+      BringComponentIndex componentIndex = BringComponentIndex.loadIndex(classLoader);
+      RecursiveClassPathAnnotatedBeanScanner scanner = new RecursiveClassPathAnnotatedBeanScanner(
+          scanUtils, beanDefinitionReader, componentIndex);
+      //run initial scan for all project
+      scanner.scan(configClass);
+      beanDefinitionValidator.validateBeanDefinitions();
+      instantiationOrder = beanDefinitionValidator.getInstantiationOrder();
+      if (container.snapshotStore != null) {
+        container.recordedSnapshot = StartupSnapshot.recordBeanDefinitions(instantiationOrder,
+            definitionRegistry, beanDependencyUtils);
+      }
+    }
+    //register all founded beans, dependencies go first, scoped beans are created on demand
+    instantiationOrder.stream()
+        .filter(beanDefinition -> !container.isScoped(beanDefinition)
+            && !container.isPooled(beanDefinition))
         .forEach(beanDefinition -> container.getBean(beanDefinition.getName()));
 
-    TomcatServer.run(container);
+    container.webServer = webServer;
+    container.webServer.start(container);
     log.info("BringContainer initialized successfully.");
     log.debug("All created beans:%n%s".formatted(container.storageByName.keySet().stream()
         .reduce("", (s1, s2) -> s1 + System.lineSeparator() + s2)));
     return container;
   }
 
+  private List<BeanDefinition> restoreFromSnapshot(ClassLoader classLoader) {
+    if (snapshotStore == null) {
+      return null;
+    }
+    StartupSnapshot snapshot = snapshotStore.load().orElse(null);
+    if (snapshot == null) {
+      return null;
+    }
+    try {
+      List<BeanDefinition> beanDefinitions = snapshot.restoreBeanDefinitions(classLoader);
+      beanDefinitions.forEach(beanDefinition -> definitionRegistry.registerBeanDefinition(
+          beanDefinition.getName(), beanDefinition));
+      restoredSnapshot = snapshot;
+      return beanDefinitions;
+    } catch (StartupSnapshotException e) {
+      log.warn("Startup snapshot could not be restored, scan classpath instead", e);
+      return null;
+    }
+  }
+
+  /**
+   * Return web server engine started for this container.
+   *
+   * @return started web server
+   */
+  public WebServer getWebServer() {
+    return webServer;
+  }
+
+  /**
+   * Return startup snapshot the bean definitions of this container were restored from.
+   *
+   * @return restored startup snapshot or {@code null} if container was built by scanning
+   */
+  public StartupSnapshot getStartupSnapshot() {
+    return restoredSnapshot;
+  }
+
+  /**
+   * Check whether the container waits for the web routes to write a new startup snapshot.
+   *
+   * @return {@code true} if startup snapshot is enabled and was not restored
+   */
+  public boolean isRecordingStartupSnapshot() {
+    return recordedSnapshot != null;
+  }
+
+  /**
+   * Complete startup snapshot recorded during this start with the scanned web routes and write
+   * it. Does nothing if startup snapshot is not being recorded.
+   *
+   * @param routes scanned web routes
+   */
+  public void saveStartupSnapshot(List<RouteSnapshot> routes) {
+    if (recordedSnapshot == null) {
+      return;
+    }
+    try {
+      snapshotStore.save(recordedSnapshot.withRoutes(routes));
+    } catch (StartupSnapshotException e) {
+      log.warn(e.getMessage(), e);
+    }
+    recordedSnapshot = null;
+  }
+
+  /**
+   * Find the name of the specified bean instance created by this container.
+   *
+   * @param bean bean instance
+   * @return bean name or {@code null} if instance is not a bean of this container
+   */
+  public String getBeanName(Object bean) {
+    return storageByName.entrySet().stream()
+        .filter(entry -> entry.getValue() == bean)
+        .map(Map.Entry::getKey)
+        .findFirst()
+        .orElse(null);
+  }
+
   @Override
   public Object getBean(String name) {
     if (storageByName.containsKey(name)) {
@@ -94,6 +236,19 @@ public class BringContainer implements ObjectFactory {
       throw new NoSuchBeanDefinitionException(errorMessage);
     }
 
+    if (isPooled(beanDefinition)) {
+      return getPooledProxy(beanDefinition);
+    }
+    if (isScoped(beanDefinition)) {
+      return ScopedProxyFactory.canCreateProxy(beanDefinition.getBeanClass())
+          ? getScopedProxy(beanDefinition)
+          : getScopedTargetResolver(beanDefinition).get();
+    }
+
+    return createBean(name, beanDefinition);
+  }
+
+  private Object createBean(String name, BeanDefinition beanDefinition) {
     if (beanDefinition instanceof AnnotatedGenericBeanDefinition) {
       return getBeanByConstructor(name, beanDefinition);
     }
@@ -110,14 +265,15 @@ public class BringContainer implements ObjectFactory {
     log.debug("Started create bean by constructor with name: %s".formatted(name));
     try {
       Constructor<?> declaredConstructor = beanDefinition.getInitConstructor();
-      Object[] dependentBeans = findOrCreateBeanDependencies(beanDefinition);
+      Object[] dependentBeans = findOrCreateBeanDependencies(beanDefinition,
+          declaredConstructor);
       Object newInstance = declaredConstructor.newInstance(dependentBeans);
 
-      if (beanDefinition.isPrototype()) {
+      if (beanDefinition.isPrototype() || isScoped(beanDefinition) || isPooled(beanDefinition)) {
         return newInstance;
       }
 
-      storageByName.put(beanDefinition.getName(), newInstance);
+      registerSingleton(beanDefinition.getName(), newInstance);
       return newInstance;
     } catch (InvocationTargetException | InstantiationException | IllegalAccessException |
              IllegalArgumentException e) {
@@ -132,12 +288,12 @@ public class BringContainer implements ObjectFactory {
     log.debug("Started create bean by method with name: %s".formatted(name));
     try {
       Method initMethod = beanDefinition.getBeanMethod();
-      Object[] dependentBeans = findOrCreateBeanDependencies(beanDefinition);
+      Object[] dependentBeans = findOrCreateBeanDependencies(beanDefinition, initMethod);
 
       Object newInstance = initMethod.invoke(beanDefinition.getConfigurationInstance(),
           dependentBeans);
 
-      storageByName.put(beanDefinition.getName(), newInstance);
+      registerSingleton(beanDefinition.getName(), newInstance);
       return newInstance;
     } catch (IllegalAccessException | InvocationTargetException e) {
       String errorMessage = "Could not create an instance of \"%s\" class, please check method from configuration class and their parameters ".formatted(
@@ -147,11 +303,185 @@ public class BringContainer implements ObjectFactory {
     }
   }
 
-  private Object[] findOrCreateBeanDependencies(BeanDefinition beanDefinition) {
+  private void registerSingleton(String name, Object instance) {
+    storageByName.put(name, instance);
+    singletonCreationOrder.addFirst(name);
+  }
+
+  /**
+   * Destroy idle instances of pooled beans, then all singleton beans in reverse order of their
+   * creation, so that every bean is destroyed before its dependencies. Invokes methods annotated
+   * with {@link PreDestroy} and closes {@link AutoCloseable} beans. Failure of a single callback is
+   * logged and does not prevent destruction of the remaining beans.
+   *
+   * <p>Pooled instances which are borrowed at that moment or were discarded by the pool earlier,
+   * as well as request and thread scoped instances, do not receive destroy callbacks.
+   */
+  @Override
+  public void close() {
+    beanPools.values().forEach(pool -> pool.clear()
+        .forEach(instance -> destroyBean(pool.getBeanName(), instance)));
+    log.info("Destroying singleton beans...");
+    String name;
+    while ((name = singletonCreationOrder.pollFirst()) != null) {
+      Object bean = storageByName.remove(name);
+      if (bean != null) {
+        destroyBean(name, bean);
+      }
+    }
+    log.info("Singleton beans destroyed.");
+  }
+
+  private void destroyBean(String name, Object bean) {
+    boolean closeInvoked = false;
+    for (Method method : getPreDestroyMethods(bean.getClass())) {
+      log.debug("Invoke destroy method {} of bean {}", method.getName(), name);
+      invokeDestroyCallback(name, () -> {
+        method.setAccessible(true);
+        method.invoke(bean);
+      });
+      closeInvoked |= method.getName().equals("close");
+    }
+    if (bean instanceof AutoCloseable closeable && !closeInvoked) {
+      log.debug("Close bean {}", name);
+      invokeDestroyCallback(name, closeable::close);
+    }
+  }
+
+  private static List<Method> getPreDestroyMethods(Class<?> beanClass) {
+    List<Method> preDestroyMethods = new ArrayList<>();
+    // names of no-argument methods declared by subclasses, reflective call of an overridden
+    // method dispatches to the override, so it must be invoked only once
+    Set<String> overridableMethodNames = new HashSet<>();
+    for (Class<?> type = beanClass; type != null && type != Object.class;
+        type = type.getSuperclass()) {
+      List<Method> declaredMethods = Arrays.stream(type.getDeclaredMethods())
+          .filter(method -> method.getParameterCount() == 0)
+          .toList();
+      declaredMethods.stream()
+          .filter(method -> method.isAnnotationPresent(PreDestroy.class))
+          .filter(method -> Modifier.isPrivate(method.getModifiers())
+              || !overridableMethodNames.contains(method.getName()))
+          .forEach(preDestroyMethods::add);
+      declaredMethods.stream()
+          .filter(method -> !Modifier.isPrivate(method.getModifiers()))
+          .filter(method -> !Modifier.isStatic(method.getModifiers()))
+          .forEach(method -> overridableMethodNames.add(method.getName()));
+    }
+    return preDestroyMethods;
+  }
+
+  private static void invokeDestroyCallback(String name, DestroyCallback callback) {
+    try {
+      callback.invoke();
+    } catch (InvocationTargetException e) {
+      log.error("Destroy callback of bean %s failed".formatted(name), e.getTargetException());
+    } catch (Exception e) {
+      log.error("Destroy callback of bean %s failed".formatted(name), e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface DestroyCallback {
+
+    void invoke() throws Exception;
+  }
+
+  private Object[] findOrCreateBeanDependencies(BeanDefinition beanDefinition,
+      Executable initExecutable) {
     List<BeanDefinition> dependentDefinitions = dependencyUtils.prepareDependencies(beanDefinition,
         definitionRegistry);
-    return dependentDefinitions.stream()
-        .map(dependentDefinition -> getBean(dependentDefinition.getName())).toArray();
+    List<BeanDependency> dependencies = beanDefinition.getDependencies();
+    Class<?>[] parameterTypes = initExecutable == null
+        ? new Class<?>[0]
+        : initExecutable.getParameterTypes();
+    List<Object> dependentBeans = new ArrayList<>(dependentDefinitions.size());
+    Iterator<BeanDefinition> dependentDefinitionIterator = dependentDefinitions.iterator();
+    for (int i = 0; ; i++) {
+      if (dependencies != null && i < dependencies.size() && dependencies.get(i).isValue()) {
+        dependentBeans.add(dependencies.get(i).value());
+        continue;
+      }
+      if (!dependentDefinitionIterator.hasNext()) {
+        break;
+      }
+      BeanDefinition dependentDefinition = dependentDefinitionIterator.next();
+      Class<?> requiredType = i < parameterTypes.length ? parameterTypes[i] : null;
+      if (requiredType == BeanPool.class) {
+        dependentBeans.add(getBeanPoolDependency(beanDefinition, dependentDefinition));
+      } else if (requiredType != null
+          && (isScoped(dependentDefinition) || isPooled(dependentDefinition))) {
+        dependentBeans.add(getScopedDependency(beanDefinition, dependentDefinition,
+            requiredType));
+      } else {
+        dependentBeans.add(getBean(dependentDefinition.getName()));
+      }
+    }
+    return dependentBeans.toArray();
+  }
+
+
+  private Object getScopedDependency(BeanDefinition beanDefinition,
+      BeanDefinition dependentDefinition, Class<?> requiredType) {
+    if (!requiredType.isInterface()) {
+      String errorMessage = "Could not inject %s scoped bean \"%s\" into bean \"%s\": scoped beans can be injected only by interface type, but required type is %s".formatted(
+          dependentDefinition.getScope(), dependentDefinition.getName(), beanDefinition.getName(),
+          requiredType.getName());
+      log.error(errorMessage);
+      throw new InstanceCreationException(errorMessage);
+    }
+    return isPooled(dependentDefinition)
+        ? getPooledProxy(dependentDefinition)
+        : getScopedProxy(dependentDefinition);
+  }
+
+  private BeanPool<Object> getBeanPoolDependency(BeanDefinition beanDefinition,
+      BeanDefinition dependentDefinition) {
+    if (!isPooled(dependentDefinition)) {
+      String errorMessage = "Could not inject BeanPool of bean \"%s\" into bean \"%s\": bean scope is %s, but %s is required".formatted(
+          dependentDefinition.getName(), beanDefinition.getName(), dependentDefinition.getScope(),
+          BeanDefinition.POOLED_SCOPE);
+      log.error(errorMessage);
+      throw new InstanceCreationException(errorMessage);
+    }
+    return getBeanPool(dependentDefinition);
+  }
+
+  private boolean isScoped(BeanDefinition beanDefinition) {
+    return beanDefinition.getScope() != null && scopes.containsKey(beanDefinition.getScope());
+  }
+
+  private boolean isPooled(BeanDefinition beanDefinition) {
+    return BeanDefinition.POOLED_SCOPE.equals(beanDefinition.getScope());
+  }
+
+  private BeanPool<Object> getBeanPool(BeanDefinition beanDefinition) {
+    return beanPools.computeIfAbsent(beanDefinition.getName(),
+        name -> BeanPool.fromProperties(name, () -> createBean(name, beanDefinition)));
+  }
+
+  private Object getPooledProxy(BeanDefinition beanDefinition) {
+    if (!ScopedProxyFactory.canCreateProxy(beanDefinition.getBeanClass())) {
+      String errorMessage = "Pooled bean \"%s\" does not implement any interface, inject it as BeanPool<%s> instead".formatted(
+          beanDefinition.getName(), beanDefinition.getBeanClass().getSimpleName());
+      log.error(errorMessage);
+      throw new InstanceCreationException(errorMessage);
+    }
+    return scopedProxies.computeIfAbsent(beanDefinition.getName(),
+        name -> ScopedProxyFactory.createPooledProxy(beanDefinition.getBeanClass(),
+            getBeanPool(beanDefinition)));
+  }
+
+  private Object getScopedProxy(BeanDefinition beanDefinition) {
+    return scopedProxies.computeIfAbsent(beanDefinition.getName(),
+        name -> ScopedProxyFactory.createProxy(beanDefinition.getBeanClass(),
+            getScopedTargetResolver(beanDefinition)));
+  }
+
+  private Supplier<Object> getScopedTargetResolver(BeanDefinition beanDefinition) {
+    return scopedTargetResolvers.computeIfAbsent(beanDefinition.getName(),
+        name -> scopes.get(beanDefinition.getScope())
+            .createTargetResolver(name, () -> createBean(name, beanDefinition)));
   }
 
   public List<Object> getAllBeans() {
@@ -162,6 +492,9 @@ public class BringContainer implements ObjectFactory {
   public <T> T getBean(Class<T> clazz) {
     BeanDefinition beanDefinitionByType = dependencyUtils.getDependencyForType(clazz, definitionRegistry);
     Object bean = getBean(beanDefinitionByType.getName());
+    if (!clazz.isInstance(bean) && isScoped(beanDefinitionByType)) {
+      bean = getScopedTargetResolver(beanDefinitionByType).get();
+    }
     return clazz.cast(bean);
   }
 }
@@ -1,16 +1,22 @@
 package io.github.bobocodebreskul.context.scan;
 
+import io.github.bobocodebreskul.config.LoggerFactory;
 import io.github.bobocodebreskul.context.annotations.BringComponent;
 import io.github.bobocodebreskul.context.registry.BeanDefinitionReader;
+import io.github.bobocodebreskul.context.scan.index.BringComponentIndex;
 import io.github.bobocodebreskul.context.scan.utils.ScanUtils;
 import java.util.ArrayDeque;
+import java.util.HashSet;
 import java.util.Queue;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
 
 /**
  * Implementation of {@link ClassPathAnnotatedBeanScanner} to recursively find all bean definitions
  * in package and register them. Additionally, performs package scan of all found configurations.
+ * When a build-time {@link BringComponentIndex} is available, candidates are taken from the index
+ * instead of scanning the classpath.
  *
  * @author Vitalii Katkov
  * @author Oleksandr Karpachov
@@ -18,18 +24,35 @@ import java.util.stream.Collectors;
 // TODO logs
 public class RecursiveClassPathAnnotatedBeanScanner implements ClassPathAnnotatedBeanScanner {
 
+  private final static Logger log = LoggerFactory.getLogger(
+      RecursiveClassPathAnnotatedBeanScanner.class);
+
   private final ScanUtils scanUtils;
   private final BeanDefinitionReader beanDefinitionReader;
+  private final BringComponentIndex componentIndex;
 
   public RecursiveClassPathAnnotatedBeanScanner(ScanUtils scanUtils,
       BeanDefinitionReader beanDefinitionReader) {
+    this(scanUtils, beanDefinitionReader, null);
+  }
+
+  /**
+   * Create scanner which takes candidates from the component index when it is present.
+   *
+   * @param scanUtils            utils used for classpath scanning
+   * @param beanDefinitionReader reader to register found bean definitions
+   * @param componentIndex       build-time component index, {@code null} to always scan classpath
+   */
+  public RecursiveClassPathAnnotatedBeanScanner(ScanUtils scanUtils,
+      BeanDefinitionReader beanDefinitionReader, BringComponentIndex componentIndex) {
     this.scanUtils = scanUtils;
     this.beanDefinitionReader = beanDefinitionReader;
+    this.componentIndex = componentIndex;
   }
 
   @Override
   public void scan(Class<?> configClass) {
-    Set<String> scanPackages = scanUtils.readBasePackages(configClass);
+    Set<String> scanPackages = removeNestedPackages(scanUtils.readBasePackages(configClass));
     Queue<String> remainingScanPackages = new ArrayDeque<>(scanPackages);
     while (!remainingScanPackages.isEmpty()) {
       String scanPackage = remainingScanPackages.poll();
@@ -42,7 +65,39 @@ public class RecursiveClassPathAnnotatedBeanScanner implements ClassPathAnnotate
     }
   }
 
+  /**
+   * Remove packages which are sub-packages of other packages from the set, as they are scanned
+   * together with the parent package anyway.
+   */
+  private static Set<String> removeNestedPackages(Set<String> packages) {
+    return packages.stream()
+        .filter(scanPackage -> packages.stream()
+            .noneMatch(other -> scanPackage.startsWith(other + ".")))
+        .collect(Collectors.toSet());
+  }
+
   private Set<Class<?>> scanSingle(String scanPackage) {
+    if (componentIndex != null) {
+      Set<String> indexedClassNames = componentIndex.getComponentClassNames(scanPackage);
+      if (!indexedClassNames.isEmpty()) {
+        log.debug("Use component index for {} package", scanPackage);
+        return loadIndexedClasses(indexedClassNames);
+      }
+      log.debug("No indexed components found for {} package, scan classpath", scanPackage);
+    }
     return scanUtils.searchClassesByAnnotationRecursively(scanPackage, BringComponent.class);
   }
+
+  private Set<Class<?>> loadIndexedClasses(Set<String> classNames) {
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    Set<Class<?>> classes = new HashSet<>();
+    for (String className : classNames) {
+      try {
+        classes.add(Class.forName(className, false, classLoader));
+      } catch (ClassNotFoundException e) {
+        log.warn("Indexed component class {} is not found, skip it", className);
+      }
+    }
+    return classes;
+  }
 }
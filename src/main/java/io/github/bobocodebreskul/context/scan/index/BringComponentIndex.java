@@ -0,0 +1,94 @@
+package io.github.bobocodebreskul.context.scan.index;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.config.PropertiesConfiguration;
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
+import io.github.bobocodebreskul.context.exception.LoadingPropertiesFailedException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+
+/**
+ * Runtime view of the component index generated at build time by
+ * {@link BringComponentIndexProcessor}. All {@value #COMPONENTS_RESOURCE_LOCATION} resources
+ * available on the classpath are merged into a single index.
+ *
+ * <p>Index usage could be disabled by {@value #IGNORE_INDEX_PROPERTY}=true property, then the
+ * classpath will be scanned as usual.</p>
+ *
+ * @see BringComponentIndexProcessor
+ */
+public final class BringComponentIndex {
+
+  public static final String COMPONENTS_RESOURCE_LOCATION = "META-INF/bring.components";
+  public static final String IGNORE_INDEX_PROPERTY = "bring.index.ignore";
+
+  private final static Logger log = LoggerFactory.getLogger(BringComponentIndex.class);
+
+  private final Set<String> componentClassNames;
+
+  BringComponentIndex(Set<String> componentClassNames) {
+    this.componentClassNames = Collections.unmodifiableSet(componentClassNames);
+  }
+
+  /**
+   * Load component index from all {@value #COMPONENTS_RESOURCE_LOCATION} resources available for
+   * the specified class loader.
+   *
+   * @param classLoader class loader used to find index resources
+   * @return loaded index or {@code null} if there is no index or its usage is disabled
+   * @throws InvalidPropertyValueException if {@value #IGNORE_INDEX_PROPERTY} is not a boolean
+   */
+  public static BringComponentIndex loadIndex(ClassLoader classLoader) {
+    if (Boolean.TRUE.equals(
+        PropertiesConfiguration.getConfiguration().get(IGNORE_INDEX_PROPERTY, Boolean.class))) {
+      log.debug("Component index usage is disabled by {} property", IGNORE_INDEX_PROPERTY);
+      return null;
+    }
+    try {
+      Enumeration<URL> resources = classLoader.getResources(COMPONENTS_RESOURCE_LOCATION);
+      if (!resources.hasMoreElements()) {
+        log.debug("No component index found, classpath scanning will be used");
+        return null;
+      }
+      Set<String> componentClassNames = new LinkedHashSet<>();
+      while (resources.hasMoreElements()) {
+        URL resource = resources.nextElement();
+        log.trace("Read component index from {}", resource);
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+          reader.lines()
+              .map(String::trim)
+              .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+              .forEach(componentClassNames::add);
+        }
+      }
+      log.info("Component index loaded with {} entries", componentClassNames.size());
+      return new BringComponentIndex(componentClassNames);
+    } catch (IOException e) {
+      throw new LoadingPropertiesFailedException(
+          "Loading component index from %s failed.".formatted(COMPONENTS_RESOURCE_LOCATION), e);
+    }
+  }
+
+  /**
+   * Find indexed component class names located in the specified package or its sub-packages.
+   *
+   * @param basePackage package to search components in
+   * @return fully qualified binary names of found component classes
+   */
+  public Set<String> getComponentClassNames(String basePackage) {
+    String packagePrefix = basePackage + ".";
+    return componentClassNames.stream()
+        .filter(className -> className.startsWith(packagePrefix))
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+}
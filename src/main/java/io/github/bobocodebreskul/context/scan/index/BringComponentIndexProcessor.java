@@ -0,0 +1,165 @@
+package io.github.bobocodebreskul.context.scan.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor which writes {@value BringComponentIndex#COMPONENTS_RESOURCE_LOCATION}
+ * index with all classes annotated by {@code @BringComponent} directly or through a
+ * meta-annotation ({@code @BringConfiguration}, {@code @RestController},
+ * {@code @ErrorHandlerController} or any custom one). The index is read at runtime by
+ * {@link BringComponentIndex} so the container does not need to scan the classpath.
+ *
+ * <p>The processor is discovered automatically by {@code javac} once the bring artifact is on the
+ * compile classpath. On incremental builds already indexed classes which still exist and are still
+ * components are kept in the index.</p>
+ *
+ * @see BringComponentIndex
+ */
+@SupportedAnnotationTypes("*")
+public class BringComponentIndexProcessor extends AbstractProcessor {
+
+  static final String BRING_COMPONENT_ANNOTATION =
+      "io.github.bobocodebreskul.context.annotations.BringComponent";
+
+  private final Set<String> componentClassNames = new TreeSet<>();
+  private Elements elements;
+
+  @Override
+  public synchronized void init(ProcessingEnvironment processingEnv) {
+    super.init(processingEnv);
+    this.elements = processingEnv.getElementUtils();
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getRootElements()) {
+      collectComponents(element);
+    }
+    if (roundEnv.processingOver()) {
+      writeIndex();
+    }
+    return false;
+  }
+
+  private void collectComponents(Element element) {
+    if (element.getKind() == ElementKind.CLASS && isComponent((TypeElement) element)) {
+      componentClassNames.add(elements.getBinaryName((TypeElement) element).toString());
+    }
+    for (Element enclosed : element.getEnclosedElements()) {
+      if (enclosed.getKind() == ElementKind.CLASS
+          && enclosed.getModifiers().contains(Modifier.STATIC)) {
+        collectComponents(enclosed);
+      }
+    }
+  }
+
+  private boolean isComponent(TypeElement typeElement) {
+    if (typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+      return false;
+    }
+    return hasComponentAnnotation(typeElement, new HashSet<>());
+  }
+
+  private boolean hasComponentAnnotation(Element element, Set<String> visitedAnnotations) {
+    for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+      TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+      String annotationName = annotationType.getQualifiedName().toString();
+      if (BRING_COMPONENT_ANNOTATION.equals(annotationName)) {
+        return true;
+      }
+      if (annotationName.startsWith("java.lang.annotation.")
+          || !visitedAnnotations.add(annotationName)) {
+        continue;
+      }
+      if (hasComponentAnnotation(annotationType, visitedAnnotations)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void writeIndex() {
+    Filer filer = processingEnv.getFiler();
+    Set<String> indexEntries = new TreeSet<>(componentClassNames);
+    Set<String> previousEntries = readPreviousIndexEntries(filer);
+    if (previousEntries == null && indexEntries.isEmpty()) {
+      return;
+    }
+    if (previousEntries != null) {
+      indexEntries.addAll(previousEntries);
+    }
+    try {
+      FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "",
+          BringComponentIndex.COMPONENTS_RESOURCE_LOCATION);
+      try (Writer writer = resource.openWriter()) {
+        for (String className : indexEntries) {
+          writer.write(className);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Kind.ERROR,
+          "Unable to write %s: %s".formatted(BringComponentIndex.COMPONENTS_RESOURCE_LOCATION,
+              e.getMessage()));
+    }
+  }
+
+  /**
+   * Read entries of the index produced by a previous compilation. Entries of classes which were
+   * removed or are no longer components are dropped.
+   *
+   * @return previous index entries or {@code null} if there is no previous index
+   */
+  private Set<String> readPreviousIndexEntries(Filer filer) {
+    Set<String> previousEntries = new HashSet<>();
+    try {
+      FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "",
+          BringComponentIndex.COMPONENTS_RESOURCE_LOCATION);
+      try (BufferedReader reader = new BufferedReader(
+          new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          String className = line.trim();
+          if (className.isEmpty() || componentClassNames.contains(className)) {
+            continue;
+          }
+          TypeElement typeElement = elements.getTypeElement(className.replace('$', '.'));
+          if (typeElement != null && isComponent(typeElement)) {
+            previousEntries.add(className);
+          }
+        }
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      // no index from a previous compilation
+      return null;
+    }
+    return previousEntries;
+  }
+}
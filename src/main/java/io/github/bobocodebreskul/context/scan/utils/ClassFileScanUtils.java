@@ -0,0 +1,280 @@
+package io.github.bobocodebreskul.context.scan.utils;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.context.exception.ClassScanningException;
+import io.github.bobocodebreskul.context.scan.utils.ClassMetadataReader.ClassMetadata;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.ProviderNotFoundException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.slf4j.Logger;
+
+/**
+ * Implementation of {@link ScanUtils} which walks classpath directories and jars directly and reads
+ * class metadata from class files instead of loading every class of the package. Meta-annotation
+ * chains are resolved from the class files of annotation types as well, so only classes which
+ * really match the search are loaded with {@link Class#forName(String, boolean, ClassLoader)}.
+ *
+ * <p>Classpath roots are found from package resources and from classpath entries of the class
+ * loader, so jars without directory entries are scanned too. Entry names of a classpath jar are
+ * listed once per scanner and only jars having classes of the package are read. Jar files are
+ * opened as NIO {@link FileSystem} and all classpath roots of the package are read in
+ * parallel.</p>
+ */
+public class ClassFileScanUtils extends ScanUtilsImpl {
+
+  private final static Logger log = LoggerFactory.getLogger(ClassFileScanUtils.class);
+
+  private static final String CLASS_FILE_SUFFIX = ".class";
+  private static final String JAR_SEPARATOR = "!/";
+  private static final Set<String> SKIPPED_CLASS_FILES = Set.of("module-info.class",
+      "package-info.class");
+
+  private final ClassLoader classLoader;
+  private final Map<String, Optional<ClassMetadata>> annotationMetadataCache =
+      new ConcurrentHashMap<>();
+  private final Map<Path, Set<String>> archivePackagesCache = new ConcurrentHashMap<>();
+
+  public ClassFileScanUtils() {
+    this(Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+        .orElse(ClassFileScanUtils.class.getClassLoader()));
+  }
+
+  public ClassFileScanUtils(ClassLoader classLoader) {
+    this.classLoader = classLoader;
+  }
+
+  @Override
+  public Set<Class<?>> searchAllClasses(String packagePathPrefix) {
+    log.trace("Search all classes for {} package", packagePathPrefix);
+    validatePackagesToScan(packagePathPrefix);
+    return readPackageMetadata(packagePathPrefix).stream()
+        .map(this::loadClass)
+        .collect(Collectors.toSet());
+  }
+
+  @Override
+  public Set<Class<?>> searchClassesByAnnotationRecursively(String packagePath,
+      Class<? extends Annotation> filterByAnnotation) {
+    log.trace("Search all classes for {} package which has @{} annotation",
+        packagePath, filterByAnnotation);
+    validatePackagesToScan(packagePath);
+    String annotationName = filterByAnnotation.getName();
+    return readPackageMetadata(packagePath).stream()
+        .filter(metadata -> hasAnnotationRecursively(metadata, annotationName))
+        .map(this::loadClass)
+        .collect(Collectors.toSet());
+  }
+
+  private boolean hasAnnotationRecursively(ClassMetadata classMetadata, String annotationName) {
+    Queue<String> annotations = new ArrayDeque<>(classMetadata.annotationTypes());
+    Set<String> processedAnnotations = new HashSet<>(annotations);
+    while (!annotations.isEmpty()) {
+      String annotation = annotations.poll();
+      if (annotation.equals(annotationName)) {
+        return true;
+      }
+      if (annotation.startsWith("java.lang.annotation.")) {
+        continue;
+      }
+      readAnnotationMetadata(annotation).ifPresent(metadata -> metadata.annotationTypes().stream()
+          .filter(processedAnnotations::add)
+          .forEach(annotations::add));
+    }
+    return false;
+  }
+
+  private Optional<ClassMetadata> readAnnotationMetadata(String annotationName) {
+    return annotationMetadataCache.computeIfAbsent(annotationName, name -> {
+      String resourceName = name.replace('.', '/') + CLASS_FILE_SUFFIX;
+      try (InputStream classFile = classLoader.getResourceAsStream(resourceName)) {
+        if (classFile == null) {
+          log.trace("Class file of annotation {} is not found", name);
+          return Optional.empty();
+        }
+        return Optional.of(ClassMetadataReader.read(classFile));
+      } catch (IOException e) {
+        throw new ClassScanningException(
+            "Could not read class file of annotation %s".formatted(name), e);
+      }
+    });
+  }
+
+  private List<ClassMetadata> readPackageMetadata(String packageName) {
+    String packagePath = packageName.replace('.', '/');
+    Set<Path> roots = findClasspathRoots(packagePath);
+    log.trace("Found {} classpath roots for {} package", roots.size(), packageName);
+    return roots.parallelStream()
+        .flatMap(root -> readRootMetadata(root, packagePath).stream())
+        .filter(metadata -> !metadata.isEnumOrRecord())
+        .toList();
+  }
+
+  /**
+   * Find directories and jars which contain classes of the package. Package resources are not
+   * enough: jars built without directory entries have no resource for the package, so classpath
+   * entries of the class loader are added as well when they have classes of the package.
+   */
+  Set<Path> findClasspathRoots(String packagePath) {
+    Set<Path> roots = new LinkedHashSet<>();
+    try {
+      for (URL resource : Collections.list(classLoader.getResources(packagePath))) {
+        if ("file".equals(resource.getProtocol())) {
+          roots.add(Path.of(resource.toURI()).normalize());
+        } else if ("jar".equals(resource.getProtocol())) {
+          String jarUrl = resource.getPath();
+          roots.add(Path.of(new URI(jarUrl.substring(0, jarUrl.indexOf(JAR_SEPARATOR)))));
+        } else {
+          log.warn("Classpath root {} is not supported and will not be scanned", resource);
+        }
+      }
+      for (Path entry : getClasspathEntries()) {
+        if (Files.isDirectory(entry)) {
+          Path packageDirectory = entry.resolve(packagePath).normalize();
+          if (Files.isDirectory(packageDirectory)) {
+            roots.add(packageDirectory);
+          }
+        } else if (isArchive(entry) && containsPackage(entry, packagePath)) {
+          roots.add(entry);
+        }
+      }
+    } catch (IOException | UncheckedIOException | URISyntaxException
+             | IllegalArgumentException e) {
+      throw new ClassScanningException(
+          "Could not find classpath roots of %s package".formatted(packagePath), e);
+    }
+    return roots;
+  }
+
+  private boolean containsPackage(Path archive, String packagePath) {
+    String packagePrefix = packagePath + "/";
+    return archivePackagesCache.computeIfAbsent(archive, ClassFileScanUtils::readArchivePackages)
+        .stream()
+        .anyMatch(name -> name.equals(packagePath) || name.startsWith(packagePrefix));
+  }
+
+  /**
+   * Read packages of the archive classes from its central directory, without reading the entries.
+   */
+  private static Set<String> readArchivePackages(Path archive) {
+    try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+      return zipFile.stream()
+          .map(ZipEntry::getName)
+          .filter(name -> name.endsWith(CLASS_FILE_SUFFIX))
+          .map(name -> name.lastIndexOf('/') < 0 ? "" : name.substring(0, name.lastIndexOf('/')))
+          .collect(Collectors.toSet());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not list entries of %s".formatted(archive), e);
+    }
+  }
+
+  private static boolean isArchive(Path entry) {
+    String fileName = entry.getFileName() == null ? "" : entry.getFileName().toString()
+        .toLowerCase(Locale.ROOT);
+    return (fileName.endsWith(".jar") || fileName.endsWith(".zip")) && Files.isRegularFile(entry);
+  }
+
+  private List<Path> getClasspathEntries() throws URISyntaxException {
+    List<Path> entries = new ArrayList<>();
+    boolean systemClasspath = false;
+    for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+      if (loader instanceof URLClassLoader urlClassLoader) {
+        for (URL url : urlClassLoader.getURLs()) {
+          if ("file".equals(url.getProtocol())) {
+            entries.add(Path.of(url.toURI()).normalize());
+          }
+        }
+      }
+      systemClasspath |= loader == ClassLoader.getSystemClassLoader();
+    }
+    if (systemClasspath) {
+      for (String entry : System.getProperty("java.class.path", "")
+          .split(File.pathSeparator)) {
+        if (!entry.isBlank()) {
+          entries.add(Path.of(entry).toAbsolutePath().normalize());
+        }
+      }
+    }
+    return entries;
+  }
+
+  private List<ClassMetadata> readRootMetadata(Path root, String packagePath) {
+    try {
+      if (Files.isDirectory(root)) {
+        return readDirectoryMetadata(root);
+      }
+      try (FileSystem jarFileSystem = FileSystems.newFileSystem(root)) {
+        // entries are filtered by name, jars could have no directory entries of the package
+        String packagePrefix = "/" + packagePath + "/";
+        try (Stream<Path> paths = Files.walk(jarFileSystem.getPath("/"))) {
+          return paths
+              .filter(path -> path.toString().startsWith(packagePrefix))
+              .filter(this::isScannedClassFile)
+              .map(this::readClassMetadata)
+              .toList();
+        }
+      }
+    } catch (IOException | UncheckedIOException | ProviderNotFoundException e) {
+      throw new ClassScanningException("Could not read classes from %s".formatted(root), e);
+    }
+  }
+
+  private List<ClassMetadata> readDirectoryMetadata(Path directory) throws IOException {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      return paths
+          .filter(this::isScannedClassFile)
+          .map(this::readClassMetadata)
+          .toList();
+    }
+  }
+
+  private boolean isScannedClassFile(Path path) {
+    Path fileName = path.getFileName();
+    return fileName != null && fileName.toString().endsWith(CLASS_FILE_SUFFIX)
+        && !SKIPPED_CLASS_FILES.contains(fileName.toString());
+  }
+
+  private ClassMetadata readClassMetadata(Path classFile) {
+    try (InputStream input = Files.newInputStream(classFile)) {
+      return ClassMetadataReader.read(input);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Class<?> loadClass(ClassMetadata classMetadata) {
+    try {
+      return Class.forName(classMetadata.className(), false, classLoader);
+    } catch (ClassNotFoundException | LinkageError e) {
+      String errorMessage = "Could not load scanned class %s".formatted(classMetadata.className());
+      log.error(errorMessage, e);
+      throw new ClassScanningException(errorMessage, e);
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package io.github.bobocodebreskul.context.scan.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal class file parser which reads class name, access flags and runtime visible class-level
+ * annotations directly from the class file bytes, without defining the class in the JVM.
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html">JVMS, Chapter
+ * 4. The class File Format</a>
+ */
+final class ClassMetadataReader {
+
+  static final int ACC_ENUM = 0x4000;
+
+  private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+  private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+  private static final int CONSTANT_UTF8 = 1;
+  private static final int CONSTANT_INTEGER = 3;
+  private static final int CONSTANT_FLOAT = 4;
+  private static final int CONSTANT_LONG = 5;
+  private static final int CONSTANT_DOUBLE = 6;
+  private static final int CONSTANT_CLASS = 7;
+  private static final int CONSTANT_STRING = 8;
+  private static final int CONSTANT_FIELD_REF = 9;
+  private static final int CONSTANT_METHOD_REF = 10;
+  private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+  private static final int CONSTANT_NAME_AND_TYPE = 12;
+  private static final int CONSTANT_METHOD_HANDLE = 15;
+  private static final int CONSTANT_METHOD_TYPE = 16;
+  private static final int CONSTANT_DYNAMIC = 17;
+  private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+  private static final int CONSTANT_MODULE = 19;
+  private static final int CONSTANT_PACKAGE = 20;
+
+  private ClassMetadataReader() {
+  }
+
+  /**
+   * Class metadata read from the class file.
+   *
+   * @param className       fully qualified binary class name
+   * @param accessFlags     class access flags
+   * @param superClassName  fully qualified binary name of super class, {@code null} for
+   *                        {@link Object}
+   * @param annotationTypes fully qualified binary names of runtime visible class annotations
+   */
+  record ClassMetadata(String className, int accessFlags, String superClassName,
+                       List<String> annotationTypes) {
+
+    boolean isEnumOrRecord() {
+      return (accessFlags & ACC_ENUM) != 0 || "java.lang.Record".equals(superClassName);
+    }
+  }
+
+  /**
+   * Read class metadata from class file stream. The stream is not closed.
+   *
+   * @param classFile class file content
+   * @return read class metadata
+   * @throws IOException if stream could not be read or it is not a valid class file
+   */
+  static ClassMetadata read(InputStream classFile) throws IOException {
+    // read fully to make skipBytes reliable for any source stream
+    DataInputStream input = new DataInputStream(
+        new ByteArrayInputStream(classFile.readAllBytes()));
+    if (input.readInt() != CLASS_FILE_MAGIC) {
+      throw new IOException("Not a class file");
+    }
+    input.skipBytes(4); // minor and major versions
+
+    int constantPoolCount = input.readUnsignedShort();
+    String[] utf8Constants = new String[constantPoolCount];
+    int[] classNameIndexes = new int[constantPoolCount];
+    for (int i = 1; i < constantPoolCount; i++) {
+      int tag = input.readUnsignedByte();
+      switch (tag) {
+        case CONSTANT_UTF8 -> utf8Constants[i] = input.readUTF();
+        case CONSTANT_CLASS -> classNameIndexes[i] = input.readUnsignedShort();
+        case CONSTANT_STRING, CONSTANT_METHOD_TYPE, CONSTANT_MODULE, CONSTANT_PACKAGE ->
+            input.skipBytes(2);
+        case CONSTANT_METHOD_HANDLE -> input.skipBytes(3);
+        case CONSTANT_INTEGER, CONSTANT_FLOAT, CONSTANT_FIELD_REF, CONSTANT_METHOD_REF,
+            CONSTANT_INTERFACE_METHOD_REF, CONSTANT_NAME_AND_TYPE, CONSTANT_DYNAMIC,
+            CONSTANT_INVOKE_DYNAMIC -> input.skipBytes(4);
+        case CONSTANT_LONG, CONSTANT_DOUBLE -> {
+          input.skipBytes(8);
+          i++;
+        }
+        default -> throw new IOException("Unknown constant pool tag " + tag);
+      }
+    }
+
+    int accessFlags = input.readUnsignedShort();
+    int thisClass = input.readUnsignedShort();
+    String className = utf8Constants[classNameIndexes[thisClass]].replace('/', '.');
+    int superClass = input.readUnsignedShort();
+    String superClassName = superClass == 0 ? null
+        : utf8Constants[classNameIndexes[superClass]].replace('/', '.');
+    input.skipBytes(2 * input.readUnsignedShort()); // interfaces
+    skipMembers(input); // fields
+    skipMembers(input); // methods
+
+    List<String> annotationTypes = new ArrayList<>();
+    int attributesCount = input.readUnsignedShort();
+    for (int i = 0; i < attributesCount; i++) {
+      String attributeName = utf8Constants[input.readUnsignedShort()];
+      int attributeLength = input.readInt();
+      if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+        input.skipBytes(attributeLength);
+        continue;
+      }
+      int annotationsCount = input.readUnsignedShort();
+      for (int j = 0; j < annotationsCount; j++) {
+        annotationTypes.add(toClassName(readAnnotation(input, utf8Constants)));
+      }
+    }
+    return new ClassMetadata(className, accessFlags, superClassName, annotationTypes);
+  }
+
+  private static void skipMembers(DataInputStream input) throws IOException {
+    int membersCount = input.readUnsignedShort();
+    for (int i = 0; i < membersCount; i++) {
+      input.skipBytes(6); // access flags, name and descriptor
+      int attributesCount = input.readUnsignedShort();
+      for (int j = 0; j < attributesCount; j++) {
+        input.skipBytes(2);
+        input.skipBytes(input.readInt());
+      }
+    }
+  }
+
+  private static String readAnnotation(DataInputStream input, String[] utf8Constants)
+      throws IOException {
+    String typeDescriptor = utf8Constants[input.readUnsignedShort()];
+    int elementValuePairsCount = input.readUnsignedShort();
+    for (int i = 0; i < elementValuePairsCount; i++) {
+      input.skipBytes(2); // element name
+      skipElementValue(input, utf8Constants);
+    }
+    return typeDescriptor;
+  }
+
+  private static void skipElementValue(DataInputStream input, String[] utf8Constants)
+      throws IOException {
+    int tag = input.readUnsignedByte();
+    switch (tag) {
+      case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> input.skipBytes(2);
+      case 'e' -> input.skipBytes(4);
+      case '@' -> readAnnotation(input, utf8Constants);
+      case '[' -> {
+        int valuesCount = input.readUnsignedShort();
+        for (int i = 0; i < valuesCount; i++) {
+          skipElementValue(input, utf8Constants);
+        }
+      }
+      default -> throw new IOException("Unknown annotation element value tag " + (char) tag);
+    }
+  }
+
+  private static String toClassName(String typeDescriptor) {
+    return typeDescriptor.substring(1, typeDescriptor.length() - 1).replace('/', '.');
+  }
+}
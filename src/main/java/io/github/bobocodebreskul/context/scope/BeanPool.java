@@ -0,0 +1,282 @@
+package io.github.bobocodebreskul.context.scope;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.config.PropertiesConfiguration;
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
+import io.github.bobocodebreskul.context.exception.PoolExhaustedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+
+/**
+ * Lock-free pool of instances of a {@code pooled} scoped bean. Could be injected into other beans
+ * as {@code BeanPool<T>} to borrow and release instances explicitly.
+ * <p>
+ * The pool keeps up to {@value #MAX_SIZE_PROPERTY} idle instances, instances released into a full
+ * pool are discarded. At most {@value #MAX_TOTAL_PROPERTY} instances are borrowed at once: when no
+ * idle instance is available a new one is created while the limit allows it, otherwise borrowing
+ * waits up to {@value #BORROW_TIMEOUT_PROPERTY} milliseconds for a released instance and fails with
+ * {@link PoolExhaustedException}, zero timeout fails fast. Every borrowed instance should be
+ * released exactly once. Idle instances not used for {@value #IDLE_TIMEOUT_PROPERTY} milliseconds are
+ * evicted, zero disables eviction. Instances implementing {@link PoolableBean} are validated on
+ * borrow and release.
+ *
+ * @param <T> pooled bean type
+ */
+public class BeanPool<T> {
+
+  public static final String MAX_SIZE_PROPERTY = "bring.pool.max-size";
+  public static final String IDLE_TIMEOUT_PROPERTY = "bring.pool.idle-timeout";
+  public static final String MAX_TOTAL_PROPERTY = "bring.pool.max-total";
+  public static final String BORROW_TIMEOUT_PROPERTY = "bring.pool.borrow-timeout";
+  static final int DEFAULT_MAX_SIZE = 8;
+  static final int DEFAULT_IDLE_TIMEOUT = 0;
+  static final int DEFAULT_MAX_TOTAL = 64;
+  static final int DEFAULT_BORROW_TIMEOUT = 5000;
+
+  private final static Logger log = LoggerFactory.getLogger(BeanPool.class);
+  private final String beanName;
+  private final Supplier<T> objectFactory;
+  private final int maxSize;
+  private final long idleTimeoutNanos;
+  private final int maxTotal;
+  private final long borrowTimeoutNanos;
+  private final Semaphore borrowPermits;
+  private final ConcurrentLinkedDeque<IdleInstance<T>> idleInstances = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger idleCount = new AtomicInteger();
+
+  /**
+   * Create a new pool without limit of borrowed instances.
+   *
+   * @param beanName         pooled bean name
+   * @param objectFactory    creates new bean instances
+   * @param maxSize          maximum number of idle instances kept by the pool
+   * @param idleTimeoutNanos idle time in nanoseconds after which instance is evicted, zero
+   *                         disables eviction
+   */
+  public BeanPool(String beanName, Supplier<T> objectFactory, int maxSize,
+      long idleTimeoutNanos) {
+    this(beanName, objectFactory, maxSize, idleTimeoutNanos, Integer.MAX_VALUE, 0);
+  }
+
+  /**
+   * Create a new pool.
+   *
+   * @param beanName           pooled bean name
+   * @param objectFactory      creates new bean instances
+   * @param maxSize            maximum number of idle instances kept by the pool
+   * @param idleTimeoutNanos   idle time in nanoseconds after which instance is evicted, zero
+   *                           disables eviction
+   * @param maxTotal           maximum number of instances borrowed at once
+   * @param borrowTimeoutNanos time in nanoseconds to wait for a released instance when
+   *                           {@code maxTotal} instances are borrowed, zero fails fast
+   */
+  public BeanPool(String beanName, Supplier<T> objectFactory, int maxSize,
+      long idleTimeoutNanos, int maxTotal, long borrowTimeoutNanos) {
+    this.beanName = Objects.requireNonNull(beanName, "The bean name cannot be null!");
+    this.objectFactory = Objects.requireNonNull(objectFactory,
+        "The object factory cannot be null!");
+    this.maxSize = maxSize;
+    this.idleTimeoutNanos = idleTimeoutNanos;
+    this.maxTotal = maxTotal;
+    this.borrowTimeoutNanos = borrowTimeoutNanos;
+    this.borrowPermits = new Semaphore(maxTotal);
+  }
+
+  /**
+   * Create a new pool configured by {@value #MAX_SIZE_PROPERTY}, {@value #IDLE_TIMEOUT_PROPERTY},
+   * {@value #MAX_TOTAL_PROPERTY} and {@value #BORROW_TIMEOUT_PROPERTY} properties.
+   *
+   * @param beanName      pooled bean name
+   * @param objectFactory creates new bean instances
+   * @param <T>           pooled bean type
+   * @return created pool
+   * @throws InvalidPropertyValueException if maximum sizes are not positive or timeouts are
+   *                                       negative
+   */
+  public static <T> BeanPool<T> fromProperties(String beanName, Supplier<T> objectFactory) {
+    int maxSize = PropertiesConfiguration.getPropertyAsIntOrDefault(MAX_SIZE_PROPERTY,
+        DEFAULT_MAX_SIZE);
+    if (maxSize <= 0) {
+      throw new InvalidPropertyValueException(
+          "\"%s\" property value should be positive!".formatted(MAX_SIZE_PROPERTY));
+    }
+    int idleTimeout = PropertiesConfiguration.getPropertyAsIntOrDefault(IDLE_TIMEOUT_PROPERTY,
+        DEFAULT_IDLE_TIMEOUT);
+    if (idleTimeout < 0) {
+      throw new InvalidPropertyValueException(
+          "\"%s\" property value should not be negative!".formatted(IDLE_TIMEOUT_PROPERTY));
+    }
+    int maxTotal = PropertiesConfiguration.getPropertyAsIntOrDefault(MAX_TOTAL_PROPERTY,
+        DEFAULT_MAX_TOTAL);
+    if (maxTotal <= 0) {
+      throw new InvalidPropertyValueException(
+          "\"%s\" property value should be positive!".formatted(MAX_TOTAL_PROPERTY));
+    }
+    int borrowTimeout = PropertiesConfiguration.getPropertyAsIntOrDefault(BORROW_TIMEOUT_PROPERTY,
+        DEFAULT_BORROW_TIMEOUT);
+    if (borrowTimeout < 0) {
+      throw new InvalidPropertyValueException(
+          "\"%s\" property value should not be negative!".formatted(BORROW_TIMEOUT_PROPERTY));
+    }
+    return new BeanPool<>(beanName, objectFactory, maxSize,
+        TimeUnit.MILLISECONDS.toNanos(idleTimeout), maxTotal,
+        TimeUnit.MILLISECONDS.toNanos(borrowTimeout));
+  }
+
+  /**
+   * Take an idle instance from the pool or create a new one if there is no valid idle instance.
+   * The instance should be returned with {@link #release(Object)}.
+   *
+   * @return bean instance for exclusive use by the caller
+   * @throws PoolExhaustedException if maximum number of instances is borrowed and none was
+   *                                released within the borrow timeout
+   */
+  public T borrow() {
+    acquirePermit();
+    try {
+      return takeOrCreate();
+    } catch (RuntimeException | Error e) {
+      borrowPermits.release();
+      throw e;
+    }
+  }
+
+  private void acquirePermit() {
+    try {
+      if (borrowPermits.tryAcquire(borrowTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    log.warn("All {} instances of pooled bean {} are borrowed", maxTotal, beanName);
+    throw new PoolExhaustedException(
+        "All %d instances of pooled bean %s are borrowed".formatted(maxTotal, beanName));
+  }
+
+  private T takeOrCreate() {
+    evictExpired();
+    IdleInstance<T> idleInstance;
+    while ((idleInstance = idleInstances.pollFirst()) != null) {
+      idleCount.decrementAndGet();
+      if (isValid(idleInstance.instance())) {
+        return idleInstance.instance();
+      }
+      log.debug("Discard invalid instance of pooled bean {}", beanName);
+    }
+    log.trace("Create new instance of pooled bean {}", beanName);
+    return objectFactory.get();
+  }
+
+  /**
+   * Return borrowed instance to the pool. Invalid instances and instances exceeding maximum pool
+   * size are discarded, either way the instance no longer counts as borrowed.
+   *
+   * @param instance previously borrowed instance
+   */
+  public void release(T instance) {
+    if (instance == null) {
+      return;
+    }
+    borrowPermits.release();
+    if (!isValid(instance)) {
+      return;
+    }
+    if (idleCount.incrementAndGet() > maxSize) {
+      idleCount.decrementAndGet();
+      log.trace("Pool of bean {} is full, discard released instance", beanName);
+      return;
+    }
+    idleInstances.offerFirst(new IdleInstance<>(instance, System.nanoTime()));
+    evictExpired();
+  }
+
+  /**
+   * Borrow an instance, apply the function to it and release the instance.
+   *
+   * @param function function to apply
+   * @param <R>      function result type
+   * @return function result
+   */
+  public <R> R execute(Function<? super T, R> function) {
+    T instance = borrow();
+    try {
+      return function.apply(instance);
+    } finally {
+      release(instance);
+    }
+  }
+
+  /**
+   * Return pooled bean name.
+   *
+   * @return bean name
+   */
+  public String getBeanName() {
+    return beanName;
+  }
+
+  /**
+   * Return number of idle instances currently held by the pool.
+   *
+   * @return idle instances count
+   */
+  public int getIdleCount() {
+    return idleCount.get();
+  }
+
+  /**
+   * Return number of instances currently borrowed from the pool.
+   *
+   * @return borrowed instances count
+   */
+  public int getBorrowedCount() {
+    return maxTotal - borrowPermits.availablePermits();
+  }
+
+  /**
+   * Remove all idle instances from the pool. Borrowed instances are not affected.
+   *
+   * @return removed idle instances
+   */
+  public List<T> clear() {
+    List<T> removed = new ArrayList<>();
+    IdleInstance<T> idleInstance;
+    while ((idleInstance = idleInstances.pollFirst()) != null) {
+      idleCount.decrementAndGet();
+      removed.add(idleInstance.instance());
+    }
+    return removed;
+  }
+
+  private void evictExpired() {
+    if (idleTimeoutNanos == 0) {
+      return;
+    }
+    long now = System.nanoTime();
+    IdleInstance<T> oldest;
+    while ((oldest = idleInstances.peekLast()) != null
+        && now - oldest.returnedAt() > idleTimeoutNanos) {
+      if (idleInstances.removeLastOccurrence(oldest)) {
+        idleCount.decrementAndGet();
+        log.trace("Evict idle instance of pooled bean {}", beanName);
+      }
+    }
+  }
+
+  private static boolean isValid(Object instance) {
+    return !(instance instanceof PoolableBean poolableBean) || poolableBean.isValid();
+  }
+
+  private record IdleInstance<T>(T instance, long returnedAt) {
+
+  }
+}
@@ -0,0 +1,25 @@
+package io.github.bobocodebreskul.context.scope;
+
+import java.util.function.Supplier;
+
+/**
+ * Strategy of a custom bean scope. A scope supplies resolvers for the current instance of a scoped
+ * bean, which are used by scoped proxies on every call.
+ *
+ * @see ScopedProxyFactory
+ */
+public interface BeanScope {
+
+  /**
+   * Create resolver for the current instance of the specified bean. The resolver returns the
+   * instance bound to the active scope, creating it with the object factory on first access.
+   *
+   * @param beanName      scoped bean name
+   * @param objectFactory creates new bean instance
+   * @return resolver of the current bean instance
+   * @throws io.github.bobocodebreskul.context.exception.ScopeNotActiveException by the resolver
+   *                                                                             if the scope is not
+   *                                                                             active
+   */
+  Supplier<Object> createTargetResolver(String beanName, Supplier<Object> objectFactory);
+}
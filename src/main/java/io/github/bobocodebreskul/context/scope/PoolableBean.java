@@ -0,0 +1,15 @@
+package io.github.bobocodebreskul.context.scope;
+
+/**
+ * Optional callback interface for pooled beans. {@link BeanPool} validates instances implementing
+ * it before handing them out and when they are returned; invalid instances are discarded.
+ */
+public interface PoolableBean {
+
+  /**
+   * Check whether this instance could still be used.
+   *
+   * @return {@code true} if instance is valid and may be reused
+   */
+  boolean isValid();
+}
@@ -0,0 +1,58 @@
+package io.github.bobocodebreskul.context.scope;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Binds pooled bean instances to the current thread for the duration of a unit of work, e.g.
+ * controller invocation. Within an open lease every pooled proxy uses the same borrowed instance,
+ * all instances are returned to their pools when the lease is closed. Outside of a lease pooled
+ * proxies borrow and release an instance around each call.
+ */
+@UtilityClass
+public class PooledBeanLease {
+
+  private static final ThreadLocal<Map<BeanPool<?>, Object>> LEASED_INSTANCES = new ThreadLocal<>();
+
+  /**
+   * Open lease on the current thread.
+   *
+   * @return {@code true} if a new lease was opened, {@code false} if the current thread already
+   * holds an open lease
+   */
+  public static boolean open() {
+    if (LEASED_INSTANCES.get() != null) {
+      return false;
+    }
+    LEASED_INSTANCES.set(new IdentityHashMap<>());
+    return true;
+  }
+
+  /**
+   * Close lease of the current thread and return all leased instances to their pools.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static void close() {
+    Map<BeanPool<?>, Object> leasedInstances = LEASED_INSTANCES.get();
+    if (leasedInstances == null) {
+      return;
+    }
+    LEASED_INSTANCES.remove();
+    leasedInstances.forEach((pool, instance) -> ((BeanPool) pool).release(instance));
+  }
+
+  /**
+   * Return instance of the pool leased by the current thread, borrowing it on first access.
+   *
+   * @param pool bean pool
+   * @return leased instance or {@code null} if the current thread has no open lease
+   */
+  static Object getLeasedInstance(BeanPool<?> pool) {
+    Map<BeanPool<?>, Object> leasedInstances = LEASED_INSTANCES.get();
+    if (leasedInstances == null) {
+      return null;
+    }
+    return leasedInstances.computeIfAbsent(pool, BeanPool::borrow);
+  }
+}
@@ -0,0 +1,26 @@
+package io.github.bobocodebreskul.context.scope;
+
+/**
+ * Attribute store of the request that is currently processed by the current thread. Backs the
+ * {@code request} bean scope.
+ *
+ * @see RequestContextHolder
+ */
+public interface RequestAttributes {
+
+  /**
+   * Return the attribute value bound to the specified name.
+   *
+   * @param name attribute name
+   * @return attribute value or {@code null} if not bound
+   */
+  Object getAttribute(String name);
+
+  /**
+   * Bind the attribute value to the specified name.
+   *
+   * @param name  attribute name
+   * @param value attribute value
+   */
+  void setAttribute(String name, Object value);
+}
@@ -0,0 +1,33 @@
+package io.github.bobocodebreskul.context.scope;
+
+import io.github.bobocodebreskul.context.exception.ScopeNotActiveException;
+import java.util.function.Supplier;
+
+/**
+ * Scope that binds bean instances to the attributes of the current request.
+ *
+ * @see RequestContextHolder
+ */
+public class RequestBeanScope implements BeanScope {
+
+  static final String SCOPED_TARGET_ATTRIBUTE_PREFIX = "bring.scopedTarget.";
+
+  @Override
+  public Supplier<Object> createTargetResolver(String beanName, Supplier<Object> objectFactory) {
+    String attributeName = SCOPED_TARGET_ATTRIBUTE_PREFIX + beanName;
+    return () -> {
+      RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+      if (requestAttributes == null) {
+        throw new ScopeNotActiveException(
+            "Request scoped bean '%s' is used outside of HTTP request processing".formatted(
+                beanName));
+      }
+      Object target = requestAttributes.getAttribute(attributeName);
+      if (target == null) {
+        target = objectFactory.get();
+        requestAttributes.setAttribute(attributeName, target);
+      }
+      return target;
+    };
+  }
+}
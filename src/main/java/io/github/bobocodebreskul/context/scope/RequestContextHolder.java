@@ -0,0 +1,42 @@
+package io.github.bobocodebreskul.context.scope;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Holds the {@link RequestAttributes} of the request processed by the current thread. Request
+ * processing code binds the attributes before calling controllers and resets them afterwards.
+ */
+@UtilityClass
+public class RequestContextHolder {
+
+  private static final ThreadLocal<RequestAttributes> REQUEST_ATTRIBUTES = new ThreadLocal<>();
+
+  /**
+   * Bind the request attributes to the current thread.
+   *
+   * @param requestAttributes attributes of the current request, {@code null} resets the binding
+   */
+  public static void setRequestAttributes(RequestAttributes requestAttributes) {
+    if (requestAttributes == null) {
+      REQUEST_ATTRIBUTES.remove();
+    } else {
+      REQUEST_ATTRIBUTES.set(requestAttributes);
+    }
+  }
+
+  /**
+   * Return the request attributes bound to the current thread.
+   *
+   * @return request attributes or {@code null} if no request is processed by the current thread
+   */
+  public static RequestAttributes getRequestAttributes() {
+    return REQUEST_ATTRIBUTES.get();
+  }
+
+  /**
+   * Remove request attributes binding from the current thread.
+   */
+  public static void resetRequestAttributes() {
+    REQUEST_ATTRIBUTES.remove();
+  }
+}
@@ -0,0 +1,122 @@
+package io.github.bobocodebreskul.context.scope;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.ClassUtils;
+import org.slf4j.Logger;
+
+/**
+ * Creates JDK proxies for scoped beans. A scoped proxy implements all interfaces of the bean class
+ * and delegates every call to the instance returned by the target resolver of the bean scope or
+ * borrowed from the bean pool.
+ */
+@UtilityClass
+public class ScopedProxyFactory {
+
+  private final static Logger log = LoggerFactory.getLogger(ScopedProxyFactory.class);
+
+  /**
+   * Check whether a scoped proxy can be created for the specified bean class.
+   *
+   * @param beanClass scoped bean class
+   * @return {@code true} if bean class implements at least one interface
+   */
+  public static boolean canCreateProxy(Class<?> beanClass) {
+    return !ClassUtils.getAllInterfaces(beanClass).isEmpty();
+  }
+
+  /**
+   * Create scoped proxy for the specified bean.
+   *
+   * @param beanClass      scoped bean class, must implement at least one interface
+   * @param targetResolver resolver of the current bean instance
+   * @return scoped proxy implementing all interfaces of the bean class
+   */
+  public static Object createProxy(Class<?> beanClass, Supplier<Object> targetResolver) {
+    List<Class<?>> interfaces = ClassUtils.getAllInterfaces(beanClass);
+    log.debug("Create scoped proxy for bean class {} with interfaces {}", beanClass.getName(),
+        interfaces);
+    return Proxy.newProxyInstance(beanClass.getClassLoader(), interfaces.toArray(Class<?>[]::new),
+        new ScopedInvocationHandler(beanClass, targetResolver));
+  }
+
+  /**
+   * Create proxy for the specified pooled bean. Within an open {@link PooledBeanLease} the proxy
+   * delegates to the instance leased by the current thread, otherwise it borrows an instance from
+   * the pool for each call.
+   *
+   * @param beanClass pooled bean class, must implement at least one interface
+   * @param pool      pool of bean instances
+   * @return pooled proxy implementing all interfaces of the bean class
+   */
+  public static Object createPooledProxy(Class<?> beanClass, BeanPool<Object> pool) {
+    List<Class<?>> interfaces = ClassUtils.getAllInterfaces(beanClass);
+    log.debug("Create pooled proxy for bean class {} with interfaces {}", beanClass.getName(),
+        interfaces);
+    return Proxy.newProxyInstance(beanClass.getClassLoader(), interfaces.toArray(Class<?>[]::new),
+        new PooledInvocationHandler(beanClass, pool));
+  }
+
+  private static Object invokeObjectMethod(Object proxy, Method method, Object[] args,
+      Class<?> beanClass) {
+    return switch (method.getName()) {
+      case "equals" -> proxy == args[0];
+      case "hashCode" -> System.identityHashCode(proxy);
+      case "toString" -> "Scoped proxy for " + beanClass.getName();
+      default -> null;
+    };
+  }
+
+  private static boolean isObjectMethod(Method method) {
+    return method.getDeclaringClass() == Object.class;
+  }
+
+  private static Object invokeTarget(Object target, Method method, Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+
+  private record ScopedInvocationHandler(Class<?> beanClass,
+                                         Supplier<Object> targetResolver) implements
+      InvocationHandler {
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (isObjectMethod(method)) {
+        return invokeObjectMethod(proxy, method, args, beanClass);
+      }
+      return invokeTarget(targetResolver.get(), method, args);
+    }
+  }
+
+  private record PooledInvocationHandler(Class<?> beanClass,
+                                         BeanPool<Object> pool) implements InvocationHandler {
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (isObjectMethod(method)) {
+        return invokeObjectMethod(proxy, method, args, beanClass);
+      }
+      Object leasedInstance = PooledBeanLease.getLeasedInstance(pool);
+      if (leasedInstance != null) {
+        return invokeTarget(leasedInstance, method, args);
+      }
+      Object instance = pool.borrow();
+      try {
+        return invokeTarget(instance, method, args);
+      } finally {
+        pool.release(instance);
+      }
+    }
+  }
+}
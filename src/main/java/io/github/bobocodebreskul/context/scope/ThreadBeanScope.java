@@ -0,0 +1,16 @@
+package io.github.bobocodebreskul.context.scope;
+
+import java.util.function.Supplier;
+
+/**
+ * Scope that binds bean instances to the current thread. Each bean gets its own thread local, so
+ * resolving the current instance is a single thread local read.
+ */
+public class ThreadBeanScope implements BeanScope {
+
+  @Override
+  public Supplier<Object> createTargetResolver(String beanName, Supplier<Object> objectFactory) {
+    ThreadLocal<Object> target = ThreadLocal.withInitial(objectFactory);
+    return target::get;
+  }
+}
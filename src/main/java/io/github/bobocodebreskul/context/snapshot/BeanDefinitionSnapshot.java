@@ -0,0 +1,157 @@
+package io.github.bobocodebreskul.context.snapshot;
+
+import io.github.bobocodebreskul.context.annotations.Value;
+import io.github.bobocodebreskul.context.config.AnnotatedGenericBeanDefinition;
+import io.github.bobocodebreskul.context.config.BeanDefinition;
+import io.github.bobocodebreskul.context.config.BeanDependency;
+import io.github.bobocodebreskul.context.config.ConfigurationBeanDefinition;
+import io.github.bobocodebreskul.context.config.GenericBeanDefinition;
+import io.github.bobocodebreskul.context.exception.StartupSnapshotException;
+import io.github.bobocodebreskul.context.support.BeanDefinitionReaderUtils;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Bean definition persisted in the {@link StartupSnapshot}. Dependencies are stored already
+ * resolved, as names of the dependency bean definitions.
+ *
+ * @param name                   bean name
+ * @param beanClassName          binary name of the bean class
+ * @param scope                  bean scope
+ * @param primary                whether bean is a primary autowire candidate
+ * @param configurationClassName binary name of the configuration class declaring
+ *                               {@code @BringBean} method or {@code null} for a component bean
+ * @param methodName             {@code @BringBean} method name or {@code null} for a component
+ *                               bean
+ * @param parameterTypeNames     binary names of init constructor or {@code @BringBean} method
+ *                               parameter types
+ * @param dependencyNames        names of resolved dependency beans, one per parameter that is not
+ *                               annotated with {@code @Value}
+ */
+public record BeanDefinitionSnapshot(String name, String beanClassName, String scope,
+                                     boolean primary, String configurationClassName,
+                                     String methodName, List<String> parameterTypeNames,
+                                     List<String> dependencyNames) {
+
+  /**
+   * Record bean definition with its resolved dependencies.
+   *
+   * @param beanDefinition       validated bean definition
+   * @param resolvedDependencies bean definitions of the resolved dependencies
+   * @return bean definition snapshot
+   */
+  public static BeanDefinitionSnapshot of(BeanDefinition beanDefinition,
+      List<BeanDefinition> resolvedDependencies) {
+    List<String> dependencyNames = resolvedDependencies.stream()
+        .map(BeanDefinition::getName)
+        .toList();
+    if (beanDefinition instanceof ConfigurationBeanDefinition configuration) {
+      Method beanMethod = configuration.getBeanMethod();
+      return new BeanDefinitionSnapshot(beanDefinition.getName(),
+          beanDefinition.getBeanClass().getName(), beanDefinition.getScope(),
+          beanDefinition.isPrimary(), beanMethod.getDeclaringClass().getName(),
+          beanMethod.getName(), getParameterTypeNames(beanMethod), dependencyNames);
+    }
+    return new BeanDefinitionSnapshot(beanDefinition.getName(),
+        beanDefinition.getBeanClass().getName(), beanDefinition.getScope(),
+        beanDefinition.isPrimary(), null, null,
+        getParameterTypeNames(beanDefinition.getInitConstructor()), dependencyNames);
+  }
+
+  /**
+   * Restore bean definition from the snapshot.
+   *
+   * @param classLoader            class loader to load bean classes with
+   * @param configurationInstances already created configuration class instances
+   * @return restored bean definition
+   * @throws StartupSnapshotException if any class, constructor or method is not found
+   */
+  BeanDefinition restore(ClassLoader classLoader, Map<Class<?>, Object> configurationInstances) {
+    Class<?> beanClass = loadClass(beanClassName, classLoader);
+    Class<?>[] parameterTypes = loadClasses(parameterTypeNames, classLoader);
+    GenericBeanDefinition beanDefinition;
+    Executable initExecutable;
+    try {
+      if (configurationClassName == null) {
+        Constructor<?> initConstructor = beanClass.getDeclaredConstructor(parameterTypes);
+        beanDefinition = new AnnotatedGenericBeanDefinition(beanClass);
+        beanDefinition.setInitConstructor(initConstructor);
+        initExecutable = initConstructor;
+      } else {
+        Class<?> configurationClass = loadClass(configurationClassName, classLoader);
+        Method beanMethod = configurationClass.getMethod(methodName, parameterTypes);
+        initExecutable = beanMethod;
+        Object configurationInstance = configurationInstances.computeIfAbsent(configurationClass,
+            BeanDefinitionSnapshot::instantiateConfigurationClass);
+        beanDefinition = new ConfigurationBeanDefinition(beanClass, beanMethod,
+            configurationInstance);
+      }
+    } catch (NoSuchMethodException e) {
+      throw new StartupSnapshotException(
+          "Init constructor or method of bean %s is not found".formatted(name), e);
+    }
+    beanDefinition.setName(name);
+    beanDefinition.setScope(scope);
+    beanDefinition.setPrimary(primary);
+
+    beanDefinition.setDependencies(restoreDependencies(initExecutable));
+    return beanDefinition;
+  }
+
+  private List<BeanDependency> restoreDependencies(Executable initExecutable) {
+    Parameter[] parameters = initExecutable.getParameters();
+    List<BeanDependency> dependencies = new ArrayList<>(parameters.length);
+    int dependencyIndex = 0;
+    for (Parameter parameter : parameters) {
+      if (parameter.isAnnotationPresent(Value.class)) {
+        // configuration values are resolved again as configuration could change between starts
+        dependencies.add(BeanDefinitionReaderUtils.getValueDependency(parameter));
+      } else if (dependencyIndex < dependencyNames.size()) {
+        dependencies.add(new BeanDependency(dependencyNames.get(dependencyIndex++), null,
+            parameter.getType()));
+      } else {
+        throw new StartupSnapshotException(
+            "Dependencies of bean %s do not match its init parameters".formatted(name));
+      }
+    }
+    return dependencies;
+  }
+
+  private static List<String> getParameterTypeNames(Executable executable) {
+    return Arrays.stream(executable.getParameterTypes())
+        .map(Class::getName)
+        .toList();
+  }
+
+  static Class<?>[] loadClasses(List<String> classNames, ClassLoader classLoader) {
+    return classNames.stream()
+        .map(className -> loadClass(className, classLoader))
+        .toArray(Class<?>[]::new);
+  }
+
+  static Class<?> loadClass(String className, ClassLoader classLoader) {
+    try {
+      return ClassUtils.getClass(classLoader, className, false);
+    } catch (ClassNotFoundException e) {
+      throw new StartupSnapshotException("Class %s is not found".formatted(className), e);
+    }
+  }
+
+  private static Object instantiateConfigurationClass(Class<?> configurationClass) {
+    try {
+      return configurationClass.getConstructor().newInstance();
+    } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
+             NoSuchMethodException e) {
+      throw new StartupSnapshotException(
+          "Could not instantiate configuration class %s".formatted(configurationClass), e);
+    }
+  }
+}
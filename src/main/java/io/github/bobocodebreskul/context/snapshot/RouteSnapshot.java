@@ -0,0 +1,50 @@
+package io.github.bobocodebreskul.context.snapshot;
+
+import io.github.bobocodebreskul.context.exception.StartupSnapshotException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Web route persisted in the {@link StartupSnapshot}.
+ *
+ * @param path               lowercased request path
+ * @param httpMethod         HTTP method name
+ * @param beanName           name of the controller bean
+ * @param methodName         controller method name
+ * @param parameterTypeNames binary names of the controller method parameter types
+ */
+public record RouteSnapshot(String path, String httpMethod, String beanName, String methodName,
+                            List<String> parameterTypeNames) {
+
+  /**
+   * Record route handled by the specified controller method.
+   *
+   * @param path       lowercased request path
+   * @param httpMethod HTTP method name
+   * @param beanName   name of the controller bean
+   * @param method     controller method
+   * @return route snapshot
+   */
+  public static RouteSnapshot of(String path, String httpMethod, String beanName, Method method) {
+    return new RouteSnapshot(path, httpMethod, beanName, method.getName(),
+        Arrays.stream(method.getParameterTypes()).map(Class::getName).toList());
+  }
+
+  /**
+   * Find the public controller method of this route.
+   *
+   * @param controllerClass class of the controller bean
+   * @return controller method
+   * @throws StartupSnapshotException if method is not found
+   */
+  public Method resolveMethod(Class<?> controllerClass) {
+    try {
+      return controllerClass.getMethod(methodName,
+          BeanDefinitionSnapshot.loadClasses(parameterTypeNames, controllerClass.getClassLoader()));
+    } catch (NoSuchMethodException e) {
+      throw new StartupSnapshotException(
+          "Controller method %s of %s is not found".formatted(methodName, controllerClass), e);
+    }
+  }
+}
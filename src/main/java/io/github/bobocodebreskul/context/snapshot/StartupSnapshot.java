@@ -0,0 +1,71 @@
+package io.github.bobocodebreskul.context.snapshot;
+
+import io.github.bobocodebreskul.context.config.BeanDefinition;
+import io.github.bobocodebreskul.context.registry.BeanDefinitionRegistry;
+import io.github.bobocodebreskul.context.support.BeanDependencyUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validated bean graph and route table of the application persisted between starts by
+ * {@link StartupSnapshotStore}. When a snapshot matching the current classpath is found, the
+ * container registers bean definitions from it and skips classpath scanning, validation and web
+ * path scanning.
+ *
+ * @param beanDefinitions bean definitions with resolved dependencies
+ * @param routes          web routes, empty until the web layer records them
+ * @see StartupSnapshotStore
+ */
+public record StartupSnapshot(List<BeanDefinitionSnapshot> beanDefinitions,
+                              List<RouteSnapshot> routes) {
+
+  /**
+   * Record validated bean definitions with their resolved dependencies. The order of definitions is
+   * kept, so restored definitions could be instantiated in the same order.
+   *
+   * @param instantiationOrder validated bean definitions in instantiation order
+   * @param registry           registry with validated bean definitions
+   * @param dependencyUtils    utils used to resolve bean dependencies
+   * @return snapshot without routes
+   */
+  public static StartupSnapshot recordBeanDefinitions(List<BeanDefinition> instantiationOrder,
+      BeanDefinitionRegistry registry, BeanDependencyUtils dependencyUtils) {
+    List<BeanDefinitionSnapshot> beanDefinitions = instantiationOrder.stream()
+        .map(beanDefinition -> BeanDefinitionSnapshot.of(beanDefinition,
+            dependencyUtils.prepareDependencies(beanDefinition, registry)))
+        .toList();
+    return new StartupSnapshot(beanDefinitions, List.of());
+  }
+
+  /**
+   * Create a copy of this snapshot with the specified routes.
+   *
+   * @param routes recorded web routes
+   * @return new snapshot
+   */
+  public StartupSnapshot withRoutes(List<RouteSnapshot> routes) {
+    return new StartupSnapshot(beanDefinitions, List.copyOf(routes));
+  }
+
+  /**
+   * Restore bean definitions from the snapshot. Configuration classes are instantiated once per
+   * class.
+   *
+   * @param classLoader class loader to load bean classes with
+   * @return restored bean definitions
+   * @throws io.github.bobocodebreskul.context.exception.StartupSnapshotException if any class,
+   *                                                                               constructor or
+   *                                                                               method is not
+   *                                                                               found
+   */
+  public List<BeanDefinition> restoreBeanDefinitions(ClassLoader classLoader) {
+    Map<Class<?>, Object> configurationInstances = new HashMap<>();
+    List<BeanDefinition> restoredDefinitions = new ArrayList<>(beanDefinitions.size());
+    for (BeanDefinitionSnapshot beanDefinition : beanDefinitions) {
+      restoredDefinitions.add(beanDefinition.restore(classLoader, configurationInstances));
+    }
+    return restoredDefinitions;
+  }
+}
@@ -0,0 +1,254 @@
+package io.github.bobocodebreskul.context.snapshot;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.config.PropertiesConfiguration;
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
+import io.github.bobocodebreskul.context.exception.StartupSnapshotException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+
+/**
+ * Reads and writes {@link StartupSnapshot} as a compact binary file. The snapshot is keyed by a
+ * SHA-256 hash of the classpath entries (names, sizes and modification times of all files) and of
+ * the {@value PropertiesConfiguration#APPLICATION_PROPERTIES} content, so any rebuild or
+ * configuration change invalidates it.
+ *
+ * <p>The store is opt-in and is enabled by {@value #ENABLED_PROPERTY}=true property. The file
+ * location could be changed by {@value #PATH_PROPERTY} property.</p>
+ *
+ * @see StartupSnapshot
+ */
+public class StartupSnapshotStore {
+
+  public static final String ENABLED_PROPERTY = "bring.snapshot.enabled";
+  public static final String PATH_PROPERTY = "bring.snapshot.path";
+  public static final String DEFAULT_PATH = "bring-startup.snapshot";
+
+  private final static Logger log = LoggerFactory.getLogger(StartupSnapshotStore.class);
+  private static final int MAGIC = 0x42524E47;
+  private static final int FORMAT_VERSION = 1;
+  private static final String KEY_ALGORITHM = "SHA-256";
+
+  private final Path snapshotPath;
+  private final byte[] key;
+
+  public StartupSnapshotStore(Path snapshotPath, byte[] key) {
+    this.snapshotPath = snapshotPath;
+    this.key = key.clone();
+  }
+
+  /**
+   * Create store configured by application properties, keyed by the current classpath.
+   *
+   * @param classLoader class loader to read {@value PropertiesConfiguration#APPLICATION_PROPERTIES}
+   *                    with
+   * @return snapshot store or {@code null} if startup snapshot is disabled
+   * @throws InvalidPropertyValueException if {@value #ENABLED_PROPERTY} is not a boolean
+   */
+  public static StartupSnapshotStore fromProperties(ClassLoader classLoader) {
+    if (!Boolean.TRUE.equals(
+        PropertiesConfiguration.getConfiguration().get(ENABLED_PROPERTY, Boolean.class))) {
+      return null;
+    }
+    Path snapshotPath = Path.of(
+        PropertiesConfiguration.getPropertyOrDefault(PATH_PROPERTY, DEFAULT_PATH));
+    String classPath = System.getProperty("java.class.path", "");
+    return new StartupSnapshotStore(snapshotPath, computeKey(classPath, classLoader));
+  }
+
+  /**
+   * Load snapshot if the file exists and it was written for the same key.
+   *
+   * @return loaded snapshot or empty optional if there is no matching snapshot
+   */
+  public Optional<StartupSnapshot> load() {
+    if (!Files.isRegularFile(snapshotPath)) {
+      log.debug("Startup snapshot {} does not exist", snapshotPath);
+      return Optional.empty();
+    }
+    try (DataInputStream input = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+      if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+        log.info("Startup snapshot {} has unsupported format and will be rewritten", snapshotPath);
+        return Optional.empty();
+      }
+      byte[] snapshotKey = new byte[input.readUnsignedShort()];
+      input.readFully(snapshotKey);
+      if (!Arrays.equals(key, snapshotKey)) {
+        log.info("Startup snapshot {} is outdated and will be rewritten", snapshotPath);
+        return Optional.empty();
+      }
+      StartupSnapshot snapshot = new StartupSnapshot(readBeanDefinitions(input),
+          readRoutes(input));
+      log.info("Startup snapshot loaded from {}", snapshotPath);
+      return Optional.of(snapshot);
+    } catch (IOException e) {
+      log.warn("Startup snapshot {} could not be read and will be rewritten", snapshotPath, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Write snapshot to the file. The file is replaced atomically, so concurrently starting
+   * applications never read a partially written snapshot.
+   *
+   * @param snapshot snapshot to write
+   * @throws StartupSnapshotException if snapshot could not be written
+   */
+  public void save(StartupSnapshot snapshot) {
+    try {
+      Path directory = snapshotPath.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path tempFile = Files.createTempFile(directory, snapshotPath.getFileName().toString(),
+          ".tmp");
+      try (DataOutputStream output = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        output.writeShort(key.length);
+        output.write(key);
+        writeBeanDefinitions(output, snapshot.beanDefinitions());
+        writeRoutes(output, snapshot.routes());
+      }
+      Files.move(tempFile, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      log.info("Startup snapshot written to {}", snapshotPath);
+    } catch (IOException e) {
+      throw new StartupSnapshotException(
+          "Startup snapshot could not be written to %s".formatted(snapshotPath), e);
+    }
+  }
+
+  static byte[] computeKey(String classPath, ClassLoader classLoader) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance(KEY_ALGORITHM);
+      for (String entry : classPath.split(File.pathSeparator)) {
+        if (!entry.isEmpty()) {
+          updateDigest(digest, Path.of(entry));
+        }
+      }
+      try (InputStream properties = classLoader.getResourceAsStream(
+          PropertiesConfiguration.APPLICATION_PROPERTIES)) {
+        if (properties != null) {
+          digest.update(properties.readAllBytes());
+        }
+      }
+      return digest.digest();
+    } catch (NoSuchAlgorithmException | IOException e) {
+      throw new StartupSnapshotException("Startup snapshot key could not be computed", e);
+    }
+  }
+
+  private static void updateDigest(MessageDigest digest, Path classPathEntry) throws IOException {
+    digest.update(classPathEntry.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8));
+    if (!Files.exists(classPathEntry)) {
+      return;
+    }
+    List<Path> files;
+    try (Stream<Path> paths = Files.walk(classPathEntry)) {
+      files = paths.filter(Files::isRegularFile).sorted().toList();
+    }
+    for (Path file : files) {
+      BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      digest.update(file.toString().getBytes(StandardCharsets.UTF_8));
+      digest.update(Long.toString(attributes.size()).getBytes(StandardCharsets.UTF_8));
+      digest.update(Long.toString(attributes.lastModifiedTime().toMillis()).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private static void writeBeanDefinitions(DataOutputStream output,
+      List<BeanDefinitionSnapshot> beanDefinitions) throws IOException {
+    output.writeInt(beanDefinitions.size());
+    for (BeanDefinitionSnapshot beanDefinition : beanDefinitions) {
+      output.writeUTF(beanDefinition.name());
+      output.writeUTF(beanDefinition.beanClassName());
+      output.writeUTF(beanDefinition.scope());
+      output.writeBoolean(beanDefinition.primary());
+      writeNullableString(output, beanDefinition.configurationClassName());
+      writeNullableString(output, beanDefinition.methodName());
+      writeStrings(output, beanDefinition.parameterTypeNames());
+      writeStrings(output, beanDefinition.dependencyNames());
+    }
+  }
+
+  private static List<BeanDefinitionSnapshot> readBeanDefinitions(DataInputStream input)
+      throws IOException {
+    int count = input.readInt();
+    List<BeanDefinitionSnapshot> beanDefinitions = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      beanDefinitions.add(new BeanDefinitionSnapshot(input.readUTF(), input.readUTF(),
+          input.readUTF(), input.readBoolean(), readNullableString(input),
+          readNullableString(input), readStrings(input), readStrings(input)));
+    }
+    return beanDefinitions;
+  }
+
+  private static void writeRoutes(DataOutputStream output, List<RouteSnapshot> routes)
+      throws IOException {
+    output.writeInt(routes.size());
+    for (RouteSnapshot route : routes) {
+      output.writeUTF(route.path());
+      output.writeUTF(route.httpMethod());
+      output.writeUTF(route.beanName());
+      output.writeUTF(route.methodName());
+      writeStrings(output, route.parameterTypeNames());
+    }
+  }
+
+  private static List<RouteSnapshot> readRoutes(DataInputStream input) throws IOException {
+    int count = input.readInt();
+    List<RouteSnapshot> routes = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      routes.add(new RouteSnapshot(input.readUTF(), input.readUTF(), input.readUTF(),
+          input.readUTF(), readStrings(input)));
+    }
+    return routes;
+  }
+
+  private static void writeStrings(DataOutputStream output, List<String> values)
+      throws IOException {
+    output.writeShort(values.size());
+    for (String value : values) {
+      output.writeUTF(value);
+    }
+  }
+
+  private static List<String> readStrings(DataInputStream input) throws IOException {
+    int count = input.readUnsignedShort();
+    List<String> values = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      values.add(input.readUTF());
+    }
+    return values;
+  }
+
+  private static void writeNullableString(DataOutputStream output, String value)
+      throws IOException {
+    output.writeBoolean(value != null);
+    if (value != null) {
+      output.writeUTF(value);
+    }
+  }
+
+  private static String readNullableString(DataInputStream input) throws IOException {
+    return input.readBoolean() ? input.readUTF() : null;
+  }
+}
@@ -0,0 +1,157 @@
+package io.github.bobocodebreskul.context.support;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Shared cache of annotation metadata used by scanners, bean definition readers and web scanners.
+ * <p>
+ * Each annotated element is introspected once: class annotations, public methods and the
+ * meta-annotation closure of an annotation type are computed on first access and kept in
+ * {@link ClassValue} instances, so cached data is released together with the class loader. Method
+ * annotations are cached per declaring class. All returned collections are unmodifiable.
+ */
+@UtilityClass
+public class AnnotationMetadataCache {
+
+  private static final ClassValue<List<Annotation>> CLASS_ANNOTATIONS = new ClassValue<>() {
+    @Override
+    protected List<Annotation> computeValue(Class<?> type) {
+      return List.of(type.getAnnotations());
+    }
+  };
+
+  private static final ClassValue<Set<Class<? extends Annotation>>> META_ANNOTATION_TYPES = new ClassValue<>() {
+    @Override
+    protected Set<Class<? extends Annotation>> computeValue(Class<?> type) {
+      return collectAnnotationTypes(type);
+    }
+  };
+
+  private static final ClassValue<List<Method>> PUBLIC_METHODS = new ClassValue<>() {
+    @Override
+    protected List<Method> computeValue(Class<?> type) {
+      return List.of(type.getMethods());
+    }
+  };
+
+  private static final ClassValue<Map<Method, List<Annotation>>> METHOD_ANNOTATIONS = new ClassValue<>() {
+    @Override
+    protected Map<Method, List<Annotation>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  /**
+   * Returns the annotations present on the given class, including inherited ones.
+   *
+   * @param clazz target class. Must not be null.
+   * @return unmodifiable list of class annotations.
+   * @throws NullPointerException if {@code clazz} is {@code null}.
+   */
+  public static List<Annotation> getAnnotations(Class<?> clazz) {
+    Objects.requireNonNull(clazz, "The class parameter cannot be null!");
+    return CLASS_ANNOTATIONS.get(clazz);
+  }
+
+  /**
+   * Returns the annotations present on the given method.
+   *
+   * @param method target method. Must not be null.
+   * @return unmodifiable list of method annotations.
+   * @throws NullPointerException if {@code method} is {@code null}.
+   */
+  public static List<Annotation> getAnnotations(Method method) {
+    Objects.requireNonNull(method, "The method parameter cannot be null!");
+    return METHOD_ANNOTATIONS.get(method.getDeclaringClass())
+        .computeIfAbsent(method, key -> List.of(key.getAnnotations()));
+  }
+
+  /**
+   * Returns all public methods of the given class, including inherited ones. The same
+   * {@link Method} instances are returned on every call.
+   *
+   * @param clazz target class. Must not be null.
+   * @return unmodifiable list of public methods.
+   * @throws NullPointerException if {@code clazz} is {@code null}.
+   */
+  public static List<Method> getMethods(Class<?> clazz) {
+    Objects.requireNonNull(clazz, "The class parameter cannot be null!");
+    return PUBLIC_METHODS.get(clazz);
+  }
+
+  /**
+   * Returns the given annotation type together with all annotation types present on it on any
+   * depth level.
+   *
+   * @param annotationType target annotation type. Must not be null.
+   * @return unmodifiable meta-annotation closure of the annotation type.
+   * @throws NullPointerException if {@code annotationType} is {@code null}.
+   */
+  public static Set<Class<? extends Annotation>> getMetaAnnotationTypes(
+      Class<? extends Annotation> annotationType) {
+    Objects.requireNonNull(annotationType, "The annotation parameter cannot be null!");
+    return META_ANNOTATION_TYPES.get(annotationType);
+  }
+
+  /**
+   * Checks if the given annotation type is the searched annotation or is annotated with it on any
+   * depth level.
+   *
+   * @param annotationType     target annotation type.
+   * @param searchedAnnotation searched annotation.
+   * @return true - if the searched annotation is found.
+   */
+  public static boolean isMetaAnnotated(Class<? extends Annotation> annotationType,
+      Class<? extends Annotation> searchedAnnotation) {
+    return getMetaAnnotationTypes(annotationType).contains(searchedAnnotation);
+  }
+
+  /**
+   * Checks if any annotation of the given class is the searched annotation or is annotated with it
+   * on any depth level.
+   *
+   * @param clazz              target class.
+   * @param searchedAnnotation searched annotation.
+   * @return true - if the searched annotation is found.
+   */
+  public static boolean hasMetaAnnotation(Class<?> clazz,
+      Class<? extends Annotation> searchedAnnotation) {
+    for (Annotation annotation : getAnnotations(clazz)) {
+      if (isMetaAnnotated(annotation.annotationType(), searchedAnnotation)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Set<Class<? extends Annotation>> collectAnnotationTypes(Class<?> type) {
+    if (!type.isAnnotation()) {
+      return Collections.emptySet();
+    }
+    Set<Class<? extends Annotation>> annotationTypes = new LinkedHashSet<>();
+    Queue<Class<? extends Annotation>> queue = new ArrayDeque<>();
+    queue.add(type.asSubclass(Annotation.class));
+    while (!queue.isEmpty()) {
+      Class<? extends Annotation> annotationType = queue.poll();
+      if (annotationTypes.add(annotationType)) {
+        Arrays.stream(annotationType.getAnnotations())
+            .map(Annotation::annotationType)
+            .filter(metaAnnotationType -> !annotationTypes.contains(metaAnnotationType))
+            .forEach(queue::add);
+      }
+    }
+    return Collections.unmodifiableSet(annotationTypes);
+  }
+}
@@ -7,14 +7,19 @@ import static io.github.bobocodebreskul.context.support.ReflectionUtils.hasDefau
 import static java.util.Objects.nonNull;
 
 import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.config.PropertiesConfiguration;
 import io.github.bobocodebreskul.context.annotations.Autowired;
 import io.github.bobocodebreskul.context.annotations.BringBean;
 import io.github.bobocodebreskul.context.annotations.Qualifier;
+import io.github.bobocodebreskul.context.annotations.Value;
 import io.github.bobocodebreskul.context.config.BeanDependency;
 import io.github.bobocodebreskul.context.exception.BeanDefinitionCreationException;
+import io.github.bobocodebreskul.context.scope.BeanPool;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -84,11 +89,46 @@ public class BeanDefinitionReaderUtils {
             QUALIFIER_NAME_FIELD, String.class);
 
     return Arrays.stream(method.getParameters())
-        .map(parameter -> new BeanDependency(getBeanName(parameter.getType()),
-            parameterNameByAnnotationValue.get(parameter.getName()), parameter.getType()))
+        .map(parameter -> {
+          if (parameter.isAnnotationPresent(Value.class)) {
+            return getValueDependency(parameter);
+          }
+          Class<?> dependencyType = getDependencyType(parameter);
+          return new BeanDependency(getBeanName(dependencyType),
+              parameterNameByAnnotationValue.get(parameter.getName()), dependencyType);
+        })
         .collect(Collectors.toList());
   }
 
+  /**
+   * Resolve configuration value of the parameter annotated with {@link Value} from the current
+   * configuration snapshot.
+   *
+   * @param parameter method/constructor parameter annotated with {@link Value}
+   * @return configuration value dependency
+   */
+  public static BeanDependency getValueDependency(Parameter parameter) {
+    String expression = parameter.getAnnotation(Value.class).value();
+    log.trace("Resolve value {} for parameter {} of {}", expression, parameter.getName(),
+        parameter.getDeclaringExecutable().getName());
+    Object value = PropertiesConfiguration.getConfiguration()
+        .resolve(expression, parameter.getType());
+    return new BeanDependency(expression, null, parameter.getType(), value);
+  }
+
+  private static Class<?> getDependencyType(Parameter parameter) {
+    if (parameter.getType() != BeanPool.class) {
+      return parameter.getType();
+    }
+    if (parameter.getParameterizedType() instanceof ParameterizedType parameterizedType
+        && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> pooledType) {
+      return pooledType;
+    }
+    throw new BeanDefinitionCreationException(
+        "Failed to resolve pooled bean type of parameter %s in %s, declare it as BeanPool<BeanType>"
+            .formatted(parameter.getName(), parameter.getDeclaringExecutable()));
+  }
+
 
   /**
    * Finds and returns the initialization constructor for a given bean class. The initialization
@@ -172,7 +212,7 @@ public class BeanDefinitionReaderUtils {
    */
   public static List<Method> getBeanMethods(Class<?> beanClass) {
     validateBeanClassNonNull(beanClass);
-    return Arrays.stream(beanClass.getMethods())
+    return AnnotationMetadataCache.getMethods(beanClass).stream()
         .filter(method -> method.isAnnotationPresent(BringBean.class))
         .toList();
   }
@@ -194,7 +234,7 @@ public class BeanDefinitionReaderUtils {
   }
 
   private static Set<String> extractBeanNamesFromAnnotations(Class<?> beanClass) {
-    return Arrays.stream(beanClass.getAnnotations())
+    return AnnotationMetadataCache.getAnnotations(beanClass).stream()
         .filter(ReflectionUtils::isComponentAnnotation)
         .map(annotation -> getClassAnnotationValue(beanClass,
             annotation.annotationType(), COMPONENT_NAME_FIELD, String.class))
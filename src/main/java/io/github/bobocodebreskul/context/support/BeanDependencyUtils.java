@@ -19,6 +19,7 @@ public class BeanDependencyUtils {
   /**
    * Find all dependent bean definitions for specified target bean definition. Method will find and
    * resolve bean definitions by simple class name, qualifier, parent type and primary annotation.
+   * Configuration value dependencies are skipped.
    *
    * @param beanDefinition bean definition to find dependencies for
    * @param registry       bean registry with all registered bean definitions
@@ -27,6 +28,7 @@ public class BeanDependencyUtils {
   public List<BeanDefinition> prepareDependencies(BeanDefinition beanDefinition,
       BeanDefinitionRegistry registry) {
     return beanDefinition.getDependencies().stream()
+        .filter(dependency -> !dependency.isValue())
         .map(dependency -> this.getDependency(dependency, registry))
         .toList();
   }
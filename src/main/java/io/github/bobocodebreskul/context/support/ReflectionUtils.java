@@ -1,7 +1,5 @@
 package io.github.bobocodebreskul.context.support;
 
-import static java.util.function.Predicate.not;
-
 import io.github.bobocodebreskul.config.LoggerFactory;
 import io.github.bobocodebreskul.context.annotations.BringComponent;
 import java.lang.annotation.Annotation;
@@ -9,14 +7,10 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
-import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 import org.slf4j.Logger;
@@ -128,22 +122,11 @@ public class ReflectionUtils {
    * @param searchedAnnotation searched annotation.
    * @return true even if class have the searched annotation or if any of it annotations have the
    * searched annotation inside.
+   * @see AnnotationMetadataCache#hasMetaAnnotation(Class, Class)
    */
   public static boolean checkIfClassHasAnnotationRecursively(Class<?> clazz,
       Class<? extends Annotation> searchedAnnotation) {
-    Queue<Annotation> annotations = new ArrayDeque<>(Arrays.asList(clazz.getAnnotations()));
-    Set<Annotation> processedAnnotations = new HashSet<>(annotations);
-    while (!annotations.isEmpty()) {
-      var annotation = annotations.poll();
-      processedAnnotations.add(annotation);
-      if (annotation.annotationType().equals(searchedAnnotation)) {
-        return true;
-      }
-      Arrays.stream(annotation.annotationType().getAnnotations())
-          .filter(not(processedAnnotations::contains))
-          .forEach(annotations::add);
-    }
-    return false;
+    return AnnotationMetadataCache.hasMetaAnnotation(clazz, searchedAnnotation);
   }
 
   /**
@@ -229,8 +212,7 @@ public class ReflectionUtils {
    * @return true - if annotation is {@link BringComponent} or has it inside on any depth level.
    */
   public static boolean isComponentAnnotation(Annotation annotation) {
-    return annotation.annotationType().equals(BringComponent.class)
-        || checkIfClassHasAnnotationRecursively(annotation.annotationType(),
+    return AnnotationMetadataCache.isMetaAnnotated(annotation.annotationType(),
         BringComponent.class);
   }
 
@@ -322,7 +304,11 @@ public class ReflectionUtils {
         }
       } else if (boolean.class.isAssignableFrom(parameterType) || Boolean.class.isAssignableFrom(
           parameterType)) {
-        return Boolean.valueOf(value);
+        if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false")) {
+          return Boolean.valueOf(value);
+        }
+        throw new IllegalArgumentException(
+            "String value cannot be converted to boolean: [%s]".formatted(value));
       } else {
         throw new IllegalArgumentException(
             "Unsupported primitive type: " + parameterType.getName());
@@ -0,0 +1,300 @@
+package io.github.bobocodebreskul.server;
+
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getConfiguration;
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getPropertyAsIntOrDefault;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
+import io.github.bobocodebreskul.server.exception.RequestsMappingException;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Handles {@code POST /bring/batch} requests multiplexing many sub-requests in one HTTP call. The
+ * endpoint is disabled by default and enabled with "server.batch.enabled=true".
+ * <p>
+ * The request body is a JSON array of entries {@code {"method", "path", "headers", "body"}}. Every
+ * entry is dispatched through the routing table as {@link InMemoryWebExchange}, without a new HTTP
+ * exchange, so exceptions of an entry are handled by the error handler controller methods and do
+ * not affect other entries. Entries inherit headers of the batch request unless they override
+ * them. With {@code parallel=true} query parameter entries are dispatched on a bounded executor.
+ * <p>
+ * Results are streamed as a JSON array of {@code {"status", "headers", "body"}} objects in the
+ * order of entries. JSON and text bodies are embedded as is, other bodies are Base64 encoded.
+ */
+final class BatchRequestHandler {
+
+  private final static Logger log = LoggerFactory.getLogger(BatchRequestHandler.class);
+  static final String BATCH_PATH = "/bring/batch";
+  private static final String POST = "POST";
+  private static final String GET = "GET";
+  private static final String CONTENT_TYPE_HEADER = "content-type";
+  private static final Set<String> NOT_INHERITED_HEADERS = Set.of(CONTENT_TYPE_HEADER,
+      "content-length", "transfer-encoding");
+  private static final TypeReference<List<BatchEntry>> ENTRIES_TYPE = new TypeReference<>() {
+  };
+  private static final int SC_OK = 200;
+  private static final int SC_BAD_REQUEST = 400;
+  private static final int SC_INTERNAL_SERVER_ERROR = 500;
+
+  private final Consumer<WebExchange> dispatcher;
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final int maxEntries;
+  private final int threads;
+  private final int queueCapacity;
+  private volatile ExecutorService executor;
+
+  /**
+   * Create batch handler dispatching sub-requests with the specified dispatcher.
+   *
+   * @param dispatcher dispatcher of a single request, handles its exceptions
+   */
+  BatchRequestHandler(Consumer<WebExchange> dispatcher) {
+    this.dispatcher = dispatcher;
+    this.maxEntries = getPropertyAsIntOrDefault("server.batch.max-entries", 50);
+    this.threads = getPropertyAsIntOrDefault("server.batch.threads",
+        Runtime.getRuntime().availableProcessors());
+    this.queueCapacity = getPropertyAsIntOrDefault("server.batch.queue-capacity", 256);
+  }
+
+  /**
+   * Check whether the batch endpoint is enabled by "server.batch.enabled" property.
+   *
+   * @return {@code true} if the batch endpoint is enabled
+   * @throws InvalidPropertyValueException if the property is neither {@code true} nor
+   *                                       {@code false}
+   */
+  static boolean isEnabled() {
+    return Boolean.TRUE.equals(getConfiguration().get("server.batch.enabled", Boolean.class));
+  }
+
+  /**
+   * Check whether the exchange is a batch request.
+   *
+   * @param exchange current request/response pair
+   * @return {@code true} for {@code POST} request to {@value #BATCH_PATH}
+   */
+  boolean matches(WebExchange exchange) {
+    return POST.equals(exchange.getMethod()) && BATCH_PATH.equalsIgnoreCase(exchange.getPath());
+  }
+
+  /**
+   * Dispatch entries of the batch request and stream their results into the response.
+   *
+   * @param exchange batch request/response pair
+   * @throws RequestsMappingException if the response could not be written
+   */
+  void handle(WebExchange exchange) {
+    List<BatchEntry> entries;
+    try {
+      entries = mapper.readValue(exchange.getInputStream(), ENTRIES_TYPE);
+    } catch (JsonProcessingException e) {
+      log.warn("Cannot parse batch request body: {}", e.getOriginalMessage());
+      writeError(exchange, "Batch request body should be an array of {method, path, headers, "
+          + "body} entries");
+      return;
+    } catch (IOException e) {
+      log.error("Error reading batch request body", e);
+      throw new RequestsMappingException("Error reading batch request body", e);
+    }
+    if (entries == null || entries.size() > maxEntries) {
+      writeError(exchange, "Batch request should contain up to %d entries".formatted(maxEntries));
+      return;
+    }
+    boolean parallel = Boolean.parseBoolean(exchange.getQueryParameter("parallel"));
+    log.debug("Dispatching batch of {} entries, parallel: {}", entries.size(), parallel);
+
+    exchange.setStatus(SC_OK);
+    exchange.setHeader(HttpRequestMapper.CONTENT_TYPE_KEY,
+        HttpRequestMapper.CONTENT_TYPE_APPLICATION_JSON);
+    try (JsonGenerator generator = mapper.getFactory()
+        .createGenerator(exchange.getOutputStream())) {
+      generator.writeStartArray();
+      if (parallel) {
+        writeParallel(exchange, entries, generator);
+      } else {
+        // entries are dispatched one by one, so a single exchange is reused
+        InMemoryWebExchange entryExchange = new InMemoryWebExchange(GET, BATCH_PATH);
+        for (BatchEntry entry : entries) {
+          writeResult(generator, dispatchEntry(exchange, entry, entryExchange));
+        }
+      }
+      generator.writeEndArray();
+    } catch (IOException e) {
+      log.error("Failed to write batch response", e);
+      throw new RequestsMappingException("Failed to write batch response", e);
+    }
+  }
+
+  private void writeParallel(WebExchange exchange, List<BatchEntry> entries,
+      JsonGenerator generator) throws IOException {
+    ExecutorService batchExecutor = getExecutor();
+    List<CompletableFuture<InMemoryWebExchange>> results = new ArrayList<>(entries.size());
+    for (BatchEntry entry : entries) {
+      results.add(CompletableFuture.supplyAsync(() -> dispatchEntry(exchange, entry,
+          new InMemoryWebExchange(GET, BATCH_PATH)), batchExecutor));
+    }
+    for (CompletableFuture<InMemoryWebExchange> result : results) {
+      try {
+        writeResult(generator, result.join());
+      } catch (CompletionException e) {
+        log.error("Error during batch entry handling", e.getCause());
+        writeFailure(generator, e.getCause());
+      }
+    }
+  }
+
+  private InMemoryWebExchange dispatchEntry(WebExchange exchange, BatchEntry entry,
+      InMemoryWebExchange entryExchange) {
+    String method = entry.method() == null ? GET : entry.method().toUpperCase();
+    String path = entry.path() == null ? "" : entry.path();
+    int queryIndex = path.indexOf('?');
+    entryExchange.reset(method, queryIndex == -1 ? path : path.substring(0, queryIndex));
+    if (queryIndex != -1) {
+      addParameters(entryExchange, path.substring(queryIndex + 1));
+    }
+    for (String headerName : exchange.getHeaderNames()) {
+      if (!NOT_INHERITED_HEADERS.contains(headerName.toLowerCase())) {
+        entryExchange.header(headerName, exchange.getHeader(headerName));
+      }
+    }
+    if (entry.headers() != null) {
+      entry.headers().forEach(entryExchange::header);
+    }
+    if (entry.body() != null && !entry.body().isNull()) {
+      entryExchange.body(entry.body().isTextual() ? entry.body().asText()
+          : entry.body().toString());
+    }
+    dispatcher.accept(entryExchange);
+    return entryExchange;
+  }
+
+  private static void addParameters(InMemoryWebExchange entryExchange, String rawQuery) {
+    for (String pair : rawQuery.split("&")) {
+      if (pair.isEmpty()) {
+        continue;
+      }
+      int separatorIndex = pair.indexOf('=');
+      String name = separatorIndex == -1 ? pair : pair.substring(0, separatorIndex);
+      String value = separatorIndex == -1 ? "" : pair.substring(separatorIndex + 1);
+      entryExchange.param(URLDecoder.decode(name, StandardCharsets.UTF_8),
+          URLDecoder.decode(value, StandardCharsets.UTF_8));
+    }
+  }
+
+  private static void writeResult(JsonGenerator generator, InMemoryWebExchange result)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("status", result.getStatus());
+    generator.writeObjectFieldStart("headers");
+    for (Map.Entry<String, String> header : result.getResponseHeaders().entrySet()) {
+      generator.writeStringField(header.getKey(), header.getValue());
+    }
+    generator.writeEndObject();
+    generator.writeFieldName("body");
+    writeBody(generator, result);
+    generator.writeEndObject();
+    generator.flush();
+  }
+
+  private static void writeBody(JsonGenerator generator, InMemoryWebExchange result)
+      throws IOException {
+    if (result.getResponseBodySize() == 0) {
+      generator.writeNull();
+      return;
+    }
+    String contentType = result.getResponseHeader(CONTENT_TYPE_HEADER);
+    // bodies without content type are written by the JSON codec, so they are valid JSON values
+    if (contentType == null
+        || contentType.startsWith(HttpRequestMapper.CONTENT_TYPE_APPLICATION_JSON)) {
+      generator.writeRawValue(result.getResponseBodyAsString().strip());
+    } else if (contentType.startsWith("text/")) {
+      generator.writeString(result.getResponseBodyAsString());
+    } else {
+      generator.writeBinary(result.getResponseBody());
+    }
+  }
+
+  private static void writeFailure(JsonGenerator generator, Throwable cause) throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("status", SC_INTERNAL_SERVER_ERROR);
+    generator.writeObjectFieldStart("headers");
+    generator.writeEndObject();
+    generator.writeStringField("body", cause.getMessage());
+    generator.writeEndObject();
+    generator.flush();
+  }
+
+  private void writeError(WebExchange exchange, String message) {
+    exchange.setStatus(SC_BAD_REQUEST);
+    try {
+      exchange.getOutputStream().write(mapper.writeValueAsBytes(message));
+    } catch (IOException e) {
+      log.error("Failed to write batch response", e);
+      throw new RequestsMappingException("Failed to write batch response", e);
+    }
+  }
+
+  private ExecutorService getExecutor() {
+    ExecutorService batchExecutor = executor;
+    if (batchExecutor == null) {
+      synchronized (this) {
+        batchExecutor = executor;
+        if (batchExecutor == null) {
+          ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 60,
+              TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+              new BatchThreadFactory(), new ThreadPoolExecutor.CallerRunsPolicy());
+          threadPoolExecutor.allowCoreThreadTimeOut(true);
+          executor = batchExecutor = threadPoolExecutor;
+          log.info("Batch executor created with {} threads.", threads);
+        }
+      }
+    }
+    return batchExecutor;
+  }
+
+  /**
+   * Single entry of the batch request.
+   *
+   * @param method  HTTP method, {@code GET} by default
+   * @param path    request path with optional query string
+   * @param headers request headers overriding headers of the batch request
+   * @param body    request body, JSON value or string
+   */
+  private record BatchEntry(String method, String path, Map<String, String> headers,
+                            JsonNode body) {
+
+  }
+
+  private static class BatchThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "bring-batch-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -3,8 +3,9 @@ package io.github.bobocodebreskul.server;
 import static java.util.Objects.isNull;
 
 import io.github.bobocodebreskul.config.LoggerFactory;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -13,6 +14,9 @@ import org.slf4j.Logger;
 /**
  * Representation of HTTP request or response, containing headers, cookies and body. Use its
  * extension classes in your implementation.
+ * <p>
+ * Entity created from an incoming request reads headers and cookies through a lazy
+ * {@link RequestHeaders} view and copies them only when they are modified.
  *
  * @param <T> body type
  * @see BringRequest
@@ -30,7 +34,9 @@ class BringHttpEntity<T> {
 
   private final Map<String, String> headers = new HashMap<>();
 
-  private final Map<String, String> cookies = new HashMap<>();
+  private final Map<String, String> cookies = new LinkedHashMap<>();
+
+  private RequestHeaders requestHeaders;
 
   private T body;
 
@@ -45,6 +51,11 @@ class BringHttpEntity<T> {
     this.body = body;
   }
 
+  BringHttpEntity(RequestHeaders requestHeaders, T body) {
+    this.requestHeaders = requestHeaders;
+    this.body = body;
+  }
+
   /**
    * Method adds header to {@link BringResponse}
    *
@@ -61,6 +72,7 @@ class BringHttpEntity<T> {
       log.error("Adding header failed. Header value should not be null.");
       throw new IllegalArgumentException(HEADER_VALUE_SHOULD_NOT_BE_NULL);
     }
+    copyRequestHeaders();
     this.headers.put(headerName.toLowerCase(), headerValue);
     log.debug("Header with name='{}' and value='{}' was added.", headerName, headerValue);
   }
@@ -72,10 +84,11 @@ class BringHttpEntity<T> {
    * @return header value.
    */
   public String getHeader(String headerName) {
-    String lowerCaseHeaderName = headerName.toLowerCase();
     log.info("Get header for headerName='{}'.", headerName);
-    if (this.headers.containsKey(lowerCaseHeaderName)) {
-      String headerValue = this.headers.get(lowerCaseHeaderName);
+    String headerValue = requestHeaders != null
+        ? requestHeaders.getFirst(headerName)
+        : this.headers.get(headerName.toLowerCase());
+    if (headerValue != null) {
       log.info("Header value for header name '{}' is '{}'.", headerName, headerValue);
       return headerValue;
     }
@@ -83,13 +96,30 @@ class BringHttpEntity<T> {
     return "";
   }
 
+  /**
+   * Returns all values of multi-valued header by name.
+   *
+   * @param headerName header name.
+   * @return header values, empty if the header is absent.
+   */
+  public List<String> getHeaderValues(String headerName) {
+    if (requestHeaders != null) {
+      return requestHeaders.getAll(headerName);
+    }
+    String headerValue = this.headers.get(headerName.toLowerCase());
+    return headerValue == null ? List.of() : List.of(headerValue);
+  }
+
   /**
    * Get all set header names
    *
-   * @return header names as Set collection
+   * @return unmodifiable view of lower case header names
    */
   public Set<String> getHeadersNames() {
-    return new HashSet<>(this.headers.keySet());
+    if (requestHeaders != null) {
+      return requestHeaders.names();
+    }
+    return Collections.unmodifiableSet(this.headers.keySet());
   }
 
   /**
@@ -103,6 +133,7 @@ class BringHttpEntity<T> {
       log.error("Adding header failed. Header name should not be null.");
       throw new IllegalArgumentException(HEADER_NAME_SHOULD_NOT_BE_NULL);
     }
+    copyRequestHeaders();
     if (this.headers.containsKey(headerName.toLowerCase())) {
       if (headerName.equalsIgnoreCase(COOKIE)) {
         cookies.clear();
@@ -130,9 +161,17 @@ class BringHttpEntity<T> {
       log.error("Adding cookie failed. Cookie value should not be null.");
       throw new IllegalArgumentException(COOKIE_VALUE_SHOULD_NOT_BE_NULL);
     }
-    this.cookies.put(cookieName, cookieValue.toLowerCase());
+    copyRequestHeaders();
+    String lowerCaseCookieValue = cookieValue.toLowerCase();
+    String previousValue = this.cookies.put(cookieName, lowerCaseCookieValue);
     log.debug("Cookie with name='{}' and value='{}' was added.", cookieName, cookieValue);
-    String cookiesAsString = getCookiesAsString();
+    String cookiesAsString = this.headers.get(COOKIE);
+    if (previousValue != null || cookiesAsString == null || cookiesAsString.isEmpty()) {
+      cookiesAsString = getCookiesAsString();
+    } else {
+      // new cookie goes last, so append it instead of joining all pairs again
+      cookiesAsString = cookiesAsString + "; " + cookieName + "=" + lowerCaseCookieValue;
+    }
     this.headers.put(COOKIE, cookiesAsString);
     log.debug("Cookies '{}' was added to headers.", cookiesAsString);
   }
@@ -145,8 +184,10 @@ class BringHttpEntity<T> {
    */
   public String getCookie(String cookieName) {
     log.info("Get cookie for cookieName='{}'.", cookieName);
-    if (this.cookies.containsKey(cookieName.toLowerCase())) {
-      String cookieValue = this.cookies.get(cookieName.toLowerCase());
+    String cookieValue = requestHeaders != null
+        ? requestHeaders.getCookie(cookieName)
+        : this.cookies.get(cookieName.toLowerCase());
+    if (cookieValue != null) {
       log.info("Cookie value for cookie name '{}' is '{}'.", cookieName, cookieValue);
       return cookieValue;
     }
@@ -165,6 +206,7 @@ class BringHttpEntity<T> {
       log.error("Adding cookie failed. Cookie name should not be null.");
       throw new IllegalArgumentException(COOKIE_NAME_SHOULD_NOT_BE_NULL);
     }
+    copyRequestHeaders();
     if (this.cookies.containsKey(cookieName)) {
       String cookieValue = cookies.get(cookieName);
       this.cookies.remove(cookieName);
@@ -181,9 +223,25 @@ class BringHttpEntity<T> {
    * @return Map of header and value.
    */
   public Map<String, String> getAllHeaders() {
+    if (requestHeaders != null) {
+      return requestHeaders.copyFirstValues();
+    }
     return new HashMap<>(this.headers);
   }
 
+  private void copyRequestHeaders() {
+    if (requestHeaders != null) {
+      this.headers.putAll(requestHeaders.copyFirstValues());
+      this.cookies.putAll(requestHeaders.copyCookies());
+      // keep request cookies under the same key as cookies added later
+      String cookiesAsString = this.headers.remove(COOKIE.toLowerCase());
+      if (cookiesAsString != null) {
+        this.headers.put(COOKIE, cookiesAsString);
+      }
+      requestHeaders = null;
+    }
+  }
+
   private String getCookiesAsString() {
     List<String> pairs = this.cookies.entrySet().stream()
         .map(entry -> entry.getKey() + "=" + entry.getValue())
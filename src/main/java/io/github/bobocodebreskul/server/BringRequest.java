@@ -17,6 +17,8 @@ import lombok.extern.slf4j.Slf4j;
  *     String body = request.getBody();
  *   }
  * </pre>
+ * Headers and cookies of the request passed to the controller method are read lazily from the
+ * incoming request, so the request must not be used after the controller method returns.
  *
  * @param <T> body type
  * @see BringHttpEntity
@@ -37,6 +39,12 @@ public class BringRequest<T> extends BringHttpEntity<T> {
     this.url = url;
   }
 
+  BringRequest(RequestMethod requestMethod, URI url, RequestHeaders requestHeaders, T body) {
+    super(requestHeaders, body);
+    this.requestMethod = requestMethod;
+    this.url = url;
+  }
+
   /**
    * Create and return {@link BringRequest} builder for specified HTTP {@link RequestMethod} and
    * URL
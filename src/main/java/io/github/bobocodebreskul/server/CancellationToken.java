@@ -0,0 +1,68 @@
+package io.github.bobocodebreskul.server;
+
+import io.github.bobocodebreskul.server.exception.HandlerTimeoutException;
+import java.time.Duration;
+
+/**
+ * Signals cancellation of a controller method which exceeded its {@code @Timeout}. Declare a
+ * parameter of this type to check the token between steps of long work or to pass the remaining
+ * time to calls of other services. Once cancelled the response is already sent, so the result of
+ * the method is discarded.
+ */
+public final class CancellationToken {
+
+  /**
+   * Token of routes without timeout, it is never cancelled.
+   */
+  static final CancellationToken NONE = new CancellationToken(0);
+
+  private final long deadline;
+  private volatile boolean cancelled;
+
+  /**
+   * Create token with the deadline after the timeout from now.
+   *
+   * @param timeoutNanos timeout in nanoseconds, zero for no deadline
+   */
+  CancellationToken(long timeoutNanos) {
+    this.deadline = timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : 0;
+  }
+
+  /**
+   * Check whether handling of the request is cancelled.
+   *
+   * @return {@code true} if the deadline passed and the response is sent
+   */
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Stop the controller method if handling of the request is cancelled.
+   *
+   * @throws HandlerTimeoutException if the token is cancelled
+   */
+  public void throwIfCancelled() {
+    if (cancelled) {
+      throw new HandlerTimeoutException("Request handling is cancelled after timeout");
+    }
+  }
+
+  /**
+   * Return time left until the deadline.
+   *
+   * @return remaining time, {@link Duration#ZERO} after the deadline or {@code null} if the route
+   * has no timeout
+   */
+  public Duration getRemainingTime() {
+    return deadline == 0 ? null : Duration.ofNanos(Math.max(0, getRemainingNanos()));
+  }
+
+  long getRemainingNanos() {
+    return deadline - System.nanoTime();
+  }
+
+  void cancel() {
+    cancelled = true;
+  }
+}
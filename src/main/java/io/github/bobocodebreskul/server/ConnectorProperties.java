@@ -0,0 +1,215 @@
+package io.github.bobocodebreskul.server;
+
+import io.github.bobocodebreskul.config.ConfigurationSnapshot;
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
+import io.github.bobocodebreskul.server.enums.ConnectorProtocol;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.catalina.connector.Connector;
+import org.slf4j.Logger;
+
+/**
+ * Tuning settings of the embedded Tomcat connector read from the application configuration.
+ * <p>
+ * Thread pool, connection and socket settings that are not configured are left unset, so Tomcat
+ * defaults apply. Supported properties:
+ * <ul>
+ * <li>{@code server.address} - bind address, {@code localhost} by default</li>
+ * <li>{@code server.tomcat.protocol} - {@code nio} (default) or {@code nio2}</li>
+ * <li>{@code server.tomcat.max-threads}, {@code server.tomcat.min-spare-threads}</li>
+ * <li>{@code server.tomcat.accept-count}, {@code server.tomcat.max-connections}</li>
+ * <li>{@code server.tomcat.keep-alive-timeout} (ms),
+ * {@code server.tomcat.max-keep-alive-requests}</li>
+ * <li>{@code server.tomcat.socket.receive-buffer-size},
+ * {@code server.tomcat.socket.send-buffer-size} (bytes),
+ * {@code server.tomcat.socket.tcp-no-delay}</li>
+ * <li>{@code server.unix-socket-path} - Unix domain socket path of an additional NIO connector</li>
+ * <li>{@code server.unix-socket-permissions} - POSIX permissions of the socket file, for example
+ * {@code rw-rw----}</li>
+ * <li>{@code server.tcp.enabled} - {@code true} by default, {@code false} leaves only the Unix
+ * domain socket connector</li>
+ * </ul>
+ * TLS and HTTP/2 are configured by {@link SslProperties} and {@link Http2Properties}.
+ *
+ * @param address                 bind address
+ * @param protocol                connector protocol implementation
+ * @param maxThreads              maximum number of request processing threads
+ * @param minSpareThreads         minimum number of idle request processing threads
+ * @param acceptCount             backlog of the server socket
+ * @param maxConnections          maximum number of connections accepted and processed at once
+ * @param keepAliveTimeout        time in milliseconds to wait for next request on a keep-alive
+ *                                connection
+ * @param maxKeepAliveRequests    maximum number of requests served by one keep-alive connection,
+ *                                -1 is unlimited
+ * @param socketReceiveBufferSize socket receive buffer size in bytes
+ * @param socketSendBufferSize    socket send buffer size in bytes
+ * @param tcpNoDelay              whether {@code TCP_NODELAY} socket option is enabled
+ * @param ssl                     TLS settings
+ * @param http2                   HTTP/2 settings
+ * @param unixSocketPath          Unix domain socket path or {@code null} if it is not used
+ * @param unixSocketPermissions   POSIX permissions of the Unix domain socket file
+ * @param tcpEnabled              whether TCP connector is created
+ */
+public record ConnectorProperties(String address, ConnectorProtocol protocol, Integer maxThreads,
+                                  Integer minSpareThreads, Integer acceptCount,
+                                  Integer maxConnections, Integer keepAliveTimeout,
+                                  Integer maxKeepAliveRequests, Integer socketReceiveBufferSize,
+                                  Integer socketSendBufferSize, Boolean tcpNoDelay,
+                                  SslProperties ssl, Http2Properties http2,
+                                  String unixSocketPath, String unixSocketPermissions,
+                                  boolean tcpEnabled) {
+
+  private final static Logger log = LoggerFactory.getLogger(ConnectorProperties.class);
+  private static final String DEFAULT_ADDRESS = "localhost";
+  private static final String PREFIX = "server.tomcat.";
+
+  /**
+   * Read connector settings from the configuration.
+   *
+   * @param configuration application configuration
+   * @return connector settings
+   * @throws InvalidPropertyValueException if any setting has an invalid value
+   */
+  public static ConnectorProperties from(ConfigurationSnapshot configuration) {
+    Objects.requireNonNull(configuration, "The configuration parameter cannot be null!");
+    String address = Objects.requireNonNullElse(configuration.get("server.address"),
+        DEFAULT_ADDRESS);
+    String protocolName = configuration.get(PREFIX + "protocol");
+    ConnectorProtocol protocol = ConnectorProtocol.NIO;
+    if (protocolName != null) {
+      try {
+        protocol = ConnectorProtocol.getByName(protocolName);
+      } catch (IllegalArgumentException e) {
+        throw new InvalidPropertyValueException(
+            "\"%sprotocol\" property value must be one of nio, nio2!".formatted(PREFIX), e);
+      }
+    }
+    String unixSocketPath = configuration.get("server.unix-socket-path");
+    boolean tcpEnabled = !Boolean.FALSE.equals(
+        configuration.get("server.tcp.enabled", Boolean.class));
+    if (!tcpEnabled && unixSocketPath == null) {
+      throw new InvalidPropertyValueException(
+          "\"server.tcp.enabled\" property value can be false only when "
+              + "\"server.unix-socket-path\" is configured!");
+    }
+    return new ConnectorProperties(address, protocol,
+        getPositiveInt(configuration, "max-threads"),
+        getNonNegativeInt(configuration, "min-spare-threads"),
+        getPositiveInt(configuration, "accept-count"),
+        getPositiveInt(configuration, "max-connections"),
+        getNonNegativeInt(configuration, "keep-alive-timeout"),
+        getKeepAliveRequests(configuration),
+        getPositiveInt(configuration, "socket.receive-buffer-size"),
+        getPositiveInt(configuration, "socket.send-buffer-size"),
+        configuration.get(PREFIX + "socket.tcp-no-delay", Boolean.class),
+        SslProperties.from(configuration),
+        Http2Properties.from(configuration),
+        unixSocketPath,
+        configuration.get("server.unix-socket-permissions"),
+        tcpEnabled);
+  }
+
+  /**
+   * Create connector configured with these settings.
+   *
+   * @param port connector port
+   * @return configured connector
+   */
+  public Connector createConnector(int port) {
+    Connector connector = createConnector(protocol, toTomcatProperties());
+    connector.setPort(port);
+    log.debug("Tomcat connector created: {}", this);
+    return connector;
+  }
+
+  /**
+   * Create connector bound to the Unix domain socket path. Unix domain sockets are supported only
+   * by NIO protocol, so it is used regardless of the configured protocol.
+   *
+   * @return configured Unix domain socket connector
+   */
+  public Connector createUnixSocketConnector() {
+    Objects.requireNonNull(unixSocketPath, "The Unix domain socket path is not configured!");
+    Map<String, String> properties = toTomcatProperties();
+    properties.remove("address");
+    properties.remove("socket.tcpNoDelay");
+    properties.put("unixDomainSocketPath", unixSocketPath);
+    putIfConfigured(properties, "unixDomainSocketPathPermissions", unixSocketPermissions);
+    Connector connector = createConnector(ConnectorProtocol.NIO, properties);
+    log.debug("Tomcat Unix domain socket connector created at {}", unixSocketPath);
+    return connector;
+  }
+
+  private Connector createConnector(ConnectorProtocol connectorProtocol,
+      Map<String, String> properties) {
+    Connector connector = new Connector(connectorProtocol.getProtocolHandlerClassName());
+    properties.forEach((name, value) -> {
+      if (!connector.setProperty(name, value)) {
+        log.warn("Tomcat connector property {} is not supported by {} protocol", name,
+            connectorProtocol);
+      }
+    });
+    if (ssl.enabled()) {
+      ssl.configure(connector);
+    }
+    if (http2.enabled()) {
+      connector.addUpgradeProtocol(http2.createUpgradeProtocol());
+    }
+    return connector;
+  }
+
+  /**
+   * Return configured settings by Tomcat connector attribute names.
+   *
+   * @return Tomcat connector attributes
+   */
+  public Map<String, String> toTomcatProperties() {
+    Map<String, String> properties = new LinkedHashMap<>();
+    properties.put("address", address);
+    putIfConfigured(properties, "maxThreads", maxThreads);
+    putIfConfigured(properties, "minSpareThreads", minSpareThreads);
+    putIfConfigured(properties, "acceptCount", acceptCount);
+    putIfConfigured(properties, "maxConnections", maxConnections);
+    putIfConfigured(properties, "keepAliveTimeout", keepAliveTimeout);
+    putIfConfigured(properties, "maxKeepAliveRequests", maxKeepAliveRequests);
+    putIfConfigured(properties, "socket.rxBufSize", socketReceiveBufferSize);
+    putIfConfigured(properties, "socket.txBufSize", socketSendBufferSize);
+    putIfConfigured(properties, "socket.tcpNoDelay", tcpNoDelay);
+    return properties;
+  }
+
+  private static void putIfConfigured(Map<String, String> properties, String name, Object value) {
+    if (value != null) {
+      properties.put(name, value.toString());
+    }
+  }
+
+  private static Integer getKeepAliveRequests(ConfigurationSnapshot configuration) {
+    Integer value = configuration.get(PREFIX + "max-keep-alive-requests", Integer.class);
+    if (value != null && value < -1) {
+      throw new InvalidPropertyValueException(
+          "\"%smax-keep-alive-requests\" property value must be -1 or greater!".formatted(PREFIX));
+    }
+    return value;
+  }
+
+  private static Integer getPositiveInt(ConfigurationSnapshot configuration, String name) {
+    Integer value = configuration.get(PREFIX + name, Integer.class);
+    if (value != null && value <= 0) {
+      throw new InvalidPropertyValueException(
+          "\"%s%s\" property value must be positive!".formatted(PREFIX, name));
+    }
+    return value;
+  }
+
+  private static Integer getNonNegativeInt(ConfigurationSnapshot configuration, String name) {
+    Integer value = configuration.get(PREFIX + name, Integer.class);
+    if (value != null && value < 0) {
+      throw new InvalidPropertyValueException(
+          "\"%s%s\" property value must not be negative!".formatted(PREFIX, name));
+    }
+    return value;
+  }
+}
@@ -0,0 +1,143 @@
+package io.github.bobocodebreskul.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link WebExchange} view given to a controller method running on a handler thread of
+ * {@link HandlerTimeoutInvoker}. When the request times out the view is detached: the engine
+ * completes and recycles the request, so every later call on the view fails with
+ * {@link IllegalStateException} instead of reading attributes or headers of another request.
+ * <p>
+ * Streams and native objects obtained before the timeout are not guarded.
+ */
+final class DetachableWebExchange implements WebExchange {
+
+  private final WebExchange exchange;
+  private volatile boolean detached;
+
+  DetachableWebExchange(WebExchange exchange) {
+    this.exchange = exchange;
+  }
+
+  /**
+   * Detach the view from the request, all later calls fail.
+   */
+  void detach() {
+    detached = true;
+  }
+
+  /**
+   * @return {@code true} if the view is detached from the request
+   */
+  boolean isDetached() {
+    return detached;
+  }
+
+  private WebExchange exchange() {
+    if (detached) {
+      throw new IllegalStateException(
+          "Request timed out, its exchange is not available to the handler anymore");
+    }
+    return exchange;
+  }
+
+  @Override
+  public String getMethod() {
+    return exchange().getMethod();
+  }
+
+  @Override
+  public String getRequestUri() {
+    return exchange().getRequestUri();
+  }
+
+  @Override
+  public String getPath() {
+    return exchange().getPath();
+  }
+
+  @Override
+  public String getParameter(String name) {
+    return exchange().getParameter(name);
+  }
+
+  @Override
+  public String getQueryString() {
+    return exchange().getQueryString();
+  }
+
+  @Override
+  public String getQueryParameter(String name) {
+    return exchange().getQueryParameter(name);
+  }
+
+  @Override
+  public String getHeader(String name) {
+    return exchange().getHeader(name);
+  }
+
+  @Override
+  public List<String> getHeaderValues(String name) {
+    return exchange().getHeaderValues(name);
+  }
+
+  @Override
+  public Collection<String> getHeaderNames() {
+    return exchange().getHeaderNames();
+  }
+
+  @Override
+  public InputStream getInputStream() throws IOException {
+    return exchange().getInputStream();
+  }
+
+  @Override
+  public BufferedReader getReader() throws IOException {
+    return exchange().getReader();
+  }
+
+  @Override
+  public void setStatus(int status) {
+    exchange().setStatus(status);
+  }
+
+  @Override
+  public void setHeader(String name, String value) {
+    exchange().setHeader(name, value);
+  }
+
+  @Override
+  public void addHeader(String name, String value) {
+    exchange().addHeader(name, value);
+  }
+
+  @Override
+  public OutputStream getOutputStream() throws IOException {
+    return exchange().getOutputStream();
+  }
+
+  @Override
+  public Object getNativeRequest() {
+    return exchange().getNativeRequest();
+  }
+
+  @Override
+  public Object getNativeResponse() {
+    return exchange().getNativeResponse();
+  }
+
+  @Override
+  public Object getAttribute(String name) {
+    return exchange().getAttribute(name);
+  }
+
+  @Override
+  public void setAttribute(String name, Object value) {
+    exchange().setAttribute(name, value);
+  }
+}
@@ -0,0 +1,133 @@
+package io.github.bobocodebreskul.server;
+
+import io.github.bobocodebreskul.context.exception.ResourceNotFoundException;
+import io.github.bobocodebreskul.server.exception.BodyReadException;
+import io.github.bobocodebreskul.server.exception.DuplicateErrorHandlerException;
+import io.github.bobocodebreskul.server.exception.HandlerRejectedException;
+import io.github.bobocodebreskul.server.exception.HandlerTimeoutException;
+import io.github.bobocodebreskul.server.exception.MultipartException;
+import io.github.bobocodebreskul.server.exception.RequestsMappingException;
+import io.github.bobocodebreskul.server.exception.WebMethodParameterException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resolves the error handler controller method of an exception by its nearest superclass having a
+ * handler. The hierarchy is walked once per exception class, the result is memoized in a
+ * {@link ClassValue}. Routing failures ({@link ResourceNotFoundException}) and handler timeouts keep
+ * their default {@code 404}, {@code 504} and {@code 503} responses unless a handler of them is
+ * declared explicitly. The same applies to request parameter, body and multipart failures raised by
+ * the framework: they are not passed to a generic {@code RuntimeException} handler.
+ */
+final class ErrorHandlerResolver {
+
+  private static final Set<Class<?>> NOT_PROPAGATED_EXCEPTIONS = Set.of(
+      ResourceNotFoundException.class, HandlerTimeoutException.class,
+      HandlerRejectedException.class, WebMethodParameterException.class,
+      BodyReadException.class, MultipartException.class, DuplicateErrorHandlerException.class);
+  private static final MethodType HANDLER_TYPE = MethodType.methodType(Object.class,
+      Throwable.class, Object.class);
+
+  private final Map<Class<?>, ErrorHandler> handlers = new HashMap<>();
+  private final ClassValue<Optional<ErrorHandler>> resolvedHandlers = new ClassValue<>() {
+    @Override
+    protected Optional<ErrorHandler> computeValue(Class<?> type) {
+      for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+        ErrorHandler handler = handlers.get(current);
+        if (handler != null) {
+          return Optional.of(handler);
+        }
+        if (NOT_PROPAGATED_EXCEPTIONS.contains(current)) {
+          break;
+        }
+      }
+      return Optional.empty();
+    }
+  };
+
+  /**
+   * Create resolver of the error handler controller methods, handles are bound to their
+   * controllers here.
+   *
+   * @param exceptionToErrorHandlerControllerMethod error handler controller methods by exception
+   *                                                class
+   * @throws RequestsMappingException if an error handler method is not accessible
+   */
+  ErrorHandlerResolver(Map<Class<?>, ControllerMethod> exceptionToErrorHandlerControllerMethod) {
+    exceptionToErrorHandlerControllerMethod.forEach((exceptionClass, controllerMethod) ->
+        handlers.put(exceptionClass, ErrorHandler.bind(controllerMethod)));
+  }
+
+  /**
+   * Return handler of the exception class.
+   *
+   * @param exceptionClass class of the thrown exception
+   * @return handler or {@code null} if the exception is not handled
+   */
+  ErrorHandler resolve(Class<? extends Throwable> exceptionClass) {
+    return resolvedHandlers.get(exceptionClass).orElse(null);
+  }
+
+  /**
+   * Error handler controller method with a handle taking the exception and request argument in
+   * this order regardless of the declared parameter order.
+   *
+   * @param controllerMethod error handler controller method
+   * @param handle           handle of {@code (Throwable, Object)Object} type bound to the
+   *                         controller
+   * @param requestType      type of the request parameter or {@code null} if there is none
+   */
+  record ErrorHandler(ControllerMethod controllerMethod, MethodHandle handle,
+                      Class<?> requestType) {
+
+    private static ErrorHandler bind(ControllerMethod controllerMethod) {
+      Method method = controllerMethod.method();
+      Class<?>[] parameterTypes = method.getParameterTypes();
+      MethodHandle handle;
+      try {
+        method.trySetAccessible();
+        handle = MethodHandles.lookup().unreflect(method).bindTo(controllerMethod.controller());
+      } catch (IllegalAccessException e) {
+        throw new RequestsMappingException(
+            "Error handler method [%s] is not accessible".formatted(method), e);
+      }
+      Class<?> requestType = null;
+      if (parameterTypes.length == 1) {
+        handle = MethodHandles.dropArguments(handle, 1, Object.class);
+      } else if (Throwable.class.isAssignableFrom(parameterTypes[0])) {
+        requestType = parameterTypes[1];
+      } else {
+        requestType = parameterTypes[0];
+        handle = MethodHandles.permuteArguments(
+            handle.asType(MethodType.methodType(Object.class, Object.class, Throwable.class)),
+            HANDLER_TYPE, 1, 0);
+      }
+      return new ErrorHandler(controllerMethod, handle.asType(HANDLER_TYPE), requestType);
+    }
+
+    /**
+     * Invoke the handler.
+     *
+     * @param ex      handled exception
+     * @param request request argument or {@code null}
+     * @return handler result, {@code null} for {@code void} methods
+     * @throws Exception thrown by the handler
+     */
+    Object invoke(Throwable ex, Object request) throws Exception {
+      try {
+        return (Object) handle.invokeExact(ex, request);
+      } catch (Exception | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new UndeclaredThrowableException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,200 @@
+package io.github.bobocodebreskul.server;
+
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getPropertyAsIntOrDefault;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.context.scope.PooledBeanLease;
+import io.github.bobocodebreskul.context.scope.RequestContextHolder;
+import io.github.bobocodebreskul.server.annotations.Timeout;
+import io.github.bobocodebreskul.server.exception.HandlerRejectedException;
+import io.github.bobocodebreskul.server.exception.HandlerTimeoutException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+
+/**
+ * Runs controller methods with a {@link Timeout} on a bounded pool of handler threads. The request
+ * thread waits for the result up to the deadline, then it cancels the {@link CancellationToken},
+ * interrupts the handler thread and fails the request with {@link HandlerTimeoutException}, so a
+ * stuck call holds the request thread no longer than the timeout. When all handler threads are
+ * busy the request fails with {@link HandlerRejectedException} right away.
+ * <p>
+ * The design is blocking: every request with a timeout holds a request thread until the result or
+ * the deadline and a handler thread until the controller method returns. A method which ignores
+ * interruption and the token keeps running after its request failed, such an overdue handler
+ * pins its handler thread. Pinned threads are bounded by the pool size: the pool never grows and
+ * has no queue, so once all handler threads are pinned every request to a route with timeout gets
+ * {@code 503} until the overdue handlers return, while routes without timeout are not affected.
+ * Overdue handlers are logged and counted by {@link #getOverdueCount()}.
+ */
+final class HandlerTimeoutInvoker {
+
+  private final static Logger log = LoggerFactory.getLogger(HandlerTimeoutInvoker.class);
+
+  private static final int NEW = 0;
+  private static final int RUNNING = 1;
+  private static final int DONE = 2;
+  private static final int OVERDUE = 3;
+
+  private final long defaultTimeoutMillis;
+  private final int threads;
+  private final AtomicInteger overdueCount = new AtomicInteger();
+  private volatile ExecutorService executor;
+
+  /**
+   * Create invoker configured by "server.timeout.default" and "server.timeout.threads" properties.
+   */
+  HandlerTimeoutInvoker() {
+    this(getPropertyAsIntOrDefault("server.timeout.default", 0),
+        getPropertyAsIntOrDefault("server.timeout.threads", 200));
+  }
+
+  /**
+   * Create invoker.
+   *
+   * @param defaultTimeoutMillis timeout of methods without {@link Timeout}, zero disables it
+   * @param threads              maximum number of handler threads
+   */
+  HandlerTimeoutInvoker(long defaultTimeoutMillis, int threads) {
+    this.defaultTimeoutMillis = defaultTimeoutMillis;
+    this.threads = threads;
+  }
+
+  /**
+   * Resolve timeout of the controller method from {@link Timeout} of the method, of its class or
+   * the default timeout.
+   *
+   * @param method controller method
+   * @return timeout in nanoseconds, zero if the method has no timeout
+   */
+  long getTimeoutNanos(Method method) {
+    Timeout timeout = method.getAnnotation(Timeout.class);
+    if (timeout == null) {
+      timeout = method.getDeclaringClass().getAnnotation(Timeout.class);
+    }
+    long timeoutNanos = timeout == null
+        ? TimeUnit.MILLISECONDS.toNanos(defaultTimeoutMillis)
+        : timeout.unit().toNanos(timeout.value());
+    return Math.max(0, timeoutNanos);
+  }
+
+  /**
+   * Invoke the controller method on a handler thread and wait for its result until the deadline of
+   * the token.
+   *
+   * @param handler  controller method call
+   * @param exchange view of the current request/response pair, bound to the handler thread and
+   *                 detached when the deadline passes
+   * @param token    cancellation token with the deadline
+   * @return result of the controller method
+   * @throws HandlerTimeoutException  if the deadline passed
+   * @throws HandlerRejectedException if all handler threads are busy
+   * @throws Exception                thrown by the controller method call
+   */
+  Object invoke(Callable<Object> handler, DetachableWebExchange exchange,
+      CancellationToken token) throws Exception {
+    // read before the exchange could be detached
+    String request = exchange.getMethod() + " " + exchange.getPath();
+    AtomicInteger state = new AtomicInteger(NEW);
+    Future<Object> future;
+    try {
+      future = getExecutor().submit(() -> callInRequestContext(handler, exchange, state, request));
+    } catch (RejectedExecutionException e) {
+      log.warn("All {} handler threads are busy ({} overdue), request {} is rejected", threads,
+          overdueCount.get(), request);
+      throw new HandlerRejectedException("Server is busy, try again later");
+    }
+    try {
+      return future.get(token.getRemainingNanos(), TimeUnit.NANOSECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Exception cause) {
+        throw cause;
+      }
+      throw (Error) e.getCause();
+    } catch (TimeoutException | InterruptedException e) {
+      // the engine recycles the request once it fails, the handler must not read it afterwards
+      exchange.detach();
+      token.cancel();
+      // a handler which has not started yet is skipped, a running one is overdue until it returns
+      if (!state.compareAndSet(NEW, DONE) && state.compareAndSet(RUNNING, OVERDUE)) {
+        overdueCount.incrementAndGet();
+      }
+      future.cancel(true);
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      log.warn("Request {} is not handled before the deadline, handler is cancelled", request);
+      throw new HandlerTimeoutException("Request handling timed out");
+    }
+  }
+
+  /**
+   * Return number of handlers which are still running after their request timed out.
+   *
+   * @return overdue handlers count
+   */
+  int getOverdueCount() {
+    return overdueCount.get();
+  }
+
+  private Object callInRequestContext(Callable<Object> handler, WebExchange exchange,
+      AtomicInteger state, String request) throws Exception {
+    if (!state.compareAndSet(NEW, RUNNING)) {
+      return null;
+    }
+    RequestContextHolder.setRequestAttributes(exchange);
+    boolean leaseOpened = PooledBeanLease.open();
+    try {
+      return handler.call();
+    } finally {
+      if (leaseOpened) {
+        PooledBeanLease.close();
+      }
+      RequestContextHolder.resetRequestAttributes();
+      if (!state.compareAndSet(RUNNING, DONE)) {
+        overdueCount.decrementAndGet();
+        log.warn("Handler of timed out request {} returned, its thread is released", request);
+      }
+    }
+  }
+
+  private ExecutorService getExecutor() {
+    ExecutorService handlerExecutor = executor;
+    if (handlerExecutor == null) {
+      synchronized (this) {
+        handlerExecutor = executor;
+        if (handlerExecutor == null) {
+          // no queue: a handler starts right away or the request is rejected
+          ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 60,
+              TimeUnit.SECONDS, new SynchronousQueue<>(), new HandlerThreadFactory());
+          threadPoolExecutor.allowCoreThreadTimeOut(true);
+          executor = handlerExecutor = threadPoolExecutor;
+          log.info("Handler timeout executor created with {} threads.", threads);
+        }
+      }
+    }
+    return handlerExecutor;
+  }
+
+  private static class HandlerThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "bring-handler-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
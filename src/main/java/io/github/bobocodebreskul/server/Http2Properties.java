@@ -0,0 +1,70 @@
+package io.github.bobocodebreskul.server;
+
+import io.github.bobocodebreskul.config.ConfigurationSnapshot;
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
+import java.util.Objects;
+import org.apache.coyote.http2.Http2Protocol;
+
+/**
+ * HTTP/2 settings of the embedded Tomcat connector read from the application configuration.
+ * <p>
+ * When enabled, HTTP/2 is negotiated with ALPN on TLS connectors and is available as cleartext h2c
+ * (both HTTP/1.1 upgrade and prior knowledge) otherwise. Supported properties:
+ * <ul>
+ * <li>{@code server.http2.enabled} - {@code false} by default</li>
+ * <li>{@code server.http2.max-concurrent-streams} - maximum number of concurrent streams per
+ * connection</li>
+ * <li>{@code server.http2.max-concurrent-stream-execution} - maximum number of streams of one
+ * connection processed at the same time</li>
+ * </ul>
+ *
+ * @param enabled                     whether HTTP/2 is enabled
+ * @param maxConcurrentStreams        maximum number of concurrent streams per connection
+ * @param maxConcurrentStreamExecution maximum number of streams of one connection executed at the
+ *                                    same time
+ */
+public record Http2Properties(boolean enabled, Integer maxConcurrentStreams,
+                              Integer maxConcurrentStreamExecution) {
+
+  private static final String PREFIX = "server.http2.";
+
+  /**
+   * Read HTTP/2 settings from the configuration.
+   *
+   * @param configuration application configuration
+   * @return HTTP/2 settings
+   * @throws InvalidPropertyValueException if any setting has an invalid value
+   */
+  public static Http2Properties from(ConfigurationSnapshot configuration) {
+    Objects.requireNonNull(configuration, "The configuration parameter cannot be null!");
+    Boolean enabled = configuration.get(PREFIX + "enabled", Boolean.class);
+    return new Http2Properties(Boolean.TRUE.equals(enabled),
+        getPositiveInt(configuration, "max-concurrent-streams"),
+        getPositiveInt(configuration, "max-concurrent-stream-execution"));
+  }
+
+  /**
+   * Create HTTP/2 upgrade protocol configured with these settings.
+   *
+   * @return HTTP/2 upgrade protocol
+   */
+  public Http2Protocol createUpgradeProtocol() {
+    Http2Protocol http2Protocol = new Http2Protocol();
+    if (maxConcurrentStreams != null) {
+      http2Protocol.setMaxConcurrentStreams(maxConcurrentStreams);
+    }
+    if (maxConcurrentStreamExecution != null) {
+      http2Protocol.setMaxConcurrentStreamExecution(maxConcurrentStreamExecution);
+    }
+    return http2Protocol;
+  }
+
+  private static Integer getPositiveInt(ConfigurationSnapshot configuration, String name) {
+    Integer value = configuration.get(PREFIX + name, Integer.class);
+    if (value != null && value <= 0) {
+      throw new InvalidPropertyValueException(
+          "\"%s%s\" property value must be positive!".formatted(PREFIX, name));
+    }
+    return value;
+  }
+}
@@ -5,19 +5,23 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.server.codec.JsonMessageCodec;
+import io.github.bobocodebreskul.server.codec.MessageCodec;
+import io.github.bobocodebreskul.server.codec.MessageCodecRegistry;
 import io.github.bobocodebreskul.server.enums.RequestMethod;
 import io.github.bobocodebreskul.server.exception.BodyReadException;
 import io.github.bobocodebreskul.server.exception.RequestsMappingException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.URI;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 
 /**
@@ -36,20 +40,21 @@ public class HttpRequestMapper {
   public static final String CONTENT_TYPE_TEXT_PLAIN = "text/plain";
   public static final String CONTENT_TYPE_APPLICATION_JSON = "application/json";
   public static final String CONTENT_TYPE_KEY = "Content-Type";
+  private static final String CONTENT_TYPE_HEADER = CONTENT_TYPE_KEY.toLowerCase();
 
   private static final Set<Class<?>> PRIMITIVE_SET = Set.of(Boolean.class, Character.class,
       Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, String.class);
-  private static final Set<String> ALLOWED_INPUT_CONTENT_TYPES = Set.of(CONTENT_TYPE_TEXT_HTML,
-      CONTENT_TYPE_TEXT_PLAIN, CONTENT_TYPE_APPLICATION_JSON);
 
   private ObjectMapper objectMapper = new ObjectMapper();
+  private final MessageCodecRegistry codecs;
 
   public HttpRequestMapper() {
-
+    this.codecs = new MessageCodecRegistry(List.of(new JsonMessageCodec(objectMapper)));
   }
 
   public HttpRequestMapper(ObjectMapper objectMapper) {
     this.objectMapper = objectMapper;
+    this.codecs = new MessageCodecRegistry(List.of(new JsonMessageCodec(objectMapper)));
   }
 
   /**
@@ -57,7 +62,10 @@ public class HttpRequestMapper {
    *
    * @param httpServletResponse servlet response to write into
    * @param bringResponseEntity parameterized response entity to write out
+   * @deprecated responses are written through {@link WebExchange} regardless of the engine, use
+   * {@link #writeBringResponse(WebExchange, BringResponse)} instead
    */
+  @Deprecated
   public void writeBringResponseIntoHttpServletResponse(HttpServletResponse httpServletResponse,
       BringResponse<?> bringResponseEntity) {
 
@@ -97,6 +105,53 @@ public class HttpRequestMapper {
     }
   }
 
+  /**
+   * Write parameterized {@link BringResponse} into the response of {@link WebExchange}
+   *
+   * @param exchange            exchange to write response into
+   * @param bringResponseEntity parameterized response entity to write out
+   */
+  public void writeBringResponse(WebExchange exchange, BringResponse<?> bringResponseEntity) {
+    writeBringResponse(exchange, bringResponseEntity, codecs.getDefaultCodec());
+  }
+
+  /**
+   * Write parameterized {@link BringResponse} into the response of {@link WebExchange} using the
+   * negotiated codec. Byte array bodies are written as is.
+   *
+   * @param exchange            exchange to write response into
+   * @param bringResponseEntity parameterized response entity to write out
+   * @param codec               codec writing the response body
+   */
+  public void writeBringResponse(WebExchange exchange, BringResponse<?> bringResponseEntity,
+      MessageCodec codec) {
+    exchange.setStatus(bringResponseEntity.getStatus().getStatusCode());
+
+    bringResponseEntity.getHeadersNames()
+        .forEach(headerName -> exchange.setHeader(headerName,
+            bringResponseEntity.getHeader(headerName)));
+
+    Object body = bringResponseEntity.getBody();
+    if (body == null) {
+      return;
+    }
+    try {
+      boolean byteBody = body instanceof byte[];
+      if (!bringResponseEntity.getHeadersNames().contains(CONTENT_TYPE_KEY)) {
+        exchange.setHeader(CONTENT_TYPE_KEY,
+            byteBody ? CONTENT_TYPE_APPLICATION_OCTET_STREAM : codec.getContentType(body));
+      }
+      if (byteBody) {
+        exchange.getOutputStream().write((byte[]) body);
+      } else {
+        codec.write(body, exchange.getOutputStream());
+      }
+    } catch (IOException e) {
+      log.error("Failed to write response entity to response", e);
+      throw new RequestsMappingException("Failed to write response entity to response", e);
+    }
+  }
+
   /**
    * Convert {@code HttpServletRequest} into parameterized {@link BringRequest}
    *
@@ -107,14 +162,42 @@ public class HttpRequestMapper {
    */
   public <T> BringRequest<T> mapHttpServletRequestOnBringRequestEntity(
       HttpServletRequest httpServletRequest, Class<T> bodyType) {
+    return mapRequestOnBringRequestEntity(new ServletWebExchange(httpServletRequest, null),
+        bodyType);
+  }
+
+  /**
+   * Convert request of {@link WebExchange} into parameterized {@link BringRequest}
+   *
+   * @param exchange exchange with the request to convert
+   * @param bodyType expected body type class
+   * @param <T>      expected body type
+   * @return created bring request with specified body
+   */
+  public <T> BringRequest<T> mapRequestOnBringRequestEntity(WebExchange exchange,
+      Class<T> bodyType) {
+    return mapRequestOnBringRequestEntity(exchange, bodyType, codecs);
+  }
+
+  /**
+   * Convert request of {@link WebExchange} into parameterized {@link BringRequest}, the body is read
+   * by the codec of the request {@code Content-Type}.
+   *
+   * @param exchange exchange with the request to convert
+   * @param bodyType expected body type class
+   * @param codecs   codecs of the supported content types
+   * @param <T>      expected body type
+   * @return created bring request with specified body
+   * @throws BodyReadException if the content type of the request is not supported
+   */
+  public <T> BringRequest<T> mapRequestOnBringRequestEntity(WebExchange exchange,
+      Class<T> bodyType, MessageCodecRegistry codecs) {
 
-    RequestMethod method = RequestMethod.getByName(httpServletRequest.getMethod());
-    Map<String, String> requestHeaders = extractHeaders(httpServletRequest);
-    String contentType = requestHeaders.getOrDefault(CONTENT_TYPE_KEY.toLowerCase(), EMPTY);
+    RequestMethod method = RequestMethod.getByName(exchange.getMethod());
+    String contentType = Objects.requireNonNullElse(exchange.getHeader(CONTENT_TYPE_HEADER), EMPTY);
 
-    return BringRequest.method(method, URI.create(httpServletRequest.getRequestURI()))
-        .headers(requestHeaders)
-        .body(extractBody(httpServletRequest, contentType, bodyType));
+    return new BringRequest<>(method, URI.create(exchange.getRequestUri()),
+        new RequestHeaders(exchange), extractBody(exchange, contentType, bodyType, codecs));
   }
 
   private String writeBodyAsJson(Object body) {
@@ -126,33 +209,29 @@ public class HttpRequestMapper {
     }
   }
 
-  private <T> T extractBody(HttpServletRequest request, String contentType, Class<T> bodyType) {
+  private <T> T extractBody(WebExchange exchange, String contentType, Class<T> bodyType,
+      MessageCodecRegistry codecs) {
+    MessageCodec codec = codecs.findReader(contentType)
+        .orElseThrow(() -> new BodyReadException(("Unsupported body type, incoming "
+            + "'content-type'='%s'. Supported body types are %s").formatted(contentType,
+            codecs.getMediaTypes())));
     try {
-      BufferedReader bodyReader = request.getReader();
-      if (ALLOWED_INPUT_CONTENT_TYPES.contains(contentType)) {
-        String stringBody = bodyReader.lines()
-            .collect(Collectors.joining(System.lineSeparator()));
-        T body = null;
-        if (!stringBody.isBlank()) {
-          body = objectMapper.readValue(stringBody, bodyType);
-        }
-        return body;
+      InputStream input = exchange.getInputStream();
+      // blank body is bound as null, leading whitespace is kept for the codec
+      ByteArrayOutputStream leadingBytes = new ByteArrayOutputStream();
+      int nextByte;
+      while ((nextByte = input.read()) != -1 && Character.isWhitespace(nextByte)) {
+        leadingBytes.write(nextByte);
+      }
+      if (nextByte == -1) {
+        return null;
       }
-      throw new BodyReadException(("Unsupported body type, incoming 'content-type'='%s'. Supported "
-          + "body types are %s").formatted(contentType, ALLOWED_INPUT_CONTENT_TYPES));
+      leadingBytes.write(nextByte);
+      return codec.read(new SequenceInputStream(
+          new ByteArrayInputStream(leadingBytes.toByteArray()), input), bodyType);
     } catch (IOException e) {
-      log.error("Failed to map HttpServletRequest body into object.", e);
+      log.debug("Failed to map HttpServletRequest body into object: {}", e.getMessage());
       throw new RequestsMappingException("Failed to map HttpServletRequest body into object.", e);
     }
   }
-
-  private Map<String, String> extractHeaders(HttpServletRequest request) {
-    Map<String, String> headers = new HashMap<>();
-    for (Iterator<String> it = request.getHeaderNames().asIterator(); it.hasNext(); ) {
-      String headerName = it.next();
-      String headerValue = request.getHeader(headerName);
-      headers.put(headerName.toLowerCase(), headerValue);
-    }
-    return headers;
-  }
 }
@@ -0,0 +1,45 @@
+package io.github.bobocodebreskul.server;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free counter of requests currently processed by {@link RequestDispatcher}. Used by graceful
+ * shutdown to wait for in-flight requests to finish.
+ */
+class InFlightRequestCounter {
+
+  private static final long DRAIN_POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+  void requestStarted() {
+    inFlightRequests.incrementAndGet();
+  }
+
+  void requestFinished() {
+    inFlightRequests.decrementAndGet();
+  }
+
+  int getInFlightRequests() {
+    return inFlightRequests.get();
+  }
+
+  /**
+   * Wait until all in-flight requests are finished or the timeout elapses.
+   *
+   * @param timeoutMillis maximum time to wait in milliseconds
+   * @return {@code true} if all requests finished in time
+   */
+  boolean awaitDrained(long timeoutMillis) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    while (inFlightRequests.get() > 0) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+        return false;
+      }
+      LockSupport.parkNanos(Math.min(remaining, DRAIN_POLL_INTERVAL_NANOS));
+    }
+    return true;
+  }
+}
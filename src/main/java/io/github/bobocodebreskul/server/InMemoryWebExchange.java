@@ -0,0 +1,272 @@
+package io.github.bobocodebreskul.server;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Synthetic {@link WebExchange} dispatched by {@link InMemoryWebServer} without any socket.
+ * <p>
+ * The exchange is mutable and meant to be reused: {@link #reset(String, String)} clears the
+ * previous request and response while keeping the allocated maps and response buffer, so a
+ * benchmark or test loop allocates almost nothing per request besides the dispatch itself.
+ * Instances are not thread-safe, use one exchange per thread.
+ */
+public class InMemoryWebExchange implements WebExchange {
+
+  private static final byte[] EMPTY_BODY = new byte[0];
+
+  private final Map<String, String> parameters = new HashMap<>();
+  private final Map<String, String> headers = new HashMap<>();
+  private final Map<String, Object> attributes = new HashMap<>();
+  private final Map<String, String> responseHeaders = new HashMap<>();
+  private final ByteArrayOutputStream responseBody = new ByteArrayOutputStream();
+  private String method;
+  private String path;
+  private byte[] body = EMPTY_BODY;
+  private int status;
+
+  /**
+   * Create exchange for the request with the specified HTTP method and path.
+   *
+   * @param method HTTP method, for example {@code GET}
+   * @param path   request path without query string
+   */
+  public InMemoryWebExchange(String method, String path) {
+    reset(method, path);
+  }
+
+  /**
+   * Clear request and response state and start a new request with the specified HTTP method and
+   * path.
+   *
+   * @param method HTTP method, for example {@code GET}
+   * @param path   request path without query string
+   * @return this exchange
+   */
+  public InMemoryWebExchange reset(String method, String path) {
+    this.method = method;
+    this.path = path;
+    this.body = EMPTY_BODY;
+    this.status = 200;
+    parameters.clear();
+    headers.clear();
+    attributes.clear();
+    responseHeaders.clear();
+    responseBody.reset();
+    return this;
+  }
+
+  /**
+   * Add request parameter, the first value of the parameter wins.
+   *
+   * @param name  parameter name
+   * @param value parameter value
+   * @return this exchange
+   */
+  public InMemoryWebExchange param(String name, String value) {
+    parameters.putIfAbsent(name, value);
+    return this;
+  }
+
+  /**
+   * Set request header.
+   *
+   * @param name  case-insensitive header name
+   * @param value header value
+   * @return this exchange
+   */
+  public InMemoryWebExchange header(String name, String value) {
+    headers.put(name.toLowerCase(), value);
+    return this;
+  }
+
+  /**
+   * Set request body.
+   *
+   * @param body request body bytes, the array is not copied
+   * @return this exchange
+   */
+  public InMemoryWebExchange body(byte[] body) {
+    this.body = body;
+    return this;
+  }
+
+  /**
+   * Set UTF-8 encoded request body.
+   *
+   * @param body request body
+   * @return this exchange
+   */
+  public InMemoryWebExchange body(String body) {
+    return body(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Return response status code.
+   *
+   * @return HTTP status code
+   */
+  public int getStatus() {
+    return status;
+  }
+
+  /**
+   * Return response header value.
+   *
+   * @param name case-insensitive header name
+   * @return header value or {@code null} if it is absent
+   */
+  public String getResponseHeader(String name) {
+    return responseHeaders.get(name.toLowerCase());
+  }
+
+  /**
+   * Return response headers.
+   *
+   * @return unmodifiable view of response headers by lower case header name
+   */
+  public Map<String, String> getResponseHeaders() {
+    return Collections.unmodifiableMap(responseHeaders);
+  }
+
+  /**
+   * Return copy of the response body.
+   *
+   * @return response body bytes
+   */
+  public byte[] getResponseBody() {
+    return responseBody.toByteArray();
+  }
+
+  /**
+   * Return response body decoded as UTF-8.
+   *
+   * @return response body
+   */
+  public String getResponseBodyAsString() {
+    return responseBody.toString(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Return response body size without copying the body.
+   *
+   * @return response body size in bytes
+   */
+  public int getResponseBodySize() {
+    return responseBody.size();
+  }
+
+  @Override
+  public String getMethod() {
+    return method;
+  }
+
+  @Override
+  public String getRequestUri() {
+    return path;
+  }
+
+  @Override
+  public String getPath() {
+    return path;
+  }
+
+  @Override
+  public String getParameter(String name) {
+    return parameters.get(name);
+  }
+
+  @Override
+  public String getQueryParameter(String name) {
+    return parameters.get(name);
+  }
+
+  @Override
+  public String getQueryString() {
+    if (parameters.isEmpty()) {
+      return null;
+    }
+    StringJoiner query = new StringJoiner("&");
+    parameters.forEach((name, value) -> query.add(URLEncoder.encode(name, StandardCharsets.UTF_8)
+        + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8)));
+    return query.toString();
+  }
+
+  @Override
+  public String getHeader(String name) {
+    return headers.get(name.toLowerCase());
+  }
+
+  @Override
+  public List<String> getHeaderValues(String name) {
+    String value = headers.get(name.toLowerCase());
+    return value == null ? List.of() : List.of(value);
+  }
+
+  @Override
+  public Collection<String> getHeaderNames() {
+    return Collections.unmodifiableSet(headers.keySet());
+  }
+
+  @Override
+  public InputStream getInputStream() {
+    return new ByteArrayInputStream(body);
+  }
+
+  @Override
+  public BufferedReader getReader() {
+    return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void setStatus(int status) {
+    this.status = status;
+  }
+
+  @Override
+  public void setHeader(String name, String value) {
+    responseHeaders.put(name.toLowerCase(), value);
+  }
+
+  @Override
+  public void addHeader(String name, String value) {
+    responseHeaders.merge(name.toLowerCase(), value, (current, added) -> current + ", " + added);
+  }
+
+  @Override
+  public OutputStream getOutputStream() {
+    return responseBody;
+  }
+
+  @Override
+  public Object getNativeRequest() {
+    return this;
+  }
+
+  @Override
+  public Object getNativeResponse() {
+    return this;
+  }
+
+  @Override
+  public Object getAttribute(String name) {
+    return attributes.get(name);
+  }
+
+  @Override
+  public void setAttribute(String name, Object value) {
+    attributes.put(name, value);
+  }
+}
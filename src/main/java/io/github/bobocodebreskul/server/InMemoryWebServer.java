@@ -0,0 +1,76 @@
+package io.github.bobocodebreskul.server;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.context.registry.BringContainer;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+
+/**
+ * {@link WebServer} engine which binds no port and dispatches {@link InMemoryWebExchange}s
+ * in-process.
+ * <p>
+ * Requests go through the same {@link RequestDispatcher} as requests of the network engines, so
+ * routing, argument binding, controller invocation, error handling and serialization are exercised
+ * without socket and HTTP parsing overhead. It is meant for microbenchmarks and contract tests:
+ * <pre>
+ * InMemoryWebServer server = new InMemoryWebServer();
+ * BringContainer.run(App.class, server);
+ * InMemoryWebExchange exchange = server.dispatch(new InMemoryWebExchange("GET", "/url"));
+ * </pre>
+ * The engine can also be selected with "server.engine=in-memory".
+ */
+public class InMemoryWebServer implements WebServer {
+
+  private final static Logger log = LoggerFactory.getLogger(InMemoryWebServer.class);
+  public static final String ENGINE_NAME = "in-memory";
+  private static final String NEW = "NEW";
+  private static final String STARTED = "STARTED";
+  private static final String STOPPED = "STOPPED";
+
+  private final AtomicReference<String> status = new AtomicReference<>(NEW);
+  private RequestDispatcher dispatcher;
+  private BringContainer container;
+
+  @Override
+  public String getName() {
+    return ENGINE_NAME;
+  }
+
+  @Override
+  public void start(BringContainer container) {
+    this.dispatcher = RequestDispatcher.create(container);
+    this.container = container;
+    status.set(STARTED);
+    log.info("In-memory web server started.");
+  }
+
+  /**
+   * Dispatch the exchange to the controller method mapped to its path and HTTP method. The
+   * response status, headers and body are written into the exchange.
+   *
+   * @param exchange request to dispatch
+   * @return the same exchange holding the response
+   * @throws IllegalStateException if the server is not started
+   */
+  public InMemoryWebExchange dispatch(InMemoryWebExchange exchange) {
+    if (!STARTED.equals(status.get())) {
+      throw new IllegalStateException("In-memory web server is not started");
+    }
+    dispatcher.dispatch(exchange);
+    return exchange;
+  }
+
+  @Override
+  public void stop() {
+    if (!status.compareAndSet(STARTED, STOPPED)) {
+      return;
+    }
+    container.close();
+    log.info("In-memory web server stopped.");
+  }
+
+  @Override
+  public String getStatus() {
+    return status.get();
+  }
+}
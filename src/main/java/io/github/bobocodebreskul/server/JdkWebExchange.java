@@ -0,0 +1,174 @@
+package io.github.bobocodebreskul.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link WebExchange} backed by the JDK {@link HttpExchange}.
+ * <p>
+ * The JDK server requires status and content length before the body is written, so the response
+ * body is buffered and sent by {@link #complete()}. {@link #getParameter(String)} parses the query
+ * string and the {@code application/x-www-form-urlencoded} body on first call.
+ */
+class JdkWebExchange implements WebExchange {
+
+  private final HttpExchange exchange;
+  private final ByteArrayOutputStream responseBody = new ByteArrayOutputStream();
+  private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
+
+  private Map<String, String> parameters;
+  private int status = 200;
+
+  JdkWebExchange(HttpExchange exchange) {
+    this.exchange = exchange;
+  }
+
+  @Override
+  public String getMethod() {
+    return exchange.getRequestMethod();
+  }
+
+  @Override
+  public String getRequestUri() {
+    return exchange.getRequestURI().getPath();
+  }
+
+  @Override
+  public String getPath() {
+    return exchange.getRequestURI().getPath();
+  }
+
+  @Override
+  public String getParameter(String name) {
+    if (parameters == null) {
+      parameters = new HashMap<>();
+      parseQuery(exchange.getRequestURI().getRawQuery(), parameters);
+      String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+      if (contentType != null && contentType.startsWith(FORM_CONTENT_TYPE)) {
+        try {
+          parseQuery(new String(exchange.getRequestBody().readAllBytes(),
+              StandardCharsets.ISO_8859_1), parameters);
+        } catch (IOException e) {
+          throw new UncheckedIOException("Could not read form body", e);
+        }
+      }
+    }
+    return parameters.get(name);
+  }
+
+  @Override
+  public String getQueryString() {
+    return exchange.getRequestURI().getRawQuery();
+  }
+
+  @Override
+  public String getHeader(String name) {
+    return exchange.getRequestHeaders().getFirst(name);
+  }
+
+  @Override
+  public List<String> getHeaderValues(String name) {
+    return exchange.getRequestHeaders().getOrDefault(name, List.of());
+  }
+
+  @Override
+  public Collection<String> getHeaderNames() {
+    return exchange.getRequestHeaders().keySet();
+  }
+
+  @Override
+  public InputStream getInputStream() {
+    return exchange.getRequestBody();
+  }
+
+  @Override
+  public BufferedReader getReader() {
+    return new BufferedReader(
+        new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void setStatus(int status) {
+    this.status = status;
+  }
+
+  @Override
+  public void setHeader(String name, String value) {
+    exchange.getResponseHeaders().set(name, value);
+  }
+
+  @Override
+  public void addHeader(String name, String value) {
+    exchange.getResponseHeaders().add(name, value);
+  }
+
+  @Override
+  public OutputStream getOutputStream() {
+    return responseBody;
+  }
+
+  @Override
+  public Object getNativeRequest() {
+    return exchange;
+  }
+
+  @Override
+  public Object getNativeResponse() {
+    return exchange;
+  }
+
+  @Override
+  public Object getAttribute(String name) {
+    return exchange.getAttribute(name);
+  }
+
+  @Override
+  public void setAttribute(String name, Object value) {
+    exchange.setAttribute(name, value);
+  }
+
+  /**
+   * Send response status, headers and buffered body and close the exchange.
+   *
+   * @throws IOException if the response could not be sent
+   */
+  void complete() throws IOException {
+    try (exchange) {
+      boolean bodyAllowed = !"HEAD".equals(exchange.getRequestMethod()) && status != 204
+          && status != 304;
+      if (!bodyAllowed || responseBody.size() == 0) {
+        exchange.sendResponseHeaders(status, -1);
+      } else {
+        exchange.sendResponseHeaders(status, responseBody.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+          responseBody.writeTo(out);
+        }
+      }
+    }
+  }
+
+  private static void parseQuery(String rawQuery, Map<String, String> parameters) {
+    if (rawQuery == null || rawQuery.isEmpty()) {
+      return;
+    }
+    for (String pair : rawQuery.split("&")) {
+      int separatorIndex = pair.indexOf('=');
+      String name = separatorIndex == -1 ? pair : pair.substring(0, separatorIndex);
+      String value = separatorIndex == -1 ? "" : pair.substring(separatorIndex + 1);
+      parameters.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+          URLDecoder.decode(value, StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package io.github.bobocodebreskul.server;
+
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getPropertyAsIntOrDefault;
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getPropertyOrDefault;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.context.registry.BringContainer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+
+/**
+ * Minimal {@link WebServer} engine built on the JDK {@code com.sun.net.httpserver} server.
+ * <p>
+ * It has no Servlet container, JSP support or connector tuning and suits small-footprint services.
+ * Requests are processed by a fixed thread pool of "server.jdk.threads" threads (two per available
+ * processor by default). It listens on "server.address" and "server.port" like the Tomcat engine,
+ * "server.jdk.backlog" sets the server socket backlog (system default when 0).
+ * <p>
+ * On {@link #stop()} new requests are rejected with {@code 503 Service Unavailable} while
+ * in-flight requests are drained for up to "server.shutdown.timeout" milliseconds.
+ */
+public class JdkWebServer implements WebServer {
+
+  private final static Logger log = LoggerFactory.getLogger(JdkWebServer.class);
+  public static final String ENGINE_NAME = "jdk";
+  private static final String NEW = "NEW";
+  private static final String STARTED = "STARTED";
+  private static final String STOPPING = "STOPPING";
+  private static final String STOPPED = "STOPPED";
+  private static final int SC_SERVICE_UNAVAILABLE = 503;
+
+  private final AtomicReference<String> status = new AtomicReference<>(NEW);
+  private final AtomicBoolean shutdownHookRegistered = new AtomicBoolean();
+  private HttpServer httpServer;
+  private ExecutorService executor;
+  private BringContainer container;
+
+  @Override
+  public String getName() {
+    return ENGINE_NAME;
+  }
+
+  @Override
+  public void start(BringContainer container) {
+    String address = getPropertyOrDefault("server.address", "localhost");
+    int port = getPropertyAsIntOrDefault("server.port", 8080);
+    int threads = getPropertyAsIntOrDefault("server.jdk.threads",
+        Runtime.getRuntime().availableProcessors() * 2);
+    int backlog = getPropertyAsIntOrDefault("server.jdk.backlog", 0);
+
+    RequestDispatcher dispatcher = RequestDispatcher.create(container);
+    try {
+      httpServer = HttpServer.create(new InetSocketAddress(address, port), backlog);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not bind JDK web server to %s:%s".formatted(address,
+          port), e);
+    }
+    executor = Executors.newFixedThreadPool(threads, new WorkerThreadFactory());
+    httpServer.setExecutor(executor);
+    httpServer.createContext("/", exchange -> handle(dispatcher, exchange));
+    this.container = container;
+    status.set(STARTED);
+    httpServer.start();
+    registerShutdownHook();
+    log.info("JDK web server started successfully at {}:{} with {} threads.", address, port,
+        threads);
+  }
+
+  @Override
+  public void stop() {
+    if (!status.compareAndSet(STARTED, STOPPING)) {
+      return;
+    }
+    int shutdownTimeout = getPropertyAsIntOrDefault("server.shutdown.timeout", 30_000);
+    log.info("JDK web server is shutting down gracefully...");
+    // HttpServer.stop(delay) waits the whole delay before JDK 21, so drain requests first
+    if (!RequestDispatcher.IN_FLIGHT_REQUESTS.awaitDrained(shutdownTimeout)) {
+      log.warn("Shutdown timeout of {} ms elapsed, stop server with {} in-flight requests.",
+          shutdownTimeout, RequestDispatcher.IN_FLIGHT_REQUESTS.getInFlightRequests());
+    }
+    // drained requests may still be writing buffered responses, let workers finish them before
+    // the connections are closed
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    } finally {
+      httpServer.stop(0);
+      status.set(STOPPED);
+      container.close();
+    }
+    log.info("JDK web server stopped.");
+  }
+
+  private void registerShutdownHook() {
+    if (shutdownHookRegistered.compareAndSet(false, true)) {
+      Runtime.getRuntime().addShutdownHook(new Thread(this::stop, "bring-shutdown"));
+      log.debug("Graceful shutdown hook registered.");
+    }
+  }
+
+  @Override
+  public String getStatus() {
+    return status.get();
+  }
+
+  private void handle(RequestDispatcher dispatcher, HttpExchange exchange) throws IOException {
+    if (!STARTED.equals(status.get())) {
+      rejectRequest(exchange);
+      return;
+    }
+    JdkWebExchange webExchange = new JdkWebExchange(exchange);
+    try {
+      dispatcher.dispatch(webExchange);
+    } finally {
+      webExchange.complete();
+    }
+  }
+
+  private static void rejectRequest(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      exchange.getResponseHeaders().set("Connection", "close");
+      exchange.sendResponseHeaders(SC_SERVICE_UNAVAILABLE, -1);
+    }
+  }
+
+  private static class WorkerThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      return new Thread(runnable, "bring-jdk-http-" + threadNumber.incrementAndGet());
+    }
+  }
+}
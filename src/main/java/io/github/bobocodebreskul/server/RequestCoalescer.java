@@ -0,0 +1,138 @@
+package io.github.bobocodebreskul.server;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.server.annotations.Coalesce;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+
+/**
+ * Single-flight execution of {@link Coalesce} controller methods. The first request of a key
+ * becomes the leader: it invokes the controller method and captures the serialized response.
+ * Requests of the same key arriving while the leader is in flight wait for its future instead of
+ * invoking the method. The future is removed from the in-flight map as soon as the leader
+ * completes, so the map holds only requests which are being handled.
+ */
+final class RequestCoalescer {
+
+  private final static Logger log = LoggerFactory.getLogger(RequestCoalescer.class);
+  private static final char SEPARATOR = '\0';
+
+  private final Map<String, CompletableFuture<CapturedResponse>> inFlightRequests =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Build key of the request from the path, the key parameters and {@code Accept} header, which
+   * selects serialization of the response.
+   *
+   * @param path     normalized request path
+   * @param coalesce annotation of the controller method
+   * @param exchange current request/response pair
+   * @return coalescing key
+   */
+  static String getKey(String path, Coalesce coalesce, WebExchange exchange) {
+    StringBuilder key = new StringBuilder(path).append(SEPARATOR);
+    if (coalesce.params().length == 0) {
+      String queryString = exchange.getQueryString();
+      key.append(queryString == null ? "" : queryString);
+    } else {
+      for (String param : coalesce.params()) {
+        key.append(param).append('=').append(exchange.getQueryParameter(param)).append(SEPARATOR);
+      }
+    }
+    return key.append(SEPARATOR).append(exchange.getHeader("accept")).toString();
+  }
+
+  /**
+   * Run the leader of the key or wait for the leader in flight.
+   *
+   * @param key    coalescing key
+   * @param leader invokes the controller method and writes its response into the capture exchange
+   * @return captured response of the leader
+   * @throws Exception thrown by the leader
+   */
+  CapturedResponse execute(String key, Leader leader) throws Exception {
+    CompletableFuture<CapturedResponse> future = new CompletableFuture<>();
+    CompletableFuture<CapturedResponse> inFlight = inFlightRequests.putIfAbsent(key, future);
+    if (inFlight != null) {
+      log.debug("Waiting for the in-flight request of {}", key);
+      return await(inFlight);
+    }
+    try {
+      InMemoryWebExchange capture = new InMemoryWebExchange("GET", "");
+      leader.handle(capture);
+      CapturedResponse response = new CapturedResponse(capture.getStatus(),
+          Map.copyOf(capture.getResponseHeaders()), capture.getResponseBody());
+      future.complete(response);
+      return response;
+    } catch (Throwable e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlightRequests.remove(key, future);
+    }
+  }
+
+  /**
+   * Return number of keys in flight.
+   *
+   * @return number of leaders being handled
+   */
+  int getInFlightCount() {
+    return inFlightRequests.size();
+  }
+
+  private static CapturedResponse await(CompletableFuture<CapturedResponse> inFlight)
+      throws Exception {
+    try {
+      return inFlight.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof Exception cause) {
+        throw cause;
+      }
+      throw (Error) e.getCause();
+    }
+  }
+
+  /**
+   * Handling of the leader request.
+   */
+  @FunctionalInterface
+  interface Leader {
+
+    /**
+     * Invoke the controller method and write its response.
+     *
+     * @param capture exchange capturing the response
+     * @throws Exception thrown by the controller method or response writing
+     */
+    void handle(WebExchange capture) throws Exception;
+  }
+
+  /**
+   * Serialized response shared by coalesced requests.
+   *
+   * @param status  HTTP status code
+   * @param headers response headers by lower case name
+   * @param body    response body, it is not modified after capture
+   */
+  record CapturedResponse(int status, Map<String, String> headers, byte[] body) {
+
+    /**
+     * Write the response into the exchange.
+     *
+     * @param exchange request/response pair of a coalesced request
+     * @throws IOException if the body could not be written
+     */
+    void writeTo(WebExchange exchange) throws IOException {
+      exchange.setStatus(status);
+      headers.forEach(exchange::setHeader);
+      if (body.length > 0) {
+        exchange.getOutputStream().write(body);
+      }
+    }
+  }
+}
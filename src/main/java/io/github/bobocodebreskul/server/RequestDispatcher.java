@@ -0,0 +1,682 @@
+package io.github.bobocodebreskul.server;
+
+import static io.github.bobocodebreskul.server.enums.ResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.github.bobocodebreskul.server.utils.DispatcherValidationUtils.validateRequestMethod;
+
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.context.exception.ResourceNotFoundException;
+import io.github.bobocodebreskul.context.registry.BringContainer;
+import io.github.bobocodebreskul.context.scope.PooledBeanLease;
+import io.github.bobocodebreskul.context.scope.RequestContextHolder;
+import io.github.bobocodebreskul.server.annotations.Coalesce;
+import io.github.bobocodebreskul.server.annotations.RequestBody;
+import io.github.bobocodebreskul.server.annotations.RequestParam;
+import io.github.bobocodebreskul.server.annotations.RequestPart;
+import io.github.bobocodebreskul.server.codec.MessageCodec;
+import io.github.bobocodebreskul.server.codec.MessageCodecRegistry;
+import io.github.bobocodebreskul.server.convert.ConversionService;
+import io.github.bobocodebreskul.server.convert.Converter;
+import io.github.bobocodebreskul.server.exception.BodyReadException;
+import io.github.bobocodebreskul.server.exception.BusinessException;
+import io.github.bobocodebreskul.server.exception.DuplicateErrorHandlerException;
+import io.github.bobocodebreskul.server.exception.HandlerRejectedException;
+import io.github.bobocodebreskul.server.exception.HandlerTimeoutException;
+import io.github.bobocodebreskul.server.exception.RequestsMappingException;
+import io.github.bobocodebreskul.server.exception.WebMethodParameterException;
+import io.github.bobocodebreskul.server.multipart.MultipartConfig;
+import io.github.bobocodebreskul.server.multipart.MultipartFile;
+import io.github.bobocodebreskul.server.multipart.MultipartRequest;
+import io.github.bobocodebreskul.server.resource.StaticResourceConfig;
+import io.github.bobocodebreskul.server.resource.StaticResourceHandler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+
+/**
+ * Dispatches {@link WebExchange} to the controller method mapped to its path and HTTP method.
+ * <p>
+ * The dispatcher does not depend on any server API: controller method arguments are resolved from
+ * the exchange, native request and response objects of the engine are injected when the parameter
+ * type matches them. Exceptions are passed to the error handler controller methods.
+ */
+public class RequestDispatcher {
+
+  private static final Logger log = LoggerFactory.getLogger(RequestDispatcher.class);
+  static final InFlightRequestCounter IN_FLIGHT_REQUESTS = new InFlightRequestCounter();
+  private static final int SC_OK = 200;
+  private static final int SC_NOT_FOUND = 404;
+  private static final int SC_INTERNAL_SERVER_ERROR = 500;
+  private static final int SC_SERVICE_UNAVAILABLE = 503;
+  private static final int SC_GATEWAY_TIMEOUT = 504;
+  private static final String GET = "GET";
+  private static final String ACCEPT_HEADER = "accept";
+  private static final String CONTENT_TYPE_HEADER = "content-type";
+  private static final int MAX_NEGOTIATED_ACCEPT_VALUES = 64;
+  private final HttpRequestMapper httpRequestMapper;
+  private final ErrorHandlerResolver errorHandlerResolver;
+  private final Map<String, Map<String, ControllerMethod>> pathToControllerMethod;
+  private final Map<Method, MethodParameters> methodParameters = new HashMap<>();
+  private final Map<Method, Long> methodTimeouts = new HashMap<>();
+  private final Map<Method, Coalesce> coalescedMethods = new HashMap<>();
+  private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+  private final HandlerTimeoutInvoker handlerTimeoutInvoker = new HandlerTimeoutInvoker();
+  private final Map<Method, Map<String, MessageCodec>> negotiatedCodecs = new HashMap<>();
+  private final MessageCodecRegistry codecs;
+  private final BatchRequestHandler batchRequestHandler;
+  private final StaticResourceHandler staticResourceHandler;
+  private final MultipartConfig multipartConfig = MultipartConfig.fromProperties();
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  /**
+   * Constructs a new instance of {@code RequestDispatcher} with the specified
+   * exception-to-errorController mapping and path-to-controller mapping.
+   *
+   * @param httpRequestMapper                       mapper of requests and responses to
+   *                                                {@link BringRequest} and {@link BringResponse}
+   * @param exceptionToErrorHandlerControllerMethod A mapping of errors to error handler controller
+   *                                                instances.
+   * @param pathToControllerMethod                  A mapping of paths to controller instances.
+   */
+  public RequestDispatcher(HttpRequestMapper httpRequestMapper,
+      Map<Class<?>, ControllerMethod> exceptionToErrorHandlerControllerMethod,
+      Map<String, Map<String, ControllerMethod>> pathToControllerMethod) {
+    this(httpRequestMapper, exceptionToErrorHandlerControllerMethod, pathToControllerMethod,
+        new ConversionService(), new MessageCodecRegistry());
+  }
+
+  /**
+   * Constructs a new instance of {@code RequestDispatcher} with the specified
+   * exception-to-errorController mapping, path-to-controller mapping and conversion service.
+   * Converters of {@link RequestParam} parameters are resolved here once for every controller
+   * method.
+   *
+   * @param httpRequestMapper                       mapper of requests and responses to
+   *                                                {@link BringRequest} and {@link BringResponse}
+   * @param exceptionToErrorHandlerControllerMethod A mapping of errors to error handler controller
+   *                                                instances.
+   * @param pathToControllerMethod                  A mapping of paths to controller instances.
+   * @param conversionService                       converters of request parameter values
+   */
+  public RequestDispatcher(HttpRequestMapper httpRequestMapper,
+      Map<Class<?>, ControllerMethod> exceptionToErrorHandlerControllerMethod,
+      Map<String, Map<String, ControllerMethod>> pathToControllerMethod,
+      ConversionService conversionService) {
+    this(httpRequestMapper, exceptionToErrorHandlerControllerMethod, pathToControllerMethod,
+        conversionService, new MessageCodecRegistry());
+  }
+
+  /**
+   * Constructs a new instance of {@code RequestDispatcher} with the specified
+   * exception-to-errorController mapping, path-to-controller mapping, conversion service and
+   * message codecs. Response codecs are negotiated once per controller method and {@code Accept}
+   * header value.
+   *
+   * @param httpRequestMapper                       mapper of requests and responses to
+   *                                                {@link BringRequest} and {@link BringResponse}
+   * @param exceptionToErrorHandlerControllerMethod A mapping of errors to error handler controller
+   *                                                instances.
+   * @param pathToControllerMethod                  A mapping of paths to controller instances.
+   * @param conversionService                       converters of request parameter values
+   * @param codecs                                  codecs of request and response bodies
+   * @throws WebMethodParameterException if a {@link RequestParam} type has no converter
+   */
+  public RequestDispatcher(HttpRequestMapper httpRequestMapper,
+      Map<Class<?>, ControllerMethod> exceptionToErrorHandlerControllerMethod,
+      Map<String, Map<String, ControllerMethod>> pathToControllerMethod,
+      ConversionService conversionService, MessageCodecRegistry codecs) {
+    this.httpRequestMapper = httpRequestMapper;
+    this.codecs = codecs;
+    this.batchRequestHandler = BatchRequestHandler.isEnabled()
+        ? new BatchRequestHandler(this::dispatchRequest)
+        : null;
+    StaticResourceConfig staticResourceConfig = StaticResourceConfig.fromProperties();
+    this.staticResourceHandler = staticResourceConfig.isEnabled()
+        ? new StaticResourceHandler(staticResourceConfig)
+        : null;
+    this.errorHandlerResolver = new ErrorHandlerResolver(exceptionToErrorHandlerControllerMethod);
+    this.pathToControllerMethod = pathToControllerMethod;
+    pathToControllerMethod.values().stream()
+        .flatMap(controllerMethods -> controllerMethods.values().stream())
+        .map(ControllerMethod::method)
+        .filter(Objects::nonNull)
+        .forEach(method -> {
+          methodParameters.computeIfAbsent(method,
+              controllerMethod -> MethodParameters.resolve(controllerMethod, conversionService));
+          negotiatedCodecs.put(method, new ConcurrentHashMap<>());
+          methodTimeouts.put(method, handlerTimeoutInvoker.getTimeoutNanos(method));
+          Coalesce coalesce = method.getAnnotation(Coalesce.class);
+          if (coalesce != null) {
+            coalescedMethods.put(method, coalesce);
+          }
+        });
+  }
+
+  /**
+   * Create dispatcher for the controllers and error handlers of the container.
+   *
+   * @param container application container
+   * @return request dispatcher
+   * @throws RequestsMappingException if controller methods could not be collected
+   */
+  public static RequestDispatcher create(BringContainer container) {
+    try {
+      return new RequestDispatcher(new HttpRequestMapper(),
+          new WebErrorHandlerControllerScanner(container).getAllWebErrorHandlerControllers(),
+          new WebPathScanner(container).getAllPaths(), ConversionService.create(container),
+          MessageCodecRegistry.create(container));
+    } catch (ReflectiveOperationException e) {
+      throw new RequestsMappingException(
+          "Could not collect controller methods due to %s".formatted(e.getMessage()), e);
+    }
+  }
+
+  /**
+   * Process the exchange: bind request attributes for request scoped and pooled beans, invoke the
+   * controller method and write its result into the response. Batch requests are split into
+   * sub-requests processed the same way, see {@link BatchRequestHandler}.
+   *
+   * @param exchange current request/response pair
+   */
+  public void dispatch(WebExchange exchange) {
+    if (batchRequestHandler != null && batchRequestHandler.matches(exchange)) {
+      IN_FLIGHT_REQUESTS.requestStarted();
+      try {
+        batchRequestHandler.handle(exchange);
+      } finally {
+        IN_FLIGHT_REQUESTS.requestFinished();
+      }
+      return;
+    }
+    dispatchRequest(exchange);
+  }
+
+  private void dispatchRequest(WebExchange exchange) {
+    String pathInfo = exchange.getPath().toLowerCase();
+
+    // Log the start of the request
+    log.info("Start processing request for path: {}", pathInfo);
+
+    // Track in-flight request for graceful shutdown
+    IN_FLIGHT_REQUESTS.requestStarted();
+    // Bind request attributes for request scoped beans and pooled beans lease
+    RequestContextHolder.setRequestAttributes(exchange);
+    boolean leaseOpened = PooledBeanLease.open();
+    try {
+      processRequest(exchange);
+    } finally {
+      if (exchange.getAttribute(MultipartRequest.ATTRIBUTE_NAME)
+          instanceof MultipartRequest multipartRequest) {
+        multipartRequest.close();
+      }
+      if (leaseOpened) {
+        PooledBeanLease.close();
+      }
+      RequestContextHolder.resetRequestAttributes();
+      IN_FLIGHT_REQUESTS.requestFinished();
+      // Log the completion of the request
+      log.info("Finish processing request for path: {}", pathInfo);
+    }
+  }
+
+  private static ControllerMethod getControllerMethod(WebExchange exchange,
+      Map<String, ControllerMethod> controllerMethodMap, String pathInfo) {
+    ControllerMethod controllerMethod = controllerMethodMap.get(exchange.getMethod());
+
+    if (controllerMethod == null) {
+      log.warn("No controller method found for path: {} and HTTP method: {}",
+          pathInfo,
+          exchange.getMethod());
+      throw new ResourceNotFoundException("Page not found!");
+    }
+    return controllerMethod;
+  }
+
+  private static Method getMethod(ControllerMethod controllerMethod) {
+    Method method = controllerMethod.method();
+
+    if (method == null) {
+      log.warn("No method found for controller method: {}", controllerMethod);
+      throw new ResourceNotFoundException("Page not found!");
+    }
+    return method;
+  }
+
+  private static BringResponse<Object> toBringResponse(Object result) {
+    if (result instanceof BringResponse response) {
+      return response;
+    } else {
+      return new BringResponse<>(result, null, INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private static Object resolveRequestArgument(Class<?> type, WebExchange exchange) {
+    if (type == null) {
+      return null;
+    }
+    if (type.isInstance(exchange)) {
+      return exchange;
+    }
+    return type.isInstance(exchange.getNativeRequest()) ? exchange.getNativeRequest() : null;
+  }
+
+  protected void handleError(WebExchange exchange, Throwable ex) {
+    if (ex instanceof BusinessException || ex instanceof ResourceNotFoundException
+        || ex instanceof HandlerTimeoutException || ex instanceof HandlerRejectedException) {
+      log.debug("Request handling failed: {}", ex.getMessage());
+    } else {
+      log.error("Error during request handling", ex);
+    }
+    writeError(exchange, ex, true);
+  }
+
+  private void writeError(WebExchange exchange, Throwable ex, boolean fallbackAllowed) {
+    ErrorHandlerResolver.ErrorHandler errorHandler = errorHandlerResolver.resolve(ex.getClass());
+    try {
+      if (errorHandler == null) {
+        processResponse(exchange, ex);
+      } else {
+        Object result = errorHandler.invoke(ex,
+            resolveRequestArgument(errorHandler.requestType(), exchange));
+        processResponse(exchange, result);
+      }
+    } catch (Exception e) {
+      log.error("Error happened during processing handling exception: {}", ex.getMessage(), e);
+      // the failure is handled once, so a failing handler could not cause endless recursion
+      if (fallbackAllowed) {
+        writeError(exchange, new DuplicateErrorHandlerException(ex), false);
+      }
+    }
+  }
+
+  private void processRequest(WebExchange exchange) {
+    try {
+      String pathInfo = verifyPath(exchange.getPath().toLowerCase());
+
+      // Log debug-level information for request processing details
+      log.debug("Processing request for path: {}", pathInfo);
+
+      // controller routes take precedence over static resources with the same path
+      if (staticResourceHandler != null && !pathToControllerMethod.containsKey(pathInfo)
+          && staticResourceHandler.handle(exchange)) {
+        return;
+      }
+      Map<String, ControllerMethod> controllerMethodMap = getPathControllerMethodMap(pathInfo);
+      ControllerMethod controllerMethod = getControllerMethod(exchange, controllerMethodMap,
+          pathInfo);
+      Method method = getMethod(controllerMethod);
+
+      Coalesce coalesce = coalescedMethods.get(method);
+      if (coalesce != null && GET.equals(exchange.getMethod())) {
+        // identical requests in flight share one invocation and its serialized response
+        requestCoalescer.execute(RequestCoalescer.getKey(pathInfo, coalesce, exchange),
+                capture -> invokeControllerMethod(controllerMethod, method, exchange, capture))
+            .writeTo(exchange);
+      } else {
+        invokeControllerMethod(controllerMethod, method, exchange, exchange);
+      }
+    } catch (Exception ex) {
+      handleError(exchange, ex instanceof InvocationTargetException itex
+          ? itex.getTargetException()
+          : ex);
+    }
+  }
+
+  private void invokeControllerMethod(ControllerMethod controllerMethod, Method method,
+      WebExchange exchange, WebExchange responseExchange) throws Exception {
+    long timeoutNanos = methodTimeouts.get(method);
+    CancellationToken token = timeoutNanos == 0
+        ? CancellationToken.NONE
+        : new CancellationToken(timeoutNanos);
+    // handlers with timeout see a view of the exchange which is detached when the request fails
+    DetachableWebExchange handlerExchange = timeoutNanos == 0
+        ? null
+        : new DetachableWebExchange(exchange);
+    MethodParameters parameters = methodParameters.get(method);
+    Object[] args = new Object[parameters.parameters().length];
+    for (int i = 0; i < args.length; i++) {
+      args[i] = prepareMethodParameter(parameters, i,
+          handlerExchange == null ? exchange : handlerExchange, token);
+    }
+
+    Object result = handlerExchange == null
+        ? method.invoke(controllerMethod.controller(), args)
+        : handlerTimeoutInvoker.invoke(() -> method.invoke(controllerMethod.controller(), args),
+            handlerExchange, token);
+    MessageCodec codec = negotiateCodec(method, exchange.getHeader(ACCEPT_HEADER));
+    if (result instanceof BringResponse<?> bringResponse) {
+      httpRequestMapper.writeBringResponse(responseExchange, bringResponse, codec);
+    } else {
+      writeRawResult(responseExchange, method, result, codec);
+    }
+  }
+
+  private MessageCodec negotiateCodec(Method method, String accept) {
+    if (accept == null) {
+      return codecs.getDefaultCodec();
+    }
+    Map<String, MessageCodec> routeCodecs = negotiatedCodecs.get(method);
+    MessageCodec codec = routeCodecs.get(accept);
+    if (codec == null) {
+      codec = codecs.negotiate(accept);
+      // Accept header is client controlled, so the number of cached values is limited
+      if (routeCodecs.size() < MAX_NEGOTIATED_ACCEPT_VALUES) {
+        routeCodecs.put(accept, codec);
+      }
+    }
+    return codec;
+  }
+
+  private void writeRawResult(WebExchange exchange, Method method, Object result,
+      MessageCodec codec) throws IOException {
+    exchange.setStatus(SC_OK);
+    if (codec != codecs.getDefaultCodec()) {
+      if (result != null) {
+        exchange.setHeader(HttpRequestMapper.CONTENT_TYPE_KEY, codec.getContentType(result));
+        codec.write(result, exchange.getOutputStream());
+      }
+      return;
+    }
+    try (PrintWriter writer = getWriter(exchange)) {
+      if (!method.getReturnType().equals(Void.class)) {
+        writer.println(mapper.writeValueAsString(result));
+      }
+      writer.flush();
+    }
+  }
+
+  private Map<String, ControllerMethod> getPathControllerMethodMap(String pathInfo) {
+    Map<String, ControllerMethod> controllerMethodMap = pathToControllerMethod.get(pathInfo);
+
+    if (controllerMethodMap == null) {
+      log.warn("No controller methods found for path: {}", pathInfo);
+      throw new ResourceNotFoundException("Page not found!");
+    }
+    return controllerMethodMap;
+  }
+
+  private void processResponse(WebExchange exchange, Throwable ex) throws IOException {
+    if (ex instanceof ResourceNotFoundException) {
+      exchange.setStatus(SC_NOT_FOUND);
+    } else if (ex instanceof HandlerTimeoutException) {
+      exchange.setStatus(SC_GATEWAY_TIMEOUT);
+    } else if (ex instanceof HandlerRejectedException) {
+      exchange.setStatus(SC_SERVICE_UNAVAILABLE);
+    } else {
+      exchange.setStatus(SC_INTERNAL_SERVER_ERROR);
+    }
+    try (PrintWriter writer = getWriter(exchange)) {
+      writer.println(mapper.writeValueAsString(ex.getMessage()));
+      writer.flush();
+    }
+  }
+
+  private void processResponse(WebExchange exchange, Object result) throws IOException {
+    BringResponse<Object> bringResponse = toBringResponse(result);
+
+    String outputResult = mapper.writeValueAsString(bringResponse.getBody());
+    int statusCode = bringResponse.getStatus().getStatusCode();
+    Map<String, String> allHeaders = bringResponse.getAllHeaders();
+
+    exchange.setStatus(statusCode);
+    for (Map.Entry<String, String> entry : allHeaders.entrySet()) {
+      exchange.addHeader(entry.getKey(), entry.getValue());
+    }
+
+    try (PrintWriter writer = getWriter(exchange)) {
+      if (Objects.nonNull(result)) {
+        writer.println(outputResult);
+        writer.flush();
+      }
+    }
+  }
+
+  private static PrintWriter getWriter(WebExchange exchange) throws IOException {
+    return new PrintWriter(new OutputStreamWriter(exchange.getOutputStream(),
+        StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Prepare the method parameter. It is get parameter and try to find object which we can inject
+   * here mainly it our request and response, but also possible add request body
+   *
+   * @param parameter The method parameter to be processed.
+   * @param exchange  The current request/response pair.
+   * @return The prepared parameter instance.
+   * @throws WebMethodParameterException If an error occurs during processing.
+   */
+  private Object prepareMethodParameter(MethodParameters parameters, int index,
+      WebExchange exchange, CancellationToken token) {
+    Parameter parameter = parameters.parameters()[index];
+    try {
+      log.debug("Processing method parameter: {}", parameter.getName());
+
+      if (WebExchange.class.isAssignableFrom(parameter.getType())
+          && parameter.getType().isInstance(exchange)) {
+        return exchange;
+      }
+
+      if (isNativeObject(parameter, exchange.getNativeRequest())) {
+        return exchange.getNativeRequest();
+      }
+
+      if (isNativeObject(parameter, exchange.getNativeResponse())) {
+        return exchange.getNativeResponse();
+      }
+
+      if (parameter.getType() == CancellationToken.class) {
+        return token;
+      }
+
+      if (isBringRequest(parameter)) {
+        return composeBringRequest(parameter, exchange);
+      }
+
+      String requestParamName = parameters.requestParamNames()[index];
+      if (requestParamName != null) {
+        return getRequestParam(parameter, requestParamName, parameters.converters()[index],
+            parameters.formParams()[index], exchange);
+      }
+
+      RequestPart requestPart = parameter.getAnnotation(RequestPart.class);
+      if (requestPart != null) {
+        return getRequestPart(parameter, requestPart.value(), exchange);
+      }
+
+      if (parameter.getType() == MultipartRequest.class) {
+        return getMultipartRequest(exchange);
+      }
+
+      if (parameter.isAnnotationPresent(RequestBody.class)) {
+        validateRequestMethod(exchange.getMethod());
+        return getBodyFromRequest(parameter.getType(), exchange);
+      }
+
+      throw new WebMethodParameterException("Unsupported parameter type: " + parameter.getType());
+
+    } catch (Exception e) {
+      // logged once with the stack trace by handleError
+      log.debug("Error processing '{}' method parameter with type '{}': {}", parameter.getName(),
+          parameter.getType(), e.getMessage());
+      throw new WebMethodParameterException(
+          "Error processing '%s' method parameter with type '%s', due to %s".formatted(
+              parameter.getName(),
+              parameter.getType(), e.getMessage()), e);
+    }
+  }
+
+  private boolean isNativeObject(Parameter parameter, Object nativeObject) {
+    return parameter.getType() != Object.class && parameter.getType().isInstance(nativeObject);
+  }
+
+  private boolean isBringRequest(Parameter parameter) {
+    return BringRequest.class.isAssignableFrom(parameter.getType());
+  }
+
+  private BringRequest<?> composeBringRequest(Parameter parameter, WebExchange exchange) {
+    Type parameterType = parameter.getParameterizedType();
+    // Check if it's a parameterized type
+    if (parameterType instanceof ParameterizedType parameterizedType) {
+      // Get the actual type arguments
+      Type[] typeArguments = parameterizedType.getActualTypeArguments();
+
+      // Assuming there's only one type argument
+      if (typeArguments.length == 1) {
+        // Get the class of the type argument
+        Class<?> genericClass = (Class<?>) typeArguments[0];
+        return httpRequestMapper.mapRequestOnBringRequestEntity(exchange, genericClass, codecs);
+      } else {
+        log.debug("Invalid number of parameterized types found for BringRequest. Expected 1, "
+            + "found {}", typeArguments.length);
+        throw new WebMethodParameterException(("BringRequest parameter should have only 1 "
+            + "parameterized type, found %d").formatted(typeArguments.length));
+      }
+    }
+    log.debug("BringRequest type could not be casted to parameterized type, type {}",
+        parameterType);
+    throw new WebMethodParameterException(("Could not extract parameterized type from BringRequest "
+        + "object, type - '%s'").formatted(parameterType));
+  }
+
+  /**
+   * Retrieves the request body for the given type.
+   *
+   * @param bodyType The type of the expected request body.
+   * @param exchange The current request/response pair.
+   * @return The request body object.
+   * @throws WebMethodParameterException If an error occurs while retrieving or parsing the request
+   *                                     body.
+   */
+  private Object getBodyFromRequest(Class<?> bodyType, WebExchange exchange) {
+    // bodies without known content type are read as JSON
+    MessageCodec codec = codecs.findReader(exchange.getHeader(CONTENT_TYPE_HEADER))
+        .orElse(codecs.getDefaultCodec());
+    try {
+      log.debug("Retrieving request body for type: {}", bodyType.getSimpleName());
+
+      return codec.read(exchange.getInputStream(), bodyType);
+
+    } catch (DatabindException e) {
+      log.debug("Cannot map body to object due too incorrect data inside expected {} but was {}",
+          codec.getMediaTypes().get(0), e.getOriginalMessage());
+      throw new WebMethodParameterException(
+          "Cannot map body to object due too incorrect data inside expected %s but was %s"
+              .formatted(codec.getMediaTypes().get(0), e.getOriginalMessage()), e);
+    } catch (IOException e) {
+      log.debug("Error reading request body from request: {}", e.getMessage());
+      throw new WebMethodParameterException("Error reading request body from request", e);
+    }
+  }
+
+  private Object getRequestPart(Parameter parameter, String partName, WebExchange exchange)
+      throws IOException {
+    log.debug("Retrieving request part with name: {}", partName);
+    MultipartFile part = getMultipartRequest(exchange).getPart(partName);
+    if (part == null) {
+      log.warn("Cannot find request part [{}] in request", partName);
+      return null;
+    }
+    Class<?> type = parameter.getType();
+    if (type == MultipartFile.class) {
+      return part;
+    }
+    if (type == InputStream.class) {
+      return part.getInputStream();
+    }
+    if (type == Path.class) {
+      return part.getPath();
+    }
+    if (type == byte[].class) {
+      return part.getBytes();
+    }
+    if (type == String.class) {
+      return part.getString();
+    }
+    throw new WebMethodParameterException(("Unsupported request part type [%s]. Supported types "
+        + "are MultipartFile, InputStream, Path, byte[] and String").formatted(type));
+  }
+
+  private MultipartRequest getMultipartRequest(WebExchange exchange) throws IOException {
+    if (exchange.getAttribute(MultipartRequest.ATTRIBUTE_NAME)
+        instanceof MultipartRequest multipartRequest) {
+      return multipartRequest;
+    }
+    String contentType = exchange.getHeader(CONTENT_TYPE_HEADER);
+    if (!MultipartRequest.isMultipart(contentType)) {
+      throw new BodyReadException(("Request parts could be read only from multipart/form-data "
+          + "request, incoming 'content-type'='%s'").formatted(contentType));
+    }
+    MultipartRequest multipartRequest = MultipartRequest.parse(exchange.getInputStream(),
+        contentType, multipartConfig);
+    exchange.setAttribute(MultipartRequest.ATTRIBUTE_NAME, multipartRequest);
+    return multipartRequest;
+  }
+
+  private String verifyPath(String path) {
+    while (path.endsWith("/")) {
+      path = path.substring(0, path.length() - 1);
+    }
+    return path;
+  }
+
+  private Object getRequestParam(Parameter parameter, String requestParamName,
+      Converter<?> converter, boolean form, WebExchange exchange) {
+    log.debug("Retrieving request parameter with name: {}", requestParamName);
+    String value = form
+        ? exchange.getParameter(requestParamName)
+        : exchange.getQueryParameter(requestParamName);
+    if (value == null) {
+      log.warn("Cannot find request parameter [{}] in request", requestParamName);
+      return null;
+    }
+    return converter.convert(value);
+  }
+
+  /**
+   * Parameters of controller method with names and converters of its {@link RequestParam}
+   * parameters, resolved once when routes are built.
+   *
+   * @param parameters        method parameters
+   * @param requestParamNames request parameter names, {@code null} for other parameters
+   * @param converters        request parameter converters, {@code null} for other parameters
+   * @param formParams        whether request parameter could be sent in the form body
+   */
+  private record MethodParameters(Parameter[] parameters, String[] requestParamNames,
+                                  Converter<?>[] converters, boolean[] formParams) {
+
+    private static MethodParameters resolve(Method method, ConversionService conversionService) {
+      Parameter[] parameters = method.getParameters();
+      String[] requestParamNames = new String[parameters.length];
+      Converter<?>[] converters = new Converter<?>[parameters.length];
+      boolean[] formParams = new boolean[parameters.length];
+      for (int i = 0; i < parameters.length; i++) {
+        Parameter parameter = parameters[i];
+        RequestParam requestParam = parameter.getAnnotation(RequestParam.class);
+        if (requestParam != null) {
+          requestParamNames[i] = requestParam.value();
+          formParams[i] = requestParam.form();
+          converters[i] = conversionService.findConverter(parameter.getType(),
+                  parameter.getParameterizedType())
+              .orElseThrow(() -> new WebMethodParameterException(
+                  "No converter found for request parameter [%s] of type [%s] in method [%s]"
+                      .formatted(requestParam.value(), parameter.getType().getName(), method)));
+        }
+      }
+      return new MethodParameters(parameters, requestParamNames, converters, formParams);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package io.github.bobocodebreskul.server;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lazy, case-insensitive view over headers and cookies of the request of {@link WebExchange}.
+ * <p>
+ * Nothing is copied on construction: header values are read from the engine request on access,
+ * header names and cookies are parsed on the first access and cached. The view is valid only while
+ * the request is processed, because engines recycle native requests afterwards.
+ */
+final class RequestHeaders {
+
+  private static final String COOKIE_HEADER = "cookie";
+
+  private final WebExchange exchange;
+  private Set<String> names;
+  private Map<String, String> cookies;
+
+  RequestHeaders(WebExchange exchange) {
+    this.exchange = exchange;
+  }
+
+  /**
+   * Return the first value of the header.
+   *
+   * @param name case-insensitive header name
+   * @return header value or {@code null} if it is absent
+   */
+  String getFirst(String name) {
+    return exchange.getHeader(name);
+  }
+
+  /**
+   * Return all values of the header.
+   *
+   * @param name case-insensitive header name
+   * @return header values, empty if the header is absent
+   */
+  List<String> getAll(String name) {
+    return exchange.getHeaderValues(name);
+  }
+
+  /**
+   * Return lower case header names.
+   *
+   * @return unmodifiable set of header names
+   */
+  Set<String> names() {
+    if (names == null) {
+      Set<String> headerNames = new LinkedHashSet<>();
+      for (String name : exchange.getHeaderNames()) {
+        headerNames.add(name.toLowerCase());
+      }
+      names = Collections.unmodifiableSet(headerNames);
+    }
+    return names;
+  }
+
+  /**
+   * Return cookie value parsed from the {@code Cookie} request headers.
+   *
+   * @param name case-insensitive cookie name
+   * @return cookie value or {@code null} if it is absent
+   */
+  String getCookie(String name) {
+    if (cookies == null) {
+      cookies = parseCookies(getAll(COOKIE_HEADER));
+    }
+    return cookies.get(name.toLowerCase());
+  }
+
+  /**
+   * Copy the first value of every header.
+   *
+   * @return header values by lower case header name
+   */
+  Map<String, String> copyFirstValues() {
+    Map<String, String> headers = new HashMap<>();
+    for (String name : names()) {
+      headers.put(name, getFirst(name));
+    }
+    return headers;
+  }
+
+  /**
+   * Copy cookies of the request.
+   *
+   * @return cookie values by lower case cookie name
+   */
+  Map<String, String> copyCookies() {
+    if (cookies == null) {
+      cookies = parseCookies(getAll(COOKIE_HEADER));
+    }
+    return new HashMap<>(cookies);
+  }
+
+  private static Map<String, String> parseCookies(List<String> cookieHeaders) {
+    if (cookieHeaders.isEmpty()) {
+      return Map.of();
+    }
+    Map<String, String> parsedCookies = new HashMap<>();
+    for (String cookieHeader : cookieHeaders) {
+      int start = 0;
+      while (start < cookieHeader.length()) {
+        int end = cookieHeader.indexOf(';', start);
+        if (end == -1) {
+          end = cookieHeader.length();
+        }
+        int separator = cookieHeader.indexOf('=', start);
+        if (separator != -1 && separator < end) {
+          String name = cookieHeader.substring(start, separator).trim();
+          if (!name.isEmpty()) {
+            parsedCookies.putIfAbsent(name.toLowerCase(),
+                cookieHeader.substring(separator + 1, end).trim());
+          }
+        }
+        start = end + 1;
+      }
+    }
+    return parsedCookies;
+  }
+}
@@ -0,0 +1,111 @@
+package io.github.bobocodebreskul.server;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link WebExchange} backed by Servlet API request and response.
+ *
+ * @param request  servlet request
+ * @param response servlet response
+ */
+public record ServletWebExchange(HttpServletRequest request, HttpServletResponse response)
+    implements WebExchange {
+
+  @Override
+  public String getMethod() {
+    return request.getMethod();
+  }
+
+  @Override
+  public String getRequestUri() {
+    return request.getRequestURI();
+  }
+
+  @Override
+  public String getPath() {
+    return request.getPathInfo();
+  }
+
+  @Override
+  public String getParameter(String name) {
+    return request.getParameter(name);
+  }
+
+  @Override
+  public String getQueryString() {
+    return request.getQueryString();
+  }
+
+  @Override
+  public String getHeader(String name) {
+    return request.getHeader(name);
+  }
+
+  @Override
+  public List<String> getHeaderValues(String name) {
+    return Collections.list(request.getHeaders(name));
+  }
+
+  @Override
+  public Collection<String> getHeaderNames() {
+    return Collections.list(request.getHeaderNames());
+  }
+
+  @Override
+  public InputStream getInputStream() throws IOException {
+    return request.getInputStream();
+  }
+
+  @Override
+  public BufferedReader getReader() throws IOException {
+    return request.getReader();
+  }
+
+  @Override
+  public void setStatus(int status) {
+    response.setStatus(status);
+  }
+
+  @Override
+  public void setHeader(String name, String value) {
+    response.setHeader(name, value);
+  }
+
+  @Override
+  public void addHeader(String name, String value) {
+    response.addHeader(name, value);
+  }
+
+  @Override
+  public OutputStream getOutputStream() throws IOException {
+    return response.getOutputStream();
+  }
+
+  @Override
+  public Object getNativeRequest() {
+    return request;
+  }
+
+  @Override
+  public Object getNativeResponse() {
+    return response;
+  }
+
+  @Override
+  public Object getAttribute(String name) {
+    return request.getAttribute(name);
+  }
+
+  @Override
+  public void setAttribute(String name, Object value) {
+    request.setAttribute(name, value);
+  }
+}
@@ -0,0 +1,83 @@
+package io.github.bobocodebreskul.server;
+
+import io.github.bobocodebreskul.config.ConfigurationSnapshot;
+import io.github.bobocodebreskul.context.exception.PropertyNotFoundException;
+import java.util.Objects;
+import org.apache.catalina.connector.Connector;
+import org.apache.tomcat.util.net.SSLHostConfig;
+import org.apache.tomcat.util.net.SSLHostConfigCertificate;
+import org.apache.tomcat.util.net.SSLHostConfigCertificate.Type;
+
+/**
+ * TLS settings of the embedded Tomcat connector read from the application configuration.
+ * Supported properties:
+ * <ul>
+ * <li>{@code server.ssl.enabled} - {@code false} by default</li>
+ * <li>{@code server.ssl.key-store} - key store file path or URL, required when TLS is enabled</li>
+ * <li>{@code server.ssl.key-store-password}</li>
+ * <li>{@code server.ssl.key-store-type} - for example {@code PKCS12} or {@code JKS}</li>
+ * <li>{@code server.ssl.key-alias} - alias of the server key in the key store</li>
+ * </ul>
+ *
+ * @param enabled          whether TLS is enabled
+ * @param keyStore         key store file path or URL
+ * @param keyStorePassword key store password
+ * @param keyStoreType     key store type
+ * @param keyAlias         alias of the server key
+ */
+public record SslProperties(boolean enabled, String keyStore, String keyStorePassword,
+                            String keyStoreType, String keyAlias) {
+
+  private static final String PREFIX = "server.ssl.";
+
+  /**
+   * Read TLS settings from the configuration.
+   *
+   * @param configuration application configuration
+   * @return TLS settings
+   * @throws PropertyNotFoundException if TLS is enabled and the key store is not configured
+   */
+  public static SslProperties from(ConfigurationSnapshot configuration) {
+    Objects.requireNonNull(configuration, "The configuration parameter cannot be null!");
+    boolean enabled = Boolean.TRUE.equals(configuration.get(PREFIX + "enabled", Boolean.class));
+    String keyStore = configuration.get(PREFIX + "key-store");
+    if (enabled && keyStore == null) {
+      throw new PropertyNotFoundException(
+          "The property with name \"%skey-store\" is not found!".formatted(PREFIX));
+    }
+    return new SslProperties(enabled, keyStore, configuration.get(PREFIX + "key-store-password"),
+        configuration.get(PREFIX + "key-store-type"), configuration.get(PREFIX + "key-alias"));
+  }
+
+  /**
+   * Enable TLS on the connector with these settings.
+   *
+   * @param connector connector to configure
+   */
+  public void configure(Connector connector) {
+    SSLHostConfig sslHostConfig = new SSLHostConfig();
+    SSLHostConfigCertificate certificate = new SSLHostConfigCertificate(sslHostConfig,
+        Type.UNDEFINED);
+    certificate.setCertificateKeystoreFile(keyStore);
+    if (keyStorePassword != null) {
+      certificate.setCertificateKeystorePassword(keyStorePassword);
+    }
+    if (keyStoreType != null) {
+      certificate.setCertificateKeystoreType(keyStoreType);
+    }
+    if (keyAlias != null) {
+      certificate.setCertificateKeyAlias(keyAlias);
+    }
+    sslHostConfig.addCertificate(certificate);
+    connector.addSslHostConfig(sslHostConfig);
+    connector.setScheme("https");
+    connector.setSecure(true);
+    connector.setProperty("SSLEnabled", "true");
+  }
+
+  @Override
+  public String toString() {
+    return "SslProperties[enabled=%s, keyStore=%s, keyStoreType=%s, keyAlias=%s]"
+        .formatted(enabled, keyStore, keyStoreType, keyAlias);
+  }
+}
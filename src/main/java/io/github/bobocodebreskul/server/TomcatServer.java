@@ -1,17 +1,27 @@
 package io.github.bobocodebreskul.server;
 
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getConfiguration;
 import static io.github.bobocodebreskul.config.PropertiesConfiguration.getPropertyAsIntOrDefault;
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getPropertyOrDefault;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
 import io.github.bobocodebreskul.context.registry.BringContainer;
+import io.github.bobocodebreskul.server.codec.MessageCodecRegistry;
+import io.github.bobocodebreskul.server.convert.ConversionService;
+import io.github.bobocodebreskul.server.enums.ServerMode;
 import java.net.URL;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.catalina.Context;
 import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.core.StandardContext;
 import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.scan.StandardJarScanner;
 import org.slf4j.Logger;
 
 /**
@@ -19,7 +29,8 @@ import org.slf4j.Logger;
  * <p>
  * This class provides a convenient way to start an embedded Tomcat server with a specified
  * {@link BringContainer}. It configures the server with default settings, such as host, port,
- * context path, and document base.
+ * context path, and document base. Connector settings are read from the application configuration,
+ * see {@link ConnectorProperties}.
  */
 public class TomcatServer {
 
@@ -32,10 +43,25 @@ public class TomcatServer {
    * be used.
    */
   private static final int PORT = getPropertyAsIntOrDefault("server.port", 8080);
+  /**
+   * The SHUTDOWN_TIMEOUT field stores the time in milliseconds graceful shutdown waits for
+   * in-flight requests to finish. It is set by the "server.shutdown.timeout" property, the default
+   * is 30 seconds.
+   */
+  private static final int SHUTDOWN_TIMEOUT = getPropertyAsIntOrDefault("server.shutdown.timeout",
+      30_000);
+  /**
+   * The MODE field stores the embedded context setup. It is set by the "server.mode" property:
+   * "webapp" (default) or "lightweight".
+   */
+  private static final ServerMode MODE = getServerMode();
   private static final String DEFAULT_CONTEXT_PATH = "/";
   private static final String DOC_BASE = ".";
   private static final ExecutorService executor = Executors.newFixedThreadPool(1);
+  private static final AtomicBoolean shutdownHookRegistered = new AtomicBoolean();
+  private static final AtomicBoolean running = new AtomicBoolean();
   private static Tomcat tomcat;
+  private static BringContainer applicationContainer;
 
   /**
    * Starts an embedded Tomcat server with the specified {@link BringContainer}.
@@ -52,14 +78,29 @@ public class TomcatServer {
     tomcat = new Tomcat();
     tomcat.setHostname(DEFAULT_HOST);
     tomcat.getHost().setAppBase(DOC_BASE);
-    tomcat.setPort(PORT);
-    tomcat.getConnector();
+    ConnectorProperties connectorProperties = ConnectorProperties.from(getConfiguration());
+    if (connectorProperties.tcpEnabled()) {
+      tomcat.setConnector(connectorProperties.createConnector(PORT));
+    }
+    if (connectorProperties.unixSocketPath() != null) {
+      tomcat.getService().addConnector(connectorProperties.createUnixSocketConnector());
+    }
     setContext(tomcat, container);
+    applicationContainer = container;
+    running.set(true);
+    registerShutdownHook();
 
     executor.submit(() -> {
       try {
         tomcat.start();
-        log.info("Tomcat server started successfully at port %s.".formatted(PORT));
+        if (connectorProperties.tcpEnabled()) {
+          log.info("Tomcat server started successfully at %s:%s.".formatted(
+              connectorProperties.address(), PORT));
+        }
+        if (connectorProperties.unixSocketPath() != null) {
+          log.info("Tomcat server listens on Unix domain socket %s.".formatted(
+              connectorProperties.unixSocketPath()));
+        }
       } catch (Exception exception) {
         log.error("Error while starting Tomcat server", exception);
         log.info("Shutting down the application due to Tomcat server failure.");
@@ -71,14 +112,42 @@ public class TomcatServer {
   }
 
   /**
-   * Stops the embedded Tomcat server and releases associated resources.
+   * Gracefully stops the embedded Tomcat server and releases associated resources.
+   * <p>
+   * The connector stops accepting new connections first, then in-flight requests are given up to
+   * "server.shutdown.timeout" milliseconds to finish. After that the server is stopped and singleton
+   * beans of the container are destroyed. Subsequent calls do nothing until the server is started
+   * again.
    */
   public static void stop() {
+    if (!running.compareAndSet(true, false)) {
+      return;
+    }
+    log.info("Tomcat server is shutting down gracefully...");
+    for (Connector connector : tomcat.getService().findConnectors()) {
+      connector.pause();
+    }
+    if (RequestDispatcher.IN_FLIGHT_REQUESTS.awaitDrained(SHUTDOWN_TIMEOUT)) {
+      log.info("All in-flight requests completed.");
+    } else {
+      log.warn("Shutdown timeout of {} ms elapsed, stop server with {} in-flight requests.",
+          SHUTDOWN_TIMEOUT, RequestDispatcher.IN_FLIGHT_REQUESTS.getInFlightRequests());
+    }
     try {
       tomcat.stop();
       tomcat.destroy();
     } catch (LifecycleException e) {
       throw new RuntimeException("Error stopping Tomcat server", e);
+    } finally {
+      applicationContainer.close();
+    }
+    log.info("Tomcat server stopped.");
+  }
+
+  private static void registerShutdownHook() {
+    if (shutdownHookRegistered.compareAndSet(false, true)) {
+      Runtime.getRuntime().addShutdownHook(new Thread(TomcatServer::stop, "bring-shutdown"));
+      log.debug("Graceful shutdown hook registered.");
     }
   }
 
@@ -112,19 +181,47 @@ public class TomcatServer {
    * Configures the Tomcat server with the specified {@link BringContainer}.
    * <p>
    * It adds a servlet container initializer ({@link WebContainerInitializer}) to initialize the web
-   * context.
+   * context. In {@link ServerMode#LIGHTWEIGHT} mode a plain context without default web.xml,
+   * default and JSP servlets and with disabled jar scanning is used.
    *
    * @param tomcat    The Tomcat server instance.
    * @param container The BringContainer containing the configuration for the web application.
    */
   private static void setContext(Tomcat tomcat, BringContainer container) {
-    Context context = tomcat.addWebapp(DEFAULT_CONTEXT_PATH, DOC_BASE);
+    Context context = MODE == ServerMode.LIGHTWEIGHT
+        ? createLightweightContext(tomcat)
+        : tomcat.addWebapp(DEFAULT_CONTEXT_PATH, DOC_BASE);
     context.addServletContainerInitializer(
         new WebContainerInitializer(
             new WebErrorHandlerControllerScanner(container),
-            new WebPathScanner(container)),
+            new WebPathScanner(container),
+            ConversionService.create(container),
+            MessageCodecRegistry.create(container)),
         null);
-    log.info("Tomcat context set.");
+    log.info("Tomcat context set in {} mode.", MODE);
+  }
+
+  private static Context createLightweightContext(Tomcat tomcat) {
+    // no document base: lightweight context serves only dispatcher servlet mappings
+    Context context = tomcat.addContext(DEFAULT_CONTEXT_PATH, null);
+    StandardJarScanner jarScanner = new StandardJarScanner();
+    jarScanner.setScanClassPath(false);
+    jarScanner.setScanManifest(false);
+    jarScanner.setScanBootstrapClassPath(false);
+    context.setJarScanner(jarScanner);
+    context.setXmlValidation(false);
+    ((StandardContext) context).setUseNaming(false);
+    return context;
+  }
+
+  private static ServerMode getServerMode() {
+    String mode = getPropertyOrDefault("server.mode", ServerMode.WEBAPP.name());
+    try {
+      return ServerMode.getByName(mode);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidPropertyValueException(
+          "\"server.mode\" property value must be one of webapp, lightweight!", e);
+    }
   }
 
   private static void disableTomcatLogs() {
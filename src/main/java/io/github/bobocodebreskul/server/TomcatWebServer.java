@@ -0,0 +1,29 @@
+package io.github.bobocodebreskul.server;
+
+import io.github.bobocodebreskul.context.registry.BringContainer;
+
+/**
+ * Default {@link WebServer} engine backed by the embedded Tomcat, see {@link TomcatServer}.
+ */
+public class TomcatWebServer implements WebServer {
+
+  @Override
+  public String getName() {
+    return WebServerFactory.DEFAULT_ENGINE;
+  }
+
+  @Override
+  public void start(BringContainer container) {
+    TomcatServer.run(container);
+  }
+
+  @Override
+  public void stop() {
+    TomcatServer.stop();
+  }
+
+  @Override
+  public String getStatus() {
+    return TomcatServer.getStatus();
+  }
+}
@@ -2,6 +2,8 @@ package io.github.bobocodebreskul.server;
 
 import io.github.bobocodebreskul.config.LoggerFactory;
 import io.github.bobocodebreskul.context.registry.BringContainer;
+import io.github.bobocodebreskul.server.codec.MessageCodecRegistry;
+import io.github.bobocodebreskul.server.convert.ConversionService;
 import jakarta.servlet.ServletContainerInitializer;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletException;
@@ -25,6 +27,8 @@ public class WebContainerInitializer implements ServletContainerInitializer {
   private final static Logger log = LoggerFactory.getLogger(WebContainerInitializer.class);
   private final WebErrorHandlerControllerScanner webErrorHandlerControllerScanner;
   private final WebPathScanner webPathScanner;
+  private final ConversionService conversionService;
+  private final MessageCodecRegistry codecs;
 
   /**
    * Constructs a new instance of {@code WebContainerInitializer} with the specified
@@ -36,8 +40,41 @@ public class WebContainerInitializer implements ServletContainerInitializer {
    */
   public WebContainerInitializer(WebErrorHandlerControllerScanner webErrorHandlerControllerScanner,
       WebPathScanner webPathScanner) {
+    this(webErrorHandlerControllerScanner, webPathScanner, new ConversionService());
+  }
+
+  /**
+   * Constructs a new instance of {@code WebContainerInitializer} with the specified
+   * webPathScanner and conversion service.
+   *
+   * @param webErrorHandlerControllerScanner The webErrorHandlerControllerScanner is used for
+   *                                         retrieving error handlers
+   * @param webPathScanner                   The webPathScanner is used for retrieving paths.
+   * @param conversionService                The conversionService converts request parameters.
+   */
+  public WebContainerInitializer(WebErrorHandlerControllerScanner webErrorHandlerControllerScanner,
+      WebPathScanner webPathScanner, ConversionService conversionService) {
+    this(webErrorHandlerControllerScanner, webPathScanner, conversionService,
+        new MessageCodecRegistry());
+  }
+
+  /**
+   * Constructs a new instance of {@code WebContainerInitializer} with the specified
+   * webPathScanner, conversion service and message codecs.
+   *
+   * @param webErrorHandlerControllerScanner The webErrorHandlerControllerScanner is used for
+   *                                         retrieving error handlers
+   * @param webPathScanner                   The webPathScanner is used for retrieving paths.
+   * @param conversionService                The conversionService converts request parameters.
+   * @param codecs                           The codecs read request and write response bodies.
+   */
+  public WebContainerInitializer(WebErrorHandlerControllerScanner webErrorHandlerControllerScanner,
+      WebPathScanner webPathScanner, ConversionService conversionService,
+      MessageCodecRegistry codecs) {
     this.webErrorHandlerControllerScanner = webErrorHandlerControllerScanner;
     this.webPathScanner = webPathScanner;
+    this.conversionService = conversionService;
+    this.codecs = codecs;
   }
 
   /**
@@ -57,7 +94,9 @@ public class WebContainerInitializer implements ServletContainerInitializer {
               new DispatcherServlet(
                   new HttpRequestMapper(),
                   webErrorHandlerControllerScanner.getAllWebErrorHandlerControllers(),
-                  webPathScanner.getAllPaths()))
+                  webPathScanner.getAllPaths(),
+                  conversionService,
+                  codecs))
           .addMapping("/*");
       log.info("DispatcherServlet registered and mapped to '/*'.");
     } catch (InvocationTargetException | NoSuchMethodException | IllegalAccessException ex) {
@@ -3,6 +3,7 @@ package io.github.bobocodebreskul.server;
 import io.github.bobocodebreskul.config.LoggerFactory;
 import io.github.bobocodebreskul.context.exception.MethodValidationException;
 import io.github.bobocodebreskul.context.registry.BringContainer;
+import io.github.bobocodebreskul.context.support.AnnotationMetadataCache;
 import io.github.bobocodebreskul.server.annotations.ErrorHandlerController;
 import io.github.bobocodebreskul.server.annotations.ExceptionHandler;
 import io.github.bobocodebreskul.server.exception.DuplicateErrorHandlerException;
@@ -48,7 +49,7 @@ public class WebErrorHandlerControllerScanner {
     log.debug("Retrieved [{}] error handler controller beans", controllerBeans.size());
 
     for (Object controller : controllerBeans) {
-      for (Method method : controller.getClass().getMethods()) {
+      for (Method method : AnnotationMetadataCache.getMethods(controller.getClass())) {
         if (method.isAnnotationPresent(ExceptionHandler.class)) {
           Class<?>[] methodParameterTypes = method.getParameterTypes();
 
@@ -105,7 +106,8 @@ public class WebErrorHandlerControllerScanner {
 
     if (methodParameterTypes.length == 2 &&
         Arrays.stream(methodParameterTypes)
-            .filter(HttpServletRequest.class::isAssignableFrom)
+            .filter(type -> HttpServletRequest.class.isAssignableFrom(type)
+                || WebExchange.class.isAssignableFrom(type))
             .count() != 1) {
       throw new MethodValidationException("There should be at least 1 HttpServletRequest");
     }
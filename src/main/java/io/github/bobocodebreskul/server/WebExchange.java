@@ -0,0 +1,152 @@
+package io.github.bobocodebreskul.server;
+
+import io.github.bobocodebreskul.context.scope.RequestAttributes;
+import io.github.bobocodebreskul.server.utils.QueryStringUtils;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Engine independent HTTP request/response pair processed by {@link RequestDispatcher}.
+ * <p>
+ * Every {@link WebServer} engine adapts its native request and response to this interface, so
+ * routing, argument resolution and error handling do not depend on Servlet or any other server API.
+ * Request attributes back the {@code request} bean scope.
+ */
+public interface WebExchange extends RequestAttributes {
+
+  /**
+   * Return HTTP method of the request, for example {@code GET}.
+   *
+   * @return HTTP method name
+   */
+  String getMethod();
+
+  /**
+   * Return request URI path without query string.
+   *
+   * @return request URI path
+   */
+  String getRequestUri();
+
+  /**
+   * Return request path inside the application, used to find the controller method.
+   *
+   * @return request path
+   */
+  String getPath();
+
+  /**
+   * Return the first value of the request parameter from the query string or form body. Engines
+   * may parse all parameters and read the whole form body to find it.
+   *
+   * @param name parameter name
+   * @return parameter value or {@code null} if it is absent
+   */
+  String getParameter(String name);
+
+  /**
+   * Return raw query string of the request.
+   *
+   * @return query string without leading {@code ?} or {@code null} if the request has none
+   */
+  String getQueryString();
+
+  /**
+   * Return the first value of the query string parameter. Only the requested parameter is decoded,
+   * the request body is never read.
+   *
+   * @param name parameter name
+   * @return parameter value or {@code null} if it is absent
+   */
+  default String getQueryParameter(String name) {
+    return QueryStringUtils.getFirstValue(getQueryString(), name);
+  }
+
+  /**
+   * Return the first value of the request header.
+   *
+   * @param name case-insensitive header name
+   * @return header value or {@code null} if it is absent
+   */
+  String getHeader(String name);
+
+  /**
+   * Return all values of the request header.
+   *
+   * @param name case-insensitive header name
+   * @return header values, empty if the header is absent
+   */
+  List<String> getHeaderValues(String name);
+
+  /**
+   * Return names of the request headers.
+   *
+   * @return request header names
+   */
+  Collection<String> getHeaderNames();
+
+  /**
+   * Return request body as a byte stream.
+   *
+   * @return request body stream
+   * @throws IOException if the body could not be read
+   */
+  InputStream getInputStream() throws IOException;
+
+  /**
+   * Return request body as a character stream.
+   *
+   * @return request body reader
+   * @throws IOException if the body could not be read
+   */
+  BufferedReader getReader() throws IOException;
+
+  /**
+   * Set response status code.
+   *
+   * @param status HTTP status code
+   */
+  void setStatus(int status);
+
+  /**
+   * Set response header, replacing existing values.
+   *
+   * @param name  header name
+   * @param value header value
+   */
+  void setHeader(String name, String value);
+
+  /**
+   * Add response header value.
+   *
+   * @param name  header name
+   * @param value header value
+   */
+  void addHeader(String name, String value);
+
+  /**
+   * Return response body stream. Status and headers must be set before the body is written.
+   *
+   * @return response body stream
+   * @throws IOException if the stream could not be opened
+   */
+  OutputStream getOutputStream() throws IOException;
+
+  /**
+   * Return native request object of the engine, for example {@code HttpServletRequest}.
+   *
+   * @return native request
+   */
+  Object getNativeRequest();
+
+  /**
+   * Return native response object of the engine, for example {@code HttpServletResponse}.
+   *
+   * @return native response
+   */
+  Object getNativeResponse();
+}
@@ -6,7 +6,12 @@ import static io.github.bobocodebreskul.server.WebPathValidator.validatePath;
 import static io.github.bobocodebreskul.server.enums.RequestMethod.GET;
 
 import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.context.exception.NoSuchBeanDefinitionException;
+import io.github.bobocodebreskul.context.exception.StartupSnapshotException;
 import io.github.bobocodebreskul.context.registry.BringContainer;
+import io.github.bobocodebreskul.context.snapshot.RouteSnapshot;
+import io.github.bobocodebreskul.context.snapshot.StartupSnapshot;
+import io.github.bobocodebreskul.context.support.AnnotationMetadataCache;
 import io.github.bobocodebreskul.server.annotations.Delete;
 import io.github.bobocodebreskul.server.annotations.Get;
 import io.github.bobocodebreskul.server.annotations.Head;
@@ -19,7 +24,7 @@ import io.github.bobocodebreskul.server.exception.DuplicatePathException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -62,7 +67,7 @@ public class WebPathScanner {
   }
 
   private static Annotation getHttpAnnotation(Method method) {
-    var annotationList = Arrays.stream(method.getAnnotations())
+    var annotationList = AnnotationMetadataCache.getAnnotations(method).stream()
         .filter(
             annotation -> checkIfAnnotationHasAnnotationType(annotation, RequestMapping.class))
         .toList();
@@ -136,7 +141,8 @@ public class WebPathScanner {
    * This method is responsible for scanning and creating web paths. It uses bring container to
    * retrieve all Beans marked as {@link RestController} then retrieve path and http method from
    * public methods marked as {@link Post}, {@link Get}, {@link Delete}, {@link Put}, {@link Head},
-   * {@link RequestMapping}
+   * {@link RequestMapping}. When the container was restored from a startup snapshot, paths are
+   * restored from its route table without annotations processing.
    *
    * @return Map of (path, Map of (HTTP method, ControllerMethod))
    * @throws IllegalAccessException    if this {@code Method} object is enforcing Java language
@@ -153,6 +159,15 @@ public class WebPathScanner {
    */
   public Map<String, Map<String, ControllerMethod>> getAllPaths()
       throws InvocationTargetException, NoSuchMethodException, IllegalAccessException {
+    StartupSnapshot startupSnapshot = container.getStartupSnapshot();
+    if (startupSnapshot != null) {
+      Map<String, Map<String, ControllerMethod>> restoredPaths = restorePaths(
+          startupSnapshot.routes());
+      if (restoredPaths != null) {
+        return restoredPaths;
+      }
+    }
+
     Map<String, Map<String, ControllerMethod>> pathMap = new HashMap<>();
 
     for (Object controllerBean : getControllerBeans()) {
@@ -160,7 +175,7 @@ public class WebPathScanner {
       String prefixPath = getPrefixPath(controllerClass);
       validateIfNotEmpty(prefixPath);
       log.info("Processing controller class: [{}]", controllerClass.getSimpleName());
-      for (Method method : controllerClass.getMethods()) {
+      for (Method method : AnnotationMetadataCache.getMethods(controllerClass)) {
         Annotation httpMethodAnnotation = getHttpAnnotation(method);
 
         if (method.isAnnotationPresent(RequestMapping.class)) {
@@ -187,9 +202,40 @@ public class WebPathScanner {
       }
     }
 
+    if (container.isRecordingStartupSnapshot()) {
+      container.saveStartupSnapshot(recordRoutes(pathMap));
+    }
     return pathMap;
   }
 
+  private Map<String, Map<String, ControllerMethod>> restorePaths(List<RouteSnapshot> routes) {
+    Map<String, Map<String, ControllerMethod>> pathMap = new HashMap<>();
+    try {
+      for (RouteSnapshot route : routes) {
+        Object controllerBean = container.getBean(route.beanName());
+        Method method = route.resolveMethod(controllerBean.getClass());
+        addPath(pathMap, route.path(), route.httpMethod(),
+            new ControllerMethod(controllerBean, method));
+      }
+    } catch (StartupSnapshotException | NoSuchBeanDefinitionException e) {
+      log.warn("Web paths could not be restored from startup snapshot, scan controllers instead",
+          e);
+      return null;
+    }
+    log.info("Restored [{}] web paths from startup snapshot", pathMap.size());
+    return pathMap;
+  }
+
+  private List<RouteSnapshot> recordRoutes(Map<String, Map<String, ControllerMethod>> pathMap) {
+    List<RouteSnapshot> routes = new ArrayList<>();
+    pathMap.forEach((path, httpMethodControllerMethodMap) ->
+        httpMethodControllerMethodMap.forEach((httpMethodName, controllerMethod) ->
+            routes.add(RouteSnapshot.of(path, httpMethodName,
+                container.getBeanName(controllerMethod.controller()),
+                controllerMethod.method()))));
+    return routes;
+  }
+
   private static void validateIfNotEmpty(String httpMethodAnnotationValue) {
     if (!httpMethodAnnotationValue.isEmpty()) {
       validatePath(httpMethodAnnotationValue);
@@ -0,0 +1,43 @@
+package io.github.bobocodebreskul.server;
+
+import io.github.bobocodebreskul.context.registry.BringContainer;
+
+/**
+ * Service provider interface of the embedded web server engine.
+ * <p>
+ * An engine accepts HTTP requests, adapts them to {@link WebExchange} and passes them to a
+ * {@link RequestDispatcher} built from the controllers and error handlers of the container.
+ * Implementations are discovered with {@link java.util.ServiceLoader} and selected by the
+ * "server.engine" property, see {@link WebServerFactory}. Implementations must have a public
+ * no-argument constructor.
+ */
+public interface WebServer {
+
+  /**
+   * Return engine name used as the "server.engine" property value.
+   *
+   * @return engine name
+   */
+  String getName();
+
+  /**
+   * Start the server for controllers of the container. The method returns as soon as the server
+   * startup has been initiated.
+   *
+   * @param container started application container
+   */
+  void start(BringContainer container);
+
+  /**
+   * Gracefully stop the server: stop accepting requests, wait for in-flight requests and close the
+   * container. Subsequent calls do nothing.
+   */
+  void stop();
+
+  /**
+   * Return current server state, {@code STARTED} when the server accepts requests.
+   *
+   * @return server state name
+   */
+  String getStatus();
+}
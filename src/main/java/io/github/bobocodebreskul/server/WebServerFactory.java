@@ -0,0 +1,53 @@
+package io.github.bobocodebreskul.server;
+
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getPropertyOrDefault;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import lombok.experimental.UtilityClass;
+import org.slf4j.Logger;
+
+/**
+ * Selects {@link WebServer} engine among implementations registered in
+ * {@code META-INF/services/io.github.bobocodebreskul.server.WebServer}. The engine is chosen by the
+ * "server.engine" property, Tomcat is used by default.
+ */
+@UtilityClass
+public class WebServerFactory {
+
+  private final static Logger log = LoggerFactory.getLogger(WebServerFactory.class);
+  public static final String DEFAULT_ENGINE = "tomcat";
+
+  /**
+   * Return web server engine configured by the "server.engine" property.
+   *
+   * @return web server engine
+   * @throws InvalidPropertyValueException if there is no engine with the configured name
+   */
+  public static WebServer getWebServer() {
+    return getWebServer(getPropertyOrDefault("server.engine", DEFAULT_ENGINE));
+  }
+
+  /**
+   * Return web server engine with the specified name.
+   *
+   * @param engine engine name
+   * @return web server engine
+   * @throws InvalidPropertyValueException if there is no engine with the specified name
+   */
+  public static WebServer getWebServer(String engine) {
+    List<String> availableEngines = new ArrayList<>();
+    for (WebServer webServer : ServiceLoader.load(WebServer.class)) {
+      if (webServer.getName().equalsIgnoreCase(engine)) {
+        log.debug("Web server engine {} selected", webServer.getName());
+        return webServer;
+      }
+      availableEngines.add(webServer.getName());
+    }
+    throw new InvalidPropertyValueException(
+        "\"server.engine\" property value must be one of %s!".formatted(availableEngines));
+  }
+}
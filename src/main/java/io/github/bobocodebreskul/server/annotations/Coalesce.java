@@ -0,0 +1,45 @@
+package io.github.bobocodebreskul.server.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation used to coalesce identical concurrent {@code GET} requests of a {@link Get} controller
+ * method. While a request is handled, requests with the same path, key parameters and
+ * {@code Accept} header do not invoke the controller method: they wait for the handled request
+ * and receive the same status, headers and serialized body, or the same exception.
+ * <p>
+ * Only the method result is shared, nothing is cached after the handled request completes. The
+ * annotation suits idempotent reads of shared data, e.g. a catalog page during a cache miss, and
+ * should not be used for responses depending on the user or other request headers.
+ *
+ * <p>Usage:</p>
+ * <pre>
+ *   {@code
+ *   @RestController
+ *   public class ProductController {
+ *
+ *     @Get("/products")
+ *     @Coalesce(params = {"category", "page"})
+ *     public List<Product> getProducts(@RequestParam("category") String category,
+ *         @RequestParam("page") int page) {
+ *       return productRepository.findByCategory(category, page);
+ *     }
+ *   }}
+ *   </pre>
+ *
+ * @see Get
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Coalesce {
+
+  /**
+   * Represents names of query parameters which identify the request.
+   *
+   * @return key parameter names, the whole query string identifies the request if it is empty
+   */
+  String[] params() default {};
+}
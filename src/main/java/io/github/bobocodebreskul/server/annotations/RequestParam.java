@@ -17,6 +17,10 @@ import java.lang.annotation.Target;
  * The value() method represents the name of the request parameter, specified via the annotation.
  * When the annotated method is invoked, the framework uses this name to extract the corresponding
  * parameter from the incoming HTTP request and bind it to the annotated method parameter.
+ * <p>
+ * By default the parameter is read from the raw query string, decoding only the requested key, so
+ * the request body is never consumed. Set {@link #form()} to {@code true} to read parameters sent
+ * in the {@code application/x-www-form-urlencoded} request body.
  *
  * <p>Usage:</p>
  * <pre>
@@ -44,5 +48,14 @@ public @interface RequestParam {
    */
   String value();
 
+  /**
+   * Whether the parameter could be sent in the {@code application/x-www-form-urlencoded} request
+   * body. Such parameters are read through full parameter parsing of the web server engine.
+   *
+   * @return {@code true} to read the parameter from the query string or the form body,
+   * {@code false} to read it from the query string only
+   */
+  boolean form() default false;
+
 }
 
@@ -0,0 +1,45 @@
+package io.github.bobocodebreskul.server.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation used to bind a method parameter to a part of {@code multipart/form-data} request.
+ * <p>
+ * The request body is parsed once per request with bounded memory: small parts are kept in memory,
+ * larger parts are spooled to temporary files, which are deleted when the request is processed. The
+ * annotated parameter could be of type {@code MultipartFile}, {@code InputStream}, {@code Path} of
+ * the spooled file, {@code byte[]} or {@code String}.
+ *
+ * <p>Usage:</p>
+ * <pre>
+ *   {@code
+ *   @RestController
+ *   public class UploadController {
+ *
+ *     @Post("/upload")
+ *     public String upload(@RequestPart("file") MultipartFile file) throws IOException {
+ *       // file name without directory segments, null if the client sent none
+ *       String filename = Objects.requireNonNull(file.getFilename());
+ *       file.transferTo(Path.of("/data").resolve(filename));
+ *       return filename;
+ *     }
+ *   }}
+ *   </pre>
+ *
+ * @see io.github.bobocodebreskul.server.multipart.MultipartFile
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface RequestPart {
+
+  /**
+   * Represents the name of the request part specified via the annotation.
+   *
+   * @return The name of the request part to bind to the annotated method parameter.
+   */
+  String value();
+
+}
@@ -0,0 +1,52 @@
+package io.github.bobocodebreskul.server.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation used to limit handling time of a controller method. Placed on a controller class it
+ * applies to all its methods, the method annotation takes precedence. Routes without the annotation
+ * use "server.timeout.default" property in milliseconds.
+ * <p>
+ * The controller method runs on a handler thread while the request thread waits for it up to the
+ * deadline. When the deadline passes the client gets {@code 504 Gateway Timeout} immediately, the
+ * handler thread is interrupted and the {@code CancellationToken} parameter of the method, if any,
+ * is cancelled. A zero or negative value disables the timeout of the route.
+ *
+ * <p>Usage:</p>
+ * <pre>
+ *   {@code
+ *   @RestController
+ *   public class ReportController {
+ *
+ *     @Get("/report")
+ *     @Timeout(value = 500, unit = TimeUnit.MILLISECONDS)
+ *     public Report getReport(CancellationToken token) {
+ *       return reportService.build(token);
+ *     }
+ *   }}
+ *   </pre>
+ *
+ * @see io.github.bobocodebreskul.server.CancellationToken
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Timeout {
+
+  /**
+   * Represents the maximum handling time.
+   *
+   * @return handling time limit in {@link #unit()}
+   */
+  long value();
+
+  /**
+   * Represents the unit of {@link #value()}.
+   *
+   * @return time unit, seconds by default
+   */
+  TimeUnit unit() default TimeUnit.SECONDS;
+}
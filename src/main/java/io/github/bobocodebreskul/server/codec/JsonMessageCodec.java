@@ -0,0 +1,54 @@
+package io.github.bobocodebreskul.server.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JSON codec backed by Jackson {@link ObjectMapper}. Request bodies of {@code text/plain} and
+ * {@code text/html} content types are read as JSON too. Strings, wrappers of primitives are written
+ * with {@code text/plain} content type, other bodies with {@code application/json}.
+ */
+public class JsonMessageCodec implements MessageCodec {
+
+  public static final String APPLICATION_JSON = "application/json";
+  public static final String TEXT_PLAIN = "text/plain";
+  public static final String TEXT_HTML = "text/html";
+
+  private static final List<String> MEDIA_TYPES = List.of(APPLICATION_JSON, TEXT_PLAIN, TEXT_HTML);
+  private static final Set<Class<?>> PRIMITIVE_SET = Set.of(Boolean.class, Character.class,
+      Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, String.class);
+
+  private final ObjectMapper objectMapper;
+
+  public JsonMessageCodec() {
+    this(new ObjectMapper());
+  }
+
+  public JsonMessageCodec(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public List<String> getMediaTypes() {
+    return MEDIA_TYPES;
+  }
+
+  @Override
+  public String getContentType(Object body) {
+    return PRIMITIVE_SET.contains(body.getClass()) ? TEXT_PLAIN : APPLICATION_JSON;
+  }
+
+  @Override
+  public <T> T read(InputStream body, Class<T> type) throws IOException {
+    return objectMapper.readValue(body, type);
+  }
+
+  @Override
+  public void write(Object body, OutputStream out) throws IOException {
+    out.write(objectMapper.writeValueAsBytes(body));
+  }
+}
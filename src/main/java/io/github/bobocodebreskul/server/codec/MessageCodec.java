@@ -0,0 +1,72 @@
+package io.github.bobocodebreskul.server.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Reads request bodies and writes response bodies of specific media types. Beans implementing this
+ * interface are registered in {@link MessageCodecRegistry} and take precedence over built-in codecs
+ * for the same media types.
+ * <p>
+ * The codec is selected by the {@code Content-Type} header of the request for reading and by the
+ * {@code Accept} header for writing.
+ * <p>Example:</p>
+ * <pre class="code">
+ *   &#64;BringComponent
+ *   public class CsvMessageCodec implements MessageCodec {
+ *
+ *     public List&lt;String&gt; getMediaTypes() {
+ *       return List.of("text/csv");
+ *     }
+ *
+ *     public &lt;T&gt; T read(InputStream body, Class&lt;T&gt; type) throws IOException {
+ *       return Csv.read(body, type);
+ *     }
+ *
+ *     public void write(Object body, OutputStream out) throws IOException {
+ *       Csv.write(body, out);
+ *     }
+ *   }
+ * </pre>
+ */
+public interface MessageCodec {
+
+  /**
+   * Return lower case media types supported by the codec, without parameters.
+   *
+   * @return supported media types, the first one is written as response content type
+   */
+  List<String> getMediaTypes();
+
+  /**
+   * Return {@code Content-Type} header value of the response with the body.
+   *
+   * @param body response body
+   * @return response content type
+   */
+  default String getContentType(Object body) {
+    return getMediaTypes().get(0);
+  }
+
+  /**
+   * Read not empty request body into the specified type.
+   *
+   * @param body request body stream
+   * @param type expected body type
+   * @param <T>  expected body type
+   * @return read body
+   * @throws IOException if the body could not be read or has wrong format
+   */
+  <T> T read(InputStream body, Class<T> type) throws IOException;
+
+  /**
+   * Write response body into the output stream. The stream is not closed by the codec.
+   *
+   * @param body not null response body
+   * @param out  response output stream
+   * @throws IOException if the body could not be written
+   */
+  void write(Object body, OutputStream out) throws IOException;
+}
@@ -0,0 +1,186 @@
+package io.github.bobocodebreskul.server.codec;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.context.registry.BringContainer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+
+/**
+ * Registry of {@link MessageCodec} selecting the codec by request {@code Content-Type} and
+ * negotiating the response codec by request {@code Accept} header.
+ * <p>
+ * Built-in codecs are {@link JsonMessageCodec} and {@link SmileMessageCodec}. Codec beans registered
+ * in the container take precedence over built-in codecs for the same media types. JSON codec is the
+ * default one: it is used when the {@code Accept} header is absent, contains {@code *}{@code /*} or
+ * none of its media ranges is supported.
+ */
+public class MessageCodecRegistry {
+
+  private final static Logger log = LoggerFactory.getLogger(MessageCodecRegistry.class);
+  private static final String WILDCARD = "*/*";
+
+  private final Map<String, MessageCodec> codecs = new LinkedHashMap<>();
+  private final MessageCodec defaultCodec;
+
+  /**
+   * Create registry with built-in codecs only.
+   */
+  public MessageCodecRegistry() {
+    this(List.of());
+  }
+
+  /**
+   * Create registry with built-in codecs and the specified codecs.
+   *
+   * @param customCodecs codecs which replace built-in codecs of the same media types
+   */
+  public MessageCodecRegistry(Collection<? extends MessageCodec> customCodecs) {
+    for (MessageCodec codec : customCodecs) {
+      log.debug("Register message codec {} for media types {}", codec.getClass().getName(),
+          codec.getMediaTypes());
+      register(codec);
+    }
+    register(new JsonMessageCodec());
+    register(new SmileMessageCodec());
+    defaultCodec = codecs.get(JsonMessageCodec.APPLICATION_JSON);
+  }
+
+  /**
+   * Create registry with built-in codecs and codec beans of the container.
+   *
+   * @param container application container
+   * @return message codec registry
+   */
+  public static MessageCodecRegistry create(BringContainer container) {
+    List<MessageCodec> codecBeans = container.getAllBeans().stream()
+        .filter(MessageCodec.class::isInstance)
+        .map(MessageCodec.class::cast)
+        .toList();
+    return new MessageCodecRegistry(codecBeans);
+  }
+
+  /**
+   * Return codec used when no specific media type is requested.
+   *
+   * @return default codec
+   */
+  public MessageCodec getDefaultCodec() {
+    return defaultCodec;
+  }
+
+  /**
+   * Return all supported media types.
+   *
+   * @return unmodifiable set of media types
+   */
+  public Set<String> getMediaTypes() {
+    return Collections.unmodifiableSet(codecs.keySet());
+  }
+
+  /**
+   * Find codec reading request body of the content type. Parameters of the content type, like
+   * {@code charset}, are ignored.
+   *
+   * @param contentType {@code Content-Type} header value, could be {@code null}
+   * @return codec or empty optional if the content type is not supported
+   */
+  public Optional<MessageCodec> findReader(String contentType) {
+    if (contentType == null || contentType.isBlank()) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(codecs.get(getMediaType(contentType)));
+  }
+
+  /**
+   * Select codec writing response body acceptable by the client. Media ranges are checked in order
+   * of their quality values, media ranges with zero quality are skipped.
+   *
+   * @param accept {@code Accept} header value, could be {@code null}
+   * @return the codec of the most preferred supported media range or the default codec
+   */
+  public MessageCodec negotiate(String accept) {
+    if (accept == null || accept.isBlank()) {
+      return defaultCodec;
+    }
+    for (MediaRange mediaRange : parseAccept(accept)) {
+      MessageCodec codec = findWriter(mediaRange.mediaType());
+      if (codec != null) {
+        return codec;
+      }
+    }
+    log.debug("No message codec found for Accept header [{}], default codec is used", accept);
+    return defaultCodec;
+  }
+
+  private void register(MessageCodec codec) {
+    for (String mediaType : codec.getMediaTypes()) {
+      codecs.putIfAbsent(mediaType.toLowerCase(Locale.ROOT), codec);
+    }
+  }
+
+  private MessageCodec findWriter(String mediaRange) {
+    if (WILDCARD.equals(mediaRange) || "*".equals(mediaRange)) {
+      return defaultCodec;
+    }
+    if (mediaRange.endsWith("/*")) {
+      String typePrefix = mediaRange.substring(0, mediaRange.length() - 1);
+      if (defaultCodec.getMediaTypes().stream().anyMatch(type -> type.startsWith(typePrefix))) {
+        return defaultCodec;
+      }
+      return codecs.entrySet().stream()
+          .filter(entry -> entry.getKey().startsWith(typePrefix))
+          .map(Map.Entry::getValue)
+          .findFirst()
+          .orElse(null);
+    }
+    return codecs.get(mediaRange);
+  }
+
+  private static List<MediaRange> parseAccept(String accept) {
+    List<MediaRange> mediaRanges = new ArrayList<>();
+    for (String value : accept.split(",")) {
+      String[] parts = value.split(";");
+      double quality = 1;
+      for (int i = 1; i < parts.length; i++) {
+        String parameter = parts[i].trim();
+        if (parameter.startsWith("q=")) {
+          quality = parseQuality(parameter.substring(2));
+        }
+      }
+      if (quality > 0) {
+        mediaRanges.add(new MediaRange(parts[0].trim().toLowerCase(Locale.ROOT), quality));
+      }
+    }
+    // stable sort keeps the header order of media ranges with equal quality
+    mediaRanges.sort(Comparator.comparingDouble(MediaRange::quality).reversed());
+    return mediaRanges;
+  }
+
+  private static double parseQuality(String value) {
+    try {
+      return Double.parseDouble(value.trim());
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static String getMediaType(String contentType) {
+    int parametersIndex = contentType.indexOf(';');
+    String mediaType = parametersIndex == -1 ? contentType : contentType.substring(0,
+        parametersIndex);
+    return mediaType.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private record MediaRange(String mediaType, double quality) {
+
+  }
+}
@@ -0,0 +1,45 @@
+package io.github.bobocodebreskul.server.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Compact binary codec for service-to-service calls, backed by Jackson Smile format. Smile keeps the
+ * JSON data model, so the same DTOs are used, while field names and values are written in binary
+ * form and parsed without text scanning and number formatting.
+ */
+public class SmileMessageCodec implements MessageCodec {
+
+  public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+  private static final List<String> MEDIA_TYPES = List.of(APPLICATION_SMILE);
+
+  private final ObjectMapper objectMapper;
+
+  public SmileMessageCodec() {
+    this(new ObjectMapper(new SmileFactory()));
+  }
+
+  public SmileMessageCodec(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public List<String> getMediaTypes() {
+    return MEDIA_TYPES;
+  }
+
+  @Override
+  public <T> T read(InputStream body, Class<T> type) throws IOException {
+    return objectMapper.readValue(body, type);
+  }
+
+  @Override
+  public void write(Object body, OutputStream out) throws IOException {
+    out.write(objectMapper.writeValueAsBytes(body));
+  }
+}
@@ -0,0 +1,286 @@
+package io.github.bobocodebreskul.server.convert;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.context.registry.BringContainer;
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.slf4j.Logger;
+
+/**
+ * Resolves {@link Converter} of request parameter values once per parameter, so the conversion on
+ * request costs a single converter call.
+ * <p>
+ * Built-in converters cover {@code String}, primitives and their wrappers, enums, {@link UUID},
+ * {@code java.time} types, arrays and {@code List}/{@code Set}/{@code Collection} of the supported
+ * types. Array and collection values are comma-separated, boolean values are only {@code true} or
+ * {@code false} ignoring case. Converter beans registered in the container take precedence over
+ * built-in converters.
+ */
+public class ConversionService {
+
+  private final static Logger log = LoggerFactory.getLogger(ConversionService.class);
+  private static final String CONVERSION_ERROR_MSG =
+      "Failed to convert value of type '%s' to required type '%s' for input string: [\"%s\"]";
+
+  private final Map<Class<?>, Converter<?>> converters = new HashMap<>();
+  private final Set<Class<?>> customConverterTypes = new HashSet<>();
+
+  /**
+   * Create conversion service with built-in converters only.
+   */
+  public ConversionService() {
+    this(List.of());
+  }
+
+  /**
+   * Create conversion service with built-in converters and the specified converters.
+   *
+   * @param customConverters converters which replace built-in converters of the same target type
+   */
+  public ConversionService(Collection<? extends Converter<?>> customConverters) {
+    registerBuiltInConverters();
+    for (Converter<?> converter : customConverters) {
+      log.debug("Register converter {} for type {}", converter.getClass().getName(),
+          converter.getTargetType().getName());
+      converters.put(converter.getTargetType(), converter);
+      customConverterTypes.add(converter.getTargetType());
+    }
+  }
+
+  /**
+   * Create conversion service with built-in converters and converter beans of the container.
+   *
+   * @param container application container
+   * @return conversion service
+   */
+  public static ConversionService create(BringContainer container) {
+    List<Converter<?>> converterBeans = container.getAllBeans().stream()
+        .filter(Converter.class::isInstance)
+        .<Converter<?>>map(Converter.class::cast)
+        .toList();
+    return new ConversionService(converterBeans);
+  }
+
+  /**
+   * Find converter for the parameter type.
+   *
+   * @param type        parameter class
+   * @param genericType parameter generic type, used to find element type of collections
+   * @return converter or empty optional if the type is not supported
+   */
+  public Optional<Converter<?>> findConverter(Class<?> type, Type genericType) {
+    Converter<?> converter = converters.get(type);
+    if (converter != null) {
+      return Optional.of(converter);
+    }
+    if (type.isEnum()) {
+      return Optional.of(enumConverter(type.asSubclass(Enum.class)));
+    }
+    if (type.isArray()) {
+      return findConverter(type.getComponentType(), type.getComponentType())
+          .map(elementConverter -> arrayConverter(type, elementConverter));
+    }
+    if (type == List.class || type == Collection.class || type == Set.class) {
+      Class<?> elementType = getElementType(genericType);
+      if (elementType == null) {
+        return Optional.empty();
+      }
+      return findConverter(elementType, elementType)
+          .map(elementConverter -> collectionConverter(type, elementConverter));
+    }
+    return Optional.empty();
+  }
+
+  private void registerBuiltInConverters() {
+    register(String.class, value -> value);
+    register(int.class, Integer::valueOf);
+    register(Integer.class, Integer::valueOf);
+    register(long.class, Long::valueOf);
+    register(Long.class, Long::valueOf);
+    register(double.class, Double::valueOf);
+    register(Double.class, Double::valueOf);
+    register(float.class, Float::valueOf);
+    register(Float.class, Float::valueOf);
+    register(short.class, Short::valueOf);
+    register(Short.class, Short::valueOf);
+    register(byte.class, Byte::valueOf);
+    register(Byte.class, Byte::valueOf);
+    register(boolean.class, ConversionService::toBoolean);
+    register(Boolean.class, ConversionService::toBoolean);
+    register(char.class, ConversionService::toChar);
+    register(Character.class, ConversionService::toChar);
+    register(UUID.class, UUID::fromString);
+    register(LocalDate.class, LocalDate::parse);
+    register(LocalTime.class, LocalTime::parse);
+    register(LocalDateTime.class, LocalDateTime::parse);
+    register(OffsetDateTime.class, OffsetDateTime::parse);
+    register(ZonedDateTime.class, ZonedDateTime::parse);
+    register(Instant.class, Instant::parse);
+    register(Duration.class, Duration::parse);
+  }
+
+  private <T> void register(Class<T> type, Function<String, ? extends T> function) {
+    converters.put(type, Converter.of(type, value -> {
+      try {
+        return function.apply(value);
+      } catch (NumberFormatException | DateTimeParseException e) {
+        throw new IllegalArgumentException(
+            CONVERSION_ERROR_MSG.formatted(String.class.getName(), type, value), e);
+      }
+    }));
+  }
+
+  private static Boolean toBoolean(String value) {
+    if ("true".equalsIgnoreCase(value)) {
+      return Boolean.TRUE;
+    }
+    if ("false".equalsIgnoreCase(value)) {
+      return Boolean.FALSE;
+    }
+    throw new IllegalArgumentException(
+        CONVERSION_ERROR_MSG.formatted(String.class.getName(), boolean.class, value));
+  }
+
+  private static Character toChar(String value) {
+    if (value.length() == 1) {
+      return value.charAt(0);
+    }
+    throw new IllegalArgumentException(
+        "String value cannot be converted to char: [%s]".formatted(value));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Converter<?> enumConverter(Class<? extends Enum> type) {
+    Map<String, Enum<?>> constants = new HashMap<>();
+    for (Enum<?> constant : type.getEnumConstants()) {
+      constants.put(constant.name(), constant);
+    }
+    return Converter.of((Class<Enum<?>>) (Class) type, value -> {
+      Enum<?> constant = constants.get(value);
+      if (constant == null) {
+        constant = constants.get(value.toUpperCase(Locale.ROOT));
+      }
+      if (constant == null) {
+        throw new IllegalArgumentException(
+            CONVERSION_ERROR_MSG.formatted(String.class.getName(), type, value));
+      }
+      return constant;
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private Converter<?> arrayConverter(Class<?> arrayType, Converter<?> elementConverter) {
+    Class<?> elementType = arrayType.getComponentType();
+    Class<Object> targetType = (Class<Object>) arrayType;
+    // parse the most used primitive arrays directly to avoid boxing of every element
+    if (elementType == int.class && !customConverterTypes.contains(int.class)) {
+      return Converter.of(targetType, value -> {
+        List<String> items = split(value);
+        int[] array = new int[items.size()];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = parseInt(items.get(i));
+        }
+        return array;
+      });
+    }
+    if (elementType == long.class && !customConverterTypes.contains(long.class)) {
+      return Converter.of(targetType, value -> {
+        List<String> items = split(value);
+        long[] array = new long[items.size()];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = parseLong(items.get(i));
+        }
+        return array;
+      });
+    }
+    return Converter.of(targetType, value -> {
+      List<String> items = split(value);
+      Object array = Array.newInstance(elementType, items.size());
+      for (int i = 0; i < items.size(); i++) {
+        Array.set(array, i, elementConverter.convert(items.get(i)));
+      }
+      return array;
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Converter<?> collectionConverter(Class<?> collectionType,
+      Converter<?> elementConverter) {
+    boolean set = collectionType == Set.class;
+    return Converter.of((Class<Object>) collectionType, value -> {
+      List<String> items = split(value);
+      Collection<Object> collection = set
+          ? new LinkedHashSet<>(items.size() * 2)
+          : new ArrayList<>(items.size());
+      for (String item : items) {
+        collection.add(elementConverter.convert(item));
+      }
+      return set
+          ? Collections.unmodifiableSet((Set<Object>) collection)
+          : Collections.unmodifiableList((List<Object>) collection);
+    });
+  }
+
+  private static int parseInt(String value) {
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          CONVERSION_ERROR_MSG.formatted(String.class.getName(), int.class, value), e);
+    }
+  }
+
+  private static long parseLong(String value) {
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          CONVERSION_ERROR_MSG.formatted(String.class.getName(), long.class, value), e);
+    }
+  }
+
+  private static Class<?> getElementType(Type genericType) {
+    if (genericType instanceof ParameterizedType parameterizedType
+        && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+      return elementType;
+    }
+    return genericType instanceof Class<?> ? String.class : null;
+  }
+
+  private static List<String> split(String value) {
+    if (value.isBlank()) {
+      return List.of();
+    }
+    List<String> items = new ArrayList<>();
+    int start = 0;
+    int end;
+    while ((end = value.indexOf(',', start)) != -1) {
+      items.add(value.substring(start, end).trim());
+      start = end + 1;
+    }
+    items.add(value.substring(start).trim());
+    return items;
+  }
+}
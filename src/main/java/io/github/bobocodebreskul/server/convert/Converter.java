@@ -0,0 +1,65 @@
+package io.github.bobocodebreskul.server.convert;
+
+import java.util.function.Function;
+
+/**
+ * Converts request parameter string value into the target type. Beans implementing this interface
+ * are registered in {@link ConversionService} and take precedence over built-in converters for the
+ * same target type.
+ * <p>Example:</p>
+ * <pre class="code">
+ *   &#64;BringComponent
+ *   public class MoneyConverter implements Converter&lt;Money&gt; {
+ *
+ *     public Class&lt;Money&gt; getTargetType() {
+ *       return Money.class;
+ *     }
+ *
+ *     public Money convert(String value) {
+ *       return Money.parse(value);
+ *     }
+ *   }
+ * </pre>
+ *
+ * @param <T> target type
+ */
+public interface Converter<T> {
+
+  /**
+   * Return type of the converted values.
+   *
+   * @return target type
+   */
+  Class<T> getTargetType();
+
+  /**
+   * Convert not null string value into the target type.
+   *
+   * @param value string value
+   * @return converted value
+   * @throws IllegalArgumentException if the value could not be converted
+   */
+  T convert(String value);
+
+  /**
+   * Create converter with the specified target type and conversion function.
+   *
+   * @param targetType target type
+   * @param function   conversion function
+   * @param <T>        target type
+   * @return converter
+   */
+  static <T> Converter<T> of(Class<T> targetType, Function<String, T> function) {
+    return new Converter<>() {
+      @Override
+      public Class<T> getTargetType() {
+        return targetType;
+      }
+
+      @Override
+      public T convert(String value) {
+        return function.apply(value);
+      }
+    };
+  }
+}
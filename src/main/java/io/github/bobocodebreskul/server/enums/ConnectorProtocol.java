@@ -0,0 +1,29 @@
+package io.github.bobocodebreskul.server.enums;
+
+/**
+ * Enumeration of HTTP/1.1 protocol implementations supported by the embedded Tomcat connector.
+ */
+public enum ConnectorProtocol {
+
+  NIO("org.apache.coyote.http11.Http11NioProtocol"),
+  NIO2("org.apache.coyote.http11.Http11Nio2Protocol");
+
+  private final String protocolHandlerClassName;
+
+  ConnectorProtocol(String protocolHandlerClassName) {
+    this.protocolHandlerClassName = protocolHandlerClassName;
+  }
+
+  public String getProtocolHandlerClassName() {
+    return protocolHandlerClassName;
+  }
+
+  public static ConnectorProtocol getByName(String name) {
+    for (ConnectorProtocol protocol : values()) {
+      if (protocol.name().equalsIgnoreCase(name)) {
+        return protocol;
+      }
+    }
+    throw new IllegalArgumentException("Connector protocol not found for name '%s'".formatted(name));
+  }
+}
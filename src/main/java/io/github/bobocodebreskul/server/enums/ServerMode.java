@@ -0,0 +1,24 @@
+package io.github.bobocodebreskul.server.enums;
+
+/**
+ * Enumeration of embedded Tomcat context setups.
+ * <ul>
+ * <li>{@link #WEBAPP} - full web application with the default {@code web.xml}, default and JSP
+ * servlets and jar scanning</li>
+ * <li>{@link #LIGHTWEIGHT} - plain context with only the dispatcher servlet registered and jar
+ * scanning disabled</li>
+ * </ul>
+ */
+public enum ServerMode {
+
+  WEBAPP, LIGHTWEIGHT;
+
+  public static ServerMode getByName(String name) {
+    for (ServerMode mode : values()) {
+      if (mode.name().equalsIgnoreCase(name)) {
+        return mode;
+      }
+    }
+    throw new IllegalArgumentException("Server mode not found for name '%s'".formatted(name));
+  }
+}
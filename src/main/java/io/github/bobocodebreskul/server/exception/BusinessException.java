@@ -0,0 +1,17 @@
+package io.github.bobocodebreskul.server.exception;
+
+/**
+ * Base class of expected business failures, e.g. validation errors or missing entities, which are
+ * mapped to responses by error handler controller methods. Such exceptions do not capture the
+ * stack trace and are not logged as request handling errors, so frequent failures stay cheap.
+ */
+public class BusinessException extends RuntimeException {
+
+  public BusinessException(String message) {
+    super(message, null, false, false);
+  }
+
+  public BusinessException(String message, Throwable cause) {
+    super(message, cause, false, false);
+  }
+}
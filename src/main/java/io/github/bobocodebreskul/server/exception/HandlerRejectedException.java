@@ -0,0 +1,12 @@
+package io.github.bobocodebreskul.server.exception;
+
+/**
+ * Thrown to indicate that a controller method with a timeout could not be started because all
+ * handler threads are busy. The exception does not capture the stack trace.
+ */
+public class HandlerRejectedException extends RuntimeException {
+
+  public HandlerRejectedException(String message) {
+    super(message, null, false, false);
+  }
+}
@@ -0,0 +1,12 @@
+package io.github.bobocodebreskul.server.exception;
+
+/**
+ * Thrown to indicate that a controller method did not complete before the deadline of its route.
+ * The exception is created on every timeout, so it does not capture the stack trace.
+ */
+public class HandlerTimeoutException extends RuntimeException {
+
+  public HandlerTimeoutException(String message) {
+    super(message, null, false, false);
+  }
+}
@@ -0,0 +1,16 @@
+package io.github.bobocodebreskul.server.exception;
+
+/**
+ * Thrown to indicate that multipart request could not be parsed or exceeds the configured size
+ * limits.
+ */
+public class MultipartException extends RuntimeException {
+
+  public MultipartException(String message) {
+    super(message);
+  }
+
+  public MultipartException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
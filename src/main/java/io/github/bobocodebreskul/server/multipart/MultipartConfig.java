@@ -0,0 +1,41 @@
+package io.github.bobocodebreskul.server.multipart;
+
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getPropertyAsIntOrDefault;
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getPropertyAsLongOrDefault;
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getPropertyOrDefault;
+
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
+import java.nio.file.Path;
+
+/**
+ * Limits of multipart request parsing.
+ *
+ * @param location          directory of spooled part files
+ * @param fileSizeThreshold part size in bytes after which the part is spooled to disk
+ * @param maxPartSize       maximum size of a single part in bytes
+ * @param maxRequestSize    maximum size of the whole multipart body in bytes
+ */
+public record MultipartConfig(Path location, int fileSizeThreshold, long maxPartSize,
+                              long maxRequestSize) {
+
+  private static final int DEFAULT_FILE_SIZE_THRESHOLD = 16 * 1024;
+  private static final long DEFAULT_MAX_PART_SIZE = 10L * 1024 * 1024;
+  private static final long DEFAULT_MAX_REQUEST_SIZE = 50L * 1024 * 1024;
+
+  /**
+   * Create configuration from "server.multipart.*" properties.
+   *
+   * @return multipart configuration
+   * @throws InvalidPropertyValueException if a size property is not a number
+   */
+  public static MultipartConfig fromProperties() {
+    return new MultipartConfig(
+        Path.of(getPropertyOrDefault("server.multipart.location",
+            System.getProperty("java.io.tmpdir"))),
+        getPropertyAsIntOrDefault("server.multipart.file-size-threshold",
+            DEFAULT_FILE_SIZE_THRESHOLD),
+        getPropertyAsLongOrDefault("server.multipart.max-part-size", DEFAULT_MAX_PART_SIZE),
+        getPropertyAsLongOrDefault("server.multipart.max-request-size",
+            DEFAULT_MAX_REQUEST_SIZE));
+  }
+}
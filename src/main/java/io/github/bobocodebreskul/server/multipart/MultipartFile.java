@@ -0,0 +1,198 @@
+package io.github.bobocodebreskul.server.multipart;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.slf4j.Logger;
+
+/**
+ * Part of {@code multipart/form-data} request. The content is either kept in memory or spooled to
+ * a temporary file, depending on {@link MultipartConfig#fileSizeThreshold()}. Temporary files are
+ * deleted when the request is processed, use {@link #transferTo(Path)} to keep the content.
+ */
+public final class MultipartFile {
+
+  private final static Logger log = LoggerFactory.getLogger(MultipartFile.class);
+
+  private final String name;
+  private final String originalFilename;
+  private final String filename;
+  private final String contentType;
+  private final long size;
+  private final Path location;
+  private byte[] content;
+  private Path file;
+  private boolean transferred;
+
+  MultipartFile(String name, String filename, String contentType, long size, byte[] content,
+      Path file, Path location) {
+    this.name = name;
+    this.originalFilename = filename;
+    this.filename = toSafeFilename(filename);
+    this.contentType = contentType;
+    this.size = size;
+    this.content = content;
+    this.file = file;
+    this.location = location;
+  }
+
+  /**
+   * Return name of the part from {@code Content-Disposition} header.
+   *
+   * @return part name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Return file name from {@code Content-Disposition} header without directory part and control
+   * characters, so it can not point outside the directory it is resolved against. The name is
+   * still chosen by the client: it could clash with existing files and should be validated before
+   * it is used as a file name.
+   *
+   * @return file name or {@code null} for not file parts and names without a usable file name,
+   * like {@code ..}
+   */
+  public String getFilename() {
+    return filename;
+  }
+
+  /**
+   * Return file name exactly as sent in {@code Content-Disposition} header. The value is untrusted
+   * and may contain path segments like {@code ../}, use {@link #getFilename()} to build paths.
+   *
+   * @return raw file name or {@code null} for not file parts
+   */
+  public String getOriginalFilename() {
+    return originalFilename;
+  }
+
+  /**
+   * Return content type of the part.
+   *
+   * @return content type or {@code null} if it is not specified
+   */
+  public String getContentType() {
+    return contentType;
+  }
+
+  /**
+   * Return size of the part content.
+   *
+   * @return size in bytes
+   */
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * Check whether the content is kept in memory.
+   *
+   * @return {@code true} if the content is not spooled to disk
+   */
+  public boolean isInMemory() {
+    return file == null;
+  }
+
+  /**
+   * Return stream of the part content. Spooled content is streamed from the file.
+   *
+   * @return new content stream
+   * @throws IOException if the spooled file could not be opened
+   */
+  public InputStream getInputStream() throws IOException {
+    return file == null ? new ByteArrayInputStream(content) : Files.newInputStream(file);
+  }
+
+  /**
+   * Return the part content. Spooled content is read into memory.
+   *
+   * @return content bytes
+   * @throws IOException if the spooled file could not be read
+   */
+  public byte[] getBytes() throws IOException {
+    return file == null ? content : Files.readAllBytes(file);
+  }
+
+  /**
+   * Return the part content decoded as UTF-8, used for text fields of the form.
+   *
+   * @return content string
+   * @throws IOException if the spooled file could not be read
+   */
+  public String getString() throws IOException {
+    return new String(getBytes(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Return path of the file with the part content. Content kept in memory is written to a
+   * temporary file first.
+   *
+   * @return path of the spooled file
+   * @throws IOException if the content could not be written
+   */
+  public Path getPath() throws IOException {
+    if (file == null) {
+      file = Files.createTempFile(location, MultipartParser.TEMP_FILE_PREFIX,
+          MultipartParser.TEMP_FILE_SUFFIX);
+      Files.write(file, content);
+      content = null;
+    }
+    return file;
+  }
+
+  /**
+   * Move the part content to the target file, replacing it if it exists. A spooled file is moved
+   * without copying its content when the target is on the same file system, content kept in memory
+   * is written with a single write.
+   *
+   * @param target target file
+   * @throws IOException if the content could not be transferred
+   */
+  public void transferTo(Path target) throws IOException {
+    if (file == null) {
+      Files.write(target, content);
+    } else {
+      Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+    transferred = true;
+    log.debug("Part [{}] of size {} transferred to {}", name, size, target);
+    file = target;
+    content = null;
+  }
+
+  private static String toSafeFilename(String filename) {
+    if (filename == null) {
+      return null;
+    }
+    // browsers on Windows may send the full client path
+    String lastSegment = filename.substring(
+        Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1);
+    StringBuilder safeFilename = new StringBuilder(lastSegment.length());
+    lastSegment.codePoints()
+        .filter(codePoint -> !Character.isISOControl(codePoint))
+        .forEach(safeFilename::appendCodePoint);
+    String result = safeFilename.toString().strip();
+    return result.isEmpty() || result.equals(".") || result.equals("..") ? null : result;
+  }
+
+  /**
+   * Delete the spooled file unless it is transferred.
+   */
+  void delete() {
+    if (file == null || transferred) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Cannot delete spooled part file {}: {}", file, e.getMessage());
+    }
+  }
+}
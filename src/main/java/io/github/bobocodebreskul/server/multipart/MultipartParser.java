@@ -0,0 +1,307 @@
+package io.github.bobocodebreskul.server.multipart;
+
+import io.github.bobocodebreskul.server.exception.MultipartException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming parser of {@code multipart/form-data} body. The body is read through a fixed size
+ * buffer, so memory usage does not depend on the body size: part content is collected in memory up
+ * to {@link MultipartConfig#fileSizeThreshold()} and written to a temporary file afterwards.
+ */
+final class MultipartParser {
+
+  static final String TEMP_FILE_PREFIX = "bring-part-";
+  static final String TEMP_FILE_SUFFIX = ".tmp";
+  private static final int BUFFER_SIZE = 16 * 1024;
+  private static final int MAX_HEADERS_SIZE = 8 * 1024;
+  private static final byte CR = '\r';
+  private static final byte LF = '\n';
+  private static final byte[] HEADERS_END = {CR, LF, CR, LF};
+
+  private final InputStream body;
+  private final MultipartConfig config;
+  private final byte[] delimiter;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+  private int limit;
+  private long requestSize;
+
+  /**
+   * Create parser of the body with the specified boundary.
+   *
+   * @param body     multipart body
+   * @param boundary boundary from {@code Content-Type} header
+   * @param config   multipart limits
+   */
+  MultipartParser(InputStream body, String boundary, MultipartConfig config) {
+    this.body = body;
+    this.config = config;
+    this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+    // the first boundary has no leading CRLF, start with it to find all boundaries the same way
+    buffer[limit++] = CR;
+    buffer[limit++] = LF;
+  }
+
+  /**
+   * Parse all parts of the body.
+   *
+   * @return parsed parts in order of the body
+   * @throws IOException        if the body could not be read or a part could not be spooled
+   * @throws MultipartException if the body is malformed or exceeds the size limits
+   */
+  List<MultipartFile> parse() throws IOException {
+    List<MultipartFile> parts = new ArrayList<>();
+    try {
+      readUntilDelimiter(null);
+      while (!isLastBoundary()) {
+        parts.add(readPart(readHeaders()));
+      }
+      return parts;
+    } catch (IOException | RuntimeException e) {
+      parts.forEach(MultipartFile::delete);
+      throw e;
+    }
+  }
+
+  private boolean isLastBoundary() throws IOException {
+    require(2);
+    if (buffer[position] == '-' && buffer[position + 1] == '-') {
+      return true;
+    }
+    // skip transport padding and line break after the boundary
+    while (true) {
+      require(1);
+      byte next = buffer[position++];
+      if (next == LF) {
+        return false;
+      }
+      if (next != ' ' && next != '\t' && next != CR) {
+        throw new MultipartException("Malformed multipart body: boundary is not followed by CRLF");
+      }
+    }
+  }
+
+  private Map<String, String> readHeaders() throws IOException {
+    require(2);
+    if (buffer[position] == CR && buffer[position + 1] == LF) {
+      position += 2;
+      return Map.of();
+    }
+    int headersEnd;
+    while ((headersEnd = indexOf(HEADERS_END, position)) == -1) {
+      if (limit - position > MAX_HEADERS_SIZE) {
+        throw new MultipartException(
+            "Multipart headers exceed %d bytes".formatted(MAX_HEADERS_SIZE));
+      }
+      require(limit - position + 1);
+    }
+    String headerBlock = new String(buffer, position, headersEnd - position,
+        StandardCharsets.UTF_8);
+    position = headersEnd + HEADERS_END.length;
+    Map<String, String> headers = new HashMap<>();
+    for (String line : headerBlock.split("\r\n")) {
+      int separatorIndex = line.indexOf(':');
+      if (separatorIndex > 0) {
+        headers.put(line.substring(0, separatorIndex).trim().toLowerCase(Locale.ROOT),
+            line.substring(separatorIndex + 1).trim());
+      }
+    }
+    return headers;
+  }
+
+  private MultipartFile readPart(Map<String, String> headers) throws IOException {
+    String disposition = headers.get("content-disposition");
+    String name = disposition == null ? null : getParameter(disposition, "name");
+    if (name == null) {
+      throw new MultipartException("Multipart part has no name in Content-Disposition header");
+    }
+    PartWriter writer = new PartWriter(name);
+    try {
+      readUntilDelimiter(writer);
+    } catch (IOException | RuntimeException e) {
+      writer.discard();
+      throw e;
+    }
+    return writer.toPart(getParameter(disposition, "filename"), headers.get("content-type"));
+  }
+
+  /**
+   * Consume the body up to and including the next delimiter, passing the consumed bytes to the
+   * writer.
+   */
+  private void readUntilDelimiter(PartWriter writer) throws IOException {
+    while (true) {
+      int delimiterIndex = indexOf(delimiter, position);
+      if (delimiterIndex != -1) {
+        write(writer, delimiterIndex);
+        position = delimiterIndex + delimiter.length;
+        return;
+      }
+      // bytes which could start the delimiter are kept until more data is read
+      int safeLimit = limit - delimiter.length + 1;
+      if (safeLimit > position) {
+        write(writer, safeLimit);
+        position = safeLimit;
+      }
+      if (!fill()) {
+        throw new MultipartException("Malformed multipart body: closing boundary not found");
+      }
+    }
+  }
+
+  private void write(PartWriter writer, int end) throws IOException {
+    if (writer != null && end > position) {
+      writer.write(buffer, position, end - position);
+    }
+  }
+
+  private void require(int bytes) throws IOException {
+    while (limit - position < bytes) {
+      if (!fill()) {
+        throw new MultipartException("Malformed multipart body: unexpected end of body");
+      }
+    }
+  }
+
+  private boolean fill() throws IOException {
+    if (position > 0) {
+      System.arraycopy(buffer, position, buffer, 0, limit - position);
+      limit -= position;
+      position = 0;
+    }
+    if (limit == buffer.length) {
+      return false;
+    }
+    int read = body.read(buffer, limit, buffer.length - limit);
+    if (read == -1) {
+      return false;
+    }
+    requestSize += read;
+    if (requestSize > config.maxRequestSize()) {
+      throw new MultipartException("Multipart request exceeds maximum size of %d bytes"
+          .formatted(config.maxRequestSize()));
+    }
+    limit += read;
+    return true;
+  }
+
+  private int indexOf(byte[] pattern, int from) {
+    int last = limit - pattern.length;
+    for (int i = from; i <= last; i++) {
+      if (buffer[i] != pattern[0]) {
+        continue;
+      }
+      int j = 1;
+      while (j < pattern.length && buffer[i + j] == pattern[j]) {
+        j++;
+      }
+      if (j == pattern.length) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Return parameter of header value like {@code form-data; name="file"; filename="a.txt"}.
+   */
+  static String getParameter(String headerValue, String parameterName) {
+    int index = 0;
+    int length = headerValue.length();
+    while (index < length) {
+      int separatorIndex = headerValue.indexOf(';', index);
+      if (separatorIndex == -1) {
+        return null;
+      }
+      index = separatorIndex + 1;
+      int equalsIndex = headerValue.indexOf('=', index);
+      if (equalsIndex == -1) {
+        return null;
+      }
+      String name = headerValue.substring(index, equalsIndex).trim();
+      index = equalsIndex + 1;
+      String value;
+      if (index < length && headerValue.charAt(index) == '"') {
+        int closingQuoteIndex = headerValue.indexOf('"', index + 1);
+        if (closingQuoteIndex == -1) {
+          closingQuoteIndex = length;
+        }
+        value = headerValue.substring(index + 1, closingQuoteIndex);
+        index = closingQuoteIndex + 1;
+      } else {
+        int endIndex = headerValue.indexOf(';', index);
+        if (endIndex == -1) {
+          endIndex = length;
+        }
+        value = headerValue.substring(index, endIndex).trim();
+        index = endIndex;
+      }
+      if (name.equalsIgnoreCase(parameterName)) {
+        return value;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Collects part content in memory and switches to a temporary file once the content exceeds the
+   * file size threshold.
+   */
+  private class PartWriter {
+
+    private final String name;
+    private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+    private OutputStream fileOutput;
+    private Path file;
+    private long size;
+
+    PartWriter(String name) {
+      this.name = name;
+    }
+
+    void write(byte[] bytes, int offset, int length) throws IOException {
+      size += length;
+      if (size > config.maxPartSize()) {
+        throw new MultipartException("Multipart part [%s] exceeds maximum size of %d bytes"
+            .formatted(name, config.maxPartSize()));
+      }
+      if (fileOutput == null && size > config.fileSizeThreshold()) {
+        file = Files.createTempFile(config.location(), TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+        fileOutput = Files.newOutputStream(file);
+        memory.writeTo(fileOutput);
+        memory = null;
+      }
+      if (fileOutput == null) {
+        memory.write(bytes, offset, length);
+      } else {
+        fileOutput.write(bytes, offset, length);
+      }
+    }
+
+    MultipartFile toPart(String filename, String contentType) throws IOException {
+      if (fileOutput != null) {
+        fileOutput.close();
+      }
+      return new MultipartFile(name, filename, contentType, size,
+          memory == null ? null : memory.toByteArray(), file, config.location());
+    }
+
+    void discard() throws IOException {
+      if (fileOutput != null) {
+        fileOutput.close();
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+}
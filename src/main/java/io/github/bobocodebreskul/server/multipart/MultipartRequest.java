@@ -0,0 +1,107 @@
+package io.github.bobocodebreskul.server.multipart;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.server.exception.MultipartException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+
+/**
+ * Parsed {@code multipart/form-data} request. Parts are available by name until the request is
+ * processed, then {@link #close()} deletes spooled part files which are not transferred.
+ */
+public class MultipartRequest implements AutoCloseable {
+
+  private final static Logger log = LoggerFactory.getLogger(MultipartRequest.class);
+  /**
+   * Name of the request attribute holding the parsed multipart request.
+   */
+  public static final String ATTRIBUTE_NAME = MultipartRequest.class.getName();
+  private static final String MULTIPART_FORM_DATA = "multipart/form-data";
+
+  private final Map<String, List<MultipartFile>> parts = new LinkedHashMap<>();
+
+  private MultipartRequest(List<MultipartFile> parts) {
+    for (MultipartFile part : parts) {
+      this.parts.computeIfAbsent(part.getName(), name -> new ArrayList<>(1)).add(part);
+    }
+  }
+
+  /**
+   * Check whether the content type is {@code multipart/form-data}.
+   *
+   * @param contentType {@code Content-Type} header value, could be {@code null}
+   * @return {@code true} for multipart form data
+   */
+  public static boolean isMultipart(String contentType) {
+    return contentType != null
+        && contentType.toLowerCase(Locale.ROOT).startsWith(MULTIPART_FORM_DATA);
+  }
+
+  /**
+   * Parse multipart body with the boundary of the content type.
+   *
+   * @param body        request body
+   * @param contentType {@code Content-Type} header value with boundary parameter
+   * @param config      multipart limits
+   * @return parsed multipart request
+   * @throws IOException        if the body could not be read or a part could not be spooled
+   * @throws MultipartException if the body is malformed or exceeds the size limits
+   */
+  public static MultipartRequest parse(InputStream body, String contentType,
+      MultipartConfig config) throws IOException {
+    String boundary = MultipartParser.getParameter(contentType, "boundary");
+    if (boundary == null || boundary.isEmpty()) {
+      throw new MultipartException(
+          "Multipart boundary is not found in content type [%s]".formatted(contentType));
+    }
+    List<MultipartFile> parts = new MultipartParser(body, boundary, config).parse();
+    log.debug("Parsed multipart request with {} parts", parts.size());
+    return new MultipartRequest(parts);
+  }
+
+  /**
+   * Return the first part with the specified name.
+   *
+   * @param name part name
+   * @return part or {@code null} if it is absent
+   */
+  public MultipartFile getPart(String name) {
+    List<MultipartFile> namedParts = parts.get(name);
+    return namedParts == null ? null : namedParts.get(0);
+  }
+
+  /**
+   * Return all parts with the specified name, e.g. files of multiple file input.
+   *
+   * @param name part name
+   * @return unmodifiable list of parts, empty if there is no such part
+   */
+  public List<MultipartFile> getParts(String name) {
+    return Collections.unmodifiableList(parts.getOrDefault(name, List.of()));
+  }
+
+  /**
+   * Return names of all parts.
+   *
+   * @return unmodifiable set of part names in order of the body
+   */
+  public Set<String> getPartNames() {
+    return Collections.unmodifiableSet(parts.keySet());
+  }
+
+  /**
+   * Delete spooled files of parts which are not transferred.
+   */
+  @Override
+  public void close() {
+    parts.values().forEach(namedParts -> namedParts.forEach(MultipartFile::delete));
+  }
+}
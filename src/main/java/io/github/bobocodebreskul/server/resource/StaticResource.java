@@ -0,0 +1,154 @@
+package io.github.bobocodebreskul.server.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Resolved static resource with metadata computed once on resolution. Small resources keep their
+ * content in memory, large filesystem resources are transferred from a channel opened per request,
+ * so a file changed after resolution is detected instead of being read through stale state.
+ */
+final class StaticResource {
+
+  private static final int COPY_BUFFER_SIZE = 16 * 1024;
+
+  private final String contentType;
+  private final long length;
+  private final long lastModified;
+  private final String etag;
+  private final String lastModifiedHeader;
+  private final Path file;
+  private final URL url;
+  private final byte[] content;
+  private final StaticResource gzip;
+
+  /**
+   * Create resource, either file or url should be specified.
+   *
+   * @param contentType  {@code Content-Type} header value
+   * @param length       content length in bytes
+   * @param lastModified last modification time in milliseconds
+   * @param file         filesystem file, {@code null} for resources in archives
+   * @param url          resource url, used when file is {@code null}
+   * @param content      cached content or {@code null} if the resource is not cached
+   * @param gzip         precompressed {@code .gz} variant or {@code null}
+   */
+  StaticResource(String contentType, long length, long lastModified, Path file, URL url,
+      byte[] content, StaticResource gzip) {
+    this.contentType = contentType;
+    this.length = length;
+    // HTTP dates have seconds precision
+    this.lastModified = lastModified / 1000 * 1000;
+    this.etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(this.lastModified) + "\"";
+    this.lastModifiedHeader = DateTimeFormatter.RFC_1123_DATE_TIME
+        .format(Instant.ofEpochMilli(this.lastModified).atOffset(ZoneOffset.UTC));
+    this.file = file;
+    this.url = url;
+    this.content = content;
+    this.gzip = gzip;
+  }
+
+  String getContentType() {
+    return contentType;
+  }
+
+  long getLength() {
+    return length;
+  }
+
+  long getLastModified() {
+    return lastModified;
+  }
+
+  String getEtag() {
+    return etag;
+  }
+
+  String getLastModifiedHeader() {
+    return lastModifiedHeader;
+  }
+
+  Path getFile() {
+    return file;
+  }
+
+  boolean isCached() {
+    return content != null;
+  }
+
+  StaticResource getGzip() {
+    return gzip;
+  }
+
+  /**
+   * Return size of the cached content including the gzip variant.
+   *
+   * @return cached bytes
+   */
+  long getCachedSize() {
+    return (content == null ? 0 : content.length) + (gzip == null ? 0 : gzip.getCachedSize());
+  }
+
+  /**
+   * Write the content range into the output stream.
+   *
+   * @param out   response body
+   * @param start first byte index, inclusive
+   * @param end   last byte index, exclusive
+   * @throws IOException if the content could not be read or written, or the file size differs
+   *                     from the resolved length
+   */
+  void writeTo(OutputStream out, long start, long end) throws IOException {
+    if (content != null) {
+      out.write(content, (int) start, (int) (end - start));
+    } else if (file != null) {
+      writeFile(out, start, end);
+    } else {
+      try (InputStream in = url.openStream()) {
+        in.skipNBytes(start);
+        copy(in, out, end - start);
+      }
+    }
+  }
+
+  private void writeFile(OutputStream out, long start, long end) throws IOException {
+    WritableByteChannel channel = Channels.newChannel(out);
+    try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (fileChannel.size() != length) {
+        throw new IOException("Static resource [%s] changed after it was resolved".formatted(file));
+      }
+      long position = start;
+      while (position < end) {
+        long transferred = fileChannel.transferTo(position, end - position, channel);
+        if (transferred <= 0) {
+          throw new IOException("Static resource [%s] truncated while it was served"
+              .formatted(file));
+        }
+        position += transferred;
+      }
+    }
+  }
+
+  private void copy(InputStream in, OutputStream out, long count) throws IOException {
+    byte[] buffer = new byte[COPY_BUFFER_SIZE];
+    long remaining = count;
+    while (remaining > 0) {
+      int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+      if (read == -1) {
+        throw new IOException("Unexpected end of resource [%s]".formatted(url));
+      }
+      out.write(buffer, 0, read);
+      remaining -= read;
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package io.github.bobocodebreskul.server.resource;
+
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getPropertyAsIntOrDefault;
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getPropertyAsLongOrDefault;
+import static io.github.bobocodebreskul.config.PropertiesConfiguration.getPropertyOrDefault;
+
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Settings of static resource serving.
+ *
+ * @param locations         resource locations, {@code classpath:} prefixed classpath directories or
+ *                          filesystem directories, checked in order
+ * @param pathPrefix        request path prefix of static resources
+ * @param maxCachedFileSize maximum size in bytes of a file kept in the in-memory cache
+ * @param maxCacheSize      maximum total size in bytes of the in-memory cache
+ * @param cacheControl      {@code Cache-Control} header value of static resources, could be
+ *                          {@code null}
+ * @param refreshInterval   interval in milliseconds after which filesystem resources are checked
+ *                          for changes, negative value disables the check
+ */
+public record StaticResourceConfig(List<String> locations, String pathPrefix,
+                                   int maxCachedFileSize, long maxCacheSize, String cacheControl,
+                                   long refreshInterval) {
+
+  private static final int DEFAULT_MAX_CACHED_FILE_SIZE = 64 * 1024;
+  private static final long DEFAULT_MAX_CACHE_SIZE = 16L * 1024 * 1024;
+
+  /**
+   * Create configuration from "server.static.*" properties.
+   *
+   * @return static resource configuration
+   * @throws InvalidPropertyValueException if a size or interval property is not a number
+   */
+  public static StaticResourceConfig fromProperties() {
+    List<String> locations = Arrays.stream(getPropertyOrDefault("server.static.locations", "")
+            .split(","))
+        .map(String::trim)
+        .filter(location -> !location.isEmpty())
+        .toList();
+    return new StaticResourceConfig(locations,
+        getPropertyOrDefault("server.static.path-prefix", "/"),
+        getPropertyAsIntOrDefault("server.static.cache.max-file-size",
+            DEFAULT_MAX_CACHED_FILE_SIZE),
+        getPropertyAsLongOrDefault("server.static.cache.max-size", DEFAULT_MAX_CACHE_SIZE),
+        getPropertyOrDefault("server.static.cache-control", null),
+        getPropertyAsIntOrDefault("server.static.refresh-interval", 1000));
+  }
+
+  /**
+   * Check whether static resources are served, at least one location should be configured.
+   *
+   * @return {@code true} if static resources are served
+   */
+  public boolean isEnabled() {
+    return !locations.isEmpty();
+  }
+}
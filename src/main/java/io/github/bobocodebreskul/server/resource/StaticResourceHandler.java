@@ -0,0 +1,519 @@
+package io.github.bobocodebreskul.server.resource;
+
+import io.github.bobocodebreskul.config.LoggerFactory;
+import io.github.bobocodebreskul.server.WebExchange;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+
+/**
+ * Serves {@code GET} and {@code HEAD} requests of static files from classpath and filesystem
+ * locations.
+ * <p>
+ * Resources are resolved once and kept with precomputed {@code ETag}, {@code Last-Modified} and
+ * {@code Content-Type} values, filesystem resources are checked for changes at most once per
+ * {@link StaticResourceConfig#refreshInterval()}. Small resources are cached in memory, large files
+ * are sent with Tomcat sendfile when the connector supports it and transferred from the file
+ * channel otherwise, a file which changed since it was resolved is resolved again. Conditional requests, single byte ranges and precompressed {@code .gz}
+ * siblings are supported.
+ */
+public class StaticResourceHandler {
+
+  private final static Logger log = LoggerFactory.getLogger(StaticResourceHandler.class);
+  private static final String CLASSPATH_PREFIX = "classpath:";
+  private static final String FILE_PREFIX = "file:";
+  private static final String INDEX_FILE = "index.html";
+  private static final String GZIP_EXTENSION = ".gz";
+  private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+  private static final Map<String, String> CONTENT_TYPES = Map.ofEntries(
+      Map.entry("html", "text/html; charset=UTF-8"),
+      Map.entry("htm", "text/html; charset=UTF-8"),
+      Map.entry("css", "text/css; charset=UTF-8"),
+      Map.entry("js", "text/javascript; charset=UTF-8"),
+      Map.entry("mjs", "text/javascript; charset=UTF-8"),
+      Map.entry("json", "application/json"),
+      Map.entry("map", "application/json"),
+      Map.entry("txt", "text/plain; charset=UTF-8"),
+      Map.entry("xml", "application/xml"),
+      Map.entry("svg", "image/svg+xml"),
+      Map.entry("png", "image/png"),
+      Map.entry("jpg", "image/jpeg"),
+      Map.entry("jpeg", "image/jpeg"),
+      Map.entry("gif", "image/gif"),
+      Map.entry("webp", "image/webp"),
+      Map.entry("ico", "image/x-icon"),
+      Map.entry("woff", "font/woff"),
+      Map.entry("woff2", "font/woff2"),
+      Map.entry("wasm", "application/wasm"),
+      Map.entry("pdf", "application/pdf"),
+      Map.entry("zip", "application/zip"));
+  private static final int MAX_CACHED_PATHS = 10_000;
+  private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+  private static final long[] UNSATISFIABLE_RANGE = new long[0];
+  private static final int SC_OK = 200;
+  private static final int SC_PARTIAL_CONTENT = 206;
+  private static final int SC_NOT_MODIFIED = 304;
+  private static final int SC_RANGE_NOT_SATISFIABLE = 416;
+
+  private final StaticResourceConfig config;
+  private final ClassLoader classLoader;
+  private final List<String> classpathLocations = new ArrayList<>();
+  private final List<Path> fileLocations = new ArrayList<>();
+  private final String pathPrefix;
+  private final Map<String, Lookup> lookups = new ConcurrentHashMap<>();
+  private final AtomicLong cachedBytes = new AtomicLong();
+
+  /**
+   * Create handler of the configured locations. Classpath resources are loaded with the context
+   * class loader of the current thread.
+   *
+   * @param config static resource settings
+   */
+  public StaticResourceHandler(StaticResourceConfig config) {
+    this(config, Thread.currentThread().getContextClassLoader());
+  }
+
+  /**
+   * Create handler of the configured locations.
+   *
+   * @param config      static resource settings
+   * @param classLoader class loader of classpath resources
+   */
+  public StaticResourceHandler(StaticResourceConfig config, ClassLoader classLoader) {
+    this.config = config;
+    this.classLoader = classLoader;
+    String prefix = config.pathPrefix().startsWith("/")
+        ? config.pathPrefix()
+        : "/" + config.pathPrefix();
+    this.pathPrefix = prefix.endsWith("/") ? prefix : prefix + "/";
+    for (String location : config.locations()) {
+      if (location.startsWith(CLASSPATH_PREFIX)) {
+        String classpathLocation = location.substring(CLASSPATH_PREFIX.length());
+        classpathLocation = classpathLocation.startsWith("/")
+            ? classpathLocation.substring(1)
+            : classpathLocation;
+        classpathLocations.add(classpathLocation.isEmpty() || classpathLocation.endsWith("/")
+            ? classpathLocation
+            : classpathLocation + "/");
+      } else {
+        String fileLocation = location.startsWith(FILE_PREFIX)
+            ? location.substring(FILE_PREFIX.length())
+            : location;
+        fileLocations.add(Path.of(fileLocation).toAbsolutePath().normalize());
+      }
+    }
+    log.info("Static resources are served from {} with path prefix {}", config.locations(),
+        pathPrefix);
+  }
+
+  /**
+   * Serve the static resource matching the request path.
+   *
+   * @param exchange current request/response pair
+   * @return {@code true} if the response is written, {@code false} if there is no such resource
+   * @throws IOException if the resource could not be read or written
+   */
+  public boolean handle(WebExchange exchange) throws IOException {
+    String method = exchange.getMethod();
+    boolean head = "HEAD".equals(method);
+    if (!head && !"GET".equals(method)) {
+      return false;
+    }
+    String path = exchange.getPath();
+    if (path == null || !(path + "/").startsWith(pathPrefix)) {
+      return false;
+    }
+    String relativePath = path.length() < pathPrefix.length()
+        ? ""
+        : path.substring(pathPrefix.length());
+    if (relativePath.isEmpty() || relativePath.endsWith("/")) {
+      relativePath += INDEX_FILE;
+    }
+    if (!isSafe(relativePath)) {
+      log.debug("Rejected static resource path: {}", path);
+      return false;
+    }
+    StaticResource resource = getResource(relativePath);
+    if (resource == null) {
+      return false;
+    }
+    try {
+      serve(exchange, resource, head);
+    } catch (IOException e) {
+      // the file could have changed after resolution, resolve it again on the next request
+      invalidate(relativePath);
+      throw e;
+    }
+    return true;
+  }
+
+  private void serve(WebExchange exchange, StaticResource resource, boolean head)
+      throws IOException {
+    String range = exchange.getHeader("range");
+    StaticResource representation = resource.getGzip() != null && range == null
+        && acceptsGzip(exchange.getHeader("accept-encoding"))
+        ? resource.getGzip()
+        : resource;
+
+    exchange.setHeader("Content-Type", resource.getContentType());
+    exchange.setHeader("ETag", representation.getEtag());
+    exchange.setHeader("Last-Modified", representation.getLastModifiedHeader());
+    exchange.setHeader("Accept-Ranges", "bytes");
+    if (config.cacheControl() != null) {
+      exchange.setHeader("Cache-Control", config.cacheControl());
+    }
+    if (resource.getGzip() != null) {
+      exchange.setHeader("Vary", "Accept-Encoding");
+    }
+    if (representation != resource) {
+      exchange.setHeader("Content-Encoding", "gzip");
+    }
+    if (isNotModified(exchange, representation)) {
+      exchange.setStatus(SC_NOT_MODIFIED);
+      return;
+    }
+
+    long length = representation.getLength();
+    long start = 0;
+    long end = length;
+    int status = SC_OK;
+    if (range != null && isRangeApplicable(exchange.getHeader("if-range"), representation)) {
+      long[] byteRange = parseRange(range, length);
+      if (byteRange == UNSATISFIABLE_RANGE) {
+        exchange.setStatus(SC_RANGE_NOT_SATISFIABLE);
+        exchange.setHeader("Content-Range", "bytes */" + length);
+        return;
+      }
+      if (byteRange != null) {
+        start = byteRange[0];
+        end = byteRange[1];
+        status = SC_PARTIAL_CONTENT;
+        exchange.setHeader("Content-Range",
+            "bytes %d-%d/%d".formatted(start, end - 1, length));
+      }
+    }
+    exchange.setStatus(status);
+    if (head || start == end) {
+      return;
+    }
+    if (!representation.isCached() && representation.getFile() != null
+        && Boolean.TRUE.equals(exchange.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+      // the connector writes the file region after the dispatch without copying it to user space
+      exchange.setHeader("Content-Length", String.valueOf(end - start));
+      exchange.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, representation.getFile().toString());
+      exchange.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+      exchange.setAttribute(SENDFILE_END_ATTRIBUTE, end);
+      return;
+    }
+    representation.writeTo(exchange.getOutputStream(), start, end);
+  }
+
+  private StaticResource getResource(String relativePath) throws IOException {
+    long now = System.currentTimeMillis();
+    Lookup lookup = lookups.get(relativePath);
+    if (lookup != null && !isStale(lookup, now)) {
+      return lookup.resource();
+    }
+    StaticResource resource = resolve(relativePath, lookup == null ? null : lookup.resource());
+    if (lookup != null || lookups.size() < MAX_CACHED_PATHS) {
+      Lookup previous = lookups.put(relativePath, new Lookup(resource, now));
+      if (previous != null && previous.resource() != null && previous.resource() != resource) {
+        cachedBytes.addAndGet(-previous.resource().getCachedSize());
+      }
+    } else if (resource != null) {
+      // the lookup is not kept, so its content does not occupy the cache
+      cachedBytes.addAndGet(-resource.getCachedSize());
+    }
+    return resource;
+  }
+
+  private void invalidate(String relativePath) {
+    Lookup removed = lookups.remove(relativePath);
+    if (removed != null && removed.resource() != null) {
+      cachedBytes.addAndGet(-removed.resource().getCachedSize());
+    }
+  }
+
+  private boolean isStale(Lookup lookup, long now) {
+    if (config.refreshInterval() < 0 || now - lookup.checkedAt() < config.refreshInterval()) {
+      return false;
+    }
+    // resources in archives do not change while the application is running
+    return lookup.resource() == null || lookup.resource().getFile() != null;
+  }
+
+  private StaticResource resolve(String relativePath, StaticResource current) throws IOException {
+    for (String location : classpathLocations) {
+      URL url = classLoader.getResource(location + relativePath);
+      if (url != null) {
+        if ("file".equals(url.getProtocol())) {
+          StaticResource resource = resolveFile(toPath(url), relativePath, current);
+          if (resource != null) {
+            return resource;
+          }
+        } else {
+          return resolveUrl(url, location + relativePath, relativePath);
+        }
+      }
+    }
+    for (Path location : fileLocations) {
+      Path file = location.resolve(relativePath).normalize();
+      if (file.startsWith(location)) {
+        StaticResource resource = resolveFile(file, relativePath, current);
+        if (resource != null) {
+          return resource;
+        }
+      }
+    }
+    return null;
+  }
+
+  private StaticResource resolveFile(Path file, String relativePath, StaticResource current)
+      throws IOException {
+    BasicFileAttributes attributes = readAttributes(file);
+    if (attributes == null || !attributes.isRegularFile()) {
+      return null;
+    }
+    long lastModified = attributes.lastModifiedTime().toMillis();
+    Path gzipFile = file.resolveSibling(file.getFileName() + GZIP_EXTENSION);
+    BasicFileAttributes gzipAttributes = readAttributes(gzipFile);
+    StaticResource gzip = gzipAttributes == null || !gzipAttributes.isRegularFile()
+        ? null
+        : createFileResource(gzipFile, gzipAttributes, getContentType(relativePath), null);
+    if (current != null && file.equals(current.getFile())
+        && current.getLength() == attributes.size()
+        && current.getLastModified() == lastModified / 1000 * 1000
+        && isSameGzip(current.getGzip(), gzip)) {
+      if (gzip != null) {
+        cachedBytes.addAndGet(-gzip.getCachedSize());
+      }
+      return current;
+    }
+    log.debug("Resolved static resource {} to {}", relativePath, file);
+    return createFileResource(file, attributes, getContentType(relativePath), gzip);
+  }
+
+  private static boolean isSameGzip(StaticResource current, StaticResource gzip) {
+    if (current == null || gzip == null) {
+      return current == gzip;
+    }
+    return current.getLength() == gzip.getLength()
+        && current.getLastModified() == gzip.getLastModified();
+  }
+
+  private StaticResource createFileResource(Path file, BasicFileAttributes attributes,
+      String contentType, StaticResource gzip) throws IOException {
+    byte[] content = reserveCache(attributes.size()) ? Files.readAllBytes(file) : null;
+    return new StaticResource(contentType, attributes.size(),
+        attributes.lastModifiedTime().toMillis(), file, null, content, gzip);
+  }
+
+  private StaticResource resolveUrl(URL url, String name, String relativePath)
+      throws IOException {
+    StaticResource gzip = null;
+    URL gzipUrl = classLoader.getResource(name + GZIP_EXTENSION);
+    if (gzipUrl != null) {
+      gzip = createUrlResource(gzipUrl, getContentType(relativePath), null);
+    }
+    log.debug("Resolved static resource {} to {}", relativePath, url);
+    return createUrlResource(url, getContentType(relativePath), gzip);
+  }
+
+  private StaticResource createUrlResource(URL url, String contentType, StaticResource gzip)
+      throws IOException {
+    URLConnection connection = url.openConnection();
+    long length = connection.getContentLengthLong();
+    long lastModified = connection.getLastModified();
+    byte[] content = null;
+    if (length < 0 || reserveCache(length)) {
+      try (InputStream in = connection.getInputStream()) {
+        content = in.readAllBytes();
+      }
+      if (length < 0) {
+        length = content.length;
+      }
+    } else {
+      // only the metadata is needed, the content is streamed on every request
+      connection.getInputStream().close();
+    }
+    return new StaticResource(contentType, length, lastModified, null, url, content, gzip);
+  }
+
+  private boolean reserveCache(long size) {
+    if (size > config.maxCachedFileSize()) {
+      return false;
+    }
+    long cached;
+    do {
+      cached = cachedBytes.get();
+      if (cached + size > config.maxCacheSize()) {
+        return false;
+      }
+    } while (!cachedBytes.compareAndSet(cached, cached + size));
+    return true;
+  }
+
+  private static BasicFileAttributes readAttributes(Path file) throws IOException {
+    try {
+      return Files.readAttributes(file, BasicFileAttributes.class);
+    } catch (NoSuchFileException e) {
+      return null;
+    }
+  }
+
+  private static Path toPath(URL url) throws IOException {
+    try {
+      return Path.of(url.toURI());
+    } catch (URISyntaxException e) {
+      throw new IOException("Invalid static resource url [%s]".formatted(url), e);
+    }
+  }
+
+  private static boolean isSafe(String relativePath) {
+    if (relativePath.startsWith("/") || relativePath.indexOf('\\') != -1
+        || relativePath.indexOf('\0') != -1) {
+      return false;
+    }
+    for (String segment : relativePath.split("/")) {
+      if (segment.equals("..") || segment.equals(".")) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String getContentType(String relativePath) {
+    int extensionIndex = relativePath.lastIndexOf('.');
+    if (extensionIndex != -1) {
+      String contentType = CONTENT_TYPES.get(
+          relativePath.substring(extensionIndex + 1).toLowerCase(Locale.ROOT));
+      if (contentType != null) {
+        return contentType;
+      }
+    }
+    String contentType = URLConnection.getFileNameMap().getContentTypeFor(relativePath);
+    return contentType == null ? DEFAULT_CONTENT_TYPE : contentType;
+  }
+
+  private static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+      String name = parts[0].trim();
+      if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+        return parts.length == 1 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+      }
+    }
+    return false;
+  }
+
+  private static boolean isNotModified(WebExchange exchange, StaticResource resource) {
+    String ifNoneMatch = exchange.getHeader("if-none-match");
+    if (ifNoneMatch != null) {
+      for (String etag : ifNoneMatch.split(",")) {
+        String value = etag.trim();
+        if (value.equals("*") || stripWeak(value).equals(resource.getEtag())) {
+          return true;
+        }
+      }
+      return false;
+    }
+    Long ifModifiedSince = parseDate(exchange.getHeader("if-modified-since"));
+    return ifModifiedSince != null && resource.getLastModified() <= ifModifiedSince;
+  }
+
+  private static boolean isRangeApplicable(String ifRange, StaticResource resource) {
+    if (ifRange == null) {
+      return true;
+    }
+    if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+      // weak validators are not used for ranges
+      return ifRange.equals(resource.getEtag());
+    }
+    Long date = parseDate(ifRange);
+    return date != null && date == resource.getLastModified();
+  }
+
+  /**
+   * Parse single range of {@code Range} header.
+   *
+   * @return start inclusive and end exclusive, {@link #UNSATISFIABLE_RANGE} or {@code null} if
+   * the header is malformed or has several ranges, then the whole content is sent
+   */
+  private static long[] parseRange(String range, long length) {
+    if (!range.startsWith("bytes=") || range.indexOf(',') != -1) {
+      return null;
+    }
+    String spec = range.substring("bytes=".length()).trim();
+    int dashIndex = spec.indexOf('-');
+    if (dashIndex == -1) {
+      return null;
+    }
+    try {
+      String first = spec.substring(0, dashIndex).trim();
+      String last = spec.substring(dashIndex + 1).trim();
+      if (first.isEmpty()) {
+        long suffixLength = Long.parseLong(last);
+        if (suffixLength <= 0 || length == 0) {
+          return UNSATISFIABLE_RANGE;
+        }
+        return new long[]{Math.max(0, length - suffixLength), length};
+      }
+      long start = Long.parseLong(first);
+      long end = last.isEmpty() ? length : Long.parseLong(last) + 1;
+      if (start < 0 || !last.isEmpty() && end <= start) {
+        return null;
+      }
+      if (start >= length) {
+        return UNSATISFIABLE_RANGE;
+      }
+      return new long[]{start, Math.min(end, length)};
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static String stripWeak(String etag) {
+    return etag.startsWith("W/") ? etag.substring(2) : etag;
+  }
+
+  private static Long parseDate(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant()
+          .toEpochMilli();
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Result of resolution of the request path, {@code null} resource stands for a missing one.
+   */
+  private record Lookup(StaticResource resource, long checkedAt) {
+
+  }
+}
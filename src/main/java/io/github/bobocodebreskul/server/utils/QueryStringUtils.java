@@ -0,0 +1,77 @@
+package io.github.bobocodebreskul.server.utils;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility class reading single parameters from the raw {@code application/x-www-form-urlencoded}
+ * query string without parsing all of its parameters. Pairs with malformed percent-encoding are
+ * skipped, like the servlet container skips them when it parses parameters.
+ */
+@UtilityClass
+public class QueryStringUtils {
+
+  /**
+   * Find the first value of the parameter in the raw query string. Only the names are scanned,
+   * percent-decoding is applied to encoded names and to the found value. Pairs which can not be
+   * decoded are ignored.
+   *
+   * @param rawQuery raw query string without leading {@code ?}, could be {@code null}
+   * @param name     decoded parameter name
+   * @return decoded parameter value, empty string for parameter without value or {@code null} if
+   * the parameter is absent
+   */
+  public static String getFirstValue(String rawQuery, String name) {
+    if (rawQuery == null || rawQuery.isEmpty()) {
+      return null;
+    }
+    int length = rawQuery.length();
+    int start = 0;
+    while (start < length) {
+      int end = rawQuery.indexOf('&', start);
+      if (end == -1) {
+        end = length;
+      }
+      int separator = rawQuery.indexOf('=', start);
+      int nameEnd = separator == -1 || separator > end ? end : separator;
+      if (nameMatches(rawQuery, start, nameEnd, name)) {
+        String value = nameEnd == end ? "" : decode(rawQuery.substring(nameEnd + 1, end));
+        if (value != null) {
+          return value;
+        }
+      }
+      start = end + 1;
+    }
+    return null;
+  }
+
+  private static boolean nameMatches(String rawQuery, int start, int end, String name) {
+    if (isEncoded(rawQuery, start, end)) {
+      return name.equals(decode(rawQuery.substring(start, end)));
+    }
+    return end - start == name.length() && rawQuery.startsWith(name, start);
+  }
+
+  private static boolean isEncoded(String value, int start, int end) {
+    for (int i = start; i < end; i++) {
+      char c = value.charAt(i);
+      if (c == '%' || c == '+') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String decode(String value) {
+    if (!isEncoded(value, 0, value.length())) {
+      return value;
+    }
+    try {
+      return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      // malformed escape sequence
+      return null;
+    }
+  }
+}
@@ -7,7 +7,6 @@ import io.github.bobocodebreskul.context.registry.BringContainer;
 import io.github.bobocodebreskul.demointegration.DemoApp;
 import io.github.bobocodebreskul.demointegration.controller.BaseController;
 import io.github.bobocodebreskul.demointegration.controller.RequestDto;
-import io.github.bobocodebreskul.demointegration.controller.UnsupportedRequestParamTest;
 import io.github.bobocodebreskul.server.TomcatServer;
 import java.io.IOException;
 import java.net.URI;
@@ -400,23 +399,6 @@ public class BringIntegrationTest {
   }
 
 
-  @Test
-  @DisplayName("When endpoint with request parameter of non string/primitive/wrapper type then throw exception")
-  void given_EndpointWithUnsupportedRequestParameter_When_GetEndpoint_Then_ReturnNull()
-      throws IOException, InterruptedException {
-    String url = BASE_URL +"/test/exception?test=test";
-    HttpRequest request = HttpRequest.newBuilder()
-        .GET()
-        .uri(URI.create(url))
-        .build();
-    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-    assertThat(response.statusCode()).isEqualTo(500);
-    assertThat(response.body()).isEqualTo(
-        "\"Error processing 'testParam' method parameter with type '%s', due to Error reading request parameter of type [%s]. String and primitive/wrappers allowed only\"".formatted(
-            UnsupportedRequestParamTest.class, UnsupportedRequestParamTest.class).concat(System.lineSeparator()));
-  }
-
   @Test
   @DisplayName("When endpoint with request parameter of primitive type and string value specified in request then throw exception")
   void given_EndpointWithNonConvertibleRequestParameter_When_GetEndpoint_Then_ReturnNull() throws IOException, InterruptedException {
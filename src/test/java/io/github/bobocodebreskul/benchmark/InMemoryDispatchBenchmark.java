@@ -0,0 +1,62 @@
+package io.github.bobocodebreskul.benchmark;
+
+import io.github.bobocodebreskul.context.registry.BringContainer;
+import io.github.bobocodebreskul.demointegration.DemoApp;
+import io.github.bobocodebreskul.server.InMemoryWebExchange;
+import io.github.bobocodebreskul.server.InMemoryWebServer;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the dispatch hot path (routing, argument binding, invocation and serialization) of the
+ * demo application without sockets, using {@link InMemoryWebServer}. Run with
+ * <pre>
+ * java -cp target/test-classes:target/classes:&lt;dependencies&gt; \
+ *     io.github.bobocodebreskul.benchmark.InMemoryDispatchBenchmark [path] [seconds]
+ * </pre>
+ * Allocation per request is reported when the JVM supports thread allocation counters.
+ */
+public class InMemoryDispatchBenchmark {
+
+  private static final int WARMUP_SECONDS = 5;
+
+  public static void main(String[] args) {
+    String path = args.length > 0 ? args[0] : "/url";
+    int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+    System.setProperty("logging", "WARN");
+
+    InMemoryWebServer server = new InMemoryWebServer();
+    BringContainer.run(DemoApp.class, server);
+    InMemoryWebExchange exchange = new InMemoryWebExchange("GET", path);
+    try {
+      run(server, exchange, path, WARMUP_SECONDS);
+      long allocatedBefore = allocatedBytes();
+      long requests = run(server, exchange, path, seconds);
+      long allocated = allocatedBytes() - allocatedBefore;
+      System.out.printf("path=%s status=%d throughput=%d req/s allocated=%d B/req%n", path,
+          exchange.getStatus(), requests / seconds,
+          allocatedBefore < 0 ? -1 : allocated / requests);
+    } finally {
+      server.stop();
+    }
+  }
+
+  private static long run(InMemoryWebServer server, InMemoryWebExchange exchange, String path,
+      int seconds) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    long count = 0;
+    while (System.nanoTime() < deadline) {
+      server.dispatch(exchange.reset("GET", path));
+      count++;
+    }
+    return count;
+  }
+
+  private static long allocatedBytes() {
+    if (ManagementFactory.getThreadMXBean()
+        instanceof com.sun.management.ThreadMXBean threadBean) {
+      return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,40 @@
+package io.github.bobocodebreskul.benchmark;
+
+import io.github.bobocodebreskul.context.registry.BringContainer;
+import io.github.bobocodebreskul.demointegration.DemoApp;
+import io.github.bobocodebreskul.server.TomcatServer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+
+/**
+ * Measures startup time and heap footprint of the demo application until the embedded server
+ * accepts requests. Run once per server mode in a fresh JVM, for example:
+ * <pre>
+ * java -Dserver.mode=webapp -cp target/test-classes:target/classes:&lt;dependencies&gt; \
+ *     io.github.bobocodebreskul.benchmark.ServerStartupBenchmark
+ * java -Dserver.mode=lightweight -cp ... io.github.bobocodebreskul.benchmark.ServerStartupBenchmark
+ * </pre>
+ */
+public class ServerStartupBenchmark {
+
+  public static void main(String[] args) throws InterruptedException {
+    long startNanos = System.nanoTime();
+    BringContainer.run(DemoApp.class);
+    while (!TomcatServer.getStatus().equals("STARTED")) {
+      Thread.sleep(1);
+    }
+    long startupMillis = (System.nanoTime() - startNanos) / 1_000_000;
+    long jvmUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+
+    System.gc();
+    MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    int loadedClasses = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+
+    System.out.printf("server.mode=%s startup=%d ms jvmUptime=%d ms heapUsed=%d KiB "
+            + "loadedClasses=%d%n", System.getProperty("server.mode", "webapp"), startupMillis,
+        jvmUptimeMillis, heap.getUsed() / 1024, loadedClasses);
+    TomcatServer.stop();
+    // server thread pool is not a daemon one
+    System.exit(0);
+  }
+}
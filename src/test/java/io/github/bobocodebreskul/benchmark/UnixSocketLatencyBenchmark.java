@@ -0,0 +1,130 @@
+package io.github.bobocodebreskul.benchmark;
+
+import io.github.bobocodebreskul.config.PropertiesConfiguration;
+import io.github.bobocodebreskul.context.registry.BringContainer;
+import io.github.bobocodebreskul.demointegration.DemoApp;
+import io.github.bobocodebreskul.server.TomcatServer;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Compares request latency of the demo application over loopback TCP and over a Unix domain
+ * socket. Both connectors are started in the same server, requests are sent sequentially over one
+ * keep-alive connection per transport:
+ * <pre>
+ * java -cp target/test-classes:target/classes:&lt;dependencies&gt; \
+ *     io.github.bobocodebreskul.benchmark.UnixSocketLatencyBenchmark [requests]
+ * </pre>
+ */
+public class UnixSocketLatencyBenchmark {
+
+  private static final int WARMUP_REQUESTS = 5_000;
+  private static final byte[] REQUEST = ("GET /url HTTP/1.1\r\nHost: localhost\r\n\r\n")
+      .getBytes(StandardCharsets.US_ASCII);
+
+  public static void main(String[] args) throws Exception {
+    int requests = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+    Path socketPath = Files.createTempDirectory("bring").resolve("bring.sock");
+    System.setProperty("server.unix-socket-path", socketPath.toString());
+    System.setProperty("logging", "WARN");
+    System.setProperty("server.tomcat.max-keep-alive-requests", "-1");
+
+    BringContainer.run(DemoApp.class);
+    while (!TomcatServer.getStatus().equals("STARTED")) {
+      Thread.sleep(10);
+    }
+
+    try {
+      int port = PropertiesConfiguration.getPropertyAsIntOrDefault("server.port", 8080);
+      measure("tcp", new InetSocketAddress("localhost", port), StandardProtocolFamily.INET,
+          requests);
+      measure("unix", UnixDomainSocketAddress.of(socketPath), StandardProtocolFamily.UNIX,
+          requests);
+    } finally {
+      TomcatServer.stop();
+    }
+    // server thread pool is not a daemon one
+    System.exit(0);
+  }
+
+  private static void measure(String transport, SocketAddress address,
+      StandardProtocolFamily protocolFamily, int requests) throws IOException {
+    try (SocketChannel channel = SocketChannel.open(protocolFamily)) {
+      channel.connect(address);
+      OutputStream out = Channels.newOutputStream(channel);
+      InputStream in = new BufferedInputStream(Channels.newInputStream(channel));
+      for (int i = 0; i < WARMUP_REQUESTS; i++) {
+        send(out, in);
+      }
+      long[] latencies = new long[requests];
+      for (int i = 0; i < requests; i++) {
+        long start = System.nanoTime();
+        send(out, in);
+        latencies[i] = System.nanoTime() - start;
+      }
+      Arrays.sort(latencies);
+      System.out.printf(Locale.ROOT, "%-4s requests=%d mean=%.1f us p50=%.1f us p99=%.1f us%n",
+          transport, requests, Arrays.stream(latencies).average().orElse(0) / 1_000,
+          latencies[requests / 2] / 1_000.0, latencies[(int) (requests * 0.99)] / 1_000.0);
+    }
+  }
+
+  private static void send(OutputStream out, InputStream in) throws IOException {
+    out.write(REQUEST);
+    out.flush();
+    readResponse(in);
+  }
+
+  private static void readResponse(InputStream in) throws IOException {
+    int contentLength = -1;
+    boolean chunked = false;
+    String line;
+    while (!(line = readLine(in)).isEmpty()) {
+      String header = line.toLowerCase(Locale.ROOT);
+      if (header.startsWith("content-length:")) {
+        contentLength = Integer.parseInt(header.substring("content-length:".length()).trim());
+      } else if (header.startsWith("transfer-encoding:") && header.contains("chunked")) {
+        chunked = true;
+      }
+    }
+    if (chunked) {
+      int chunkSize;
+      while ((chunkSize = Integer.parseInt(readLine(in).trim(), 16)) > 0) {
+        in.skipNBytes(chunkSize);
+        readLine(in);
+      }
+      readLine(in);
+    } else if (contentLength > 0) {
+      in.skipNBytes(contentLength);
+    }
+  }
+
+  private static String readLine(InputStream in) throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int b;
+    while ((b = in.read()) != '\n') {
+      if (b == -1) {
+        throw new EOFException("Connection closed by server");
+      }
+      if (b != '\r') {
+        line.write(b);
+      }
+    }
+    return line.toString(StandardCharsets.US_ASCII);
+  }
+}
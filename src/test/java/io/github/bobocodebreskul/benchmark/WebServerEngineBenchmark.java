@@ -0,0 +1,100 @@
+package io.github.bobocodebreskul.benchmark;
+
+import io.github.bobocodebreskul.config.PropertiesConfiguration;
+import io.github.bobocodebreskul.context.registry.BringContainer;
+import io.github.bobocodebreskul.demointegration.DemoApp;
+import io.github.bobocodebreskul.server.WebServer;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput and resident memory of the demo application served by the selected web
+ * server engine. Run once per engine in a fresh JVM with the same heap settings, for example:
+ * <pre>
+ * java -Xmx64m -Dserver.engine=tomcat -cp target/test-classes:target/classes:&lt;dependencies&gt; \
+ *     io.github.bobocodebreskul.benchmark.WebServerEngineBenchmark [clients] [seconds]
+ * java -Xmx64m -Dserver.engine=jdk -cp ... io.github.bobocodebreskul.benchmark.WebServerEngineBenchmark
+ * </pre>
+ * RSS is read from {@code /proc/self/status} and is reported only on Linux.
+ */
+public class WebServerEngineBenchmark {
+
+  private static final int WARMUP_SECONDS = 5;
+
+  public static void main(String[] args) throws Exception {
+    int clients = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+    int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+    System.setProperty("logging", "WARN");
+
+    BringContainer container = BringContainer.run(DemoApp.class);
+    WebServer webServer = container.getWebServer();
+    while (!webServer.getStatus().equals("STARTED")) {
+      Thread.sleep(10);
+    }
+    String rssAfterStartup = readRss();
+
+    int port = PropertiesConfiguration.getPropertyAsIntOrDefault("server.port", 8080);
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:%d/url"
+        .formatted(port))).GET().build();
+    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    ExecutorService clientThreads = Executors.newFixedThreadPool(clients);
+    try {
+      run(client, request, clientThreads, clients, WARMUP_SECONDS);
+      long requests = run(client, request, clientThreads, clients, seconds);
+      System.out.printf("engine=%s clients=%d throughput=%d req/s rssAfterStartup=%s "
+              + "rssUnderLoad=%s heapUsed=%d KiB%n", webServer.getName(), clients,
+          requests / seconds, rssAfterStartup, readRss(),
+          ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / 1024);
+    } finally {
+      clientThreads.shutdownNow();
+      webServer.stop();
+    }
+    // server threads are not daemon ones
+    System.exit(0);
+  }
+
+  private static long run(HttpClient client, HttpRequest request, ExecutorService clientThreads,
+      int clients, int seconds) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    List<Future<Long>> results = new ArrayList<>();
+    for (int i = 0; i < clients; i++) {
+      results.add(clientThreads.submit(() -> {
+        long count = 0;
+        while (System.nanoTime() < deadline) {
+          client.send(request, BodyHandlers.discarding());
+          count++;
+        }
+        return count;
+      }));
+    }
+    long total = 0;
+    for (Future<Long> result : results) {
+      total += result.get();
+    }
+    return total;
+  }
+
+  private static String readRss() throws IOException {
+    Path status = Path.of("/proc/self/status");
+    if (!Files.exists(status)) {
+      return "n/a";
+    }
+    return Files.readAllLines(status).stream()
+        .filter(line -> line.startsWith("VmRSS:"))
+        .map(line -> line.substring("VmRSS:".length()).trim())
+        .findFirst()
+        .orElse("n/a");
+  }
+}
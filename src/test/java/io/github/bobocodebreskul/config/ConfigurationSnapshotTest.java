@@ -0,0 +1,138 @@
+package io.github.bobocodebreskul.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
+import io.github.bobocodebreskul.context.exception.PropertyNotFoundException;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ConfigurationSnapshotTest {
+
+  @Test
+  @DisplayName("Later configuration sources override earlier ones")
+  @Order(1)
+  void given_SameKeyInAllSources_When_get_Then_ReturnSystemPropertyValue() {
+    // given
+    Properties fileProperties = properties("server.port", "7777");
+    Properties systemProperties = properties("server.port", "9999");
+    var configuration = ConfigurationSnapshot.of(fileProperties,
+        Map.of("SERVER_PORT", "8888"), systemProperties);
+
+    // when
+    String actualResult = configuration.get("server.port");
+
+    // then
+    assertThat(actualResult).isEqualTo("9999");
+  }
+
+  @Test
+  @DisplayName("Environment variable is available by relaxed name")
+  @Order(2)
+  void given_EnvironmentVariable_When_getByRelaxedName_Then_ReturnValue() {
+    // given
+    var configuration = ConfigurationSnapshot.of(properties("server.port", "7777"),
+        Map.of("SERVER_PORT", "8888"), new Properties());
+
+    // when
+    String actualResult = configuration.get("server.port");
+
+    // then
+    assertThat(actualResult).isEqualTo("8888");
+    assertThat(configuration.get("SERVER_PORT")).isEqualTo("8888");
+  }
+
+  @Test
+  @DisplayName("Converted value is computed once per property and type")
+  @Order(3)
+  void given_NumericProperty_When_getAsInteger_Then_ReturnCachedValue() {
+    // given
+    var configuration = ConfigurationSnapshot.of(properties("pool.size", "1024"), Map.of(),
+        new Properties());
+
+    // when
+    Integer actualResult = configuration.get("pool.size", Integer.class);
+
+    // then
+    assertThat(actualResult).isEqualTo(1024);
+    assertThat(configuration.get("pool.size", Integer.class)).isSameAs(actualResult);
+  }
+
+  @Test
+  @DisplayName("Resolve placeholder to the property value or its default value")
+  @Order(4)
+  void given_Placeholder_When_resolve_Then_ReturnPropertyOrDefaultValue() {
+    // given
+    var configuration = ConfigurationSnapshot.of(properties("server.port", "7777"), Map.of(),
+        new Properties());
+
+    // when
+    Object existingValue = configuration.resolve("${server.port:8080}", int.class);
+    Object defaultValue = configuration.resolve("${server.timeout:30}", long.class);
+    Object literalValue = configuration.resolve("true", boolean.class);
+
+    // then
+    assertThat(existingValue).isEqualTo(7777);
+    assertThat(defaultValue).isEqualTo(30L);
+    assertThat(literalValue).isEqualTo(true);
+  }
+
+  @Test
+  @DisplayName("Throw exception when placeholder property does not exist and has no default value")
+  @Order(5)
+  void given_MissingPropertyWithoutDefault_When_resolve_Then_ThrowException() {
+    // given
+    var configuration = ConfigurationSnapshot.of(new Properties(), Map.of(), new Properties());
+
+    // when
+    // then
+    assertThatThrownBy(() -> configuration.resolve("${server.port}", int.class))
+        .isInstanceOf(PropertyNotFoundException.class)
+        .hasMessage("The property with name \"server.port\" is not found!");
+  }
+
+  @Test
+  @DisplayName("Throw exception when property value can not be converted")
+  @Order(6)
+  void given_NotNumericProperty_When_resolveAsInt_Then_ThrowException() {
+    // given
+    var configuration = ConfigurationSnapshot.of(properties("server.url", "https://test.com/"),
+        Map.of(), new Properties());
+
+    // when
+    // then
+    assertThatThrownBy(() -> configuration.resolve("${server.url}", int.class))
+        .isInstanceOf(InvalidPropertyValueException.class)
+        .hasMessage("\"server.url\" property value can not be converted to int!");
+  }
+
+  @Test
+  @DisplayName("Accept only true or false as boolean property value")
+  @Order(7)
+  void given_NotBooleanProperty_When_getAsBoolean_Then_ThrowException() {
+    // given
+    var configuration = ConfigurationSnapshot.of(properties("bring.snapshot.enabled", "yes"),
+        Map.of(), new Properties());
+
+    // when
+    // then
+    assertThat(configuration.resolve("${missing:TRUE}", boolean.class)).isEqualTo(true);
+    assertThatThrownBy(() -> configuration.get("bring.snapshot.enabled", Boolean.class))
+        .isInstanceOf(InvalidPropertyValueException.class)
+        .hasMessage("\"bring.snapshot.enabled\" property value can not be converted to "
+            + "java.lang.Boolean!");
+  }
+
+  private static Properties properties(String name, String value) {
+    Properties properties = new Properties();
+    properties.setProperty(name, value);
+    return properties;
+  }
+}
@@ -175,4 +175,28 @@ class PropertiesConfigurationTest {
         .isInstanceOf(PropertyNotFoundException.class)
         .hasMessage("The property with name \"%s\" is not found!".formatted(propertyName));
   }
-}
\ No newline at end of file
+
+  @Order(13)
+  @DisplayName("Verify that getPropertyAsLongOrDefault method returns long value or default value.")
+  @Test
+  void given_PropertiesConfiguration_when_getPropertyAsLongOrDefault_thenReturnPropertyLong() {
+
+    // when
+    long port = PropertiesConfiguration.getPropertyAsLongOrDefault("server.port", 8097L);
+    long counter = PropertiesConfiguration.getPropertyAsLongOrDefault("counter", 5_000_000_000L);
+
+    // then
+    assertEquals(7777L, port);
+    assertEquals(5_000_000_000L, counter);
+  }
+
+  @Order(14)
+  @DisplayName("Throw an exception if getPropertyAsLongOrDefault from string value.")
+  @Test
+  void given_PropertiesConfiguration_when_getPropertyAsLongOrDefaultFromString_thenThrowInvalidPropertyValueException() {
+    assertThatThrownBy(
+        () -> PropertiesConfiguration.getPropertyAsLongOrDefault("server.url", 8097L))
+        .isInstanceOf(InvalidPropertyValueException.class)
+        .hasMessage("\"server.url\" property value is not a number!");
+  }
+}
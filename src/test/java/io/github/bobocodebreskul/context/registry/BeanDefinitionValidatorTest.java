@@ -1,6 +1,7 @@
 package io.github.bobocodebreskul.context.registry;
 
 import static io.github.bobocodebreskul.context.registry.BeanDefinitionValidator.DISALLOWED_BEAN_NAME_CHARACTERS_EXCEPTION_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.params.provider.Arguments.of;
@@ -392,6 +393,75 @@ public class BeanDefinitionValidatorTest {
         of("test\tname"));
   }
 
+  @Test
+  @DisplayName("When bean definitions form two independent cycles a -> a and b -> c -> b then both cycles reported")
+  @Order(13)
+  void given_BeanDefinitionsWithTwoCycles_When_validateBeanDefinitions_Then_AllCyclesReported() {
+    //given
+    var aBeanDefinition = new AnnotatedGenericBeanDefinition(A.class);
+    aBeanDefinition.setName("a");
+    aBeanDefinition.setDependencies(List.of(new BeanDependency("a", null, A.class)));
+
+    var bBeanDefinition = new AnnotatedGenericBeanDefinition(B.class);
+    bBeanDefinition.setName("b");
+    bBeanDefinition.setDependencies(List.of(new BeanDependency("c", null, C.class)));
+
+    var cBeanDefinition = new AnnotatedGenericBeanDefinition(C.class);
+    cBeanDefinition.setName("c");
+    cBeanDefinition.setDependencies(List.of(new BeanDependency("b", null, B.class)));
+
+    definitionRegistry.registerBeanDefinition("a", aBeanDefinition);
+    definitionRegistry.registerBeanDefinition("b", bBeanDefinition);
+    definitionRegistry.registerBeanDefinition("c", cBeanDefinition);
+
+    //when
+    //then
+    StringBuilder stringBuilder = new StringBuilder("The dependencies of some of the beans form a cycle:%n");
+    stringBuilder.append("┌─────┐%n");
+    stringBuilder.append("|  %s defined in file [%s]%n");
+    stringBuilder.append("└─────┘%n");
+    stringBuilder.append("┌─────┐%n");
+    stringBuilder.append("|  %s defined in file [%s]%n");
+    stringBuilder.append("↑     ↓%n");
+    stringBuilder.append("|  %s defined in file [%s]%n");
+    stringBuilder.append("└─────┘%n");
+    String expectedMessage = stringBuilder.toString()
+        .formatted("a", getFileLocation(A.class), "b", getFileLocation(B.class), "c",
+            getFileLocation(C.class));
+    assertThatThrownBy(() -> beanDefinitionValidator.validateBeanDefinitions())
+        .isInstanceOf(BeanDefinitionValidationException.class)
+        .hasMessage(expectedMessage);
+  }
+
+  @Test
+  @DisplayName("When bean definitions form diamond a -> b, a -> c, b -> c then dependencies go first in instantiation order")
+  @Order(14)
+  void given_DiamondBeanDefinitions_When_validateBeanDefinitions_Then_DependenciesGoFirstInInstantiationOrder() {
+    //given
+    var aBeanDefinition = new AnnotatedGenericBeanDefinition(A.class);
+    aBeanDefinition.setName("a");
+    aBeanDefinition.setDependencies(List.of(new BeanDependency("b", null, B.class),
+        new BeanDependency("c", null, C.class)));
+
+    var bBeanDefinition = new AnnotatedGenericBeanDefinition(B.class);
+    bBeanDefinition.setName("b");
+    bBeanDefinition.setDependencies(List.of(new BeanDependency("c", null, C.class)));
+
+    var cBeanDefinition = new AnnotatedGenericBeanDefinition(C.class);
+    cBeanDefinition.setName("c");
+
+    definitionRegistry.registerBeanDefinition("a", aBeanDefinition);
+    definitionRegistry.registerBeanDefinition("b", bBeanDefinition);
+    definitionRegistry.registerBeanDefinition("c", cBeanDefinition);
+
+    //when
+    beanDefinitionValidator.validateBeanDefinitions();
+
+    //then
+    assertThat(beanDefinitionValidator.getInstantiationOrder())
+        .containsExactly(cBeanDefinition, bBeanDefinition, aBeanDefinition);
+  }
+
   private String getFileLocation(Class<?> beanClass) {
     return Path.of(beanClass.getName()).toAbsolutePath().toString()
         .replace(".", "/")
@@ -8,14 +8,17 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import io.github.bobocodebreskul.context.annotations.PreDestroy;
 import io.github.bobocodebreskul.context.annotations.Scope;
 import io.github.bobocodebreskul.context.config.AnnotatedGenericBeanDefinition;
 import io.github.bobocodebreskul.context.config.BeanDefinition;
 import io.github.bobocodebreskul.context.config.BeanDependency;
 import io.github.bobocodebreskul.context.exception.InstanceCreationException;
 import io.github.bobocodebreskul.context.exception.NoSuchBeanDefinitionException;
+import io.github.bobocodebreskul.context.exception.ScopeNotActiveException;
 import io.github.bobocodebreskul.context.support.BeanDependencyUtils;
 import io.github.bobocodebreskul.context.support.ReflectionUtils;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.DisplayName;
@@ -277,6 +280,198 @@ class BringContainerTest {
     );
   }
 
+  @Test
+  @DisplayName("Inject thread scoped bean into singleton as proxy resolving instance per thread")
+  @Order(10)
+  void given_ThreadScopedDependency_When_GetBeanByName_Then_InjectScopedProxy() throws Exception {
+    // given
+    var scopedDefinition = new AnnotatedGenericBeanDefinition(ScopedBean.class);
+    scopedDefinition.setName(TEST_BEAN_NAME_1);
+    scopedDefinition.setScope(BeanDefinition.THREAD_SCOPE);
+    scopedDefinition.setInitConstructor(ReflectionUtils.getDefaultConstructor(ScopedBean.class));
+    var consumerDefinition = new AnnotatedGenericBeanDefinition(ScopedBeanConsumer.class);
+    consumerDefinition.setName(TEST_BEAN_NAME_2);
+    consumerDefinition.setScope(BeanDefinition.SINGLETON_SCOPE);
+    consumerDefinition.setInitConstructor(ScopedBeanConsumer.class.getDeclaredConstructors()[0]);
+
+    given(beanDefinitionRegistry.getBeanDefinition(TEST_BEAN_NAME_2)).willReturn(
+        consumerDefinition);
+    given(beanDependencyUtils.prepareDependencies(consumerDefinition, beanDefinitionRegistry))
+        .willReturn(List.of(scopedDefinition));
+    // when
+    var consumer = (ScopedBeanConsumer) objectFactory.getBean(TEST_BEAN_NAME_2);
+    Object currentThreadInstance = consumer.scopedBean.getInstance();
+    var otherThreadInstance = new Object[1];
+    Thread otherThread = new Thread(
+        () -> otherThreadInstance[0] = consumer.scopedBean.getInstance());
+    otherThread.start();
+    otherThread.join();
+    // then
+    assertAll(
+        () -> assertThat(consumer.scopedBean).isNotInstanceOf(ScopedBean.class),
+        () -> assertThat(currentThreadInstance).isSameAs(consumer.scopedBean.getInstance()),
+        () -> assertThat(otherThreadInstance[0]).isNotNull().isNotSameAs(currentThreadInstance),
+        () -> assertThat(objectFactory.getAllBeans()).containsExactly(consumer)
+    );
+  }
+
+  @Test
+  @DisplayName("Throw ScopeNotActiveException when request scoped bean used outside of request")
+  @Order(11)
+  void given_RequestScopedBean_When_UsedOutsideOfRequest_Then_ThrowScopeNotActiveException() {
+    // given
+    var scopedDefinition = new AnnotatedGenericBeanDefinition(ScopedBean.class);
+    scopedDefinition.setName(TEST_BEAN_NAME_1);
+    scopedDefinition.setScope(BeanDefinition.REQUEST_SCOPE);
+    scopedDefinition.setInitConstructor(ReflectionUtils.getDefaultConstructor(ScopedBean.class));
+
+    given(beanDefinitionRegistry.getBeanDefinition(TEST_BEAN_NAME_1)).willReturn(scopedDefinition);
+    // when
+    var scopedBean = (ScopedBeanApi) objectFactory.getBean(TEST_BEAN_NAME_1);
+    // then
+    assertThatThrownBy(scopedBean::getInstance)
+        .isInstanceOf(ScopeNotActiveException.class)
+        .hasMessage("Request scoped bean '%s' is used outside of HTTP request processing",
+            TEST_BEAN_NAME_1);
+  }
+
+  @Test
+  @DisplayName("Throw InstanceCreationException when scoped bean injected by class type")
+  @Order(12)
+  void given_ScopedDependencyInjectedByClass_When_GetBeanByName_Then_ThrowInstanceCreationException() {
+    // given
+    var scopedDefinition = new AnnotatedGenericBeanDefinition(BeanClass1.class);
+    scopedDefinition.setName(TEST_BEAN_NAME_1);
+    scopedDefinition.setScope(BeanDefinition.REQUEST_SCOPE);
+    var consumerDefinition = new AnnotatedGenericBeanDefinition(BeanClass2.class);
+    consumerDefinition.setName(TEST_BEAN_NAME_2);
+    consumerDefinition.setInitConstructor(BeanClass2.class.getDeclaredConstructors()[0]);
+
+    given(beanDefinitionRegistry.getBeanDefinition(TEST_BEAN_NAME_2)).willReturn(
+        consumerDefinition);
+    given(beanDependencyUtils.prepareDependencies(consumerDefinition, beanDefinitionRegistry))
+        .willReturn(List.of(scopedDefinition));
+    // when
+    // then
+    assertThatThrownBy(() -> objectFactory.getBean(TEST_BEAN_NAME_2))
+        .isInstanceOf(InstanceCreationException.class)
+        .hasMessage(
+            "Could not inject request scoped bean \"%s\" into bean \"%s\": scoped beans can be injected only by interface type, but required type is %s",
+            TEST_BEAN_NAME_1, TEST_BEAN_NAME_2, BeanClass1.class.getName());
+  }
+
+  @Test
+  @DisplayName("Destroy singleton beans in reverse creation order on close")
+  @Order(13)
+  void given_CreatedSingletons_When_Close_Then_DestroyCallbacksInvokedInReverseOrder() {
+    // given
+    var dependencyDefinition = new AnnotatedGenericBeanDefinition(ClosableDependency.class);
+    dependencyDefinition.setName(TEST_BEAN_NAME_1);
+    dependencyDefinition.setInitConstructor(
+        ReflectionUtils.getDefaultConstructor(ClosableDependency.class));
+    var dependentDefinition = new AnnotatedGenericBeanDefinition(PreDestroyBean.class);
+    dependentDefinition.setName(TEST_BEAN_NAME_2);
+    dependentDefinition.setInitConstructor(PreDestroyBean.class.getDeclaredConstructors()[0]);
+
+    given(beanDefinitionRegistry.getBeanDefinition(TEST_BEAN_NAME_2)).willReturn(
+        dependentDefinition);
+    given(beanDefinitionRegistry.getBeanDefinition(TEST_BEAN_NAME_1)).willReturn(
+        dependencyDefinition);
+    given(beanDependencyUtils.prepareDependencies(dependentDefinition, beanDefinitionRegistry))
+        .willReturn(List.of(dependencyDefinition));
+    var dependentBean = (PreDestroyBean) objectFactory.getBean(TEST_BEAN_NAME_2);
+    // when
+    objectFactory.close();
+    // then
+    assertAll(
+        () -> assertThat(dependentBean.dependency.destroyedBeans)
+            .containsExactly(PreDestroyBean.class, ClosableDependency.class),
+        () -> assertThat(objectFactory.getAllBeans()).isEmpty()
+    );
+  }
+
+  @Test
+  @DisplayName("Invoke overridden destroy callback once on close")
+  @Order(14)
+  void given_OverriddenPreDestroyMethod_When_Close_Then_CallbackInvokedOnce() {
+    // given
+    var definition = new AnnotatedGenericBeanDefinition(OverridingPreDestroyBean.class);
+    definition.setName(TEST_BEAN_NAME_1);
+    definition.setInitConstructor(
+        ReflectionUtils.getDefaultConstructor(OverridingPreDestroyBean.class));
+    given(beanDefinitionRegistry.getBeanDefinition(TEST_BEAN_NAME_1)).willReturn(definition);
+    var bean = (OverridingPreDestroyBean) objectFactory.getBean(TEST_BEAN_NAME_1);
+    // when
+    objectFactory.close();
+    // then
+    assertThat(bean.destroyedBeans)
+        .containsExactly(OverridingPreDestroyBean.class, BasePreDestroyBean.class);
+  }
+
+  static class ClosableDependency implements AutoCloseable {
+
+    private final List<Class<?>> destroyedBeans = new ArrayList<>();
+
+    @Override
+    public void close() {
+      destroyedBeans.add(ClosableDependency.class);
+    }
+  }
+
+  @RequiredArgsConstructor
+  static class PreDestroyBean {
+
+    private final ClosableDependency dependency;
+
+    @PreDestroy
+    void destroy() {
+      dependency.destroyedBeans.add(PreDestroyBean.class);
+    }
+  }
+
+  static class BasePreDestroyBean {
+
+    final List<Class<?>> destroyedBeans = new ArrayList<>();
+
+    @PreDestroy
+    void destroy() {
+      destroyedBeans.add(BasePreDestroyBean.class);
+    }
+
+    @PreDestroy
+    private void release() {
+      destroyedBeans.add(BasePreDestroyBean.class);
+    }
+  }
+
+  static class OverridingPreDestroyBean extends BasePreDestroyBean {
+
+    @Override
+    @PreDestroy
+    void destroy() {
+      destroyedBeans.add(OverridingPreDestroyBean.class);
+    }
+  }
+
+  public interface ScopedBeanApi {
+
+    Object getInstance();
+  }
+
+  static class ScopedBean implements ScopedBeanApi {
+
+    @Override
+    public Object getInstance() {
+      return this;
+    }
+  }
+
+  @RequiredArgsConstructor
+  static class ScopedBeanConsumer {
+
+    private final ScopedBeanApi scopedBean;
+  }
+
   @RequiredArgsConstructor
   static class BeanClass2 {
     private final BeanClass1 beanClass;
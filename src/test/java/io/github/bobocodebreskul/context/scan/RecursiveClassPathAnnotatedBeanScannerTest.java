@@ -98,4 +98,25 @@ class RecursiveClassPathAnnotatedBeanScannerTest {
     // verify
     then(beanDefinitionReader).shouldHaveNoInteractions();
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Scan nested base package only once together with its parent package")
+  @Order(4)
+  void given_OverlappingPackages_When_Scan_Then_ScanOnlyParentPackage() {
+    // given
+    Class<?> expectedClass1 = MultiCandidate1.class;
+    given(scanUtils.searchClassesByAnnotationRecursively(TEST_PACKAGE_ONE, BringComponent.class))
+        .willReturn(Set.of(expectedClass1));
+    given(scanUtils.readBasePackages(ConfigTestClass.class)).willReturn(
+        new HashSet<>(Arrays.asList(TEST_PACKAGE_ONE, TEST_PACKAGE_ONE + ".nested")));
+    // when
+    annotatedBeanScanner.scan(ConfigTestClass.class);
+    // verify
+    then(scanUtils).should().searchClassesByAnnotationRecursively(TEST_PACKAGE_ONE,
+        BringComponent.class);
+    then(scanUtils).should().readBasePackages(ConfigTestClass.class);
+    then(scanUtils).shouldHaveNoMoreInteractions();
+    then(beanDefinitionReader).should().registerBean(expectedClass1);
+    then(beanDefinitionReader).shouldHaveNoMoreInteractions();
+  }
+}
@@ -0,0 +1,150 @@
+package io.github.bobocodebreskul.context.scan.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.bobocodebreskul.context.annotations.BringComponent;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BringComponentIndexProcessorTest {
+
+  private static final Map<String, String> SOURCES = Map.of(
+      "sample/app/Service.java", """
+          package sample.app;
+          @io.github.bobocodebreskul.context.annotations.BringComponent
+          public class Service {
+            @io.github.bobocodebreskul.context.annotations.BringComponent
+            public static class Nested {}
+          }
+          """,
+      "sample/app/web/Controller.java", """
+          package sample.app.web;
+          @io.github.bobocodebreskul.server.annotations.RestController
+          public class Controller {}
+          """,
+      "sample/app/Config.java", """
+          package sample.app;
+          @io.github.bobocodebreskul.context.annotations.BringConfiguration
+          public class Config {}
+          """,
+      "sample/app/Custom.java", """
+          package sample.app;
+          @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+          @io.github.bobocodebreskul.server.annotations.RestController
+          public @interface Custom {}
+          """,
+      "sample/app/CustomAnnotated.java", """
+          package sample.app;
+          @Custom
+          public class CustomAnnotated {}
+          """,
+      "sample/app/Plain.java", """
+          package sample.app;
+          public class Plain {}
+          """,
+      "sample/other/Abstract.java", """
+          package sample.other;
+          @io.github.bobocodebreskul.context.annotations.BringComponent
+          public abstract class Abstract {}
+          """);
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Write index with direct and meta-annotated component classes")
+  @Order(1)
+  void given_Sources_When_Compile_Then_IndexContainsComponents() throws IOException {
+    // when
+    Path output = compile();
+    // then
+    List<String> index = Files.readAllLines(
+        output.resolve(BringComponentIndex.COMPONENTS_RESOURCE_LOCATION));
+    assertThat(index).containsExactly(
+        "sample.app.Config",
+        "sample.app.CustomAnnotated",
+        "sample.app.Service",
+        "sample.app.Service$Nested",
+        "sample.app.web.Controller");
+  }
+
+  @Test
+  @DisplayName("Find indexed components by base package")
+  @Order(2)
+  void given_Index_When_GetComponentClassNames_Then_ReturnPackageComponents() throws IOException {
+    // given
+    Path output = compile();
+    // when
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()},
+        null)) {
+      BringComponentIndex index = BringComponentIndex.loadIndex(classLoader);
+      // then
+      assertThat(index).isNotNull();
+      assertThat(index.getComponentClassNames("sample.app.web"))
+          .containsExactly("sample.app.web.Controller");
+      assertThat(index.getComponentClassNames("sample.app")).hasSize(5);
+      assertThat(index.getComponentClassNames("sample.ap")).isEmpty();
+      assertThat(index.getComponentClassNames("sample.other")).isEmpty();
+    }
+  }
+
+  @Test
+  @DisplayName("Return null index when no index resource on classpath")
+  @Order(3)
+  void given_NoIndex_When_LoadIndex_Then_ReturnNull() throws IOException {
+    // when
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[]{tempDir.toUri().toURL()},
+        null)) {
+      // then
+      assertThat(BringComponentIndex.loadIndex(classLoader)).isNull();
+    }
+  }
+
+  private Path compile() throws IOException {
+    Path sourceDir = Files.createDirectories(tempDir.resolve("src"));
+    Path outputDir = Files.createDirectories(tempDir.resolve("classes"));
+    for (Map.Entry<String, String> source : SOURCES.entrySet()) {
+      Path sourceFile = sourceDir.resolve(source.getKey());
+      Files.createDirectories(sourceFile.getParent());
+      Files.writeString(sourceFile, source.getValue());
+    }
+    List<File> sourceFiles;
+    try (var paths = Files.walk(sourceDir)) {
+      sourceFiles = paths.filter(Files::isRegularFile).map(Path::toFile)
+          .collect(Collectors.toList());
+    }
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+      Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(
+          sourceFiles);
+      String classpath = Path.of(BringComponent.class.getProtectionDomain().getCodeSource()
+          .getLocation().getPath()).toString();
+      CompilationTask task = compiler.getTask(null, fileManager, null,
+          List.of("-proc:only", "-classpath", classpath, "-d", outputDir.toString()), null,
+          units);
+      task.setProcessors(List.of(new BringComponentIndexProcessor()));
+      assertThat(task.call()).isTrue();
+    }
+    return outputDir;
+  }
+}
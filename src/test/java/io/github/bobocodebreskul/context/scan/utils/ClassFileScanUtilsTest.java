@@ -0,0 +1,168 @@
+package io.github.bobocodebreskul.context.scan.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.all.tree.TreeClass1;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.all.tree.TreeClass2;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.all.tree.l2.TreeClass1L2;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.all.tree.l2.TreeClass2L2;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.all.type.TypeAbstractClass;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.all.type.TypeAnnotation;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.all.type.TypeClass;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.all.type.TypeInterface;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.annotations.TestAnnotationWithComponent;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.annotations.TestComponentAnnotation;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.annotations.cyclic.CyclicCandidate2;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.annotations.multi.MultiCandidate1;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.annotations.parent.ParentCandidate;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.annotations.single.SingleCandidate;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ClassFileScanUtilsTest {
+
+  private static final String SCAN_TEST_PACKAGE =
+      "io.github.bobocodebreskul.context.scan.utils.scantestsclasses";
+
+  private final ClassFileScanUtils scanUtils = new ClassFileScanUtils();
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Find all classes located in multilevel package tree")
+  @Order(1)
+  void given_TreePackage_When_SearchAllClasses_Then_FoundAllClasses() {
+    // data
+    String inputPackage = SCAN_TEST_PACKAGE + ".all.tree";
+    // given
+    List<Class<?>> expectedResult = List.of(TreeClass1.class, TreeClass2.class, TreeClass1L2.class,
+        TreeClass2L2.class);
+    // when
+    Set<Class<?>> actualResult = scanUtils.searchAllClasses(inputPackage);
+    // verify
+    assertThat(actualResult).containsExactlyInAnyOrderElementsOf(expectedResult);
+  }
+
+  @Test
+  @DisplayName("Find all types of classes except enums and records")
+  @Order(2)
+  void given_Type_When_SearchAllClasses_Then_FoundAllClassTypes() {
+    // data
+    String inputPackage = SCAN_TEST_PACKAGE + ".all.type";
+    // given
+    List<Class<?>> expectedResult = List.of(TypeAbstractClass.class, TypeAnnotation.class,
+        TypeClass.class, TypeInterface.class);
+    // when
+    Set<Class<?>> actualResult = scanUtils.searchAllClasses(inputPackage);
+    // verify
+    assertThat(actualResult).containsExactlyInAnyOrderElementsOf(expectedResult);
+  }
+
+  @Test
+  @DisplayName("Find classes by annotation directly, through meta-annotations and cyclic annotations")
+  @Order(3)
+  void given_AnnotatedCandidates_When_SearchClassesByAnnotationRecursively_Then_FoundCandidates() {
+    // data
+    Class<? extends Annotation> inputFilterAnnotation = TestComponentAnnotation.class;
+    // when
+    Set<Class<?>> single = scanUtils.searchClassesByAnnotationRecursively(
+        SCAN_TEST_PACKAGE + ".annotations.single", inputFilterAnnotation);
+    Set<Class<?>> multi = scanUtils.searchClassesByAnnotationRecursively(
+        SCAN_TEST_PACKAGE + ".annotations.multi", inputFilterAnnotation);
+    Set<Class<?>> none = scanUtils.searchClassesByAnnotationRecursively(
+        SCAN_TEST_PACKAGE + ".annotations.none", inputFilterAnnotation);
+    Set<Class<?>> cyclic = scanUtils.searchClassesByAnnotationRecursively(
+        SCAN_TEST_PACKAGE + ".annotations.cyclic", inputFilterAnnotation);
+    Set<Class<?>> parent = scanUtils.searchClassesByAnnotationRecursively(
+        SCAN_TEST_PACKAGE + ".annotations.parent", TestAnnotationWithComponent.class);
+    // verify
+    assertThat(single).containsExactly(SingleCandidate.class);
+    assertThat(multi).containsExactly(MultiCandidate1.class);
+    assertThat(none).isEmpty();
+    assertThat(cyclic).containsExactly(CyclicCandidate2.class);
+    assertThat(parent).containsExactly(ParentCandidate.class);
+  }
+
+  @Test
+  @DisplayName("Find annotated classes packaged into jar")
+  @Order(4)
+  void given_Jar_When_SearchClassesByAnnotationRecursively_Then_FoundCandidates()
+      throws IOException {
+    // given
+    Path jar = tempDir.resolve("candidates.jar");
+    try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar))) {
+      copyClassIntoJar(output, SingleCandidate.class);
+      copyClassIntoJar(output, MultiCandidate1.class);
+    }
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)) {
+      ClassFileScanUtils jarScanUtils = new ClassFileScanUtils(classLoader);
+      // when
+      Set<Class<?>> actualResult = jarScanUtils.searchClassesByAnnotationRecursively(
+          SCAN_TEST_PACKAGE + ".annotations.single", TestComponentAnnotation.class);
+      // verify
+      assertThat(actualResult).extracting(Class::getName)
+          .containsExactly(SingleCandidate.class.getName());
+      assertThat(jarScanUtils.searchAllClasses(SCAN_TEST_PACKAGE + ".annotations"))
+          .extracting(Class::getName)
+          .containsExactlyInAnyOrder(SingleCandidate.class.getName(),
+              MultiCandidate1.class.getName());
+    }
+  }
+
+  @Test
+  @DisplayName("Skip classpath jars without classes of the package")
+  @Order(5)
+  void given_JarsOfOtherPackages_When_FindClasspathRoots_Then_OnlyJarWithPackageReturned()
+      throws IOException {
+    // given
+    Path singleJar = tempDir.resolve("single.jar");
+    try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(singleJar))) {
+      copyClassIntoJar(output, SingleCandidate.class);
+    }
+    Path multiJar = tempDir.resolve("multi.jar");
+    try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(multiJar))) {
+      copyClassIntoJar(output, MultiCandidate1.class);
+    }
+    try (URLClassLoader classLoader = new URLClassLoader(
+        new URL[]{singleJar.toUri().toURL(), multiJar.toUri().toURL()}, null)) {
+      ClassFileScanUtils jarScanUtils = new ClassFileScanUtils(classLoader);
+      String packagePath = (SCAN_TEST_PACKAGE + ".annotations").replace('.', '/');
+      // when
+      Set<Path> singleRoots = jarScanUtils.findClasspathRoots(packagePath + "/single");
+      Set<Path> allRoots = jarScanUtils.findClasspathRoots(packagePath);
+      Set<Path> noRoots = jarScanUtils.findClasspathRoots(packagePath + "/none");
+      // verify
+      assertThat(singleRoots).containsExactly(singleJar.normalize());
+      assertThat(allRoots).containsExactlyInAnyOrder(singleJar.normalize(),
+          multiJar.normalize());
+      assertThat(noRoots).isEmpty();
+    }
+  }
+
+  private void copyClassIntoJar(JarOutputStream output, Class<?> clazz) throws IOException {
+    String entryName = clazz.getName().replace('.', '/') + ".class";
+    output.putNextEntry(new JarEntry(entryName));
+    try (InputStream input = clazz.getClassLoader().getResourceAsStream(entryName)) {
+      input.transferTo(output);
+    }
+    output.closeEntry();
+  }
+}
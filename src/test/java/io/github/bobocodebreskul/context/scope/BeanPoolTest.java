@@ -0,0 +1,169 @@
+package io.github.bobocodebreskul.context.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bobocodebreskul.context.exception.PoolExhaustedException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BeanPoolTest {
+
+  private static final String BEAN_NAME = "pooledBean";
+
+  @Test
+  @DisplayName("Reuse released instance on next borrow")
+  @Order(1)
+  void given_ReleasedInstance_When_borrow_Then_ReturnSameInstance() {
+    // given
+    AtomicInteger createdCount = new AtomicInteger();
+    var pool = new BeanPool<>(BEAN_NAME, () -> new PooledBean(createdCount), 2, 0);
+    PooledBean instance = pool.borrow();
+    pool.release(instance);
+
+    // when
+    PooledBean actualInstance = pool.borrow();
+
+    // then
+    assertThat(actualInstance).isSameAs(instance);
+    assertThat(createdCount).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Keep no more idle instances than maximum pool size")
+  @Order(2)
+  void given_MoreReleasedInstancesThanMaxSize_When_release_Then_DiscardExceedingInstances() {
+    // given
+    AtomicInteger createdCount = new AtomicInteger();
+    var pool = new BeanPool<>(BEAN_NAME, () -> new PooledBean(createdCount), 2, 0);
+    PooledBean first = pool.borrow();
+    PooledBean second = pool.borrow();
+    PooledBean third = pool.borrow();
+
+    // when
+    pool.release(first);
+    pool.release(second);
+    pool.release(third);
+
+    // then
+    assertThat(createdCount).hasValue(3);
+    assertThat(pool.getIdleCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Discard invalid instances")
+  @Order(3)
+  void given_InvalidInstance_When_release_Then_InstanceDiscarded() {
+    // given
+    AtomicInteger createdCount = new AtomicInteger();
+    var pool = new BeanPool<>(BEAN_NAME, () -> new PooledBean(createdCount), 2, 0);
+    PooledBean instance = pool.borrow();
+    instance.valid = false;
+
+    // when
+    pool.release(instance);
+    PooledBean actualInstance = pool.borrow();
+
+    // then
+    assertThat(pool.getIdleCount()).isZero();
+    assertThat(actualInstance).isNotSameAs(instance);
+  }
+
+  @Test
+  @DisplayName("Evict instances idle longer than idle timeout")
+  @Order(4)
+  void given_ExpiredIdleInstance_When_borrow_Then_CreateNewInstance() throws InterruptedException {
+    // given
+    AtomicInteger createdCount = new AtomicInteger();
+    var pool = new BeanPool<>(BEAN_NAME, () -> new PooledBean(createdCount), 2,
+        TimeUnit.MILLISECONDS.toNanos(1));
+    PooledBean instance = pool.borrow();
+    pool.release(instance);
+    Thread.sleep(10);
+
+    // when
+    PooledBean actualInstance = pool.borrow();
+
+    // then
+    assertThat(actualInstance).isNotSameAs(instance);
+    assertThat(createdCount).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Borrow and release instance around function execution")
+  @Order(5)
+  void given_Function_When_execute_Then_InstanceReturnedToPool() {
+    // given
+    AtomicInteger createdCount = new AtomicInteger();
+    var pool = new BeanPool<>(BEAN_NAME, () -> new PooledBean(createdCount), 2, 0);
+
+    // when
+    PooledBean usedInstance = pool.execute(instance -> instance);
+
+    // then
+    assertThat(pool.getIdleCount()).isEqualTo(1);
+    assertThat(pool.borrow()).isSameAs(usedInstance);
+  }
+
+  @Test
+  @DisplayName("Fail borrowing when maximum number of instances is borrowed")
+  @Order(6)
+  void given_AllInstancesBorrowed_When_borrow_Then_ThrowPoolExhaustedException() {
+    // given
+    AtomicInteger createdCount = new AtomicInteger();
+    var pool = new BeanPool<>(BEAN_NAME, () -> new PooledBean(createdCount), 2, 0, 2, 0);
+    PooledBean first = pool.borrow();
+    pool.borrow();
+
+    // when
+    // then
+    assertThatThrownBy(pool::borrow)
+        .isInstanceOf(PoolExhaustedException.class)
+        .hasMessage("All 2 instances of pooled bean %s are borrowed".formatted(BEAN_NAME));
+    pool.release(first);
+    assertThat(pool.borrow()).isSameAs(first);
+    assertThat(pool.getBorrowedCount()).isEqualTo(2);
+    assertThat(createdCount).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Remove idle instances on clear")
+  @Order(7)
+  void given_IdleInstances_When_clear_Then_IdleInstancesRemoved() {
+    // given
+    AtomicInteger createdCount = new AtomicInteger();
+    var pool = new BeanPool<>(BEAN_NAME, () -> new PooledBean(createdCount), 2, 0);
+    PooledBean idle = pool.borrow();
+    PooledBean borrowed = pool.borrow();
+    pool.release(idle);
+
+    // when
+    var removed = pool.clear();
+
+    // then
+    assertThat(removed).containsExactly(idle);
+    assertThat(pool.getIdleCount()).isZero();
+    assertThat(pool.borrow()).isNotSameAs(idle).isNotSameAs(borrowed);
+  }
+
+  static class PooledBean implements PoolableBean {
+
+    private boolean valid = true;
+
+    PooledBean(AtomicInteger createdCount) {
+      createdCount.incrementAndGet();
+    }
+
+    @Override
+    public boolean isValid() {
+      return valid;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package io.github.bobocodebreskul.context.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.bobocodebreskul.context.annotations.BringBean;
+import io.github.bobocodebreskul.context.annotations.BringComponent;
+import io.github.bobocodebreskul.context.annotations.BringConfiguration;
+import io.github.bobocodebreskul.context.annotations.Primary;
+import io.github.bobocodebreskul.context.annotations.Scope;
+import io.github.bobocodebreskul.context.config.BeanDefinition;
+import io.github.bobocodebreskul.context.config.BeanDependency;
+import io.github.bobocodebreskul.context.config.ConfigurationBeanDefinition;
+import io.github.bobocodebreskul.context.registry.BeanDefinitionReader;
+import io.github.bobocodebreskul.context.registry.BeanDefinitionRegistry;
+import io.github.bobocodebreskul.context.registry.SimpleBeanDefinitionRegistry;
+import io.github.bobocodebreskul.context.support.BeanDependencyUtils;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class StartupSnapshotStoreTest {
+
+  private static final byte[] KEY = {1, 2, 3};
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Restore recorded bean definitions and routes from saved snapshot")
+  @Order(1)
+  void given_SavedSnapshot_When_Load_Then_RestoreBeanDefinitionsAndRoutes() throws Exception {
+    // given
+    BeanDefinitionRegistry registry = new SimpleBeanDefinitionRegistry();
+    new BeanDefinitionReader(registry).register(Repository.class, Service.class,
+        Configuration.class);
+    StartupSnapshot recorded = StartupSnapshot.recordBeanDefinitions(
+        List.copyOf(registry.getBeanDefinitions()), registry, new BeanDependencyUtils())
+        .withRoutes(List.of(RouteSnapshot.of("/service", "GET",
+        "service", Service.class.getMethod("find", int.class, String[].class))));
+    StartupSnapshotStore store = new StartupSnapshotStore(tempDir.resolve("startup.snapshot"),
+        KEY);
+    // when
+    store.save(recorded);
+    Optional<StartupSnapshot> loaded = store.load();
+    // then
+    assertThat(loaded).contains(recorded);
+    Map<String, BeanDefinition> restored = loaded.get()
+        .restoreBeanDefinitions(getClass().getClassLoader()).stream()
+        .collect(Collectors.toMap(BeanDefinition::getName, Function.identity()));
+    assertThat(restored).containsOnlyKeys("repository", "service", "name");
+
+    BeanDefinition service = restored.get("service");
+    assertThat(service.getBeanClass()).isEqualTo(Service.class);
+    assertThat(service.getScope()).isEqualTo(BeanDefinition.PROTOTYPE_SCOPE);
+    assertThat(service.getInitConstructor()).isEqualTo(
+        registry.getBeanDefinition("service").getInitConstructor());
+    assertThat(service.getDependencies()).containsExactly(
+        new BeanDependency("repository", null, Repository.class));
+    assertThat(restored.get("repository").isPrimary()).isTrue();
+
+    ConfigurationBeanDefinition name = (ConfigurationBeanDefinition) restored.get("name");
+    assertThat(name.getBeanMethod()).isEqualTo(Configuration.class.getMethod("name",
+        Repository.class));
+    assertThat(name.getConfigurationInstance()).isInstanceOf(Configuration.class);
+    assertThat(loaded.get().routes().get(0).resolveMethod(Service.class))
+        .isEqualTo(Service.class.getMethod("find", int.class, String[].class));
+  }
+
+  @Test
+  @DisplayName("Ignore snapshot saved for another classpath")
+  @Order(2)
+  void given_SnapshotWithAnotherKey_When_Load_Then_ReturnEmpty() {
+    // given
+    Path snapshotPath = tempDir.resolve("startup.snapshot");
+    new StartupSnapshotStore(snapshotPath, KEY).save(new StartupSnapshot(List.of(), List.of()));
+    // when
+    Optional<StartupSnapshot> loaded = new StartupSnapshotStore(snapshotPath, new byte[]{4})
+        .load();
+    // then
+    assertThat(loaded).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Return empty snapshot when file does not exist")
+  @Order(3)
+  void given_NoSnapshotFile_When_Load_Then_ReturnEmpty() {
+    // when
+    Optional<StartupSnapshot> loaded = new StartupSnapshotStore(tempDir.resolve("missing"), KEY)
+        .load();
+    // then
+    assertThat(loaded).isEmpty();
+  }
+
+  @Primary
+  @BringComponent("repository")
+  public static class Repository {
+
+  }
+
+  @Scope(BeanDefinition.PROTOTYPE_SCOPE)
+  @BringComponent("service")
+  public static class Service {
+
+    private final Repository repository;
+
+    public Service(Repository repository) {
+      this.repository = repository;
+    }
+
+    public String find(int id, String... tags) {
+      return repository + " " + id;
+    }
+  }
+
+  @BringConfiguration
+  public static class Configuration {
+
+    @BringBean
+    public String name(Repository repository) {
+      return repository.toString();
+    }
+  }
+}
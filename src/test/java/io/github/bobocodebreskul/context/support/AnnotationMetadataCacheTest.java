@@ -0,0 +1,124 @@
+package io.github.bobocodebreskul.context.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bobocodebreskul.context.annotations.BringComponent;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.annotations.CyclicAnnotationA;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.annotations.cyclic.CyclicCandidate1;
+import io.github.bobocodebreskul.context.scan.utils.scantestsclasses.annotations.single.CyclicAnnotationB;
+import io.github.bobocodebreskul.server.annotations.Get;
+import io.github.bobocodebreskul.server.annotations.RequestMapping;
+import java.lang.reflect.Method;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@SuppressWarnings("unused")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AnnotationMetadataCacheTest {
+
+  @Test
+  @DisplayName("Meta-annotation closure contains annotation type itself and its meta-annotations")
+  @Order(1)
+  void given_MetaAnnotatedAnnotation_When_getMetaAnnotationTypes_Then_ReturnClosure() {
+    // when
+    var actualResult = AnnotationMetadataCache.getMetaAnnotationTypes(Get.class);
+
+    // then
+    assertThat(actualResult).contains(Get.class, RequestMapping.class);
+  }
+
+  @Test
+  @DisplayName("Meta-annotation closure is computed for cyclic annotations")
+  @Order(2)
+  void given_CyclicAnnotations_When_getMetaAnnotationTypes_Then_ReturnClosure() {
+    // when
+    var actualResult = AnnotationMetadataCache.getMetaAnnotationTypes(CyclicAnnotationA.class);
+
+    // then
+    assertThat(actualResult).contains(CyclicAnnotationA.class, CyclicAnnotationB.class)
+        .doesNotContain(BringComponent.class);
+  }
+
+  @Test
+  @DisplayName("Same annotation metadata instance is returned on subsequent calls")
+  @Order(3)
+  void given_Class_When_getAnnotationsTwice_Then_ReturnSameInstance() {
+    // when
+    var firstResult = AnnotationMetadataCache.getAnnotations(CyclicCandidate1.class);
+    var secondResult = AnnotationMetadataCache.getAnnotations(CyclicCandidate1.class);
+
+    // then
+    assertThat(firstResult).isSameAs(secondResult);
+    assertThat(firstResult).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("Method annotations are cached")
+  @Order(4)
+  @SneakyThrows
+  void given_AnnotatedMethod_When_getAnnotationsTwice_Then_ReturnSameInstance() {
+    // given
+    Method method = TestController.class.getMethod("get");
+
+    // when
+    var firstResult = AnnotationMetadataCache.getAnnotations(method);
+    var secondResult = AnnotationMetadataCache.getAnnotations(
+        TestController.class.getMethod("get"));
+
+    // then
+    assertThat(firstResult).isSameAs(secondResult);
+    assertThat(firstResult).singleElement()
+        .extracting(annotation -> annotation.annotationType())
+        .isEqualTo(Get.class);
+  }
+
+  @Test
+  @DisplayName("Public methods are cached")
+  @Order(5)
+  void given_Class_When_getMethods_Then_ReturnPublicMethods() {
+    // when
+    var actualResult = AnnotationMetadataCache.getMethods(TestController.class);
+
+    // then
+    assertThat(actualResult).isSameAs(AnnotationMetadataCache.getMethods(TestController.class));
+    assertThat(actualResult).extracting(Method::getName).contains("get");
+  }
+
+  @Test
+  @DisplayName("Find meta-annotation on class")
+  @Order(6)
+  void given_ClassWithMetaAnnotation_When_hasMetaAnnotation_Then_ReturnTrue() {
+    // when
+    boolean hasCyclicAnnotation = AnnotationMetadataCache.hasMetaAnnotation(
+        CyclicCandidate1.class, CyclicAnnotationB.class);
+    boolean hasComponentAnnotation = AnnotationMetadataCache.hasMetaAnnotation(
+        CyclicCandidate1.class, BringComponent.class);
+
+    // then
+    assertThat(hasCyclicAnnotation).isTrue();
+    assertThat(hasComponentAnnotation).isFalse();
+  }
+
+  @Test
+  @DisplayName("Throw exception when the class is null")
+  @Order(7)
+  void given_NullClass_When_getAnnotations_Then_ThrowException() {
+    // when
+    // then
+    assertThatThrownBy(() -> AnnotationMetadataCache.getAnnotations((Class<?>) null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("The class parameter cannot be null!");
+  }
+
+  public static class TestController {
+
+    @Get
+    public void get() {
+    }
+  }
+}
@@ -8,6 +8,7 @@ import io.github.bobocodebreskul.context.annotations.Autowired;
 import io.github.bobocodebreskul.context.annotations.BringBean;
 import io.github.bobocodebreskul.context.annotations.BringComponent;
 import io.github.bobocodebreskul.context.annotations.Qualifier;
+import io.github.bobocodebreskul.context.annotations.Value;
 import io.github.bobocodebreskul.context.config.BeanDependency;
 import io.github.bobocodebreskul.context.exception.BeanDefinitionCreationException;
 import io.github.bobocodebreskul.context.registry.BeanDefinitionRegistry;
@@ -341,6 +342,25 @@ class BeanDefinitionReaderUtilsTest {
     assertThat(methodBeanName).isEqualTo(method.getName());
   }
 
+  @Test
+  @DisplayName("Resolve @Value parameters as configuration value dependencies")
+  @Order(24)
+  void given_ConstructorWithValueParameter_When_getBeanMethodDependencies_Then_ResolveValue() {
+    // given
+    Constructor<?> constructor = ValueComponent.class.getDeclaredConstructors()[0];
+
+    // when
+    List<BeanDependency> actualResult = BeanDefinitionReaderUtils.getBeanMethodDependencies(
+        constructor);
+
+    // then
+    assertThat(actualResult).hasSize(2);
+    assertThat(actualResult.get(0).isValue()).isFalse();
+    assertThat(actualResult.get(0).type()).isEqualTo(MyComponent.class);
+    assertThat(actualResult.get(1).isValue()).isTrue();
+    assertThat(actualResult.get(1).value()).isEqualTo(42);
+  }
+
   private static Stream<Arguments> getConstructors() {
     return Stream.of(Arguments.of(AnotherComponent.class.getDeclaredConstructors()[0], 1),
         Arguments.of(MultipleArgumentDependentComponent.class.getDeclaredConstructors()[0], 2));
@@ -394,6 +414,19 @@ class BeanDefinitionReaderUtilsTest {
     private final AnotherComponent anotherComponent;
   }
 
+  @BringComponent
+  static class ValueComponent {
+
+    private final MyComponent component;
+    private final int size;
+
+    public ValueComponent(MyComponent component,
+        @Value("${bring.test.value-component.size:42}") int size) {
+      this.component = component;
+      this.size = size;
+    }
+  }
+
   @BringComponent("singleName")
   static class NamedComponent {
 
@@ -695,6 +695,8 @@ public class ReflectionUtilsTest {
         arguments("14.4", short.class, IllegalArgumentException.class,
             "Failed to convert value of type '%s' to required type '%s' for input string: [\"%s\"]".formatted(
                 String.class.getName(), short.class, "14.4")),
+        arguments("yes", boolean.class, IllegalArgumentException.class,
+            "String value cannot be converted to boolean: [%s]".formatted("yes")),
         arguments("test", null, NullPointerException.class, "The class parameter cannot be null!")
     );
   }
@@ -718,7 +720,9 @@ public class ReflectionUtilsTest {
         arguments("c", char.class, 'c'),
         arguments("c", Character.class, 'c'),
         arguments("true", boolean.class, true),
-        arguments("true", Boolean.class, true)
+        arguments("true", Boolean.class, true),
+        arguments("FALSE", boolean.class, false),
+        arguments("True", Boolean.class, true)
     );
   }
 
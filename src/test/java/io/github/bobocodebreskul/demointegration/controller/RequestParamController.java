@@ -22,10 +22,4 @@ public class RequestParamController {
     return testParam;
   }
 
-
-  @Get("/test/exception")
-  public UnsupportedRequestParamTest test(@RequestParam("test") UnsupportedRequestParamTest testParam) {
-    return testParam;
-  }
-
 }
@@ -1,5 +0,0 @@
-package io.github.bobocodebreskul.demointegration.controller;
-
-public class UnsupportedRequestParamTest {
-
-}
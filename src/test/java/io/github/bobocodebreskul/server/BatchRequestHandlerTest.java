@@ -0,0 +1,127 @@
+package io.github.bobocodebreskul.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BatchRequestHandlerTest {
+
+  private static final String BATCH_BODY = """
+      [{"path": "/users?id=1"},
+       {"method": "post", "path": "/users", "headers": {"X-Trace": "entry"}, "body": {"id": 2}},
+       {"path": "/missing"}]""";
+  private static final String EXPECTED_RESULT = "["
+      + "{\"status\":200,\"headers\":{\"content-type\":\"application/json\"},"
+      + "\"body\":{\"method\":\"GET\",\"id\":\"1\",\"trace\":\"batch\"}},"
+      + "{\"status\":200,\"headers\":{\"content-type\":\"application/json\"},"
+      + "\"body\":{\"method\":\"POST\",\"id\":{\"id\":2},\"trace\":\"entry\"}},"
+      + "{\"status\":404,\"headers\":{},\"body\":\"Page not found!\"}]";
+
+  private final BatchRequestHandler batchRequestHandler =
+      new BatchRequestHandler(BatchRequestHandlerTest::dispatch);
+
+  @Test
+  @DisplayName("Dispatch batch entries one by one and stream results in order")
+  @Order(1)
+  void given_BatchRequest_When_handle_Then_WriteResultOfEveryEntry() {
+    // given
+    var exchange = new InMemoryWebExchange("POST", "/bring/batch")
+        .header("X-Trace", "batch")
+        .header("Content-Type", "application/json")
+        .body(BATCH_BODY);
+
+    // when
+    batchRequestHandler.handle(exchange);
+
+    // then
+    assertThat(batchRequestHandler.matches(exchange)).isTrue();
+    assertThat(exchange.getStatus()).isEqualTo(200);
+    assertThat(exchange.getResponseHeader("Content-Type")).isEqualTo("application/json");
+    assertThat(exchange.getResponseBodyAsString()).isEqualTo(EXPECTED_RESULT);
+  }
+
+  @Test
+  @DisplayName("Dispatch batch entries in parallel and keep results in order of entries")
+  @Order(2)
+  void given_ParallelBatchRequest_When_handle_Then_WriteResultsInOrder() {
+    // given
+    var exchange = new InMemoryWebExchange("POST", "/bring/batch")
+        .param("parallel", "true")
+        .header("X-Trace", "batch")
+        .body(BATCH_BODY);
+
+    // when
+    batchRequestHandler.handle(exchange);
+
+    // then
+    assertThat(exchange.getStatus()).isEqualTo(200);
+    assertThat(exchange.getResponseBodyAsString()).isEqualTo(EXPECTED_RESULT);
+  }
+
+  @Test
+  @DisplayName("Respond with bad request when batch body is not an array of entries")
+  @Order(3)
+  void given_InvalidBatchBody_When_handle_Then_RespondBadRequest() {
+    // given
+    var exchange = new InMemoryWebExchange("POST", "/bring/batch").body("{\"path\": \"/users\"}");
+
+    // when
+    batchRequestHandler.handle(exchange);
+
+    // then
+    assertThat(exchange.getStatus()).isEqualTo(400);
+    assertThat(exchange.getResponseBodyAsString()).contains("array of {method, path, headers");
+  }
+
+  @Test
+  @DisplayName("Write text sub-response body as JSON string")
+  @Order(4)
+  void given_TextSubResponse_When_handle_Then_WriteBodyAsString() {
+    // given
+    var exchange = new InMemoryWebExchange("POST", "/bring/batch")
+        .body("[{\"path\": \"/text\"}]");
+
+    // when
+    batchRequestHandler.handle(exchange);
+
+    // then
+    assertThat(exchange.getStatus()).isEqualTo(200);
+    assertThat(exchange.getResponseBodyAsString()).isEqualTo("["
+        + "{\"status\":200,\"headers\":{\"content-type\":\"text/plain\"},"
+        + "\"body\":\"id: 1, not \\\"JSON\\\"\\n\"}]");
+  }
+
+  private static void dispatch(WebExchange exchange) {
+    try {
+      if ("/text".equals(exchange.getPath())) {
+        exchange.setStatus(200);
+        exchange.setHeader("Content-Type", "text/plain");
+        exchange.getOutputStream().write("id: 1, not \"JSON\"\n".getBytes(StandardCharsets.UTF_8));
+        return;
+      }
+      if (!"/users".equals(exchange.getPath())) {
+        exchange.setStatus(404);
+        exchange.getOutputStream().write("\"Page not found!\"\n".getBytes(StandardCharsets.UTF_8));
+        return;
+      }
+      String id = "GET".equals(exchange.getMethod())
+          ? "\"%s\"".formatted(exchange.getQueryParameter("id"))
+          : new String(exchange.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+      exchange.setStatus(200);
+      exchange.setHeader("Content-Type", "application/json");
+      exchange.getOutputStream().write("{\"method\":\"%s\",\"id\":%s,\"trace\":\"%s\"}"
+          .formatted(exchange.getMethod(), id, exchange.getHeader("X-Trace"))
+          .getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package io.github.bobocodebreskul.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bobocodebreskul.config.ConfigurationSnapshot;
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
+import io.github.bobocodebreskul.context.exception.PropertyNotFoundException;
+import io.github.bobocodebreskul.server.enums.ConnectorProtocol;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ConnectorPropertiesTest {
+
+  @Test
+  @DisplayName("Leave Tomcat defaults when connector is not configured")
+  @Order(1)
+  void given_EmptyConfiguration_When_from_Then_OnlyAddressIsSet() {
+    // given
+    var configuration = configuration(new Properties());
+
+    // when
+    var actualResult = ConnectorProperties.from(configuration);
+
+    // then
+    assertThat(actualResult.protocol()).isEqualTo(ConnectorProtocol.NIO);
+    assertThat(actualResult.toTomcatProperties()).containsExactly(Map.entry("address", "localhost"));
+  }
+
+  @Test
+  @DisplayName("Map configured settings to Tomcat connector attributes")
+  @Order(2)
+  void given_ConnectorConfiguration_When_toTomcatProperties_Then_ReturnConnectorAttributes() {
+    // given
+    Properties properties = new Properties();
+    properties.setProperty("server.address", "0.0.0.0");
+    properties.setProperty("server.tomcat.protocol", "NIO2");
+    properties.setProperty("server.tomcat.max-threads", "64");
+    properties.setProperty("server.tomcat.min-spare-threads", "4");
+    properties.setProperty("server.tomcat.accept-count", "512");
+    properties.setProperty("server.tomcat.max-connections", "10000");
+    properties.setProperty("server.tomcat.keep-alive-timeout", "15000");
+    properties.setProperty("server.tomcat.max-keep-alive-requests", "-1");
+    properties.setProperty("server.tomcat.socket.receive-buffer-size", "65536");
+    properties.setProperty("server.tomcat.socket.send-buffer-size", "65536");
+    properties.setProperty("server.tomcat.socket.tcp-no-delay", "true");
+
+    // when
+    var actualResult = ConnectorProperties.from(configuration(properties));
+
+    // then
+    assertThat(actualResult.protocol()).isEqualTo(ConnectorProtocol.NIO2);
+    assertThat(actualResult.toTomcatProperties()).containsExactly(
+        Map.entry("address", "0.0.0.0"),
+        Map.entry("maxThreads", "64"),
+        Map.entry("minSpareThreads", "4"),
+        Map.entry("acceptCount", "512"),
+        Map.entry("maxConnections", "10000"),
+        Map.entry("keepAliveTimeout", "15000"),
+        Map.entry("maxKeepAliveRequests", "-1"),
+        Map.entry("socket.rxBufSize", "65536"),
+        Map.entry("socket.txBufSize", "65536"),
+        Map.entry("socket.tcpNoDelay", "true"));
+  }
+
+  @Test
+  @DisplayName("Throw exception when thread pool size is not positive")
+  @Order(3)
+  void given_ZeroMaxThreads_When_from_Then_ThrowException() {
+    // given
+    Properties properties = new Properties();
+    properties.setProperty("server.tomcat.max-threads", "0");
+
+    // when
+    // then
+    assertThatThrownBy(() -> ConnectorProperties.from(configuration(properties)))
+        .isInstanceOf(InvalidPropertyValueException.class)
+        .hasMessage("\"server.tomcat.max-threads\" property value must be positive!");
+  }
+
+  @Test
+  @DisplayName("Throw exception when protocol is not supported")
+  @Order(4)
+  void given_UnknownProtocol_When_from_Then_ThrowException() {
+    // given
+    Properties properties = new Properties();
+    properties.setProperty("server.tomcat.protocol", "apr");
+
+    // when
+    // then
+    assertThatThrownBy(() -> ConnectorProperties.from(configuration(properties)))
+        .isInstanceOf(InvalidPropertyValueException.class)
+        .hasMessage("\"server.tomcat.protocol\" property value must be one of nio, nio2!");
+  }
+
+  @Test
+  @DisplayName("Read HTTP/2 and TLS settings")
+  @Order(5)
+  void given_Http2AndSslConfiguration_When_from_Then_ReadSettings() {
+    // given
+    Properties properties = new Properties();
+    properties.setProperty("server.http2.enabled", "true");
+    properties.setProperty("server.http2.max-concurrent-streams", "128");
+    properties.setProperty("server.ssl.enabled", "true");
+    properties.setProperty("server.ssl.key-store", "/etc/bring/keystore.p12");
+    properties.setProperty("server.ssl.key-store-type", "PKCS12");
+
+    // when
+    var actualResult = ConnectorProperties.from(configuration(properties));
+
+    // then
+    assertThat(actualResult.http2())
+        .isEqualTo(new Http2Properties(true, 128, null));
+    assertThat(actualResult.ssl())
+        .isEqualTo(new SslProperties(true, "/etc/bring/keystore.p12", null, "PKCS12", null));
+  }
+
+  @Test
+  @DisplayName("HTTP/2 and TLS are disabled by default")
+  @Order(6)
+  void given_EmptyConfiguration_When_from_Then_Http2AndSslAreDisabled() {
+    // when
+    var actualResult = ConnectorProperties.from(configuration(new Properties()));
+
+    // then
+    assertThat(actualResult.http2().enabled()).isFalse();
+    assertThat(actualResult.ssl().enabled()).isFalse();
+    assertThat(actualResult.unixSocketPath()).isNull();
+    assertThat(actualResult.tcpEnabled()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Throw exception when TLS is enabled without key store")
+  @Order(7)
+  void given_SslWithoutKeyStore_When_from_Then_ThrowException() {
+    // given
+    Properties properties = new Properties();
+    properties.setProperty("server.ssl.enabled", "true");
+
+    // when
+    // then
+    assertThatThrownBy(() -> ConnectorProperties.from(configuration(properties)))
+        .isInstanceOf(PropertyNotFoundException.class)
+        .hasMessage("The property with name \"server.ssl.key-store\" is not found!");
+  }
+
+  @Test
+  @DisplayName("Read Unix domain socket settings")
+  @Order(8)
+  void given_UnixSocketConfiguration_When_from_Then_ReadSettings() {
+    // given
+    Properties properties = new Properties();
+    properties.setProperty("server.unix-socket-path", "/run/bring/bring.sock");
+    properties.setProperty("server.unix-socket-permissions", "rw-rw----");
+    properties.setProperty("server.tcp.enabled", "false");
+
+    // when
+    var actualResult = ConnectorProperties.from(configuration(properties));
+
+    // then
+    assertThat(actualResult.unixSocketPath()).isEqualTo("/run/bring/bring.sock");
+    assertThat(actualResult.unixSocketPermissions()).isEqualTo("rw-rw----");
+    assertThat(actualResult.tcpEnabled()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Throw exception when TCP is disabled without Unix domain socket")
+  @Order(9)
+  void given_TcpDisabledWithoutUnixSocket_When_from_Then_ThrowException() {
+    // given
+    Properties properties = new Properties();
+    properties.setProperty("server.tcp.enabled", "false");
+
+    // when
+    // then
+    assertThatThrownBy(() -> ConnectorProperties.from(configuration(properties)))
+        .isInstanceOf(InvalidPropertyValueException.class)
+        .hasMessage("\"server.tcp.enabled\" property value can be false only when "
+            + "\"server.unix-socket-path\" is configured!");
+  }
+
+  private static ConfigurationSnapshot configuration(Properties properties) {
+    return ConfigurationSnapshot.of(properties, Map.of(), new Properties());
+  }
+}
@@ -0,0 +1,115 @@
+package io.github.bobocodebreskul.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.bobocodebreskul.context.exception.ResourceNotFoundException;
+import io.github.bobocodebreskul.server.exception.BodyReadException;
+import io.github.bobocodebreskul.server.exception.BusinessException;
+import io.github.bobocodebreskul.server.exception.WebMethodParameterException;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ErrorHandlerResolverTest {
+
+  private final TestErrorHandler controller = new TestErrorHandler();
+
+  @Test
+  @DisplayName("Resolve handler of the nearest superclass of the exception")
+  @Order(1)
+  void given_ExceptionSubclass_When_resolve_Then_NearestHandlerResolved() throws Exception {
+    // given
+    var resolver = new ErrorHandlerResolver(Map.of(
+        RuntimeException.class, controllerMethod("handleRuntime", RuntimeException.class),
+        IllegalArgumentException.class, controllerMethod("handleIllegalArgument",
+            WebExchange.class, IllegalArgumentException.class)));
+    var exchange = new InMemoryWebExchange("GET", "/test");
+
+    // when
+    var numberFormatHandler = resolver.resolve(NumberFormatException.class);
+    var stateHandler = resolver.resolve(IllegalStateException.class);
+
+    // then
+    assertThat(numberFormatHandler.requestType()).isEqualTo(WebExchange.class);
+    assertThat(numberFormatHandler.invoke(new NumberFormatException("number"), exchange))
+        .isEqualTo("IllegalArgumentException number /test");
+    assertThat(stateHandler.requestType()).isNull();
+    assertThat(stateHandler.invoke(new IllegalStateException("state"), null))
+        .isEqualTo("RuntimeException state");
+    assertThat(resolver.resolve(Exception.class)).isNull();
+  }
+
+  @Test
+  @DisplayName("Keep routing failures unhandled unless their handler is declared")
+  @Order(2)
+  void given_ResourceNotFoundException_When_resolve_Then_GenericHandlerSkipped() {
+    // given
+    var resolver = new ErrorHandlerResolver(Map.of(
+        RuntimeException.class, controllerMethod("handleRuntime", RuntimeException.class)));
+
+    // when
+    var actualResult = resolver.resolve(ResourceNotFoundException.class);
+
+    // then
+    assertThat(actualResult).isNull();
+  }
+
+  @Test
+  @DisplayName("Keep request binding failures unhandled unless their handler is declared")
+  @Order(4)
+  void given_WebMethodParameterException_When_resolve_Then_GenericHandlerSkipped() {
+    // given
+    var resolver = new ErrorHandlerResolver(Map.of(
+        RuntimeException.class, controllerMethod("handleRuntime", RuntimeException.class),
+        BodyReadException.class, controllerMethod("handleRuntime", RuntimeException.class)));
+
+    // when
+    var parameterHandler = resolver.resolve(WebMethodParameterException.class);
+    var bodyHandler = resolver.resolve(BodyReadException.class);
+
+    // then
+    assertThat(parameterHandler).isNull();
+    assertThat(bodyHandler).isNotNull();
+  }
+
+  @Test
+  @DisplayName("Create business exception without stack trace")
+  @Order(3)
+  void given_BusinessException_When_created_Then_StackTraceNotCaptured() throws Exception {
+    // given
+    var resolver = new ErrorHandlerResolver(Map.of(
+        RuntimeException.class, controllerMethod("handleRuntime", RuntimeException.class)));
+
+    // when
+    var exception = new BusinessException("Order is not found");
+
+    // then
+    assertThat(exception.getStackTrace()).isEmpty();
+    assertThat(resolver.resolve(BusinessException.class).invoke(exception, null))
+        .isEqualTo("RuntimeException Order is not found");
+  }
+
+  private ControllerMethod controllerMethod(String name, Class<?>... parameterTypes) {
+    try {
+      return new ControllerMethod(controller,
+          TestErrorHandler.class.getMethod(name, parameterTypes));
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static class TestErrorHandler {
+
+    public String handleRuntime(RuntimeException ex) {
+      return "RuntimeException " + ex.getMessage();
+    }
+
+    public String handleIllegalArgument(WebExchange exchange, IllegalArgumentException ex) {
+      return "IllegalArgumentException " + ex.getMessage() + " " + exchange.getPath();
+    }
+  }
+}
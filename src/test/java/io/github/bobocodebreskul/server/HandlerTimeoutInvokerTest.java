@@ -0,0 +1,208 @@
+package io.github.bobocodebreskul.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bobocodebreskul.context.scope.RequestContextHolder;
+import io.github.bobocodebreskul.server.annotations.Timeout;
+import io.github.bobocodebreskul.server.exception.HandlerRejectedException;
+import io.github.bobocodebreskul.server.exception.HandlerTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class HandlerTimeoutInvokerTest {
+
+  private final HandlerTimeoutInvoker invoker = new HandlerTimeoutInvoker();
+  private final InMemoryWebExchange exchange = new InMemoryWebExchange("GET", "/report");
+
+  @Test
+  @DisplayName("Resolve timeout from method annotation before class annotation")
+  @Order(1)
+  void given_TimeoutAnnotations_When_getTimeoutNanos_Then_MethodAnnotationWins()
+      throws NoSuchMethodException {
+    // when
+    var methodTimeout = invoker.getTimeoutNanos(TimedController.class.getMethod("fast"));
+    var classTimeout = invoker.getTimeoutNanos(TimedController.class.getMethod("regular"));
+    var disabledTimeout = invoker.getTimeoutNanos(TimedController.class.getMethod("unlimited"));
+
+    // then
+    assertThat(methodTimeout).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(classTimeout).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+    assertThat(disabledTimeout).isZero();
+  }
+
+  @Test
+  @DisplayName("Return handler result and rethrow handler exception")
+  @Order(2)
+  void given_CompletedHandler_When_invoke_Then_ReturnResult() {
+    // given
+    var token = new CancellationToken(TimeUnit.SECONDS.toNanos(1));
+
+    // when
+    // then
+    assertThat(invoke(() -> "report", token)).isEqualTo("report");
+    assertThatThrownBy(() -> invoker.invoke(() -> {
+      throw new IllegalStateException("failed");
+    }, new DetachableWebExchange(exchange), token))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("failed");
+    assertThat(token.isCancelled()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Fail request and cancel handler when deadline passes")
+  @Order(3)
+  void given_StuckHandler_When_invoke_Then_TimeoutAndHandlerInterrupted()
+      throws InterruptedException {
+    // given
+    var token = new CancellationToken(TimeUnit.MILLISECONDS.toNanos(50));
+    var interrupted = new CountDownLatch(1);
+
+    // when
+    // then
+    assertThatThrownBy(() -> invoker.invoke(() -> {
+      try {
+        Thread.sleep(10_000);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return "late";
+    }, new DetachableWebExchange(exchange), token))
+        .isInstanceOf(HandlerTimeoutException.class);
+    assertThat(token.isCancelled()).isTrue();
+    assertThatThrownBy(token::throwIfCancelled).isInstanceOf(HandlerTimeoutException.class);
+    assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("Reject requests while all handler threads are pinned by overdue handlers")
+  @Order(4)
+  void given_HandlerIgnoringCancellation_When_invoke_Then_RejectUntilHandlerReturns()
+      throws Exception {
+    // given
+    var singleThreadInvoker = new HandlerTimeoutInvoker(0, 1);
+    var release = new CountDownLatch(1);
+    Callable<Object> pinningHandler = () -> {
+      while (true) {
+        try {
+          release.await();
+          return "late";
+        } catch (InterruptedException ignored) {
+          // the handler ignores cancellation
+        }
+      }
+    };
+
+    // when
+    // then
+    assertThatThrownBy(() -> singleThreadInvoker.invoke(pinningHandler,
+        new DetachableWebExchange(exchange),
+        new CancellationToken(TimeUnit.MILLISECONDS.toNanos(50))))
+        .isInstanceOf(HandlerTimeoutException.class);
+    assertThat(singleThreadInvoker.getOverdueCount()).isEqualTo(1);
+    assertThatThrownBy(() -> singleThreadInvoker.invoke(() -> "report",
+        new DetachableWebExchange(exchange),
+        new CancellationToken(TimeUnit.SECONDS.toNanos(1))))
+        .isInstanceOf(HandlerRejectedException.class);
+
+    release.countDown();
+    assertThat(invokeWhenThreadReleased(singleThreadInvoker)).isEqualTo("report");
+    assertThat(singleThreadInvoker.getOverdueCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Detach exchange of the handler when deadline passes")
+  @Order(5)
+  void given_HandlerRunningAfterTimeout_When_readExchange_Then_ExchangeAccessFails()
+      throws Exception {
+    // given
+    var handlerExchange = new DetachableWebExchange(exchange);
+    var timedOut = new CountDownLatch(1);
+    var failures = new CompletableFuture<List<Throwable>>();
+    Callable<Object> lateHandler = () -> {
+      while (timedOut.getCount() > 0) {
+        try {
+          timedOut.await();
+        } catch (InterruptedException ignored) {
+          // the handler ignores cancellation
+        }
+      }
+      List<Throwable> caught = new ArrayList<>();
+      try {
+        handlerExchange.getHeader("accept");
+      } catch (IllegalStateException e) {
+        caught.add(e);
+      }
+      try {
+        RequestContextHolder.getRequestAttributes().getAttribute("user");
+      } catch (IllegalStateException e) {
+        caught.add(e);
+      }
+      failures.complete(caught);
+      return "late";
+    };
+
+    // when
+    assertThatThrownBy(() -> invoker.invoke(lateHandler, handlerExchange,
+        new CancellationToken(TimeUnit.MILLISECONDS.toNanos(50))))
+        .isInstanceOf(HandlerTimeoutException.class);
+    timedOut.countDown();
+
+    // then
+    assertThat(handlerExchange.isDetached()).isTrue();
+    assertThat(failures.get(1, TimeUnit.SECONDS)).hasSize(2);
+  }
+
+  private Object invokeWhenThreadReleased(HandlerTimeoutInvoker timeoutInvoker)
+      throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+    while (true) {
+      try {
+        return timeoutInvoker.invoke(() -> "report", new DetachableWebExchange(exchange),
+            new CancellationToken(TimeUnit.SECONDS.toNanos(1)));
+      } catch (HandlerRejectedException e) {
+        // the released thread returns to the pool shortly after the handler
+        if (System.nanoTime() > deadline) {
+          throw e;
+        }
+        Thread.sleep(10);
+      }
+    }
+  }
+
+  private Object invoke(Callable<Object> handler, CancellationToken token) {
+    try {
+      return invoker.invoke(handler, new DetachableWebExchange(exchange), token);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Timeout(2)
+  public static class TimedController {
+
+    @Timeout(value = 100, unit = TimeUnit.MILLISECONDS)
+    public String fast() {
+      return "fast";
+    }
+
+    public String regular() {
+      return "regular";
+    }
+
+    @Timeout(0)
+    public String unlimited() {
+      return "unlimited";
+    }
+  }
+}
@@ -3,25 +3,29 @@ package io.github.bobocodebreskul.server;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchException;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bobocodebreskul.server.exception.BodyReadException;
 import io.github.bobocodebreskul.server.exception.RequestsMappingException;
 import io.github.bobocodebreskul.server.enums.RequestMethod;
 import io.github.bobocodebreskul.server.enums.ResponseStatus;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -151,7 +155,6 @@ class HttpRequestMapperTest {
     String stringUrl = "100.90.90.99";
     var expectedURI = URI.create(stringUrl);
     var headerNames = Collections.enumeration(List.of(headerName1, headerName2, headerContentType));
-    BufferedReader bufferedReader = mock(BufferedReader.class);
 
     //given
     given(mockedHttpServletRequest.getMethod()).willReturn(method);
@@ -160,9 +163,8 @@ class HttpRequestMapperTest {
     given(mockedHttpServletRequest.getHeader(headerName1)).willReturn(headerValue1);
     given(mockedHttpServletRequest.getHeader(headerName2)).willReturn(headerValue2);
     given(mockedHttpServletRequest.getHeader(headerContentType)).willReturn(headerValueContentType);
-    given(mockedHttpServletRequest.getReader()).willReturn(bufferedReader);
-    given(bufferedReader.lines()).willReturn(List.of(body).stream());
-    given(mockedMapper.readValue(anyString(), any(Class.class))).willReturn(body);
+    given(mockedHttpServletRequest.getInputStream()).willReturn(servletInputStream(body));
+    given(mockedMapper.readValue(any(InputStream.class), any(Class.class))).willReturn(body);
 
     //when
     var actual = requestMapper.mapHttpServletRequestOnBringRequestEntity(mockedHttpServletRequest,
@@ -201,17 +203,11 @@ class HttpRequestMapperTest {
   @Order(7)
   @SneakyThrows
   void given_ObjectMapperThrowsIOExceptionOnReadValue_When_mapHttpServletRequestOnBringRequestEntity_Then_ShouldThrowRequestsMappingException() {
-    BufferedReader bufferedReader = mock(BufferedReader.class);
-    var headerNames = Collections.enumeration(List.of("headerName", "content-type"));
-
     given(mockedHttpServletRequest.getMethod()).willReturn("GET");
     given(mockedHttpServletRequest.getRequestURI()).willReturn("/test");
-    given(mockedHttpServletRequest.getHeaderNames()).willReturn(headerNames);
-    given(mockedHttpServletRequest.getHeader("headerName")).willReturn("headerValue");
     given(mockedHttpServletRequest.getHeader("content-type")).willReturn("text/plain");
-    given(mockedHttpServletRequest.getReader()).willReturn(bufferedReader);
-    given(bufferedReader.lines()).willReturn(List.of("body").stream());
-    when(mockedMapper.readValue(anyString(), any(Class.class)))
+    given(mockedHttpServletRequest.getInputStream()).willReturn(servletInputStream("body"));
+    when(mockedMapper.readValue(any(InputStream.class), any(Class.class)))
         .thenThrow(new JsonProcessingException("Json Error") {
         });
 
@@ -224,4 +220,95 @@ class HttpRequestMapperTest {
         .isInstanceOf(RequestsMappingException.class)
         .hasMessage("Failed to map HttpServletRequest body into object.");
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Read request headers and cookies lazily without copying them on mapping")
+  @Order(8)
+  @SneakyThrows
+  void given_HttpServletRequestWithHeaders_When_mapHttpServletRequestOnBringRequestEntity_Then_HeadersReadOnAccess() {
+    given(mockedHttpServletRequest.getMethod()).willReturn("GET");
+    given(mockedHttpServletRequest.getRequestURI()).willReturn("/test");
+    given(mockedHttpServletRequest.getHeader("content-type")).willReturn("text/plain");
+    given(mockedHttpServletRequest.getInputStream()).willReturn(servletInputStream(""));
+
+    var actual = requestMapper.mapHttpServletRequestOnBringRequestEntity(mockedHttpServletRequest,
+        String.class);
+
+    verify(mockedHttpServletRequest, never()).getHeaderNames();
+    given(mockedHttpServletRequest.getHeader("Accept")).willReturn("text/html");
+    given(mockedHttpServletRequest.getHeaders("Accept"))
+        .willReturn(Collections.enumeration(List.of("text/html", "application/json")));
+    given(mockedHttpServletRequest.getHeaders("cookie"))
+        .willReturn(Collections.enumeration(List.of("session=abc; theme=dark", "lang=en")));
+    assertThat(actual.getHeader("Accept")).isEqualTo("text/html");
+    assertThat(actual.getHeaderValues("Accept")).containsExactly("text/html", "application/json");
+    assertThat(actual.getCookie("theme")).isEqualTo("dark");
+    assertThat(actual.getCookie("lang")).isEqualTo("en");
+    assertThat(actual.getCookie("missing")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Read body of content type with parameters and reject unsupported content type")
+  @Order(9)
+  @SneakyThrows
+  void given_ContentTypeWithCharset_When_mapHttpServletRequestOnBringRequestEntity_Then_BodyReadByCodec() {
+    given(mockedHttpServletRequest.getMethod()).willReturn("POST");
+    given(mockedHttpServletRequest.getRequestURI()).willReturn("/test");
+    given(mockedHttpServletRequest.getHeader("content-type"))
+        .willReturn("application/json; charset=utf-8", "application/xml");
+    given(mockedHttpServletRequest.getInputStream()).willReturn(servletInputStream("\"body\""));
+    given(mockedMapper.readValue(any(InputStream.class), any(Class.class))).willReturn("body");
+
+    var actual = requestMapper.mapHttpServletRequestOnBringRequestEntity(mockedHttpServletRequest,
+        String.class);
+    Exception actualException = catchException(
+        () -> requestMapper.mapHttpServletRequestOnBringRequestEntity(mockedHttpServletRequest,
+            String.class));
+
+    assertThat(actual.getBody()).isEqualTo("body");
+    assertThat(actualException)
+        .isInstanceOf(BodyReadException.class)
+        .hasMessageStartingWith("Unsupported body type, incoming 'content-type'='application/xml'");
+  }
+
+  @Test
+  @DisplayName("Bind whitespace-only body as null")
+  @Order(10)
+  @SneakyThrows
+  void given_WhitespaceOnlyBody_When_mapHttpServletRequestOnBringRequestEntity_Then_BodyIsNull() {
+    given(mockedHttpServletRequest.getMethod()).willReturn("POST");
+    given(mockedHttpServletRequest.getRequestURI()).willReturn("/test");
+    given(mockedHttpServletRequest.getHeader("content-type")).willReturn("application/json");
+    given(mockedHttpServletRequest.getInputStream()).willReturn(servletInputStream(" \r\n"));
+
+    var actual = requestMapper.mapHttpServletRequestOnBringRequestEntity(mockedHttpServletRequest,
+        String.class);
+
+    assertThat(actual.getBody()).isNull();
+    verify(mockedMapper, never()).readValue(any(InputStream.class), any(Class.class));
+  }
+
+  private static ServletInputStream servletInputStream(String body) {
+    var inputStream = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    return new ServletInputStream() {
+      @Override
+      public boolean isFinished() {
+        return inputStream.available() == 0;
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setReadListener(ReadListener readListener) {
+      }
+
+      @Override
+      public int read() {
+        return inputStream.read();
+      }
+    };
+  }
+}
@@ -0,0 +1,115 @@
+package io.github.bobocodebreskul.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bobocodebreskul.context.registry.BringContainer;
+import io.github.bobocodebreskul.demointegration.DemoApp;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class InMemoryWebServerTest {
+
+  private static InMemoryWebServer server;
+
+  @BeforeAll
+  static void setUp() {
+    server = new InMemoryWebServer();
+    BringContainer.run(DemoApp.class, server);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    server.stop();
+  }
+
+  @Test
+  @DisplayName("Dispatch request to controller method without binding a port")
+  @Order(1)
+  void given_GetRequest_When_dispatch_Then_WriteControllerResult() {
+    // given
+    var exchange = new InMemoryWebExchange("GET", "/url");
+
+    // when
+    var actualResult = server.dispatch(exchange);
+
+    // then
+    assertThat(actualResult.getStatus()).isEqualTo(200);
+    assertThat(actualResult.getResponseBodyAsString())
+        .isEqualTo("\"BaseController Get Method\"" + System.lineSeparator());
+  }
+
+  @Test
+  @DisplayName("Bind request parameters and body to controller method arguments")
+  @Order(2)
+  void given_RequestWithParameterAndBody_When_dispatch_Then_ArgumentsBound() {
+    // given
+    var paramExchange = new InMemoryWebExchange("GET", "/test").param("test", "value");
+    var bodyExchange = new InMemoryWebExchange("POST", "/url/withRequestBody")
+        .body("{\"string\":\"String\",\"integer\":10}");
+
+    // when
+    server.dispatch(paramExchange);
+    server.dispatch(bodyExchange);
+
+    // then
+    assertThat(paramExchange.getResponseBodyAsString())
+        .isEqualTo("\"value\"" + System.lineSeparator());
+    assertThat(bodyExchange.getResponseBodyAsString())
+        .isEqualTo("\"String10\"" + System.lineSeparator());
+  }
+
+  @Test
+  @DisplayName("Write error handler result and BringResponse status and headers")
+  @Order(3)
+  void given_ControllerThrowsException_When_dispatch_Then_ErrorHandlerResultWritten() {
+    // given
+    var exchange = new InMemoryWebExchange("GET", "/error/property");
+
+    // when
+    var actualResult = server.dispatch(exchange);
+
+    // then
+    assertThat(actualResult.getStatus()).isEqualTo(502);
+    assertThat(actualResult.getResponseHeader("TestHeader")).isEqualTo("TestValue");
+    assertThat(actualResult.getResponseBodyAsString())
+        .isEqualTo("\"Hello from BringResponse\"" + System.lineSeparator());
+  }
+
+  @Test
+  @DisplayName("Reuse exchange after reset for the next request")
+  @Order(4)
+  void given_UsedExchange_When_resetAndDispatch_Then_OnlyNewResponseReturned() {
+    // given
+    var exchange = server.dispatch(new InMemoryWebExchange("GET", "/error/property"));
+
+    // when
+    var actualResult = server.dispatch(exchange.reset("GET", "/missing"));
+
+    // then
+    assertThat(actualResult.getStatus()).isEqualTo(404);
+    assertThat(actualResult.getResponseHeaders()).isEmpty();
+    assertThat(actualResult.getResponseBodyAsString())
+        .isEqualTo("\"Page not found!\"" + System.lineSeparator());
+  }
+
+  @Test
+  @DisplayName("Throw exception when server is not started")
+  @Order(5)
+  void given_NotStartedServer_When_dispatch_Then_ThrowException() {
+    // given
+    var notStartedServer = new InMemoryWebServer();
+
+    // when
+    // then
+    assertThatThrownBy(() -> notStartedServer.dispatch(new InMemoryWebExchange("GET", "/url")))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("In-memory web server is not started");
+  }
+}
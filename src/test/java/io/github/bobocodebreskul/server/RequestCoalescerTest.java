@@ -0,0 +1,119 @@
+package io.github.bobocodebreskul.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bobocodebreskul.server.annotations.Coalesce;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RequestCoalescerTest {
+
+  private final RequestCoalescer coalescer = new RequestCoalescer();
+
+  @Test
+  @DisplayName("Build key from path, selected parameters and Accept header")
+  @Order(1)
+  void given_CoalesceParams_When_getKey_Then_OnlySelectedParametersUsed()
+      throws NoSuchMethodException {
+    // given
+    var coalesce = Products.class.getMethod("byCategory").getAnnotation(Coalesce.class);
+    var books = new InMemoryWebExchange("GET", "/products").param("category", "books")
+        .param("trace", "1");
+    var sameBooks = new InMemoryWebExchange("GET", "/products").param("category", "books")
+        .param("trace", "2");
+    var toys = new InMemoryWebExchange("GET", "/products").param("category", "toys");
+    var smileBooks = new InMemoryWebExchange("GET", "/products").param("category", "books")
+        .header("Accept", "application/x-jackson-smile");
+
+    // when
+    var booksKey = RequestCoalescer.getKey("/products", coalesce, books);
+
+    // then
+    assertThat(RequestCoalescer.getKey("/products", coalesce, sameBooks)).isEqualTo(booksKey);
+    assertThat(RequestCoalescer.getKey("/products", coalesce, toys)).isNotEqualTo(booksKey);
+    assertThat(RequestCoalescer.getKey("/products", coalesce, smileBooks))
+        .isNotEqualTo(booksKey);
+  }
+
+  @Test
+  @DisplayName("Invoke leader once and share its response with concurrent requests")
+  @Order(2)
+  void given_ConcurrentRequests_When_execute_Then_LeaderInvokedOnce() throws Exception {
+    // given
+    var invocations = new AtomicInteger();
+    var leaderStarted = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    RequestCoalescer.Leader leader = capture -> {
+      invocations.incrementAndGet();
+      leaderStarted.countDown();
+      release.await(1, TimeUnit.SECONDS);
+      capture.setStatus(200);
+      capture.setHeader("Content-Type", "application/json");
+      capture.getOutputStream().write("[\"book\"]".getBytes(StandardCharsets.UTF_8));
+    };
+
+    // when
+    var leaderResult = CompletableFuture.supplyAsync(() -> execute("key", leader));
+    assertThat(leaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+    var followerResult = new CompletableFuture<RequestCoalescer.CapturedResponse>();
+    var follower = new Thread(() -> followerResult.complete(execute("key", leader)));
+    follower.start();
+    // the follower parks on the leader future once it joins the in-flight request
+    while (follower.getState() != Thread.State.WAITING
+        && follower.getState() != Thread.State.TERMINATED) {
+      Thread.onSpinWait();
+    }
+    release.countDown();
+    var exchange = new InMemoryWebExchange("GET", "/products");
+    followerResult.get(1, TimeUnit.SECONDS).writeTo(exchange);
+
+    // then
+    assertThat(invocations).hasValue(1);
+    assertThat(leaderResult.get(1, TimeUnit.SECONDS).body())
+        .isSameAs(followerResult.get().body());
+    assertThat(exchange.getStatus()).isEqualTo(200);
+    assertThat(exchange.getResponseHeader("content-type")).isEqualTo("application/json");
+    assertThat(exchange.getResponseBodyAsString()).isEqualTo("[\"book\"]");
+    assertThat(coalescer.getInFlightCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Propagate leader exception and remove the key from in-flight requests")
+  @Order(3)
+  void given_FailingLeader_When_execute_Then_ExceptionThrownAndKeyRemoved() {
+    // when
+    // then
+    assertThatThrownBy(() -> coalescer.execute("key", capture -> {
+      throw new IllegalStateException("Database is not available");
+    }))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Database is not available");
+    assertThat(coalescer.getInFlightCount()).isZero();
+  }
+
+  private RequestCoalescer.CapturedResponse execute(String key, RequestCoalescer.Leader leader) {
+    try {
+      return coalescer.execute(key, leader);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static class Products {
+
+    @Coalesce(params = "category")
+    public String byCategory() {
+      return "books";
+    }
+  }
+}
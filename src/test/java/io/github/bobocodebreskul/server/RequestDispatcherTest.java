@@ -0,0 +1,48 @@
+package io.github.bobocodebreskul.server;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bobocodebreskul.server.annotations.RequestParam;
+import io.github.bobocodebreskul.server.codec.MessageCodecRegistry;
+import io.github.bobocodebreskul.server.convert.ConversionService;
+import io.github.bobocodebreskul.server.exception.WebMethodParameterException;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RequestDispatcherTest {
+
+  @Test
+  @DisplayName("Fail route building when request parameter type has no converter")
+  @Order(1)
+  void given_RequestParamWithoutConverter_When_create_Then_ThrowWebMethodParameterException()
+      throws NoSuchMethodException {
+    // given
+    var controller = new UnsupportedParamController();
+    var method = UnsupportedParamController.class.getMethod("get", UnsupportedParam.class);
+    var routes = Map.of("/unsupported", Map.of("GET", new ControllerMethod(controller, method)));
+
+    // when
+    // then
+    assertThatThrownBy(() -> new RequestDispatcher(new HttpRequestMapper(), Map.of(), routes,
+        new ConversionService(), new MessageCodecRegistry()))
+        .isInstanceOf(WebMethodParameterException.class)
+        .hasMessage("No converter found for request parameter [param] of type [%s] in method [%s]"
+            .formatted(UnsupportedParam.class.getName(), method));
+  }
+
+  public static class UnsupportedParamController {
+
+    public String get(@RequestParam("param") UnsupportedParam param) {
+      return "unsupported";
+    }
+  }
+
+  public static class UnsupportedParam {
+
+  }
+}
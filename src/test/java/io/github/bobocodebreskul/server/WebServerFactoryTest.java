@@ -0,0 +1,50 @@
+package io.github.bobocodebreskul.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bobocodebreskul.context.exception.InvalidPropertyValueException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class WebServerFactoryTest {
+
+  @Test
+  @DisplayName("Select Tomcat engine by default")
+  @Order(1)
+  void given_NoEngineConfigured_When_getWebServer_Then_ReturnTomcatEngine() {
+    // when
+    var actualResult = WebServerFactory.getWebServer();
+
+    // then
+    assertThat(actualResult).isInstanceOf(TomcatWebServer.class);
+    assertThat(actualResult.getName()).isEqualTo(WebServerFactory.DEFAULT_ENGINE);
+  }
+
+  @Test
+  @DisplayName("Select engine by name ignoring case")
+  @Order(2)
+  void given_JdkEngineName_When_getWebServer_Then_ReturnJdkEngine() {
+    // when
+    var actualResult = WebServerFactory.getWebServer("JDK");
+
+    // then
+    assertThat(actualResult).isInstanceOf(JdkWebServer.class);
+    assertThat(actualResult.getStatus()).isEqualTo("NEW");
+  }
+
+  @Test
+  @DisplayName("Throw exception when engine is unknown")
+  @Order(3)
+  void given_UnknownEngineName_When_getWebServer_Then_ThrowException() {
+    // when
+    // then
+    assertThatThrownBy(() -> WebServerFactory.getWebServer("netty"))
+        .isInstanceOf(InvalidPropertyValueException.class)
+        .hasMessage("\"server.engine\" property value must be one of [tomcat, jdk, in-memory]!");
+  }
+}
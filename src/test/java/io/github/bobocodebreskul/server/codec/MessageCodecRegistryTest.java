@@ -0,0 +1,88 @@
+package io.github.bobocodebreskul.server.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MessageCodecRegistryTest {
+
+  private final MessageCodecRegistry registry = new MessageCodecRegistry();
+
+  @Test
+  @DisplayName("Find reader by content type ignoring case and parameters")
+  @Order(1)
+  void given_ContentTypeWithParameters_When_findReader_Then_ReturnCodec() {
+    // when
+    // then
+    assertThat(registry.findReader("application/json; charset=utf-8"))
+        .containsSame(registry.getDefaultCodec());
+    assertThat(registry.findReader("Application/X-Jackson-Smile")).get()
+        .isInstanceOf(SmileMessageCodec.class);
+    assertThat(registry.findReader("application/xml")).isEmpty();
+    assertThat(registry.findReader(null)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Negotiate codec by quality of Accept media ranges")
+  @Order(2)
+  void given_AcceptHeader_When_negotiate_Then_ReturnMostPreferredCodec() {
+    // when
+    // then
+    assertThat(registry.negotiate("application/json;q=0.5, application/x-jackson-smile"))
+        .isInstanceOf(SmileMessageCodec.class);
+    assertThat(registry.negotiate("application/x-jackson-smile;q=0, */*"))
+        .isSameAs(registry.getDefaultCodec());
+    assertThat(registry.negotiate("text/html,application/xhtml+xml,*/*;q=0.8"))
+        .isSameAs(registry.getDefaultCodec());
+  }
+
+  @Test
+  @DisplayName("Return default codec when Accept header is absent or not supported")
+  @Order(3)
+  void given_AbsentOrUnsupportedAccept_When_negotiate_Then_ReturnDefaultCodec() {
+    // when
+    // then
+    assertThat(registry.negotiate(null)).isInstanceOf(JsonMessageCodec.class);
+    assertThat(registry.negotiate("application/xml")).isSameAs(registry.getDefaultCodec());
+  }
+
+  @Test
+  @DisplayName("Prefer custom codec over built-in codec of the same media type")
+  @Order(4)
+  void given_CustomCodec_When_negotiate_Then_CustomCodecUsed() {
+    // given
+    var customCodec = new TestCodec();
+    var customRegistry = new MessageCodecRegistry(List.of(customCodec));
+
+    // when
+    // then
+    assertThat(customRegistry.negotiate("application/x-jackson-smile")).isSameAs(customCodec);
+    assertThat(customRegistry.findReader("text/csv")).containsSame(customCodec);
+    assertThat(customRegistry.getDefaultCodec()).isInstanceOf(JsonMessageCodec.class);
+  }
+
+  private static class TestCodec implements MessageCodec {
+
+    @Override
+    public List<String> getMediaTypes() {
+      return List.of("text/csv", "application/x-jackson-smile");
+    }
+
+    @Override
+    public <T> T read(InputStream body, Class<T> type) {
+      return null;
+    }
+
+    @Override
+    public void write(Object body, OutputStream out) {
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package io.github.bobocodebreskul.server.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bobocodebreskul.server.enums.RequestMethod;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ConversionServiceTest {
+
+  private final ConversionService conversionService = new ConversionService();
+
+  @Test
+  @DisplayName("Convert primitives, wrappers, UUID and java.time values")
+  @Order(1)
+  void given_ScalarTypes_When_findConverter_Then_ConvertValues() {
+    // given
+    var uuid = UUID.randomUUID();
+
+    // when
+    // then
+    assertThat(convert(int.class, "42")).isEqualTo(42);
+    assertThat(convert(Long.class, "-7")).isEqualTo(-7L);
+    assertThat(convert(boolean.class, "true")).isEqualTo(true);
+    assertThat(convert(char.class, "c")).isEqualTo('c');
+    assertThat(convert(UUID.class, uuid.toString())).isEqualTo(uuid);
+    assertThat(convert(LocalDate.class, "2024-02-29")).isEqualTo(LocalDate.of(2024, 2, 29));
+    assertThat(convert(Duration.class, "PT5S")).isEqualTo(Duration.ofSeconds(5));
+  }
+
+  @Test
+  @DisplayName("Convert enum constants by name ignoring case")
+  @Order(2)
+  void given_EnumType_When_findConverter_Then_ConvertByName() {
+    // when
+    // then
+    assertThat(convert(RequestMethod.class, "POST")).isEqualTo(RequestMethod.POST);
+    assertThat(convert(RequestMethod.class, "delete")).isEqualTo(RequestMethod.DELETE);
+    assertThatThrownBy(() -> convert(RequestMethod.class, "PATCH"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Failed to convert value of type '%s' to required type '%s' for input string: [\"%s\"]"
+            .formatted(String.class.getName(), RequestMethod.class, "PATCH"));
+  }
+
+  @Test
+  @DisplayName("Convert comma-separated values into arrays and collections")
+  @Order(3)
+  void given_ArrayAndCollectionTypes_When_findConverter_Then_ConvertEveryItem() throws Exception {
+    // given
+    var listType = Holder.class.getDeclaredField("list").getGenericType();
+    var setType = Holder.class.getDeclaredField("set").getGenericType();
+
+    // when
+    var intArray = conversionService.findConverter(int[].class, int[].class).orElseThrow()
+        .convert("1, 2,3");
+    var list = conversionService.findConverter(List.class, listType).orElseThrow()
+        .convert("GET,PUT");
+    var set = conversionService.findConverter(Set.class, setType).orElseThrow()
+        .convert("a,b,a");
+
+    // then
+    assertThat(intArray).isEqualTo(new int[]{1, 2, 3});
+    assertThat(list).isEqualTo(List.of(RequestMethod.GET, RequestMethod.PUT));
+    assertThat(set).isEqualTo(Set.of("a", "b"));
+  }
+
+  @Test
+  @DisplayName("Throw exception when value could not be converted")
+  @Order(4)
+  void given_WrongValue_When_convert_Then_ThrowException() {
+    // when
+    // then
+    assertThatThrownBy(() -> convert(int.class, "test"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Failed to convert value of type '%s' to required type '%s' for input string: [\"%s\"]"
+            .formatted(String.class.getName(), int.class, "test"));
+    assertThatThrownBy(() -> conversionService.findConverter(int[].class, int[].class)
+        .orElseThrow().convert("1,x"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Prefer custom converter and return empty result for unsupported type")
+  @Order(5)
+  void given_CustomConverter_When_findConverter_Then_CustomConverterUsed() {
+    // given
+    var customService = new ConversionService(
+        List.of(Converter.of(String.class, String::toUpperCase)));
+
+    // when
+    var actualResult = customService.findConverter(String.class, String.class).orElseThrow()
+        .convert("value");
+
+    // then
+    assertThat(actualResult).isEqualTo("VALUE");
+    assertThat(customService.findConverter(Holder.class, Holder.class)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Convert only true and false ignoring case to boolean")
+  @Order(6)
+  void given_BooleanType_When_findConverter_Then_RejectOtherValues() {
+    // when
+    // then
+    assertThat(convert(boolean.class, "TRUE")).isEqualTo(true);
+    assertThat(convert(Boolean.class, "False")).isEqualTo(false);
+    assertThatThrownBy(() -> convert(boolean.class, "yes"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Failed to convert value of type '%s' to required type '%s' for input string: [\"%s\"]"
+            .formatted(String.class.getName(), boolean.class, "yes"));
+    assertThatThrownBy(() -> convert(Boolean.class, "1"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private Object convert(Class<?> type, String value) {
+    return conversionService.findConverter(type, type).orElseThrow().convert(value);
+  }
+
+  private static class Holder {
+
+    private List<RequestMethod> list;
+    private Set<String> set;
+  }
+}
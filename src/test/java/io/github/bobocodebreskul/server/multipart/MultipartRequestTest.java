@@ -0,0 +1,165 @@
+package io.github.bobocodebreskul.server.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bobocodebreskul.server.exception.MultipartException;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MultipartRequestTest {
+
+  private static final String CONTENT_TYPE = "multipart/form-data; boundary=----boundary";
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  @DisplayName("Parse text field and small file part in memory")
+  @Order(1)
+  void given_SmallParts_When_parse_Then_KeepPartsInMemory() throws IOException {
+    // given
+    var body = body(part("description", null, "Annual report"),
+        part("file", "report.txt", "line 1\r\nline 2"));
+
+    // when
+    try (var actualResult = MultipartRequest.parse(stream(body), CONTENT_TYPE, config(1024, 4096))) {
+      // then
+      assertThat(actualResult.getPartNames()).containsExactly("description", "file");
+      assertThat(actualResult.getPart("description").getString()).isEqualTo("Annual report");
+      var file = actualResult.getPart("file");
+      assertThat(file.getFilename()).isEqualTo("report.txt");
+      assertThat(file.getContentType()).isEqualTo("text/plain");
+      assertThat(file.isInMemory()).isTrue();
+      assertThat(file.getString()).isEqualTo("line 1\r\nline 2");
+    }
+  }
+
+  @Test
+  @DisplayName("Spool large part read in small chunks to disk and move it on transfer")
+  @Order(2)
+  void given_LargePart_When_parseAndTransferTo_Then_SpooledFileMoved() throws IOException {
+    // given
+    var content = "0123456789".repeat(1000);
+    var body = body(part("file", "data.bin", content));
+    var target = tempDir.resolve("target.bin");
+
+    // when
+    var actualResult = MultipartRequest.parse(new ChunkedInputStream(stream(body)), CONTENT_TYPE,
+        config(100, 20_000));
+    var file = actualResult.getPart("file");
+    var spooledFile = file.getPath();
+    file.transferTo(target);
+    actualResult.close();
+
+    // then
+    assertThat(file.getSize()).isEqualTo(content.length());
+    assertThat(spooledFile.getParent()).isEqualTo(tempDir);
+    assertThat(spooledFile).doesNotExist();
+    assertThat(target).hasContent(content);
+  }
+
+  @Test
+  @DisplayName("Delete spooled files which are not transferred on close")
+  @Order(3)
+  void given_SpooledPart_When_close_Then_DeleteSpooledFile() throws IOException {
+    // given
+    var body = body(part("file", "data.bin", "x".repeat(500)));
+    var actualResult = MultipartRequest.parse(stream(body), CONTENT_TYPE, config(100, 1000));
+    var spooledFile = actualResult.getPart("file").getPath();
+
+    // when
+    actualResult.close();
+
+    // then
+    assertThat(spooledFile).doesNotExist();
+    try (var files = Files.list(tempDir)) {
+      assertThat(files).isEmpty();
+    }
+  }
+
+  @Test
+  @DisplayName("Throw exception when part exceeds size limit or body is malformed")
+  @Order(4)
+  void given_TooLargeOrMalformedBody_When_parse_Then_ThrowMultipartException() throws IOException {
+    // given
+    var largeBody = body(part("file", "data.bin", "x".repeat(500)));
+    var malformedBody = "------boundary\r\nContent-Disposition: form-data; name=\"a\"\r\n\r\nvalue";
+
+    // when
+    // then
+    assertThatThrownBy(() -> MultipartRequest.parse(stream(largeBody), CONTENT_TYPE,
+        config(100, 200)))
+        .isInstanceOf(MultipartException.class)
+        .hasMessage("Multipart part [file] exceeds maximum size of 200 bytes");
+    assertThatThrownBy(() -> MultipartRequest.parse(stream(malformedBody), CONTENT_TYPE,
+        config(100, 200)))
+        .isInstanceOf(MultipartException.class)
+        .hasMessageContaining("closing boundary not found");
+    try (var files = Files.list(tempDir)) {
+      assertThat(files).isEmpty();
+    }
+  }
+
+  @Test
+  @DisplayName("Strip path segments from file names and keep raw original file names")
+  @Order(5)
+  void given_FilenameWithPath_When_getFilename_Then_ReturnLastSegment() throws IOException {
+    // given
+    var body = body(part("unix", "../../etc/passwd", "a"),
+        part("windows", "C:\\Users\\..\\report.txt", "b"),
+        part("parent", "docs/..", "c"));
+
+    // when
+    try (var actualResult = MultipartRequest.parse(stream(body), CONTENT_TYPE, config(1024, 4096))) {
+      // then
+      assertThat(actualResult.getPart("unix").getFilename()).isEqualTo("passwd");
+      assertThat(actualResult.getPart("unix").getOriginalFilename())
+          .isEqualTo("../../etc/passwd");
+      assertThat(actualResult.getPart("windows").getFilename()).isEqualTo("report.txt");
+      assertThat(actualResult.getPart("parent").getFilename()).isNull();
+    }
+  }
+
+  private MultipartConfig config(int fileSizeThreshold, long maxPartSize) {
+    return new MultipartConfig(tempDir, fileSizeThreshold, maxPartSize, 1024 * 1024);
+  }
+
+  private static String part(String name, String filename, String content) {
+    return "------boundary\r\nContent-Disposition: form-data; name=\"%s\"%s\r\n%s\r\n%s\r\n"
+        .formatted(name, filename == null ? "" : "; filename=\"%s\"".formatted(filename),
+            filename == null ? "" : "Content-Type: text/plain\r\n", content);
+  }
+
+  private static String body(String... parts) {
+    return "preamble\r\n" + String.join("", parts) + "------boundary--\r\n";
+  }
+
+  private static InputStream stream(String body) {
+    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static class ChunkedInputStream extends FilterInputStream {
+
+    ChunkedInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      return super.read(bytes, offset, Math.min(length, 7));
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package io.github.bobocodebreskul.server.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.bobocodebreskul.server.InMemoryWebExchange;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class StaticResourceHandlerTest {
+
+  private static final String CONTENT = "body { color: black; }";
+
+  @TempDir
+  private Path tempDir;
+  private StaticResourceHandler handler;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    Files.writeString(tempDir.resolve("app.css"), CONTENT);
+    Files.writeString(tempDir.resolve("index.html"), "<html></html>");
+    handler = new StaticResourceHandler(new StaticResourceConfig(
+        List.of("file:" + tempDir), "/static", 8, 1024, "max-age=3600", 1000));
+  }
+
+  @Test
+  @DisplayName("Serve file with precomputed validators and revalidate it with 304")
+  @Order(1)
+  void given_File_When_handle_Then_ServeWithValidators() throws IOException {
+    // given
+    var exchange = new InMemoryWebExchange("GET", "/static/app.css");
+
+    // when
+    var actualResult = handler.handle(exchange);
+
+    // then
+    assertThat(actualResult).isTrue();
+    assertThat(exchange.getStatus()).isEqualTo(200);
+    assertThat(exchange.getResponseBodyAsString()).isEqualTo(CONTENT);
+    assertThat(exchange.getResponseHeader("content-type")).isEqualTo("text/css; charset=UTF-8");
+    assertThat(exchange.getResponseHeader("cache-control")).isEqualTo("max-age=3600");
+    var etag = exchange.getResponseHeader("etag");
+    var lastModified = exchange.getResponseHeader("last-modified");
+    assertThat(etag).isNotNull();
+
+    var byEtag = new InMemoryWebExchange("GET", "/static/app.css").header("If-None-Match", etag);
+    handler.handle(byEtag);
+    assertThat(byEtag.getStatus()).isEqualTo(304);
+    assertThat(byEtag.getResponseBodySize()).isZero();
+    var byDate = new InMemoryWebExchange("GET", "/static/app.css")
+        .header("If-Modified-Since", lastModified);
+    handler.handle(byDate);
+    assertThat(byDate.getStatus()).isEqualTo(304);
+  }
+
+  @Test
+  @DisplayName("Serve single byte range and reject unsatisfiable range")
+  @Order(2)
+  void given_RangeHeader_When_handle_Then_ServePartialContent() throws IOException {
+    // given
+    var range = new InMemoryWebExchange("GET", "/static/app.css").header("Range", "bytes=5-9");
+    var suffix = new InMemoryWebExchange("GET", "/static/app.css").header("Range", "bytes=-5");
+    var unsatisfiable = new InMemoryWebExchange("GET", "/static/app.css")
+        .header("Range", "bytes=100-");
+
+    // when
+    handler.handle(range);
+    handler.handle(suffix);
+    handler.handle(unsatisfiable);
+
+    // then
+    assertThat(range.getStatus()).isEqualTo(206);
+    assertThat(range.getResponseBodyAsString()).isEqualTo(CONTENT.substring(5, 10));
+    assertThat(range.getResponseHeader("content-range"))
+        .isEqualTo("bytes 5-9/" + CONTENT.length());
+    assertThat(suffix.getResponseBodyAsString())
+        .isEqualTo(CONTENT.substring(CONTENT.length() - 5));
+    assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+    assertThat(unsatisfiable.getResponseHeader("content-range"))
+        .isEqualTo("bytes */" + CONTENT.length());
+  }
+
+  @Test
+  @DisplayName("Serve precompressed sibling only when client accepts gzip")
+  @Order(3)
+  void given_GzipSibling_When_handle_Then_ServeByAcceptEncoding() throws IOException {
+    // given
+    Files.writeString(tempDir.resolve("app.css.gz"), "compressed");
+    var gzip = new InMemoryWebExchange("GET", "/static/app.css")
+        .header("Accept-Encoding", "gzip, deflate");
+    var identity = new InMemoryWebExchange("GET", "/static/app.css")
+        .header("Accept-Encoding", "gzip;q=0");
+
+    // when
+    handler.handle(gzip);
+    handler.handle(identity);
+
+    // then
+    assertThat(gzip.getResponseBodyAsString()).isEqualTo("compressed");
+    assertThat(gzip.getResponseHeader("content-encoding")).isEqualTo("gzip");
+    assertThat(gzip.getResponseHeader("content-type")).isEqualTo("text/css; charset=UTF-8");
+    assertThat(gzip.getResponseHeader("vary")).isEqualTo("Accept-Encoding");
+    assertThat(identity.getResponseBodyAsString()).isEqualTo(CONTENT);
+    assertThat(identity.getResponseHeader("content-encoding")).isNull();
+  }
+
+  @Test
+  @DisplayName("Serve index file and skip missing, traversal and non GET requests")
+  @Order(4)
+  void given_DifferentRequests_When_handle_Then_ServeOnlyExistingResources() throws IOException {
+    // given
+    var index = new InMemoryWebExchange("GET", "/static/");
+    var head = new InMemoryWebExchange("HEAD", "/static/app.css");
+
+    // when
+    // then
+    assertThat(handler.handle(index)).isTrue();
+    assertThat(index.getResponseBodyAsString()).isEqualTo("<html></html>");
+    assertThat(handler.handle(head)).isTrue();
+    assertThat(head.getStatus()).isEqualTo(200);
+    assertThat(head.getResponseBodySize()).isZero();
+    assertThat(handler.handle(new InMemoryWebExchange("GET", "/static/missing.css"))).isFalse();
+    assertThat(handler.handle(new InMemoryWebExchange("GET", "/static/../secret.txt")))
+        .isFalse();
+    assertThat(handler.handle(new InMemoryWebExchange("POST", "/static/app.css"))).isFalse();
+    assertThat(handler.handle(new InMemoryWebExchange("GET", "/other/app.css"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("Fail on file changed after resolution and resolve it again on next request")
+  @Order(5)
+  void given_TruncatedFile_When_handle_Then_ThrowAndServeNewContentNextTime() throws IOException {
+    // given
+    handler.handle(new InMemoryWebExchange("GET", "/static/app.css"));
+    Files.writeString(tempDir.resolve("app.css"), "p {}");
+    var changed = new InMemoryWebExchange("GET", "/static/app.css");
+    var next = new InMemoryWebExchange("GET", "/static/app.css");
+
+    // when
+    // then
+    assertThatThrownBy(() -> handler.handle(changed))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("changed after it was resolved");
+    assertThat(changed.getResponseBodySize()).isZero();
+    assertThat(handler.handle(next)).isTrue();
+    assertThat(next.getResponseBodyAsString()).isEqualTo("p {}");
+  }
+}
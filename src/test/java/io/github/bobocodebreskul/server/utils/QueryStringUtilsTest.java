@@ -0,0 +1,79 @@
+package io.github.bobocodebreskul.server.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class QueryStringUtilsTest {
+
+  @Test
+  @DisplayName("Return first value of the parameter from the query string")
+  @Order(1)
+  void given_QueryWithParameter_When_getFirstValue_Then_ReturnFirstValue() {
+    // given
+    var query = "id=5&name=first&name=second";
+
+    // when
+    var actualResult = QueryStringUtils.getFirstValue(query, "name");
+
+    // then
+    assertThat(actualResult).isEqualTo("first");
+  }
+
+  @Test
+  @DisplayName("Decode encoded parameter name and value")
+  @Order(2)
+  void given_EncodedParameter_When_getFirstValue_Then_ReturnDecodedValue() {
+    // given
+    var query = "user%20name=John+Doe&city=Kyiv%2C%20Ukraine";
+
+    // when
+    // then
+    assertThat(QueryStringUtils.getFirstValue(query, "user name")).isEqualTo("John Doe");
+    assertThat(QueryStringUtils.getFirstValue(query, "city")).isEqualTo("Kyiv, Ukraine");
+  }
+
+  @Test
+  @DisplayName("Return empty string for parameter without value")
+  @Order(3)
+  void given_ParameterWithoutValue_When_getFirstValue_Then_ReturnEmptyString() {
+    // given
+    var query = "flag&empty=&id=1";
+
+    // when
+    // then
+    assertThat(QueryStringUtils.getFirstValue(query, "flag")).isEmpty();
+    assertThat(QueryStringUtils.getFirstValue(query, "empty")).isEmpty();
+    assertThat(QueryStringUtils.getFirstValue(query, "id")).isEqualTo("1");
+  }
+
+  @Test
+  @DisplayName("Return null when parameter or query string is absent")
+  @Order(4)
+  void given_AbsentParameter_When_getFirstValue_Then_ReturnNull() {
+    // when
+    // then
+    assertThat(QueryStringUtils.getFirstValue("identifier=1&i=2", "id")).isNull();
+    assertThat(QueryStringUtils.getFirstValue("", "id")).isNull();
+    assertThat(QueryStringUtils.getFirstValue(null, "id")).isNull();
+  }
+
+  @Test
+  @DisplayName("Skip pairs with malformed percent-encoding")
+  @Order(5)
+  void given_MalformedEscape_When_getFirstValue_Then_SkipPair() {
+    // given
+    var query = "id=%zz&na%2=x&id=7&name=%E0%A4%A";
+
+    // when
+    // then
+    assertThat(QueryStringUtils.getFirstValue(query, "id")).isEqualTo("7");
+    assertThat(QueryStringUtils.getFirstValue(query, "na")).isNull();
+    assertThat(QueryStringUtils.getFirstValue(query, "name")).isNull();
+  }
+}